@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.dirigible.components.database.DatabaseConfigurator;
+import org.eclipse.dirigible.components.database.DatabaseSystem;
+import org.eclipse.dirigible.repository.api.RepositoryCache;
+import org.eclipse.dirigible.repository.api.RepositoryCacheStatistics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.pool.LeakedConnectionsDoctor;
+import com.zaxxer.hikari.pool.LeakedConnectionsMXBean;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * The Class MetricsConfig. The platform subsystems are instrumented with observations, which the
+ * actuator turns into timers. The connection pools of the data sources are created outside of the
+ * application context, so they are bound to the meter registry here, together with their leaked
+ * connections tracking, as well as the repository content cache.
+ */
+@Configuration
+class MetricsConfig {
+
+    /**
+     * Hikari metrics configurator. Publishes the hikaricp.connections.* meters of each pool tagged with
+     * the pool (data source) name.
+     *
+     * @param meterRegistry the meter registry
+     * @return the database configurator
+     */
+    @Bean
+    DatabaseConfigurator hikariMetricsConfigurator(MeterRegistry meterRegistry) {
+        return new DatabaseConfigurator() {
+
+            @Override
+            public boolean isApplicable(DatabaseSystem databaseSystem) {
+                return true;
+            }
+
+            @Override
+            public void apply(HikariConfig config) {
+                if (config.getMetricRegistry() == null && config.getMetricsTrackerFactory() == null) {
+                    config.setMetricRegistry(meterRegistry);
+                }
+            }
+        };
+    }
+
+    /**
+     * Leaked connections metrics. Publishes the dirigible.datasource.connections.* meters of each pool
+     * with tracked connections, tagged with the pool name. The leaked connections are counted by the
+     * top frame of their sampled stack origin. The same metrics are registered as MBeans too.
+     *
+     * @return the meter binder
+     */
+    @Bean
+    MeterBinder leakedConnectionsMetrics() {
+        return registry -> LeakedConnectionsDoctor.addPoolListener(new LeakedConnectionsDoctor.PoolListener() {
+
+            @Override
+            public void poolTracked(String poolName, LeakedConnectionsMXBean metrics) {
+                Gauge.builder("dirigible.datasource.connections.held", metrics, LeakedConnectionsMXBean::getHeldConnections)
+                     .tag("pool", poolName)
+                     .register(registry);
+                TimeGauge.builder("dirigible.datasource.connections.held.max.age", metrics, TimeUnit.MILLISECONDS,
+                        LeakedConnectionsMXBean::getMaxHeldAgeMillis)
+                         .tag("pool", poolName)
+                         .register(registry);
+            }
+
+            @Override
+            public void leakOriginTracked(String poolName, String origin, LeakedConnectionsMXBean metrics) {
+                FunctionCounter.builder("dirigible.datasource.connections.leaked", metrics, m -> m.getLeakedConnectionsByOrigin()
+                                                                                                  .getOrDefault(origin, 0L))
+                               .tag("pool", poolName)
+                               .tag("origin", origin)
+                               .register(registry);
+            }
+        });
+    }
+
+    /**
+     * Repository cache metrics. Publishes the dirigible.repository.cache.* meters of each cache
+     * segment.
+     *
+     * @return the meter binder
+     */
+    @Bean
+    MeterBinder repositoryCacheMetrics() {
+        RepositoryCache cache = new RepositoryCache();
+        return registry -> cache.getStatistics()
+                                .keySet()
+                                .forEach(segment -> {
+                                    FunctionCounter.builder("dirigible.repository.cache.requests", cache,
+                                            c -> getStatistics(c, segment).hits())
+                                                   .tag("segment", segment)
+                                                   .tag("result", "hit")
+                                                   .register(registry);
+                                    FunctionCounter.builder("dirigible.repository.cache.requests", cache,
+                                            c -> getStatistics(c, segment).misses())
+                                                   .tag("segment", segment)
+                                                   .tag("result", "miss")
+                                                   .register(registry);
+                                    FunctionCounter.builder("dirigible.repository.cache.evictions", cache,
+                                            c -> getStatistics(c, segment).evictions())
+                                                   .tag("segment", segment)
+                                                   .register(registry);
+                                    Gauge.builder("dirigible.repository.cache.size", cache, c -> getStatistics(c, segment).size())
+                                         .tag("segment", segment)
+                                         .register(registry);
+                                    Gauge.builder("dirigible.repository.cache.weight", cache, c -> getStatistics(c, segment).weight())
+                                         .tag("segment", segment)
+                                         .baseUnit("bytes")
+                                         .register(registry);
+                                });
+    }
+
+    /**
+     * Gets the statistics of a repository cache segment.
+     *
+     * @param cache the cache
+     * @param segment the segment
+     * @return the statistics
+     */
+    private static RepositoryCacheStatistics getStatistics(RepositoryCache cache, String segment) {
+        return cache.getStatistics()
+                    .getOrDefault(segment, new RepositoryCacheStatistics(0, 0, 0, 0, 0));
+    }
+
+}
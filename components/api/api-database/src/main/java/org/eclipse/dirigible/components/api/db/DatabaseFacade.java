@@ -11,6 +11,7 @@ package org.eclipse.dirigible.components.api.db;
 
 import org.apache.commons.io.output.WriterOutputStream;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseResultSetHelper;
 import org.eclipse.dirigible.components.data.management.service.DatabaseDefinitionService;
@@ -26,6 +27,9 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -46,6 +50,9 @@ public class DatabaseFacade implements InitializingBean {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(DatabaseFacade.class);
 
+    /** The Constant DIRIGIBLE_DATABASE_BATCH_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_BATCH_SIZE = "DIRIGIBLE_DATABASE_BATCH_SIZE";
+
     /** The database facade. */
     private static DatabaseFacade INSTANCE;
 
@@ -494,6 +501,43 @@ public class DatabaseFacade implements InitializingBean {
         }
     }
 
+    /**
+     * Executes named SQL update once for each of the parameter sets in batches.
+     *
+     * @param sql the sql
+     * @param parameterSets the JSON array of parameter arrays
+     * @param datasourceName the datasource name
+     * @return the number of the rows that has been changed for each parameter set
+     * @throws Exception the exception
+     */
+    public static final int[] updateNamedBatch(String sql, String parameterSets, String datasourceName) throws Exception {
+        DataSource dataSource = getDataSource(datasourceName);
+        if (dataSource == null) {
+            String error = format("DataSource {0} not known.", datasourceName);
+            throw new IllegalArgumentException(error);
+        }
+        List<JsonArray> parametersArrays = new ArrayList<>();
+        JsonElement parameterSetsElement = GsonHelper.parseJson(parameterSets);
+        if (!(parameterSetsElement instanceof JsonArray parameterSetsArray)) {
+            throw new IllegalArgumentException("Parameter sets must be provided as a JSON array of parameter arrays");
+        }
+        for (JsonElement parametersElement : parameterSetsArray) {
+            if (!(parametersElement instanceof JsonArray parametersArray)) {
+                throw new IllegalArgumentException("Parameter sets must be provided as a JSON array of parameter arrays");
+            }
+            parametersArrays.add(parametersArray);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            try (NamedParameterStatement preparedStatement = new NamedParameterStatement(connection, sql)) {
+                return preparedStatement.executeBatch(parametersArrays, Configuration.getAsInt(DIRIGIBLE_DATABASE_BATCH_SIZE, 1000),
+                        (statement, parameters) -> ParametersSetter.setParameters(parameters, new IndexedOrNamedStatement(statement)));
+            }
+        } catch (Exception ex) {
+            logger.error("Failed to execute batch update statement [{}] in data source [{}].", sql, datasourceName, ex);
+            throw ex;
+        }
+    }
+
     /**
      * Executes named SQL update.
      *
@@ -59,7 +59,17 @@ class ParametersSetter {
         if (!(parametersElement instanceof JsonArray parametersArray)) {
             throw new IllegalArgumentException("Parameters must be provided as a JSON array, e.g. [1, 'John', 9876]");
         }
+        setParameters(parametersArray, preparedStatement);
+    }
 
+    /**
+     * Sets the parameters.
+     *
+     * @param parametersArray the parameters array
+     * @param preparedStatement the prepared statement
+     * @throws SQLException the SQL exception
+     */
+    static void setParameters(JsonArray parametersArray, IndexedOrNamedStatement preparedStatement) throws SQLException {
         int paramIndex = 1;
         for (JsonElement parameterElement : parametersArray) {
             setParameter(preparedStatement, paramIndex, parameterElement);
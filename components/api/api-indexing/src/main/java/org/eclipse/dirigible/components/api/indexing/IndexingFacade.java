@@ -11,10 +11,13 @@ package org.eclipse.dirigible.components.api.indexing;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.api.indexing.service.IndexingService;
+import org.eclipse.dirigible.components.api.indexing.service.IndexingService.IndexDocument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -82,6 +85,43 @@ public class IndexingFacade implements InitializingBean {
                       .add(index, location, contents.getBytes(StandardCharsets.UTF_8), Long.parseLong(lastModified), map);
     }
 
+    /**
+     * Adds or replaces documents in an index.
+     *
+     * @param index the index
+     * @param documents the documents as a JSON array of objects with location, contents, lastModified
+     *        and parameters
+     * @throws IOException the indexing exception
+     */
+    public static final void addAll(String index, String documents) throws IOException {
+        List<Map> list = GsonHelper.fromJson(documents, List.class);
+        List<IndexDocument> indexDocuments = new ArrayList<>(list.size());
+        for (Map document : list) {
+            String contents = (String) document.get("contents");
+            Object lastModified = document.get("lastModified");
+            long modified = lastModified != null ? Long.parseLong(lastModified.toString()) : System.currentTimeMillis();
+            indexDocuments.add(new IndexDocument((String) document.get("location"), contents.getBytes(StandardCharsets.UTF_8), modified,
+                    (Map<String, String>) document.get("parameters")));
+        }
+        IndexingFacade.get()
+                      .getIndexingService()
+                      .add(index, indexDocuments);
+    }
+
+    /**
+     * Deletes documents from an index.
+     *
+     * @param index the index
+     * @param locations the locations as a JSON array
+     * @throws IOException the indexing exception
+     */
+    public static final void delete(String index, String locations) throws IOException {
+        List<String> list = GsonHelper.fromJson(locations, List.class);
+        IndexingFacade.get()
+                      .getIndexingService()
+                      .delete(index, list);
+    }
+
     /**
      * Search an index by term.
      *
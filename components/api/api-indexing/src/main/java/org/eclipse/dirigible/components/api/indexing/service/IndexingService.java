@@ -14,15 +14,23 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
-import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
@@ -30,10 +38,6 @@ import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
-import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.index.IndexWriter;
-import org.apache.lucene.index.IndexWriterConfig;
-import org.apache.lucene.index.IndexWriterConfig.OpenMode;
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.queryparser.classic.ParseException;
@@ -46,13 +50,21 @@ import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
 
 /**
- * The Class IndexingCoreService.
+ * The Class IndexingCoreService. The indexes are kept open - the documents are added to a
+ * long-lived writer, which is committed periodically, and the searches use near-real-time searchers
+ * opened from the writer.
  */
 @Component
-public class IndexingService {
+public class IndexingService implements DisposableBean {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(IndexingService.class);
 
     /** The Constant DIRIGIBLE_INDEXING_ROOT_FOLDER. */
     private static final String DIRIGIBLE_INDEXING_ROOT_FOLDER = "DIRIGIBLE_INDEXING_ROOT_FOLDER";
@@ -60,6 +72,15 @@ public class IndexingService {
     /** The Constant DIRIGIBLE_INDEXING_MAX_RESULTS. */
     private static final String DIRIGIBLE_INDEXING_MAX_RESULTS = "DIRIGIBLE_INDEXING_MAX_RESULTS";
 
+    /** The Constant DIRIGIBLE_INDEXING_COMMIT_INTERVAL - in seconds. */
+    private static final String DIRIGIBLE_INDEXING_COMMIT_INTERVAL = "DIRIGIBLE_INDEXING_COMMIT_INTERVAL";
+
+    /**
+     * The Constant DIRIGIBLE_INDEXING_REFRESH_INTERVAL - in milliseconds, 0 makes the changes visible
+     * to the next search.
+     */
+    private static final String DIRIGIBLE_INDEXING_REFRESH_INTERVAL = "DIRIGIBLE_INDEXING_REFRESH_INTERVAL";
+
     /** The Constant FIELD_CONTENTS. */
     private static final String FIELD_CONTENTS = "contents";
 
@@ -87,10 +108,54 @@ public class IndexingService {
     /** The max results. */
     private static int MAX_RESULTS;
 
+    /** The refresh interval. */
+    private static int REFRESH_INTERVAL;
+
+    /** The commit interval. */
+    private static int COMMIT_INTERVAL;
+
+    /** The open indexes by name. */
+    private static final Map<String, ManagedIndex> INDEXES = new ConcurrentHashMap<>();
+
+    /** The scheduler of the commits and the refreshes. */
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "dirigible-indexing");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     static {
         Configuration.loadModuleConfig("/dirigible-indexing.properties");
         ROOT_FOLDER = Configuration.get(DIRIGIBLE_INDEXING_ROOT_FOLDER);
         MAX_RESULTS = Configuration.getAsInt(DIRIGIBLE_INDEXING_MAX_RESULTS, 100);
+        REFRESH_INTERVAL = Configuration.getAsInt(DIRIGIBLE_INDEXING_REFRESH_INTERVAL, 0);
+        COMMIT_INTERVAL = Configuration.getAsInt(DIRIGIBLE_INDEXING_COMMIT_INTERVAL, 5);
+    }
+
+    /** The scheduled commits and refreshes, cancelled on destroy. */
+    private final List<ScheduledFuture<?>> scheduledTasks = new ArrayList<>();
+
+    /**
+     * Instantiates a new indexing service and schedules the commits and the refreshes.
+     */
+    public IndexingService() {
+        scheduledTasks.add(
+                SCHEDULER.scheduleWithFixedDelay(IndexingService::commitAll, COMMIT_INTERVAL, COMMIT_INTERVAL, TimeUnit.SECONDS));
+        if (REFRESH_INTERVAL > 0) {
+            scheduledTasks.add(SCHEDULER.scheduleWithFixedDelay(IndexingService::refreshAll, REFRESH_INTERVAL, REFRESH_INTERVAL,
+                    TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * The Record IndexDocument.
+     *
+     * @param location the location
+     * @param contents the contents
+     * @param lastModified the last modified
+     * @param parameters the parameters
+     */
+    public record IndexDocument(String location, byte[] contents, long lastModified, Map<String, String> parameters) {
     }
 
     /**
@@ -104,41 +169,63 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public void add(String index, String location, byte[] contents, long lastModified, Map<String, String> parameters) throws IOException {
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
-            throw new IOException("Index name may not be null");
+        add(index, List.of(new IndexDocument(location, contents, lastModified, parameters)));
+    }
+
+    /**
+     * Adds or replaces the documents by location.
+     *
+     * @param index the index
+     * @param documents the documents
+     * @throws IOException the indexing exception
+     */
+    public void add(String index, List<IndexDocument> documents) throws IOException {
+        ManagedIndex managedIndex = getIndex(index);
+        for (IndexDocument document : documents) {
+            managedIndex.getWriter()
+                        .updateDocument(new Term(FIELD_LOCATION, document.location()), createDocument(document));
         }
+    }
 
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        Analyzer analyzer = new StandardAnalyzer();
-        IndexWriterConfig iwc = new IndexWriterConfig(analyzer);
-        iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
-        IndexWriter writer = null;
-        try {
-            writer = new IndexWriter(dir, iwc);
-            Document doc = new Document();
-            Field pathField = new StringField(FIELD_LOCATION, location, Field.Store.YES);
-            doc.add(pathField);
-            doc.add(new LongPoint(FIELD_MODIFIED, lastModified));
-            if (parameters != null) {
-                for (String key : parameters.keySet()) {
-                    doc.add(new StringField(key, parameters.get(key), Field.Store.YES));
-                }
-            }
-            doc.add(new TextField(FIELD_CONTENTS,
-                    new BufferedReader(new InputStreamReader(new ByteArrayInputStream(contents), StandardCharsets.UTF_8))));
-            writer.updateDocument(new Term(FIELD_LOCATION, location), doc);
-        } finally {
-            if (writer != null) {
-                writer.close();
+    /**
+     * Creates the document.
+     *
+     * @param document the document
+     * @return the document
+     */
+    private static Document createDocument(IndexDocument document) {
+        Document doc = new Document();
+        Field pathField = new StringField(FIELD_LOCATION, document.location(), Field.Store.YES);
+        doc.add(pathField);
+        doc.add(new LongPoint(FIELD_MODIFIED, document.lastModified()));
+        if (document.parameters() != null) {
+            for (Map.Entry<String, String> parameter : document.parameters()
+                                                               .entrySet()) {
+                doc.add(new StringField(parameter.getKey(), parameter.getValue(), Field.Store.YES));
             }
         }
+        doc.add(new TextField(FIELD_CONTENTS,
+                new BufferedReader(new InputStreamReader(new ByteArrayInputStream(document.contents()), StandardCharsets.UTF_8))));
+        return doc;
     }
 
     /**
-     * Search.
+     * Deletes the documents by location.
+     *
+     * @param index the index
+     * @param locations the locations
+     * @throws IOException the indexing exception
+     */
+    public void delete(String index, List<String> locations) throws IOException {
+        Term[] terms = locations.stream()
+                                .map(location -> new Term(FIELD_LOCATION, location))
+                                .toArray(Term[]::new);
+        getIndex(index).getWriter()
+                       .deleteDocuments(terms);
+    }
+
+    /**
+     * Search. A missing index has no matches.
      *
      * @param index the index
      * @param term the term
@@ -146,39 +233,15 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String search(String index, String term) throws IOException {
-        List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
-            throw new IOException("Index name may not be null");
+        ManagedIndex managedIndex = findIndex(index);
+        if (managedIndex == null) {
+            return GsonHelper.toJson(new ArrayList<>());
         }
         try {
-            Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-            IndexReader reader = null;
-            try {
-                reader = DirectoryReader.open(dir);
-                IndexSearcher searcher = new IndexSearcher(reader);
-                Analyzer analyzer = new StandardAnalyzer();
-                String field = FIELD_CONTENTS;
-                QueryParser parser = new QueryParser(field, analyzer);
-                Query query = parser.parse(term);
-                TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                    Document document = searcher.doc(scoreDoc.doc);
-                    Map<String, String> map = new HashMap<String, String>();
-                    for (IndexableField indexableField : document.getFields()) {
-                        map.put(indexableField.name(), indexableField.stringValue());
-                    }
-                    results.add(map);
-                }
-            } finally {
-                if (reader != null) {
-                    reader.close();
-                }
-            }
-            return GsonHelper.toJson(results);
-        } catch (IOException | ParseException e) {
+            QueryParser parser = new QueryParser(FIELD_CONTENTS, new StandardAnalyzer());
+            Query query = parser.parse(term);
+            return managedIndex.search(searcher -> collect(searcher, query), REFRESH_INTERVAL <= 0);
+        } catch (ParseException e) {
             throw new IOException(e);
         }
     }
@@ -208,7 +271,7 @@ public class IndexingService {
     }
 
     /**
-     * Between.
+     * Between. A missing index has no matches.
      *
      * @param index the index
      * @param lower the lower
@@ -217,34 +280,143 @@ public class IndexingService {
      * @throws IOException the indexing exception
      */
     public String between(String index, long lower, long upper) throws IOException {
+        ManagedIndex managedIndex = findIndex(index);
+        if (managedIndex == null) {
+            return GsonHelper.toJson(new ArrayList<>());
+        }
+        Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
+        return managedIndex.search(searcher -> collect(searcher, query), REFRESH_INTERVAL <= 0);
+    }
+
+    /**
+     * Collects the top matches as JSON.
+     *
+     * @param searcher the searcher
+     * @param query the query
+     * @return the string
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static String collect(IndexSearcher searcher, Query query) throws IOException {
         List<Map<String, String>> results = new ArrayList<Map<String, String>>();
-        String indexName = index;
-        if (index != null) {
-            indexName = flattenizeIndexName(indexName);
-        } else {
+        TopDocs topDocs = searcher.search(query, MAX_RESULTS);
+        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+            Document document = searcher.doc(scoreDoc.doc);
+            Map<String, String> map = new HashMap<String, String>();
+            for (IndexableField indexableField : document.getFields()) {
+                map.put(indexableField.name(), indexableField.stringValue());
+            }
+            results.add(map);
+        }
+        return GsonHelper.toJson(results);
+    }
+
+    /**
+     * Gets the open index, opening it on first use.
+     *
+     * @param index the index
+     * @return the managed index
+     * @throws IOException the indexing exception
+     */
+    private ManagedIndex getIndex(String index) throws IOException {
+        if (index == null) {
             throw new IOException("Index name may not be null");
         }
-        Directory dir = FSDirectory.open(Paths.get(ROOT_FOLDER + File.separator + indexName));
-        IndexReader reader = null;
+        String indexName = flattenizeIndexName(index);
         try {
-            reader = DirectoryReader.open(dir);
-            IndexSearcher searcher = new IndexSearcher(reader);
-            Query query = LongPoint.newRangeQuery(FIELD_MODIFIED, lower, upper);
-            TopDocs topDocs = searcher.search(query, MAX_RESULTS);
-            for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-                Document document = searcher.doc(scoreDoc.doc);
-                Map<String, String> map = new HashMap<String, String>();
-                for (IndexableField indexableField : document.getFields()) {
-                    map.put(indexableField.name(), indexableField.stringValue());
+            return INDEXES.computeIfAbsent(indexName, name -> {
+                try {
+                    return new ManagedIndex(Paths.get(ROOT_FOLDER + File.separator + name));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
                 }
-                results.add(map);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Gets the open index, opening it on first use only if it exists on the file system.
+     *
+     * @param index the index
+     * @return the managed index or null if the index does not exist
+     * @throws IOException the indexing exception
+     */
+    private ManagedIndex findIndex(String index) throws IOException {
+        if (index == null) {
+            throw new IOException("Index name may not be null");
+        }
+        ManagedIndex managedIndex = INDEXES.get(flattenizeIndexName(index));
+        if (managedIndex != null) {
+            return managedIndex;
+        }
+        Path path = Paths.get(ROOT_FOLDER + File.separator + flattenizeIndexName(index));
+        if (!Files.isDirectory(path)) {
+            return null;
+        }
+        try (Directory directory = FSDirectory.open(path)) {
+            if (!DirectoryReader.indexExists(directory)) {
+                return null;
             }
-        } finally {
-            if (reader != null) {
-                reader.close();
+        }
+        return getIndex(index);
+    }
+
+    /**
+     * Commits the pending changes of all the open indexes.
+     */
+    private static void commitAll() {
+        for (Map.Entry<String, ManagedIndex> entry : INDEXES.entrySet()) {
+            try {
+                entry.getValue()
+                     .commit();
+            } catch (Exception e) {
+                logger.error("Failed to commit the index [{}]", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Refreshes the searchers of all the open indexes.
+     */
+    private static void refreshAll() {
+        for (Map.Entry<String, ManagedIndex> entry : INDEXES.entrySet()) {
+            try {
+                entry.getValue()
+                     .refresh();
+            } catch (Exception e) {
+                logger.error("Failed to refresh the index [{}]", entry.getKey(), e);
+            }
+        }
+    }
+
+    /**
+     * Cancels the scheduled commits and refreshes, then commits and closes all the open indexes.
+     */
+    @Override
+    public void destroy() {
+        scheduledTasks.forEach(task -> task.cancel(false));
+        try {
+            // waits for a commit or a refresh already running on the single scheduler thread
+            SCHEDULER.submit(() -> {
+            })
+                     .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        } catch (ExecutionException e) {
+            logger.error("Failed to wait for the scheduled index tasks", e);
+        }
+        for (String indexName : new ArrayList<>(INDEXES.keySet())) {
+            ManagedIndex managedIndex = INDEXES.remove(indexName);
+            if (managedIndex != null) {
+                try {
+                    managedIndex.close();
+                } catch (Exception e) {
+                    logger.error("Failed to close the index [{}]", indexName, e);
+                }
             }
         }
-        return GsonHelper.toJson(results);
     }
 
     /**
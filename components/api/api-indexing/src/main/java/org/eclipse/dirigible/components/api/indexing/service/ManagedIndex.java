@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.indexing.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.IndexWriterConfig.OpenMode;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * A Lucene index kept open for the lifetime of the application - a single long-lived writer and
+ * near-real-time searchers opened from it.
+ */
+class ManagedIndex implements Closeable {
+
+    /**
+     * The Interface SearchFunction.
+     *
+     * @param <T> the result type
+     */
+    @FunctionalInterface
+    interface SearchFunction<T> {
+
+        /**
+         * Apply.
+         *
+         * @param searcher the searcher
+         * @return the result
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        T apply(IndexSearcher searcher) throws IOException;
+    }
+
+    /** The directory. */
+    private final Directory directory;
+
+    /** The writer. */
+    private final IndexWriter writer;
+
+    /** The searcher manager. */
+    private final SearcherManager searcherManager;
+
+    /**
+     * Opens the index in the given folder, creating it if missing.
+     *
+     * @param path the path
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    ManagedIndex(Path path) throws IOException {
+        directory = FSDirectory.open(path);
+        try {
+            IndexWriterConfig iwc = new IndexWriterConfig(new StandardAnalyzer());
+            iwc.setOpenMode(OpenMode.CREATE_OR_APPEND);
+            writer = new IndexWriter(directory, iwc);
+            searcherManager = new SearcherManager(writer, null);
+        } catch (IOException | RuntimeException e) {
+            directory.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the writer.
+     *
+     * @return the writer
+     */
+    IndexWriter getWriter() {
+        return writer;
+    }
+
+    /**
+     * Runs the function with a searcher.
+     *
+     * @param <T> the result type
+     * @param function the function
+     * @param refresh whether to make the latest changes visible first
+     * @return the result
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    <T> T search(SearchFunction<T> function, boolean refresh) throws IOException {
+        if (refresh) {
+            searcherManager.maybeRefreshBlocking();
+        }
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            return function.apply(searcher);
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    /**
+     * Makes the changes since the last refresh visible to the new searches.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void refresh() throws IOException {
+        searcherManager.maybeRefresh();
+    }
+
+    /**
+     * Commits the pending changes, if any.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void commit() throws IOException {
+        if (writer.hasUncommittedChanges()) {
+            writer.commit();
+        }
+    }
+
+    /**
+     * Commits the pending changes and closes the index.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            searcherManager.close();
+            writer.close();
+        } finally {
+            directory.close();
+        }
+    }
+
+}
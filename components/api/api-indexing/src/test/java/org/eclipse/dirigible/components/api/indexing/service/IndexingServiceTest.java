@@ -10,15 +10,20 @@
 package org.eclipse.dirigible.components.api.indexing.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -43,6 +48,12 @@ public class IndexingServiceTest {
     /** The Constant TEST_INDEX. */
     private static final String TEST_INDEX = "test_index";
 
+    /** The Constant BULK_INDEX. */
+    private static final String BULK_INDEX = "bulk_index";
+
+    /** The Constant MISSING_INDEX. */
+    private static final String MISSING_INDEX = "missing_index";
+
     /** The indexing service. */
     @Autowired
     private IndexingService indexingService;
@@ -110,4 +121,48 @@ public class IndexingServiceTest {
         assertEquals(1, matches.size());
     }
 
+    /**
+     * Bulk add and delete test.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void bulkAddAndDeleteTest() throws IOException {
+        List<IndexingService.IndexDocument> documents = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            documents.add(new IndexingService.IndexDocument("/root/bulk/file" + i + ".txt", ("bulk document number" + i).getBytes(),
+                    new Date().getTime(), Map.of("number", String.valueOf(i))));
+        }
+        indexingService.add(BULK_INDEX, documents);
+
+        List matches = GsonHelper.fromJson(indexingService.search(BULK_INDEX, "bulk"), List.class);
+        assertEquals(50, matches.size());
+
+        indexingService.delete(BULK_INDEX, List.of("/root/bulk/file0.txt", "/root/bulk/file1.txt"));
+        matches = GsonHelper.fromJson(indexingService.search(BULK_INDEX, "bulk"), List.class);
+        assertEquals(48, matches.size());
+
+        indexingService.delete(BULK_INDEX, documents.stream()
+                                                    .map(IndexingService.IndexDocument::location)
+                                                    .toList());
+        matches = GsonHelper.fromJson(indexingService.search(BULK_INDEX, "bulk"), List.class);
+        assertEquals(0, matches.size());
+    }
+
+    /**
+     * Searching a missing index finds nothing and does not create it.
+     *
+     * @throws IOException the indexing exception
+     */
+    @SuppressWarnings("rawtypes")
+    @Test
+    public void missingIndexTest() throws IOException {
+        List matches = GsonHelper.fromJson(indexingService.search(MISSING_INDEX, "Lucene"), List.class);
+        assertEquals(0, matches.size());
+        matches = GsonHelper.fromJson(indexingService.between(MISSING_INDEX, 0, new Date().getTime()), List.class);
+        assertEquals(0, matches.size());
+        assertFalse(Files.exists(Path.of(Configuration.get("DIRIGIBLE_INDEXING_ROOT_FOLDER"), MISSING_INDEX)));
+    }
+
 }
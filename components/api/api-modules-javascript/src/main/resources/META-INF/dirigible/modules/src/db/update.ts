@@ -17,12 +17,26 @@ export interface UpdateParameter {
 	readonly value: any;
 }
 
+export interface NamedUpdateParameter {
+	readonly name: string;
+	readonly type: string;
+	readonly value: any;
+}
+
 export class Update {
 
 	public static execute(sql: string, parameters?: (string | number | boolean | Date | UpdateParameter)[], datasourceName?: string): number {
 		const result = DatabaseFacade.update(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
 		return result;
 	}
+
+	public static executeNamed(sql: string, parameters?: NamedUpdateParameter[], datasourceName?: string): number {
+		return DatabaseFacade.updateNamed(sql, parameters ? JSON.stringify(parameters) : undefined, datasourceName);
+	}
+
+	public static executeNamedBatch(sql: string, parameterSets: NamedUpdateParameter[][], datasourceName?: string): number[] {
+		return Array.from(DatabaseFacade.updateNamedBatch(sql, JSON.stringify(parameterSets), datasourceName));
+	}
 }
 
 // @ts-ignore
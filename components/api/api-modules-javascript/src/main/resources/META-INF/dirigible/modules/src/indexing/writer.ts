@@ -25,6 +25,20 @@ export class Writer {
 		}
 		IndexingFacade.add(index, location, contents, '' + lastModified.getTime(), map);
 	}
+
+	public static addAll(index: string, documents: { location: string, contents: string, lastModified?: Date, parameters?: { [key: string]: string } }[]) {
+		const list = documents.map(document => ({
+			location: document.location,
+			contents: document.contents,
+			lastModified: '' + (document.lastModified ?? new Date()).getTime(),
+			parameters: document.parameters ?? {}
+		}));
+		IndexingFacade.addAll(index, JSON.stringify(list));
+	}
+
+	public static delete(index: string, ...locations: string[]) {
+		IndexingFacade.delete(index, JSON.stringify(locations));
+	}
 }
 
 // @ts-ignore
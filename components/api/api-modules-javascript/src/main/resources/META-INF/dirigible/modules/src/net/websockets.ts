@@ -33,6 +33,14 @@ export class Websockets {
 		return native ? new WebsocketClient(native.getSession(), native.getSession().getRequestURI(), native.getHandler()) : undefined;
 	}
 
+	public static publish(topic: string, message: string): void {
+		WebsocketsFacade.publish(topic, message);
+	}
+
+	public static sendToUser(user: string, queue: string, message: string): void {
+		WebsocketsFacade.sendToUser(user, queue, message);
+	}
+
 	public static getMessage(): any {
 		return __context.get('message');
 	}
@@ -16,7 +16,7 @@ export class Client {
     private readonly native: any;
 
     constructor() {
-        this.native = RedisFacade.getClient();
+        this.native = RedisFacade.getPooledClient();
     }
 
     public append(key: string, value: string): number {
@@ -84,6 +84,105 @@ export class Client {
     public rpush(key: string, ...value: string[]): number {
         return this.native.rpush(key, value);
     }
+
+    // Batches
+
+    public mget(...keys: string[]): string[] {
+        return this.native.mget(keys);
+    }
+
+    public mset(keyValues: { [key: string]: string }): string {
+        return this.native.mset(toKeyValueArray(keyValues));
+    }
+
+    public pipeline(): Pipeline {
+        return new Pipeline(this.native.pipelined());
+    }
+}
+
+/**
+ * Queues commands on a single pooled connection and sends them in one round trip on execute()
+ */
+export class Pipeline {
+    private readonly native: any;
+
+    constructor(native: any) {
+        this.native = native;
+    }
+
+    public append(key: string, value: string): Pipeline {
+        this.native.append(key, value);
+        return this;
+    }
+
+    public decr(key: string): Pipeline {
+        this.native.decr(key);
+        return this;
+    }
+
+    public del(key: string): Pipeline {
+        this.native.del(key);
+        return this;
+    }
+
+    public exists(key: string): Pipeline {
+        this.native.exists(key);
+        return this;
+    }
+
+    public get(key: string): Pipeline {
+        this.native.get(key);
+        return this;
+    }
+
+    public incr(key: string): Pipeline {
+        this.native.incr(key);
+        return this;
+    }
+
+    public set(key: string, value: string): Pipeline {
+        this.native.set(key, value);
+        return this;
+    }
+
+    public lpush(key: string, ...value: string[]): Pipeline {
+        this.native.lpush(key, value);
+        return this;
+    }
+
+    public rpush(key: string, ...value: string[]): Pipeline {
+        this.native.rpush(key, value);
+        return this;
+    }
+
+    public mget(...keys: string[]): Pipeline {
+        this.native.mget(keys);
+        return this;
+    }
+
+    public mset(keyValues: { [key: string]: string }): Pipeline {
+        this.native.mset(toKeyValueArray(keyValues));
+        return this;
+    }
+
+    /**
+     * Sends the queued commands, returns their results in order and releases the connection
+     */
+    public execute(): any[] {
+        try {
+            return this.native.syncAndReturnAll();
+        } finally {
+            this.native.close();
+        }
+    }
+}
+
+function toKeyValueArray(keyValues: { [key: string]: string }): string[] {
+    const result: string[] = [];
+    for (const key of Object.keys(keyValues)) {
+        result.push(key, keyValues[key]);
+    }
+    return result;
 }
 
 // @ts-ignore
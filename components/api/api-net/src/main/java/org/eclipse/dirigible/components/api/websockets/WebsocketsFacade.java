@@ -19,9 +19,11 @@ import java.util.concurrent.ExecutionException;
 import jakarta.websocket.DeploymentException;
 
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.base.spring.BeanProvider;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompSession;
 
 
@@ -42,6 +44,12 @@ public class WebsocketsFacade {
     /** The Constant DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_CLOSE. */
     public static final String DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_CLOSE = "net/wrappers/onClose.js";
 
+    /** The Constant TOPIC_PREFIX. */
+    public static final String TOPIC_PREFIX = "/topic/";
+
+    /** The Constant QUEUE_PREFIX. */
+    public static final String QUEUE_PREFIX = "/queue/";
+
     /** The logger. */
     private static Logger logger = LoggerFactory.getLogger(WebsocketsFacade.class);
 
@@ -119,5 +127,35 @@ public class WebsocketsFacade {
         return result.isPresent() ? result.get() : null;
     }
 
+    /**
+     * Publish a message to all the sessions subscribed to a topic. The message is sent through the
+     * broker and the client outbound channel, hence the call does not wait for the delivery.
+     *
+     * @param topic the topic, relative to /topic/
+     * @param message the message
+     */
+    public static final void publish(String topic, String message) {
+        getMessagingTemplate().convertAndSend(TOPIC_PREFIX + topic, message);
+    }
+
+    /**
+     * Send a message to the sessions of a user subscribed to a queue.
+     *
+     * @param user the user
+     * @param queue the queue, relative to /queue/
+     * @param message the message
+     */
+    public static final void sendToUser(String user, String queue, String message) {
+        getMessagingTemplate().convertAndSendToUser(user, QUEUE_PREFIX + queue, message);
+    }
+
+    /**
+     * Gets the messaging template of the broker.
+     *
+     * @return the messaging template
+     */
+    private static SimpMessageSendingOperations getMessagingTemplate() {
+        return BeanProvider.getBean(SimpMessageSendingOperations.class);
+    }
 
 }
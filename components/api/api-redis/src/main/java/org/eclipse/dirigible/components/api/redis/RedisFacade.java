@@ -9,39 +9,141 @@
  */
 package org.eclipse.dirigible.components.api.redis;
 
+import java.time.Duration;
+
 import org.eclipse.dirigible.commons.config.Configuration;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.stereotype.Component;
+
+import redis.clients.jedis.ConnectionPoolConfig;
 import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPooled;
 
 /**
  * The Class RedisFacade.
  */
 @Component
-public class RedisFacade {
+public class RedisFacade implements DisposableBean {
 
     /**
      * The Constant DIRIGIBLE_REDIS_CLIENT_URI.
      */
     private static final String DIRIGIBLE_REDIS_CLIENT_URI = "DIRIGIBLE_REDIS_CLIENT_URI";
 
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MAX_TOTAL.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MAX_TOTAL = "DIRIGIBLE_REDIS_POOL_MAX_TOTAL";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MAX_IDLE.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MAX_IDLE = "DIRIGIBLE_REDIS_POOL_MAX_IDLE";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_MIN_IDLE.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_MIN_IDLE = "DIRIGIBLE_REDIS_POOL_MIN_IDLE";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_IDLE_TIMEOUT - in seconds.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_IDLE_TIMEOUT = "DIRIGIBLE_REDIS_POOL_IDLE_TIMEOUT";
+
+    /**
+     * The Constant DIRIGIBLE_REDIS_POOL_VALIDATE - whether the connections are validated on borrow.
+     */
+    private static final String DIRIGIBLE_REDIS_POOL_VALIDATE = "DIRIGIBLE_REDIS_POOL_VALIDATE";
+
     /**
      * The Constant CLIENT_URI.
      */
     private static final String CLIENT_URI = "localhost:6379";
 
+    /** The pooled client shared by all the scripts. */
+    private static JedisPooled pooledClient;
+
+    /** The URI of the pooled client. */
+    private static String pooledClientUri;
+
     /**
-     * Gets the client.
+     * Gets a new dedicated client, which has to be closed by the caller.
      *
      * @return the client
      */
     public static Jedis getClient() {
 
-        String[] splitUri = Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI)
-                                         .split(":");
+        String[] splitUri = getClientUri().split(":");
 
         String host = splitUri[0];
         int port = Integer.parseInt(splitUri[1]);
 
         return new Jedis(host, port);
     }
+
+    /**
+     * Gets the pooled client. Each command borrows a connection from the shared pool and returns it
+     * afterwards, so the client does not have to be closed.
+     *
+     * @return the pooled client
+     */
+    public static synchronized JedisPooled getPooledClient() {
+        String uri = getClientUri();
+        if (pooledClient == null || !uri.equals(pooledClientUri)) {
+            if (pooledClient != null) {
+                pooledClient.close();
+            }
+            String[] splitUri = uri.split(":");
+            pooledClient = new JedisPooled(createPoolConfig(), splitUri[0], Integer.parseInt(splitUri[1]));
+            pooledClientUri = uri;
+        }
+        return pooledClient;
+    }
+
+    /**
+     * Creates the pool config.
+     *
+     * @return the connection pool config
+     */
+    private static ConnectionPoolConfig createPoolConfig() {
+        ConnectionPoolConfig poolConfig = new ConnectionPoolConfig();
+        int maxTotal = Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MAX_TOTAL, 16);
+        poolConfig.setMaxTotal(maxTotal);
+        poolConfig.setMaxIdle(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MAX_IDLE, maxTotal));
+        poolConfig.setMinIdle(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_MIN_IDLE, 0));
+        poolConfig.setMinEvictableIdleTime(Duration.ofSeconds(Configuration.getAsInt(DIRIGIBLE_REDIS_POOL_IDLE_TIMEOUT, 60)));
+        poolConfig.setTimeBetweenEvictionRuns(Duration.ofSeconds(30));
+        boolean validate = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_REDIS_POOL_VALIDATE, "true"));
+        poolConfig.setTestOnBorrow(validate);
+        poolConfig.setTestWhileIdle(validate);
+        return poolConfig;
+    }
+
+    /**
+     * Gets the client URI.
+     *
+     * @return the client URI
+     */
+    private static String getClientUri() {
+        return Configuration.get(DIRIGIBLE_REDIS_CLIENT_URI, CLIENT_URI);
+    }
+
+    /**
+     * Destroy.
+     */
+    @Override
+    public void destroy() {
+        closePooledClient();
+    }
+
+    /**
+     * Closes the pooled client.
+     */
+    public static synchronized void closePooledClient() {
+        if (pooledClient != null) {
+            pooledClient.close();
+            pooledClient = null;
+            pooledClientUri = null;
+        }
+    }
 }
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.redis;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal in-process Redis compatible server speaking RESP2, which supports the string commands
+ * used by the tests and counts the accepted connections.
+ */
+class EmbeddedRedisServer implements Closeable {
+
+    /** The server socket. */
+    private final ServerSocket serverSocket;
+
+    /** The data. */
+    private final Map<String, String> data = new ConcurrentHashMap<>();
+
+    /** The accepted connections. */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * Instantiates and starts a new embedded redis server on a free port.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    EmbeddedRedisServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::accept, "embedded-redis");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the uri.
+     *
+     * @return the uri
+     */
+    String getUri() {
+        return "localhost:" + serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the accepted connections.
+     *
+     * @return the connections
+     */
+    int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * Accept.
+     */
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connections.incrementAndGet();
+                Thread handler = new Thread(() -> handle(socket), "embedded-redis-connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException e) {
+                // closed
+            }
+        }
+    }
+
+    /**
+     * Handle.
+     *
+     * @param socket the socket
+     */
+    private void handle(Socket socket) {
+        try (socket;
+                InputStream in = new BufferedInputStream(socket.getInputStream());
+                OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                execute(command, out);
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // disconnected
+        }
+    }
+
+    /**
+     * Execute.
+     *
+     * @param command the command
+     * @param out the out
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void execute(List<String> command, OutputStream out) throws IOException {
+        switch (command.get(0)
+                       .toUpperCase(Locale.ROOT)) {
+            case "PING" -> write(out, "+PONG\r\n");
+            case "GET" -> writeBulk(out, data.get(command.get(1)));
+            case "SET" -> {
+                data.put(command.get(1), command.get(2));
+                write(out, "+OK\r\n");
+            }
+            case "MSET" -> {
+                for (int i = 1; i < command.size(); i += 2) {
+                    data.put(command.get(i), command.get(i + 1));
+                }
+                write(out, "+OK\r\n");
+            }
+            case "MGET" -> {
+                write(out, "*" + (command.size() - 1) + "\r\n");
+                for (String key : command.subList(1, command.size())) {
+                    writeBulk(out, data.get(key));
+                }
+            }
+            case "INCR" -> write(out, ":" + data.merge(command.get(1), "1", (a, b) -> String.valueOf(Long.parseLong(a) + 1)) + "\r\n");
+            case "DEL" -> {
+                int deleted = 0;
+                for (String key : command.subList(1, command.size())) {
+                    deleted += data.remove(key) != null ? 1 : 0;
+                }
+                write(out, ":" + deleted + "\r\n");
+            }
+            default -> write(out, "+OK\r\n");
+        }
+    }
+
+    /**
+     * Read command.
+     *
+     * @param in the in
+     * @return the command or null at the end of the stream
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            command.add(new String(in.readNBytes(length), StandardCharsets.UTF_8));
+            readLine(in);
+        }
+        return command;
+    }
+
+    /**
+     * Read line.
+     *
+     * @param in the in
+     * @return the line without the CRLF or null at the end of the stream
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\n') {
+                return line.substring(0, line.length() - 1);
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    /**
+     * Write bulk.
+     *
+     * @param out the out
+     * @param value the value
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeBulk(OutputStream out, String value) throws IOException {
+        if (value == null) {
+            write(out, "$-1\r\n");
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            write(out, "$" + bytes.length + "\r\n");
+            out.write(bytes);
+            write(out, "\r\n");
+        }
+    }
+
+    /**
+     * Write.
+     *
+     * @param out the out
+     * @param value the value
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void write(OutputStream out, String value) throws IOException {
+        out.write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Close.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.api.redis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.Pipeline;
+
+/**
+ * The Class RedisFacadePoolTest.
+ */
+public class RedisFacadePoolTest {
+
+    /** The Constant MAX_TOTAL. */
+    private static final int MAX_TOTAL = 4;
+
+    /** The server. */
+    private EmbeddedRedisServer server;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = new EmbeddedRedisServer();
+        Configuration.set("DIRIGIBLE_REDIS_CLIENT_URI", server.getUri());
+        Configuration.set("DIRIGIBLE_REDIS_POOL_MAX_TOTAL", String.valueOf(MAX_TOTAL));
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        RedisFacade.closePooledClient();
+        Configuration.remove("DIRIGIBLE_REDIS_CLIENT_URI");
+        Configuration.remove("DIRIGIBLE_REDIS_POOL_MAX_TOTAL");
+        server.close();
+    }
+
+    /**
+     * Concurrent commands reuse the pooled connections, while the dedicated clients open one connection
+     * each.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void pooledConnectionsAreReused() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String key = "key" + i;
+                futures.add(executor.submit(() -> {
+                    JedisPooled client = RedisFacade.getPooledClient();
+                    client.set(key, "value");
+                    assertEquals("value", client.get(key));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(server.getConnections() <= MAX_TOTAL, "Opened " + server.getConnections() + " connections");
+        assertSame(RedisFacade.getPooledClient(), RedisFacade.getPooledClient());
+
+        int pooled = server.getConnections();
+        for (int i = 0; i < 10; i++) {
+            try (Jedis client = RedisFacade.getClient()) {
+                client.get("key" + i);
+            }
+        }
+        assertEquals(pooled + 10, server.getConnections());
+    }
+
+    /**
+     * Batch and pipelined commands.
+     */
+    @Test
+    public void batchAndPipeline() {
+        JedisPooled client = RedisFacade.getPooledClient();
+        client.mset("a", "1", "b", "2", "c", "3");
+        assertEquals(List.of("1", "2", "3"), client.mget("a", "b", "c"));
+
+        List<Object> results;
+        try (Pipeline pipeline = client.pipelined()) {
+            pipeline.incr("a");
+            pipeline.set("d", "4");
+            pipeline.get("d");
+            results = pipeline.syncAndReturnAll();
+        }
+        assertEquals(List.of(2L, "OK", "4"), results);
+    }
+
+}
@@ -25,6 +25,7 @@ import java.util.Set;
  * The Class Artefact.
  */
 @MappedSuperclass
+@EntityListeners(ArtefactCacheListener.class)
 public abstract class Artefact extends Auditable<String> implements Serializable {
 
     /** The Constant KEY_SEPARATOR. */
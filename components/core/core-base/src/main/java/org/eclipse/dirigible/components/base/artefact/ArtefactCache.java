@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.artefact;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The read-through cache of the artefacts of one type. All the artefacts are loaded at once into an
+ * immutable snapshot indexed by key, name and location, which is dropped on each change done
+ * through the owning service or directly through JPA (see {@link ArtefactCacheListener}), and once
+ * again after the transaction of the change completes. Within such a transaction the lookups go to
+ * the database, so that they see the uncommitted changes. Changes done by other cluster nodes are
+ * picked up when the snapshot expires. The snapshot is shared by all the threads, so the artefacts
+ * are handed out as serialized copies to the callers changing them, see {@link #copy(Artefact)},
+ * while the read only callers may use the snapshot or the structures derived from it, see
+ * {@link #derive(String, Function)}, as long as they do not change them.
+ *
+ * @param <A> the artefact type
+ */
+public class ArtefactCache<A extends Artefact> {
+
+    /**
+     * The snapshot of the artefacts.
+     *
+     * @param <A> the artefact type
+     * @param all all the artefacts
+     * @param byKey the artefacts by key
+     * @param byName the artefacts by name, the first one wins for duplicated names
+     * @param byLocation the artefacts by location
+     * @param loadedAt the load time in milliseconds
+     * @param derived the structures derived from the artefacts by name
+     */
+    public record Snapshot<A extends Artefact>(List<A> all, Map<String, A> byKey, Map<String, A> byName, Map<String, List<A>> byLocation,
+            long loadedAt, Map<String, Object> derived) {
+    }
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(ArtefactCache.class);
+
+    /** The caches of the running services. */
+    private static final Set<ArtefactCache<?>> CACHES = Collections.newSetFromMap(new WeakHashMap<>());
+
+    /** The artefact type. */
+    private final Class<?> type;
+
+    /** The loader. */
+    private final Supplier<List<A>> loader;
+
+    /** The time to live in milliseconds, zero or less for no expiration. */
+    private final long ttl;
+
+    /** The lock. */
+    private final Object lock = new Object();
+
+    /** The load lock, held while loading, so that only one thread at a time goes to the database. */
+    private final Object loadLock = new Object();
+
+    /** The snapshot, or null if it has to be loaded. */
+    private volatile Snapshot<A> snapshot;
+
+    /** The version, incremented on each invalidation. */
+    private long version;
+
+    /** Whether the artefacts can be copied, false once an artefact fails to serialize. */
+    private volatile boolean copyable = true;
+
+    /**
+     * Instantiates a new artefact cache.
+     *
+     * @param type the artefact type
+     * @param loader the loader of all the artefacts
+     * @param ttl the time to live in milliseconds, zero or less for no expiration
+     */
+    public ArtefactCache(Class<?> type, Supplier<List<A>> loader, long ttl) {
+        this.type = type;
+        this.loader = loader;
+        this.ttl = ttl;
+        synchronized (CACHES) {
+            CACHES.add(this);
+        }
+    }
+
+    /**
+     * Invalidates the caches of the given artefact and its super types.
+     *
+     * @param artefact the changed artefact
+     */
+    static void invalidate(Artefact artefact) {
+        List<ArtefactCache<?>> affected = new ArrayList<>();
+        synchronized (CACHES) {
+            for (ArtefactCache<?> cache : CACHES) {
+                if (cache.type.isInstance(artefact)) {
+                    affected.add(cache);
+                }
+            }
+        }
+        affected.forEach(ArtefactCache::invalidate);
+    }
+
+    /**
+     * Gets the snapshot, loading it if it has been invalidated or has expired.
+     *
+     * @return the snapshot
+     */
+    public Snapshot<A> get() {
+        Snapshot<A> current = snapshot;
+        if (isValid(current)) {
+            return current;
+        }
+        synchronized (loadLock) {
+            // loaded by another thread in the meantime
+            current = snapshot;
+            if (isValid(current)) {
+                return current;
+            }
+            long loadedVersion;
+            synchronized (lock) {
+                loadedVersion = version;
+            }
+            current = load();
+            synchronized (lock) {
+                // an artefact changed while loading - serve the result, but do not keep it
+                if (loadedVersion == version) {
+                    snapshot = current;
+                }
+            }
+            return current;
+        }
+    }
+
+    /**
+     * Checks if the snapshot is loaded and has not expired.
+     *
+     * @param current the snapshot, may be null
+     * @return true, if valid
+     */
+    private boolean isValid(Snapshot<A> current) {
+        return current != null && (ttl <= 0 || System.currentTimeMillis() - current.loadedAt() < ttl);
+    }
+
+    /**
+     * Gets a structure derived from the artefacts of the snapshot, e.g. an index of them, computing it
+     * once per snapshot. The structure is dropped together with the snapshot, and it is shared by all
+     * the threads, so neither the structure nor the artefacts it refers to may be changed.
+     *
+     * @param <R> the structure type
+     * @param name the unique name of the structure
+     * @param derivation the derivation of the structure from all the artefacts
+     * @return the structure
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R derive(String name, Function<List<A>, R> derivation) {
+        Snapshot<A> current = get();
+        return (R) current.derived()
+                          .computeIfAbsent(name, k -> derivation.apply(current.all()));
+    }
+
+    /**
+     * Loads the snapshot.
+     *
+     * @return the snapshot
+     */
+    private Snapshot<A> load() {
+        List<A> all = loader.get();
+        if (copyable) {
+            verifyCopyable(all);
+        }
+        Map<String, A> byKey = new HashMap<>();
+        Map<String, A> byName = new HashMap<>();
+        Map<String, List<A>> byLocation = new HashMap<>();
+        for (A artefact : all) {
+            if (artefact.getKey() != null) {
+                byKey.put(artefact.getKey(), artefact);
+            }
+            if (artefact.getName() != null) {
+                byName.putIfAbsent(artefact.getName(), artefact);
+            }
+            if (artefact.getLocation() != null) {
+                byLocation.computeIfAbsent(artefact.getLocation(), k -> new ArrayList<>())
+                          .add(artefact);
+            }
+        }
+        byLocation.replaceAll((location, artefacts) -> Collections.unmodifiableList(artefacts));
+        return new Snapshot<>(Collections.unmodifiableList(new ArrayList<>(all)), Collections.unmodifiableMap(byKey),
+                Collections.unmodifiableMap(byName), Collections.unmodifiableMap(byLocation), System.currentTimeMillis(),
+                new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Checks that all the loaded artefacts can be serialized, otherwise the cache is not used any more.
+     *
+     * @param artefacts the artefacts
+     */
+    private void verifyCopyable(List<A> artefacts) {
+        for (A artefact : artefacts) {
+            try {
+                serialize(artefact);
+            } catch (IOException | RuntimeException e) {
+                copyable = false;
+                logger.warn("Artefacts of type [{}] cannot be copied, so they will not be cached: {}", type.getName(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Checks if the artefacts can be copied. The cache must not be used otherwise.
+     *
+     * @return true, if copyable
+     */
+    public boolean isCopyable() {
+        return copyable;
+    }
+
+    /**
+     * Copies an artefact of the snapshot, so that a caller changing it, e.g. a synchronizer setting its
+     * lifecycle and error, does not change what the other threads read.
+     *
+     * @param artefact the artefact, may be null
+     * @return the copy, or null
+     */
+    @SuppressWarnings("unchecked")
+    public A copy(A artefact) {
+        if (artefact == null) {
+            return null;
+        }
+        ClassLoader classLoader = artefact.getClass()
+                                          .getClassLoader();
+        try (ObjectInputStream input = new ArtefactInputStream(new ByteArrayInputStream(serialize(artefact)), classLoader)) {
+            return (A) input.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot copy artefact [" + artefact.getKey() + "]", e);
+        }
+    }
+
+    /**
+     * Copies the artefacts of the snapshot.
+     *
+     * @param artefacts the artefacts
+     * @return the copies
+     */
+    public List<A> copy(List<A> artefacts) {
+        List<A> copies = new ArrayList<>(artefacts.size());
+        for (A artefact : artefacts) {
+            copies.add(copy(artefact));
+        }
+        return copies;
+    }
+
+    /**
+     * Serialize.
+     *
+     * @param artefact the artefact
+     * @return the bytes
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static byte[] serialize(Artefact artefact) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(artefact);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Checks if the artefacts have been changed within the current transaction, in which case the
+     * snapshot must not be used.
+     *
+     * @return true, if changed in the current transaction
+     */
+    public boolean isChangedInTransaction() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    /**
+     * Invalidates the snapshot now and once again after the current transaction completes, so that a
+     * lookup during the transaction does not keep the state before the commit or the rollback.
+     */
+    public void invalidate() {
+        clear();
+        if (TransactionSynchronizationManager.isSynchronizationActive() && !TransactionSynchronizationManager.hasResource(this)) {
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ArtefactCache.this);
+                    clear();
+                }
+            });
+        }
+    }
+
+    /**
+     * Clears the snapshot.
+     */
+    public void clear() {
+        synchronized (lock) {
+            version++;
+            snapshot = null;
+        }
+    }
+
+    /**
+     * Object input stream resolving the classes with the class loader of the artefact.
+     */
+    private static class ArtefactInputStream extends ObjectInputStream {
+
+        /** The class loader. */
+        private final ClassLoader classLoader;
+
+        /**
+         * Instantiates a new artefact input stream.
+         *
+         * @param in the in
+         * @param classLoader the class loader
+         * @throws IOException Signals that an I/O exception has occurred.
+         */
+        ArtefactInputStream(InputStream in, ClassLoader classLoader) throws IOException {
+            super(in);
+            this.classLoader = classLoader;
+        }
+
+        /**
+         * Resolve class.
+         *
+         * @param desc the desc
+         * @return the class
+         * @throws IOException Signals that an I/O exception has occurred.
+         * @throws ClassNotFoundException the class not found exception
+         */
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Class.forName(desc.getName(), false, classLoader);
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.artefact;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * The JPA entity listener, which invalidates the {@link ArtefactCache} of the changed artefacts, so
+ * that the changes done through the repositories directly are visible as well.
+ */
+public class ArtefactCacheListener {
+
+    /**
+     * Invalidates the cache of the changed artefact.
+     *
+     * @param artefact the artefact
+     */
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    public void changed(Artefact artefact) {
+        ArtefactCache.invalidate(artefact);
+    }
+
+}
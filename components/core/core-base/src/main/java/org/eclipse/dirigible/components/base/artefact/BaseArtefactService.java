@@ -9,19 +9,41 @@
  */
 package org.eclipse.dirigible.components.base.artefact;
 
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 /**
- * The Class BaseArtefactService.
+ * The Class BaseArtefactService. The lookups by key, name and location and the listing of all the
+ * artefacts are served from an {@link ArtefactCache}, as copies of the cached artefacts, unless the
+ * service is not cacheable. The read only callers, e.g. on the request path, should use
+ * {@link #getAllReadOnly()} or {@link #getDerived(String, Function)}, which do not copy.
  *
  */
 public abstract class BaseArtefactService<A extends Artefact, ID> implements ArtefactService<A, ID> {
 
+    /** The Constant DIRIGIBLE_ARTEFACT_CACHE_ENABLED. */
+    private static final String DIRIGIBLE_ARTEFACT_CACHE_ENABLED = "DIRIGIBLE_ARTEFACT_CACHE_ENABLED";
+
+    /** The Constant DIRIGIBLE_ARTEFACT_CACHE_TTL in seconds. */
+    private static final String DIRIGIBLE_ARTEFACT_CACHE_TTL = "DIRIGIBLE_ARTEFACT_CACHE_TTL";
+
     /** The repository. */
     private final ArtefactRepository<A, ID> repository;
 
+    /** The cache. */
+    private final ArtefactCache<A> cache;
+
+    /** The cache enabled. */
+    private final boolean cacheEnabled;
+
     /**
      * Instantiates a new base artefact service.
      *
@@ -29,6 +51,10 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     protected BaseArtefactService(ArtefactRepository<A, ID> repository) {
         this.repository = repository;
+        Class<?>[] types = GenericTypeResolver.resolveTypeArguments(getClass(), BaseArtefactService.class);
+        this.cache = new ArtefactCache<>(types != null && types[0] != null ? types[0] : Artefact.class, repository::findAll,
+                TimeUnit.SECONDS.toMillis(Configuration.getAsInt(DIRIGIBLE_ARTEFACT_CACHE_TTL, 60)));
+        this.cacheEnabled = Boolean.parseBoolean(Configuration.get(DIRIGIBLE_ARTEFACT_CACHE_ENABLED, "true"));
     }
 
     /**
@@ -38,7 +64,45 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public final List<A> getAll() {
-        return getRepo().findAll();
+        ArtefactCache<A> readCache = getReadCache();
+        if (readCache == null) {
+            return getRepo().findAll();
+        }
+        return readCache.copy(readCache.get()
+                                       .all());
+    }
+
+    /**
+     * Gets all the artefacts for reading only. Unlike {@link #getAll()}, the cached artefacts are not
+     * copied, but shared with the other threads, so neither the list nor the artefacts may be changed.
+     *
+     * @return the all
+     */
+    public final List<A> getAllReadOnly() {
+        ArtefactCache<A> readCache = getReadCache();
+        if (readCache == null) {
+            return Collections.unmodifiableList(getRepo().findAll());
+        }
+        return readCache.get()
+                        .all();
+    }
+
+    /**
+     * Gets a structure derived from all the artefacts, e.g. an index of them, which is computed once
+     * per cache load and shared with the other threads, so neither the structure nor the artefacts it
+     * refers to may be changed. It is computed on each call if the cache is not used.
+     *
+     * @param <R> the structure type
+     * @param name the unique name of the structure within the service
+     * @param derivation the derivation of the structure from all the artefacts
+     * @return the structure
+     */
+    protected final <R> R getDerived(String name, Function<List<A>, R> derivation) {
+        ArtefactCache<A> readCache = getReadCache();
+        if (readCache == null) {
+            return derivation.apply(getRepo().findAll());
+        }
+        return readCache.derive(name, derivation);
     }
 
     /**
@@ -72,8 +136,12 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public A findByName(String name) {
-        return getRepo().findByName(name)
-                        .orElseThrow(() -> new IllegalArgumentException(this.getClass() + ": missing artefact with name: [" + name + "]"));
+        ArtefactCache<A> readCache = getReadCache();
+        Optional<A> artefact = readCache == null ? getRepo().findByName(name)
+                : Optional.ofNullable(readCache.copy(readCache.get()
+                                                              .byName()
+                                                              .get(name)));
+        return artefact.orElseThrow(() -> new IllegalArgumentException(this.getClass() + ": missing artefact with name: [" + name + "]"));
     }
 
     /**
@@ -84,7 +152,13 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public final List<A> findByLocation(String location) {
-        return getRepo().findByLocation(location);
+        ArtefactCache<A> readCache = getReadCache();
+        if (readCache == null) {
+            return getRepo().findByLocation(location);
+        }
+        return readCache.copy(readCache.get()
+                                       .byLocation()
+                                       .getOrDefault(location, List.of()));
     }
 
     /**
@@ -95,8 +169,14 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public final A findByKey(String key) {
-        return getRepo().findByKey(key)
-                        .orElse(null);
+        ArtefactCache<A> readCache = getReadCache();
+        if (readCache == null) {
+            return getRepo().findByKey(key)
+                            .orElse(null);
+        }
+        return readCache.copy(readCache.get()
+                                       .byKey()
+                                       .get(key));
     }
 
     /**
@@ -107,6 +187,7 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public A save(A a) {
+        invalidateCache();
         return getRepo().saveAndFlush(a);
     }
 
@@ -117,6 +198,7 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public void delete(A a) {
+        invalidateCache();
         getRepo().delete(a);
     }
 
@@ -127,7 +209,10 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
      */
     @Override
     public void setRunningToAll(boolean running) {
+        invalidateCache();
         getRepo().setRunningToAll(running);
+        // the bulk update bypasses the entity listeners, and the snapshot may have been reloaded meanwhile
+        invalidateCache();
     }
 
     /**
@@ -139,4 +224,35 @@ public abstract class BaseArtefactService<A extends Artefact, ID> implements Art
         return repository;
     }
 
+    /**
+     * Checks if the artefacts of the service can be cached. Services, whose artefacts have lazily
+     * loaded associations or change frequently, have to return false.
+     *
+     * @return true, if cacheable
+     */
+    protected boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Gets the cache to read from. The cached artefacts are handed out as copies, so the callers may
+     * change them.
+     *
+     * @return the cache, or null if the lookup has to go to the database
+     */
+    protected ArtefactCache<A> getReadCache() {
+        if (!cacheEnabled || !isCacheable() || !cache.isCopyable() || cache.isChangedInTransaction()) {
+            return null;
+        }
+        return cache;
+    }
+
+    /**
+     * Invalidates the cache. Has to be called by the subclasses changing artefacts through the
+     * repository directly.
+     */
+    protected void invalidateCache() {
+        cache.invalidate();
+    }
+
 }
@@ -13,13 +13,27 @@ import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 /**
  * The Class TopologicalDepleter.
  *
+ * The depletables are processed in waves - a wave contains all the remaining depletables, which
+ * dependencies (if they are {@link TopologicallySortable}) are already depleted. The depletables of
+ * a wave are independent of each other, hence the thread safe ones are completed in parallel, if an
+ * executor is provided, while the rest are completed sequentially after them in the calling thread.
+ * The waves are repeated until no more depletables can be completed.
+ *
  * @param <T> the generic type
  */
 public class TopologicalDepleter<T extends TopologicallyDepletable> {
@@ -27,6 +41,25 @@ public class TopologicalDepleter<T extends TopologicallyDepletable> {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(TopologicalDepleter.class);
 
+    /** The executor or null for sequential processing in the calling thread. */
+    private final ExecutorService executor;
+
+    /**
+     * Instantiates a new topological depleter, which processes the depletables sequentially.
+     */
+    public TopologicalDepleter() {
+        this(null);
+    }
+
+    /**
+     * Instantiates a new topological depleter, which processes the depletables of a wave in parallel.
+     *
+     * @param executor the executor
+     */
+    public TopologicalDepleter(ExecutorService executor) {
+        this.executor = executor;
+    }
+
     /**
      * Deplete.
      *
@@ -35,27 +68,163 @@ public class TopologicalDepleter<T extends TopologicallyDepletable> {
      * @return the list
      */
     public Set<T> deplete(Set<T> list, ArtefactPhase flow) {
-        Set<T> depletables = new HashSet<>();
-        depletables.addAll(list);
-        int count = depletables.size();
-        boolean repeat = true;
-        do {
-            Iterator<T> iterator = depletables.iterator();
-            while (iterator.hasNext()) {
-                TopologicallyDepletable depletable = iterator.next();
+        Set<T> depletables = new LinkedHashSet<>(list);
+        Map<T, Set<T>> dependencies = resolveDependencies(depletables);
+        boolean onlyReady = true;
+        while (!depletables.isEmpty()) {
+            List<T> wave = new ArrayList<>();
+            for (T depletable : depletables) {
+                if (!onlyReady || isReady(depletable, dependencies, depletables)) {
+                    wave.add(depletable);
+                }
+            }
+            if (wave.isEmpty()) {
+                // cyclic dependencies - fallback to all the remaining
+                onlyReady = false;
+                continue;
+            }
+            Set<T> depleted = completeWave(wave, flow);
+            depletables.removeAll(depleted);
+            if (depleted.isEmpty()) {
+                if (!onlyReady || wave.size() == depletables.size()) {
+                    break;
+                }
+                // retry all the remaining, as the dependencies may not be strict
+                onlyReady = false;
+            } else {
+                onlyReady = true;
+            }
+        }
+        return depletables;
+    }
+
+    /**
+     * Resolve the dependencies of each depletable within the given set.
+     *
+     * @param depletables the depletables
+     * @return the dependencies
+     */
+    private Map<T, Set<T>> resolveDependencies(Set<T> depletables) {
+        Map<String, T> byId = new HashMap<>();
+        for (T depletable : depletables) {
+            byId.put(depletable.getId(), depletable);
+        }
+        Map<T, Set<T>> dependencies = new HashMap<>();
+        for (T depletable : depletables) {
+            if (depletable instanceof TopologicallySortable sortable) {
+                Set<T> resolved = new HashSet<>();
+                for (TopologicallySortable dependency : sortable.getDependencies()) {
+                    T dependent = dependency != null ? byId.get(dependency.getId()) : null;
+                    if (dependent != null && dependent != depletable) {
+                        resolved.add(dependent);
+                    }
+                }
+                dependencies.put(depletable, resolved);
+            }
+        }
+        return dependencies;
+    }
+
+    /**
+     * Checks if all the dependencies of the depletable are already depleted.
+     *
+     * @param depletable the depletable
+     * @param dependencies the dependencies
+     * @param remaining the remaining
+     * @return true, if is ready
+     */
+    private boolean isReady(T depletable, Map<T, Set<T>> dependencies, Set<T> remaining) {
+        Set<T> own = dependencies.get(depletable);
+        if (own != null) {
+            for (T dependency : own) {
+                if (remaining.contains(dependency)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Complete the depletables of a wave.
+     *
+     * @param wave the wave
+     * @param flow the flow
+     * @return the depleted ones, including the failed ones
+     */
+    private Set<T> completeWave(List<T> wave, ArtefactPhase flow) {
+        Set<T> depleted = new HashSet<>();
+        List<T> parallel = new ArrayList<>();
+        List<T> sequential = new ArrayList<>();
+        for (T depletable : wave) {
+            if (executor != null && depletable.isThreadSafe()) {
+                parallel.add(depletable);
+            } else {
+                sequential.add(depletable);
+            }
+        }
+        if (parallel.size() == 1) {
+            sequential.add(0, parallel.remove(0));
+        }
+        if (!parallel.isEmpty()) {
+            completeInParallel(parallel, flow, depleted);
+        }
+        for (T depletable : sequential) {
+            if (complete(depletable, flow)) {
+                depleted.add(depletable);
+            }
+        }
+        return depleted;
+    }
+
+    /**
+     * Complete the thread safe depletables of a wave on the executor.
+     *
+     * @param parallel the thread safe depletables
+     * @param flow the flow
+     * @param depleted the depleted ones, including the failed ones
+     */
+    private void completeInParallel(List<T> parallel, ArtefactPhase flow, Set<T> depleted) {
+        List<Callable<Boolean>> tasks = new ArrayList<>(parallel.size());
+        for (T depletable : parallel) {
+            tasks.add(() -> complete(depletable, flow));
+        }
+        try {
+            List<Future<Boolean>> futures = executor.invokeAll(tasks);
+            for (int i = 0; i < futures.size(); i++) {
                 try {
-                    if (depletable.complete(flow)) {
-                        iterator.remove();
+                    if (Boolean.TRUE.equals(futures.get(i)
+                                                   .get())) {
+                        depleted.add(parallel.get(i));
                     }
-                } catch (Exception e) {
-                    logger.error("Error has been thrown on depleting artefact: [{}] at phase: [{}]", depletable.getId(), flow.getValue());
-                    iterator.remove();
+                } catch (ExecutionException e) {
+                    logger.error("Error has been thrown on depleting artefact: [{}] at phase: [{}]", parallel.get(i)
+                                                                                                             .getId(),
+                            flow.getValue(), e.getCause());
+                    depleted.add(parallel.get(i));
                 }
             }
-            repeat = count > depletables.size();
-            count = depletables.size();
-        } while (repeat);
-        return depletables;
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+            logger.error("Interrupted while depleting artefacts at phase: [{}]", flow.getValue());
+        }
+    }
+
+    /**
+     * Complete a single depletable.
+     *
+     * @param depletable the depletable
+     * @param flow the flow
+     * @return true, if depleted or failed
+     */
+    private boolean complete(T depletable, ArtefactPhase flow) {
+        try {
+            return depletable.complete(flow);
+        } catch (Exception e) {
+            logger.error("Error has been thrown on depleting artefact: [{}] at phase: [{}]", depletable.getId(), flow.getValue());
+            return true;
+        }
     }
 
 }
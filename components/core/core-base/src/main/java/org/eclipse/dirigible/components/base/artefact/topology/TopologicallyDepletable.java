@@ -31,4 +31,13 @@ public interface TopologicallyDepletable {
      */
     public boolean complete(ArtefactPhase flow);
 
+    /**
+     * Checks if the depletable can be completed in parallel with the other ones of its wave.
+     *
+     * @return true, if the completion is thread safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
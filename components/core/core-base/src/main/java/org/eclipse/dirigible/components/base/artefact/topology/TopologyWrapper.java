@@ -127,6 +127,16 @@ public class TopologyWrapper<A extends Artefact> implements TopologicallySortabl
         return true;
     }
 
+    /**
+     * Checks if the synchronizer of the artefact can complete it in parallel.
+     *
+     * @return true, if the completion is thread safe
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return synchronizer.isThreadSafe();
+    }
+
     /**
      * To string.
      *
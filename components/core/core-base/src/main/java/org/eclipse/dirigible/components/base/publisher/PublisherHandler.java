@@ -9,6 +9,9 @@
  */
 package org.eclipse.dirigible.components.base.publisher;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The Interface PublisherHandler.
  */
@@ -45,9 +48,45 @@ public interface PublisherHandler {
     default void afterUnpublish(String location) {}
 
     /**
-     * The AfterPublishMetadata.
+     * The AfterPublishMetadata. The delta is null, if the published files are not known.
+     */
+    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory, PublishDelta delta) {
+
+        /**
+         * Instantiates a new after publish metadata without a delta.
+         *
+         * @param workspace the workspace
+         * @param projectName the project name
+         * @param entryPath the entry path
+         * @param isDirectory the is directory
+         */
+        public AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+            this(workspace, projectName, entryPath, isDirectory, null);
+        }
+    }
+
+    /**
+     * The registry locations of the resources added, changed and removed by a publish. The handlers
+     * may use it to skip their work, when nothing has been published, as the synchronization does -
+     * it still scans the whole registry otherwise.
      */
-    record AfterPublishMetadata(String workspace, String projectName, String entryPath, boolean isDirectory) {
+    record PublishDelta(List<String> added, List<String> changed, List<String> removed) {
+
+        /**
+         * Instantiates a new empty publish delta.
+         */
+        public PublishDelta() {
+            this(new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        }
+
+        /**
+         * Checks if nothing has been published.
+         *
+         * @return true, if is empty
+         */
+        public boolean isEmpty() {
+            return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+        }
     }
 
 }
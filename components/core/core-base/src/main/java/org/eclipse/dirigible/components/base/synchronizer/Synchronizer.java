@@ -121,4 +121,15 @@ public interface Synchronizer<A extends Artefact, ID> {
      */
     boolean multitenantExecution();
 
+    /**
+     * Checks if the artefacts of this synchronizer can be completed in parallel, i.e. the completion
+     * does not share any unguarded state between the artefacts. The synchronizers are completed
+     * sequentially by default.
+     *
+     * @return true, if the completion is thread safe
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
 }
@@ -0,0 +1,273 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.base.artefact;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * The Class ArtefactCacheTest.
+ */
+public class ArtefactCacheTest {
+
+    /**
+     * The Class TestArtefact.
+     */
+    static class TestArtefact extends Artefact {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Instantiates a new test artefact.
+         *
+         * @param location the location
+         * @param name the name
+         */
+        TestArtefact(String location, String name) {
+            super(location, name, "test", null, null);
+        }
+    }
+
+    /**
+     * Test lookups are served from one load until invalidated.
+     */
+    @Test
+    public void testLoadAndInvalidate() {
+        List<TestArtefact> artefacts = new ArrayList<>();
+        artefacts.add(new TestArtefact("/project/a.test", "a"));
+        artefacts.add(new TestArtefact("/project/a.test", "b"));
+        AtomicInteger loads = new AtomicInteger();
+        ArtefactCache<TestArtefact> cache = new ArtefactCache<>(TestArtefact.class, () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>(artefacts);
+        }, 0);
+
+        assertEquals(2, cache.get()
+                             .all()
+                             .size());
+        assertEquals("b", cache.get()
+                               .byKey()
+                               .get("test:/project/a.test:b")
+                               .getName());
+        assertEquals(2, cache.get()
+                             .byLocation()
+                             .get("/project/a.test")
+                             .size());
+        assertNull(cache.get()
+                        .byName()
+                        .get("c"));
+        assertEquals(1, loads.get());
+
+        artefacts.add(new TestArtefact("/project/c.test", "c"));
+        cache.invalidate();
+        assertEquals("c", cache.get()
+                               .byName()
+                               .get("c")
+                               .getName());
+        assertEquals(2, loads.get());
+
+        // a change done through JPA directly
+        new ArtefactCacheListener().changed(new TestArtefact("/project/d.test", "d"));
+        cache.get();
+        assertEquals(3, loads.get());
+    }
+
+    /**
+     * Test a snapshot loaded concurrently with an invalidation is not kept.
+     */
+    @Test
+    public void testInvalidatedWhileLoading() {
+        AtomicInteger loads = new AtomicInteger();
+        ArtefactCache<TestArtefact>[] holder = new ArtefactCache[1];
+        holder[0] = new ArtefactCache<>(TestArtefact.class, () -> {
+            if (loads.incrementAndGet() == 1) {
+                holder[0].clear();
+            }
+            return List.of();
+        }, 0);
+
+        ArtefactCache.Snapshot<TestArtefact> first = holder[0].get();
+        ArtefactCache.Snapshot<TestArtefact> second = holder[0].get();
+        assertEquals(2, loads.get());
+        assertSame(second, holder[0].get());
+        assertEquals(first.all(), second.all());
+    }
+
+    /**
+     * Test the cache is bypassed after a change within a transaction until it completes.
+     */
+    @Test
+    public void testChangedInTransaction() {
+        AtomicInteger loads = new AtomicInteger();
+        ArtefactCache<TestArtefact> cache = new ArtefactCache<>(TestArtefact.class, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        }, 0);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertFalse(cache.isChangedInTransaction());
+            cache.invalidate();
+            assertTrue(cache.isChangedInTransaction());
+
+            // a lookup by another thread during the transaction
+            cache.get();
+            assertEquals(1, loads.get());
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+            assertFalse(cache.isChangedInTransaction());
+            cache.get();
+            assertEquals(2, loads.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /**
+     * Test the artefacts handed out by the service are copies, so that a caller changing them does not
+     * change what the other callers read.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMutationIsolation() {
+        TestArtefact artefact = new TestArtefact("/project/a.test", "a");
+        artefact.setLifecycle(ArtefactLifecycle.CREATED);
+        Date createdAt = new Date(1000);
+        artefact.setCreatedAt(createdAt);
+        ArtefactRepository<TestArtefact, Long> repository = mock(ArtefactRepository.class);
+        when(repository.findAll()).thenReturn(List.of(artefact));
+        BaseArtefactService<TestArtefact, Long> service = new BaseArtefactService<>(repository) {};
+
+        TestArtefact first = service.findByKey(artefact.getKey());
+        assertNotSame(artefact, first);
+        assertEquals(createdAt, first.getCreatedAt());
+        first.setLifecycle(ArtefactLifecycle.FAILED);
+        first.setError("failed");
+        service.findByLocation("/project/a.test")
+               .get(0)
+               .setDescription("changed");
+        service.getAll()
+               .clear();
+
+        TestArtefact second = service.findByName("a");
+        assertNotSame(first, second);
+        assertEquals(ArtefactLifecycle.CREATED, second.getLifecycle());
+        assertNull(second.getError());
+        assertNull(second.getDescription());
+        assertEquals(1, service.getAll()
+                               .size());
+        assertEquals(ArtefactLifecycle.CREATED, artefact.getLifecycle());
+        verify(repository, times(1)).findAll();
+    }
+
+    /**
+     * Test the threads looking up an invalidated cache concurrently load it only once.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSingleFlightLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch waiting = new CountDownLatch(1);
+        ArtefactCache<TestArtefact> cache = new ArtefactCache<>(TestArtefact.class, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                waiting.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            return List.of();
+        }, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ArtefactCache.Snapshot<TestArtefact>>> futures = new ArrayList<>();
+            futures.add(executor.submit(cache::get));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(cache::get));
+            }
+            // let the other lookups block on the load
+            Thread.sleep(100);
+            waiting.countDown();
+            ArtefactCache.Snapshot<TestArtefact> first = futures.get(0)
+                                                                .get();
+            for (Future<ArtefactCache.Snapshot<TestArtefact>> future : futures) {
+                assertSame(first, future.get());
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test the derived structures are shared until the cache is invalidated.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testDerivedAndReadOnly() {
+        TestArtefact artefact = new TestArtefact("/project/a.test", "a");
+        ArtefactRepository<TestArtefact, Long> repository = mock(ArtefactRepository.class);
+        when(repository.findAll()).thenReturn(List.of(artefact));
+        AtomicInteger derivations = new AtomicInteger();
+        BaseArtefactService<TestArtefact, Long> service = new BaseArtefactService<>(repository) {};
+
+        List<String> names = service.getDerived("names", all -> {
+            derivations.incrementAndGet();
+            return all.stream()
+                      .map(Artefact::getName)
+                      .toList();
+        });
+        assertEquals(List.of("a"), names);
+        assertSame(names, service.getDerived("names", all -> List.of()));
+        assertEquals(1, derivations.get());
+
+        List<TestArtefact> readOnly = service.getAllReadOnly();
+        assertSame(readOnly.get(0), service.getAllReadOnly()
+                                           .get(0));
+        assertThrows(UnsupportedOperationException.class, readOnly::clear);
+        verify(repository, times(1)).findAll();
+
+        // the bulk update bypasses the entity listeners
+        service.setRunningToAll(false);
+        assertNotSame(names, service.getDerived("names", all -> List.of()));
+        verify(repository, times(2)).findAll();
+    }
+
+}
@@ -12,10 +12,16 @@ package org.eclipse.dirigible.components.base.artefact.topology;
 import org.eclipse.dirigible.components.base.artefact.ArtefactPhase;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * The Class TopologicalDepleterTest.
@@ -168,4 +174,157 @@ public class TopologicalDepleterTest {
 
     }
 
+    /**
+     * Test depleted in parallel.
+     */
+    @Test
+    public void testDepletedInParallel() {
+        System.out.println("Depleted in parallel:");
+
+        Set<DepletableNode> list = new HashSet<>();
+        list.add(new DepletableNode("A", 0));
+        list.add(new DepletableNode("B", 3));
+        list.add(new DepletableNode("C", 2));
+        list.add(new DepletableNode("D", 8));
+        list.add(new DepletableNode("E", 4));
+        list.add(new DepletableNode("F", 3));
+        list.add(new DepletableNode("G", 5));
+        list.add(new DepletableNode("H", 1));
+        list.add(new DepletableNode("I", 1));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TopologicalDepleter<DepletableNode> depleter = new TopologicalDepleter<>(executor);
+            Set<DepletableNode> results = depleter.deplete(list, ArtefactPhase.CREATE);
+            for (TopologicallyDepletable depletable : results) {
+                System.out.println(depletable.getId() + " remained");
+            }
+
+            assertEquals(results.size(), 1);
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * The Class DependentNode.
+     */
+    public static class DependentNode implements TopologicallyDepletable, TopologicallySortable {
+
+        /** The id. */
+        private final String id;
+
+        /** The dependencies. */
+        private final List<TopologicallySortable> dependencies = new ArrayList<>();
+
+        /** The thread safe. */
+        private final boolean threadSafe;
+
+        /** The completed. */
+        private final List<String> completed;
+
+        /**
+         * Instantiates a new dependent node.
+         *
+         * @param id the id
+         * @param threadSafe the thread safe
+         * @param completed the completed
+         * @param dependencies the dependencies
+         */
+        public DependentNode(String id, boolean threadSafe, List<String> completed, DependentNode... dependencies) {
+            this.id = id;
+            this.threadSafe = threadSafe;
+            this.completed = completed;
+            Collections.addAll(this.dependencies, dependencies);
+        }
+
+        /**
+         * Gets the id.
+         *
+         * @return the id
+         */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Gets the dependencies.
+         *
+         * @return the dependencies
+         */
+        @Override
+        public List<TopologicallySortable> getDependencies() {
+            return dependencies;
+        }
+
+        /**
+         * Complete.
+         *
+         * @param flow the flow
+         * @return true, if successful
+         */
+        @Override
+        public boolean complete(ArtefactPhase flow) {
+            try {
+                // widen the window for a dependent to overtake its dependencies
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            completed.add(id);
+            return true;
+        }
+
+        /**
+         * Checks if is thread safe.
+         *
+         * @return true, if is thread safe
+         */
+        @Override
+        public boolean isThreadSafe() {
+            return threadSafe;
+        }
+
+    }
+
+    /**
+     * Test the dependencies are completed before their dependents in parallel.
+     */
+    @Test
+    public void testDependenciesDepletedFirstInParallel() {
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+
+        // A <- B, C <- D <- F; A <- E (not thread safe) <- F; C <- G
+        DependentNode nodeA = new DependentNode("A", true, completed);
+        DependentNode nodeB = new DependentNode("B", true, completed, nodeA);
+        DependentNode nodeC = new DependentNode("C", true, completed, nodeA);
+        DependentNode nodeD = new DependentNode("D", true, completed, nodeB, nodeC);
+        DependentNode nodeE = new DependentNode("E", false, completed, nodeA);
+        DependentNode nodeF = new DependentNode("F", true, completed, nodeD, nodeE);
+        DependentNode nodeG = new DependentNode("G", false, completed, nodeC);
+        List<DependentNode> nodes = List.of(nodeA, nodeB, nodeC, nodeD, nodeE, nodeF, nodeG);
+
+        Set<DependentNode> list = new HashSet<>(nodes);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TopologicalDepleter<DependentNode> depleter = new TopologicalDepleter<>(executor);
+            Set<DependentNode> results = depleter.deplete(list, ArtefactPhase.CREATE);
+
+            assertEquals(0, results.size());
+            assertEquals(nodes.size(), completed.size());
+            for (DependentNode node : nodes) {
+                for (TopologicallySortable dependency : node.getDependencies()) {
+                    assertTrue(completed.indexOf(dependency.getId()) < completed.indexOf(node.getId()),
+                            node.getId() + " completed before its dependency " + dependency.getId() + ": " + completed);
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
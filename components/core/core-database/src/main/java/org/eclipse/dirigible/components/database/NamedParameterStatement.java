@@ -21,6 +21,9 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import org.eclipse.dirigible.commons.config.Configuration;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
  * This class wraps around a PreparedStatement and allows the programmer to set parameters by name
@@ -40,6 +43,10 @@ import java.util.Map;
  * p.setString("name", "bob"); p.setString("address", "123 terrace ct"); ResultSet
  * rs=p.executeQuery();
  *
+ * The parsed queries are kept in a bounded cache shared by all the statements, so that a query is
+ * parsed only once. The statements themselves are prepared by the connection, which reuses them if
+ * the driver caches prepared statements.
+ *
  * Sourced from JavaWorld Article @ http://www.javaworld.com/javaworld/jw-04-2007/jw-04-jdbc.html
  *
  * @author adam_crume
@@ -47,6 +54,24 @@ import java.util.Map;
 
 public class NamedParameterStatement implements AutoCloseable {
 
+    /** The Constant DIRIGIBLE_DATABASE_NAMED_PARAMETERS_CACHE_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_NAMED_PARAMETERS_CACHE_SIZE = "DIRIGIBLE_DATABASE_NAMED_PARAMETERS_CACHE_SIZE";
+
+    /** The parsed queries by query. */
+    private static final Cache<String, ParsedQuery> PARSED_QUERIES = Caffeine.newBuilder()
+                                                                             .maximumSize(Configuration.getAsInt(
+                                                                                     DIRIGIBLE_DATABASE_NAMED_PARAMETERS_CACHE_SIZE, 1000))
+                                                                             .build();
+
+    /**
+     * The parsed query with the parameter indexes by name.
+     *
+     * @param query the query with question marks
+     * @param indexMap the parameter indexes by name
+     */
+    private record ParsedQuery(String query, Map<String, int[]> indexMap) {
+    }
+
     /** The statement this object is wrapping. */
     private final PreparedStatement statement;
 
@@ -88,6 +113,18 @@ public class NamedParameterStatement implements AutoCloseable {
      * @return the parsed query
      */
     final String parse(String query) {
+        ParsedQuery parsed = PARSED_QUERIES.get(query, NamedParameterStatement::parseQuery);
+        indexMap = parsed.indexMap();
+        return parsed.query();
+    }
+
+    /**
+     * Parses a query with named parameters.
+     *
+     * @param query query to parse
+     * @return the parsed query with the parameter-index mappings
+     */
+    private static ParsedQuery parseQuery(String query) {
         // I was originally using regular expressions, but they didn't work well for ignoring
         // parameter-like strings inside quotes.
         int length = query.length();
@@ -134,7 +171,7 @@ public class NamedParameterStatement implements AutoCloseable {
             parsedQuery.append(c);
         }
 
-        indexMap = new HashMap<String, int[]>(indexes.size());
+        Map<String, int[]> parameterIndexes = new HashMap<String, int[]>(indexes.size());
         // replace the lists of Integer objects with arrays of ints
         for (Map.Entry<String, List<Integer>> entry : indexes.entrySet()) {
             List<Integer> list = entry.getValue();
@@ -143,10 +180,17 @@ public class NamedParameterStatement implements AutoCloseable {
             for (Integer x : list) {
                 intIndexes[i++] = x.intValue();
             }
-            indexMap.put(entry.getKey(), intIndexes);
+            parameterIndexes.put(entry.getKey(), intIndexes);
         }
 
-        return parsedQuery.toString();
+        return new ParsedQuery(parsedQuery.toString(), Map.copyOf(parameterIndexes));
+    }
+
+    /**
+     * Clears the parsed queries.
+     */
+    public static void clearCache() {
+        PARSED_QUERIES.invalidateAll();
     }
 
     /**
@@ -496,6 +540,67 @@ public class NamedParameterStatement implements AutoCloseable {
         return statement.executeBatch();
     }
 
+    /**
+     * Executes the statement once for each of the parameter sets, sending them to the database in
+     * batches of the given size or in a single batch if the size is not positive.
+     *
+     * @param parameterSets the parameter values by name
+     * @param batchSize the batch size
+     * @return update counts for each parameter set
+     * @throws SQLException if something went wrong
+     * @throws IllegalArgumentException if a parameter does not exist
+     */
+    public int[] executeBatch(List<? extends Map<String, ?>> parameterSets, int batchSize) throws SQLException {
+        return executeBatch(parameterSets, batchSize, (statement, parameters) -> {
+            for (Map.Entry<String, ?> parameter : parameters.entrySet()) {
+                statement.setObject(parameter.getKey(), parameter.getValue());
+            }
+        });
+    }
+
+    /**
+     * Executes the statement once for each of the parameter sets, sending them to the database in
+     * batches of the given size or in a single batch if the size is not positive.
+     *
+     * @param <T> the type of the parameter sets
+     * @param parameterSets the parameter sets
+     * @param batchSize the batch size
+     * @param binder sets the parameters of a set to the statement
+     * @return update counts for each parameter set
+     * @throws SQLException if something went wrong
+     */
+    public <T> int[] executeBatch(List<T> parameterSets, int batchSize, ParametersBinder<T> binder) throws SQLException {
+        int[] counts = new int[parameterSets.size()];
+        int added = 0;
+        for (T parameters : parameterSets) {
+            binder.bind(this, parameters);
+            statement.addBatch();
+            if (++added == counts.length || batchSize > 0 && added % batchSize == 0) {
+                int[] batchCounts = statement.executeBatch();
+                System.arraycopy(batchCounts, 0, counts, added - batchCounts.length, batchCounts.length);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Sets the parameters of a parameter set to a statement.
+     *
+     * @param <T> the type of the parameter set
+     */
+    @FunctionalInterface
+    public interface ParametersBinder<T> {
+
+        /**
+         * Bind.
+         *
+         * @param statement the statement
+         * @param parameters the parameters
+         * @throws SQLException if a parameter could not be set
+         */
+        void bind(NamedParameterStatement statement, T parameters) throws SQLException;
+    }
+
     /**
      * Gets the generated keys.
      *
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.database;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class NamedParameterStatementTest.
+ */
+class NamedParameterStatementTest {
+
+    /**
+     * Test parse, ignoring the parameter like strings in quotes.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    void testParse() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:NamedParameterStatementTestParse")) {
+            String query = "SELECT ':skipped', \"A:B\" FROM (SELECT 1 AS \"A:B\") WHERE :id = :id OR :name IS NULL";
+            try (NamedParameterStatement first = new NamedParameterStatement(connection, query);
+                    NamedParameterStatement second = new NamedParameterStatement(connection, query)) {
+                String parsed = "SELECT ':skipped', \"A:B\" FROM (SELECT 1 AS \"A:B\") WHERE ? = ? OR ? IS NULL";
+                assertEquals(parsed, first.parse(query));
+                assertEquals(parsed, second.parse(query));
+                first.setInt("id", 1);
+                first.setString("name", null);
+                try (ResultSet resultSet = first.executeQuery()) {
+                    assertEquals(true, resultSet.next());
+                }
+                assertThrows(IllegalArgumentException.class, () -> second.setInt("unknown", 1));
+            }
+        }
+    }
+
+    /**
+     * Test execute batch.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    void testExecuteBatch() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:NamedParameterStatementTestBatch");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ITEMS (ID INTEGER, NAME VARCHAR(32))");
+            try (NamedParameterStatement insert = new NamedParameterStatement(connection, "INSERT INTO ITEMS VALUES (:id, :name)")) {
+                List<Map<String, Object>> parameterSets =
+                        List.of(Map.of("id", 1, "name", "first"), Map.of("id", 2, "name", "second"), Map.of("id", 3, "name", "third"));
+                assertArrayEquals(new int[] {1, 1, 1}, insert.executeBatch(parameterSets, 2));
+            }
+            try (NamedParameterStatement update =
+                    new NamedParameterStatement(connection, "UPDATE ITEMS SET NAME = :name WHERE ID >= :id OR NAME = :name")) {
+                assertArrayEquals(new int[] {2, 0},
+                        update.executeBatch(List.of(Map.of("id", 2, "name", "changed"), Map.of("id", 9, "name", "none")), 0));
+            }
+            try (ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM ITEMS WHERE NAME = 'changed'")) {
+                resultSet.next();
+                assertEquals(2, resultSet.getInt(1));
+            }
+        }
+    }
+
+}
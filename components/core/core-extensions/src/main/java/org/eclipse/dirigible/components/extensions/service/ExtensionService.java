@@ -9,24 +9,50 @@
  */
 package org.eclipse.dirigible.components.extensions.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.dirigible.components.base.artefact.BaseArtefactService;
 import org.eclipse.dirigible.components.base.http.access.UserRequestVerifier;
 import org.eclipse.dirigible.components.extensions.domain.Extension;
 import org.eclipse.dirigible.components.extensions.repository.ExtensionRepository;
-import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
- * Processing the Extensions Service incoming requests.
+ * Processing the Extensions Service incoming requests. The extensions are served from a memory
+ * resident index by extension point, which is rebuilt on the first lookup after an extension has
+ * been saved or deleted.
  */
 @Service
 @Transactional
 public class ExtensionService extends BaseArtefactService<Extension, Long> {
 
+    /**
+     * The indexed extensions of an extension point.
+     *
+     * @param extensions the extensions
+     * @param roles the distinct roles required by some of the extensions
+     */
+    record IndexEntry(List<Extension> extensions, Set<String> roles) {
+    }
+
+    /** The index lock. */
+    private final Object indexLock = new Object();
+
+    /** The extensions by extension point, or null if the index has to be rebuilt. */
+    private volatile Map<String, IndexEntry> index;
+
+    /** The index version, incremented on each invalidation. */
+    private long indexVersion;
+
     /**
      * Instantiates a new extension service.
      *
@@ -44,18 +70,137 @@ public class ExtensionService extends BaseArtefactService<Extension, Long> {
      */
     @Transactional(readOnly = true)
     public List<Extension> findByExtensionPoint(String extensionPoint) {
-        Extension filter = new Extension();
-        filter.setExtensionPoint(extensionPoint);
-        Example<Extension> example = Example.of(filter);
-        List<Extension> extensions = getRepo().findAll(example);
-        boolean validRequest = UserRequestVerifier.isValid();
-        List<Extension> result = extensions.stream()
-                                           .filter(e -> {
-                                               return e.getRole() != null && validRequest ? UserRequestVerifier.isUserInRole(e.getRole())
-                                                       : true;
-                                           })
-                                           .collect(Collectors.toList());
+        IndexEntry entry = getIndex().get(extensionPoint);
+        if (entry == null) {
+            return new ArrayList<>();
+        }
+        if (entry.roles()
+                 .isEmpty()
+                || !UserRequestVerifier.isValid()) {
+            return new ArrayList<>(entry.extensions());
+        }
+        Set<String> granted = new LinkedHashSet<>();
+        for (String role : entry.roles()) {
+            if (UserRequestVerifier.isUserInRole(role)) {
+                granted.add(role);
+            }
+        }
+        List<Extension> result = new ArrayList<>();
+        for (Extension extension : entry.extensions()) {
+            if (extension.getRole() == null || granted.contains(extension.getRole())) {
+                result.add(extension);
+            }
+        }
         return result;
     }
 
+    /**
+     * Gets the index, building it if it has been invalidated.
+     *
+     * @return the index
+     */
+    private Map<String, IndexEntry> getIndex() {
+        Map<String, IndexEntry> current = index;
+        if (current != null) {
+            return current;
+        }
+        long version;
+        synchronized (indexLock) {
+            version = indexVersion;
+        }
+        current = buildIndex(getAll());
+        synchronized (indexLock) {
+            // an extension changed while building - serve the result, but do not keep it
+            if (version == indexVersion) {
+                index = current;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Builds the index.
+     *
+     * @param extensions all the extensions
+     * @return the index
+     */
+    static Map<String, IndexEntry> buildIndex(List<Extension> extensions) {
+        Map<String, List<Extension>> byExtensionPoint = new HashMap<>();
+        for (Extension extension : extensions) {
+            byExtensionPoint.computeIfAbsent(extension.getExtensionPoint(), k -> new ArrayList<>())
+                            .add(extension);
+        }
+        Map<String, IndexEntry> result = new HashMap<>();
+        for (Map.Entry<String, List<Extension>> entry : byExtensionPoint.entrySet()) {
+            Set<String> roles = new LinkedHashSet<>();
+            for (Extension extension : entry.getValue()) {
+                if (extension.getRole() != null) {
+                    roles.add(extension.getRole());
+                }
+            }
+            result.put(entry.getKey(), new IndexEntry(Collections.unmodifiableList(entry.getValue()), Collections.unmodifiableSet(roles)));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Invalidates the index now and once again after the current transaction completes, so that a
+     * lookup during the transaction does not keep the state before the commit or the rollback.
+     */
+    private void invalidateIndex() {
+        clearIndex();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    clearIndex();
+                }
+            });
+        }
+    }
+
+    /**
+     * Clears the index.
+     */
+    private void clearIndex() {
+        synchronized (indexLock) {
+            indexVersion++;
+            index = null;
+        }
+    }
+
+    /**
+     * Save.
+     *
+     * @param extension the extension
+     * @return the extension
+     */
+    @Override
+    public Extension save(Extension extension) {
+        invalidateIndex();
+        return super.save(extension);
+    }
+
+    /**
+     * Delete.
+     *
+     * @param extension the extension
+     */
+    @Override
+    public void delete(Extension extension) {
+        invalidateIndex();
+        super.delete(extension);
+    }
+
+    /**
+     * Sets the running to all.
+     *
+     * @param running the new running to all
+     */
+    @Override
+    public void setRunningToAll(boolean running) {
+        invalidateIndex();
+        super.setRunningToAll(running);
+    }
+
 }
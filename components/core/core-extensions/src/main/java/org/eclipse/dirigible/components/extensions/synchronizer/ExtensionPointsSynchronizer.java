@@ -230,4 +230,14 @@ public class ExtensionPointsSynchronizer extends BaseSynchronizer<ExtensionPoint
         return ExtensionPoint.ARTEFACT_TYPE;
     }
 
+    /**
+     * Checks if is thread safe. The completion only updates the state of the given artefact.
+     *
+     * @return true, if is thread safe
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
 }
@@ -229,4 +229,14 @@ public class ExtensionsSynchronizer extends BaseSynchronizer<Extension, Long> {
         return Extension.ARTEFACT_TYPE;
     }
 
+    /**
+     * Checks if is thread safe. The completion only updates the state of the given artefact.
+     *
+     * @return true, if is thread safe
+     */
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
 }
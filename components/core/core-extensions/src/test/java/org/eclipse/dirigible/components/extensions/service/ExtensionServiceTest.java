@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.extensions.service;
+
+import static org.eclipse.dirigible.components.extensions.repository.ExtensionRepositoryTest.createExtension;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.dirigible.components.extensions.domain.Extension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The Class ExtensionServiceTest.
+ */
+@SpringBootTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+@Transactional
+public class ExtensionServiceTest {
+
+    /** The extension service. */
+    @Autowired
+    private ExtensionService extensionService;
+
+    /**
+     * Setup.
+     */
+    @BeforeEach
+    public void setup() {
+        cleanup();
+        extensionService.save(createExtension("/a/b/c/e1.extension", "e1", "description", "epoint1", "e1"));
+        extensionService.save(createExtension("/a/b/c/e2.extension", "e2", "description", "epoint1", "e2"));
+        extensionService.save(createExtension("/a/b/c/e3.extension", "e3", "description", "epoint2", "e3"));
+    }
+
+    /**
+     * Cleanup.
+     */
+    @AfterEach
+    public void cleanup() {
+        extensionService.getAll()
+                        .forEach(extensionService::delete);
+    }
+
+    /**
+     * Find by extension point follows the saved and deleted extensions.
+     */
+    @Test
+    public void findByExtensionPoint() {
+        assertEquals(2, extensionService.findByExtensionPoint("epoint1")
+                                        .size());
+        assertEquals(1, extensionService.findByExtensionPoint("epoint2")
+                                        .size());
+        assertTrue(extensionService.findByExtensionPoint("epoint3")
+                                   .isEmpty());
+
+        Extension e4 = extensionService.save(createExtension("/a/b/c/e4.extension", "e4", "description", "epoint1", "e4"));
+        assertEquals(3, extensionService.findByExtensionPoint("epoint1")
+                                        .size());
+
+        extensionService.delete(e4);
+        assertEquals(2, extensionService.findByExtensionPoint("epoint1")
+                                        .size());
+    }
+
+    /**
+     * Build index with the distinct roles.
+     */
+    @Test
+    public void buildIndex() {
+        Extension e1 = createExtension("/a/b/c/e1.extension", "e1", "description", "epoint1", "e1");
+        Extension e2 = createExtension("/a/b/c/e2.extension", "e2", "description", "epoint1", "e2");
+        e2.setRole("Developer");
+        Extension e3 = createExtension("/a/b/c/e3.extension", "e3", "description", "epoint1", "e3");
+        e3.setRole("Developer");
+        Extension e4 = createExtension("/a/b/c/e4.extension", "e4", "description", "epoint2", "e4");
+
+        Map<String, ExtensionService.IndexEntry> index = ExtensionService.buildIndex(List.of(e1, e2, e3, e4));
+        assertEquals(List.of(e1, e2, e3), index.get("epoint1")
+                                               .extensions());
+        assertEquals(Set.of("Developer"), index.get("epoint1")
+                                               .roles());
+        assertTrue(index.get("epoint2")
+                        .roles()
+                        .isEmpty());
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+}
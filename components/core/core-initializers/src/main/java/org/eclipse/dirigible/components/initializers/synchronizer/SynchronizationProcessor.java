@@ -31,6 +31,8 @@ import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -43,19 +45,33 @@ import java.nio.file.Path;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.text.ParseException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 /**
  * The Class SynchronizationProcessor.
  */
 @Component
 @Scope("singleton")
-public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback {
+public class SynchronizationProcessor implements SynchronizationWalkerCallback, SynchronizerCallback, DisposableBean {
 
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(SynchronizationProcessor.class);
 
+    /** The Constant DIRIGIBLE_SYNCHRONIZER_PARALLELISM. */
+    private static final String DIRIGIBLE_SYNCHRONIZER_PARALLELISM = "DIRIGIBLE_SYNCHRONIZER_PARALLELISM";
+
+    /** The Constant CYCLE_OBSERVATION. */
+    private static final String CYCLE_OBSERVATION = "dirigible.synchronizer.cycle";
+
     /** The definitions. */
     private final Map<Synchronizer<? extends Artefact, ?>, Map<String, Definition>> definitions =
             Collections.synchronizedMap(new HashMap<>());
@@ -87,6 +103,15 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
     /** The processing. */
     private final AtomicBoolean processing = new AtomicBoolean(false);
 
+    /**
+     * The executor for the independent artefacts of a depletion wave, which belong to thread safe
+     * synchronizers, or null if they are completed sequentially.
+     */
+    private final ExecutorService depletionExecutor = createDepletionExecutor();
+
+    /** The observation registry. */
+    private final ObservationRegistry observationRegistry;
+
     /**
      * Instantiates a new synchronization processor.
      *
@@ -94,15 +119,17 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
      * @param synchronizers the synchronizers
      * @param definitionService the definition service
      * @param synchronizationWatcher the synchronization watcher
+     * @param observationRegistry the observation registry
      */
     @Autowired
     public SynchronizationProcessor(IRepository repository, List<Synchronizer<?, ?>> synchronizers, DefinitionService definitionService,
-            SynchronizationWatcher synchronizationWatcher) {
+            SynchronizationWatcher synchronizationWatcher, ObjectProvider<ObservationRegistry> observationRegistry) {
         this.repository = repository;
         this.synchronizers = Collections.synchronizedList(synchronizers);
         logger.info("Registered [{}] synchronizers: [{}]", synchronizers.size(), synchronizers);
         this.definitionService = definitionService;
         this.synchronizationWatcher = synchronizationWatcher;
+        this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
         this.synchronizers.forEach(s -> s.setCallback(this));
     }
 
@@ -167,6 +194,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
         }
 
         processing.set(true);
+        Observation observation = Observation.start(CYCLE_OBSERVATION, observationRegistry);
 
         try {
 
@@ -211,7 +239,7 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             if (countNew > 0 || countModified > 0 || !initialized.get()) {
 
                 TopologicalSorter<TopologyWrapper<? extends Artefact>> sorter = new TopologicalSorter<>();
-                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter = new TopologicalDepleter<>();
+                TopologicalDepleter<TopologyWrapper<? extends Artefact>> depleter = new TopologicalDepleter<>(depletionExecutor);
 
                 Collection<? extends Artefact> values = artefacts.values();
                 List<TopologyWrapper<? extends Artefact>> wrappers = TopologyFactory.wrap(values, synchronizers);
@@ -400,6 +428,42 @@ public class SynchronizationProcessor implements SynchronizationWalkerCallback,
             synchronizationWatcher.reset();
             initialized.set(true);
             processing.set(false);
+
+            observation.lowCardinalityKeyValue("outcome", errors.isEmpty() ? "success" : "error")
+                       .stop();
+        }
+    }
+
+    /**
+     * Creates the depletion executor. The threads are released when idle, so the executor does not hold
+     * any resources between the synchronization runs. The artefacts are completed sequentially by
+     * default, as only the synchronizers declaring themselves as thread safe can be parallelized.
+     *
+     * @return the executor service, or null if the parallelism is not greater than one
+     */
+    private static ExecutorService createDepletionExecutor() {
+        int parallelism = Configuration.getAsInt(DIRIGIBLE_SYNCHRONIZER_PARALLELISM, 1);
+        if (parallelism <= 1) {
+            return null;
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor executor =
+                new ThreadPoolExecutor(parallelism, parallelism, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "dirigible-synchronizer-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Shuts down the depletion executor.
+     */
+    @Override
+    public void destroy() {
+        if (depletionExecutor != null) {
+            depletionExecutor.shutdown();
         }
     }
 
@@ -34,7 +34,7 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
     }
 
     /**
-     * After publish.
+     * After publish. The synchronization is not triggered, if nothing has been changed in the registry.
      *
      * @param workspaceLocation the workspace location
      * @param registryLocation the registry location
@@ -42,6 +42,10 @@ public class SynchronizationWatcherPublisherHandler implements PublisherHandler
      */
     @Override
     public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        if (metadata != null && metadata.delta() != null && metadata.delta()
+                                                                    .isEmpty()) {
+            return;
+        }
         synchronizationWatcher.force();
     }
 
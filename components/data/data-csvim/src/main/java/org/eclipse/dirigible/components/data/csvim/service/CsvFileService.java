@@ -31,4 +31,14 @@ public class CsvFileService extends BaseArtefactService<CsvFile, Long> {
         super(repository);
     }
 
+    /**
+     * Checks if cacheable - not, as the CSVIM references lazily loaded files.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -31,4 +31,14 @@ public class CsvimService extends BaseArtefactService<Csvim, Long> {
         super(repository);
     }
 
+    /**
+     * Checks if cacheable - not, as the files are loaded lazily.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
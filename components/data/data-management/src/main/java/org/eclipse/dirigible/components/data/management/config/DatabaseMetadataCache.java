@@ -17,7 +17,9 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 /**
- * The Class CaffeineDatabaseMetadataCache.
+ * The database metadata cache. Holds the metadata objects (data source, schema and structure level)
+ * keyed by their path - <code>datasource[/schema[/structure]]</code>, so that a change in a single
+ * schema or structure invalidates only the affected entries.
  */
 public class DatabaseMetadataCache {
 
@@ -25,8 +27,11 @@ public class DatabaseMetadataCache {
     private static final String DIRIGIBLE_DATABASE_METADATA_CACHE_TIME_LIMIT_IN_MINUTES =
             "DIRIGIBLE_DATABASE_METADATA_CACHE_TIME_LIMIT_IN_MINUTES";
 
+    /** The Constant SEPARATOR. */
+    private static final String SEPARATOR = "/";
+
     /** The cache. */
-    private Cache<String, String> cache;
+    private Cache<String, Object> cache;
 
     /**
      * Instantiates a new caffeine database metadata cache.
@@ -50,7 +55,7 @@ public class DatabaseMetadataCache {
      *
      * @return the internal cache
      */
-    public Cache<String, String> getInternalCache() {
+    public Cache<String, Object> getInternalCache() {
         if (cache == null) {
             initCache();
         }
@@ -58,35 +63,100 @@ public class DatabaseMetadataCache {
         return cache;
     }
 
+    /**
+     * Builds the cache key for the given path segments.
+     *
+     * @param datasource the datasource
+     * @param segments the schema and the structure, if any
+     * @return the key
+     */
+    public static String key(String datasource, String... segments) {
+        StringBuilder key = new StringBuilder(datasource);
+        for (String segment : segments) {
+            key.append(SEPARATOR)
+               .append(segment);
+        }
+        return key.toString();
+    }
+
     /**
      * Gets the.
      *
-     * @param path the path
-     * @return the String
+     * @param <T> the generic type
+     * @param key the key
+     * @param type the type of the cached metadata
+     * @return the metadata or null if missing
      */
-    public String get(String path) {
-        return cache.getIfPresent(path);
+    public <T> T get(String key, Class<T> type) {
+        Object metadata = cache.getIfPresent(key);
+        return type.isInstance(metadata) ? type.cast(metadata) : null;
     }
 
     /**
      * Put.
      *
-     * @param path the path
-     * @param content the content
+     * @param key the key
+     * @param metadata the metadata
      */
-    public void put(String path, String content) {
-        if (content != null) {
-            cache.put(path, content);
+    public void put(String key, Object metadata) {
+        if (metadata != null) {
+            cache.put(key, metadata);
         }
     }
 
     /**
      * Removes the.
      *
-     * @param path the path
+     * @param key the key
+     */
+    public void remove(String key) {
+        cache.invalidate(key);
+    }
+
+    /**
+     * Removes all the entries of a data source.
+     *
+     * @param datasource the datasource
+     */
+    public void removeDataSource(String datasource) {
+        removeSubtree(datasource);
+    }
+
+    /**
+     * Removes the entries of a schema together with the data source level entry, which includes it.
+     *
+     * @param datasource the datasource
+     * @param schema the schema
+     */
+    public void removeSchema(String datasource, String schema) {
+        cache.invalidate(datasource);
+        removeSubtree(key(datasource, schema));
+    }
+
+    /**
+     * Removes the entry of a structure together with the schema and data source level entries, which
+     * include it.
+     *
+     * @param datasource the datasource
+     * @param schema the schema
+     * @param structure the structure
+     */
+    public void removeStructure(String datasource, String schema, String structure) {
+        cache.invalidate(datasource);
+        cache.invalidate(key(datasource, schema));
+        cache.invalidate(key(datasource, schema, structure));
+    }
+
+    /**
+     * Removes the entry with the given key and all the entries below it.
+     *
+     * @param key the key
      */
-    public void remove(String path) {
-        cache.invalidate(path);
+    private void removeSubtree(String key) {
+        String prefix = key + SEPARATOR;
+        cache.asMap()
+             .keySet()
+             .removeIf(k -> k.equals(key) || k.startsWith(prefix));
     }
 
     /**
@@ -97,13 +97,22 @@ public class DatabaseMetadataEndpoint extends BaseEndpoint {
     }
 
     /**
-     * Invalidates the metadata cache.
+     * Invalidates the metadata cache - the whole cache or only the entries of a given data source,
+     * schema or structure.
      *
+     * @param datasource the datasource
+     * @param schema the schema
+     * @param structure the structure
      * @return the response entity
      */
     @GetMapping(value = "/invalidate-cache")
-    public ResponseEntity<Void> invalidateCache() {
-        databasesService.invalidateCache();
+    public ResponseEntity<Void> invalidateCache(@Nullable @RequestParam("datasource") String datasource,
+            @Nullable @RequestParam("schema") String schema, @Nullable @RequestParam("structure") String structure) {
+        if (datasource == null) {
+            databasesService.invalidateCache();
+        } else {
+            databasesService.invalidateCache(datasource, schema, structure);
+        }
         return ResponseEntity.noContent()
                              .<Void>build();
     }
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Writes the value of a single result set column to a JSON generator. The instances are resolved
+ * once per result set by the JDBC type of the column, so that the values are read by index with the
+ * typed getters, without any per row metadata access or class checks.
+ */
+@FunctionalInterface
+public interface ColumnJsonWriter {
+
+    /** The Constant NULL_VALUE. */
+    String NULL_VALUE = "[NULL]";
+
+    /** The Constant BINARY_VALUE. */
+    String BINARY_VALUE = "[BINARY]";
+
+    /**
+     * Write the value of the column at the current row.
+     *
+     * @param resultSet the result set
+     * @param jsonGenerator the json generator
+     * @throws SQLException the SQL exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void write(ResultSet resultSet, JsonGenerator jsonGenerator) throws SQLException, IOException;
+
+    /**
+     * Creates the column writer for the given JDBC type.
+     *
+     * @param index the column index
+     * @param sqlType the JDBC type of the column
+     * @param stringify whether null and binary values have to be written as placeholders
+     * @return the column writer
+     */
+    static ColumnJsonWriter forType(int index, int sqlType, boolean stringify) {
+        switch (sqlType) {
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                return (resultSet, jsonGenerator) -> {
+                    String value = resultSet.getString(index);
+                    if (value == null) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeString(value);
+                    }
+                };
+            case Types.BOOLEAN:
+                return (resultSet, jsonGenerator) -> {
+                    boolean value = resultSet.getBoolean(index);
+                    if (resultSet.wasNull()) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeBoolean(value);
+                    }
+                };
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                // read as long to cover the unsigned integers as well
+                return (resultSet, jsonGenerator) -> {
+                    long value = resultSet.getLong(index);
+                    if (resultSet.wasNull()) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeNumber(value);
+                    }
+                };
+            case Types.REAL:
+                return (resultSet, jsonGenerator) -> {
+                    float value = resultSet.getFloat(index);
+                    if (resultSet.wasNull()) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeNumber(value);
+                    }
+                };
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return (resultSet, jsonGenerator) -> {
+                    double value = resultSet.getDouble(index);
+                    if (resultSet.wasNull()) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeNumber(value);
+                    }
+                };
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return (resultSet, jsonGenerator) -> {
+                    BigDecimal value = resultSet.getBigDecimal(index);
+                    if (value == null) {
+                        writeNull(jsonGenerator, stringify);
+                    } else {
+                        jsonGenerator.writeNumber(value);
+                    }
+                };
+            case Types.DATE:
+                return (resultSet, jsonGenerator) -> writeText(jsonGenerator, resultSet.getDate(index), stringify);
+            case Types.TIME:
+                return (resultSet, jsonGenerator) -> writeText(jsonGenerator, resultSet.getTime(index), stringify);
+            case Types.TIMESTAMP:
+                return (resultSet, jsonGenerator) -> writeText(jsonGenerator, resultSet.getTimestamp(index), stringify);
+            default:
+                return (resultSet, jsonGenerator) -> writeObject(jsonGenerator, resultSet.getObject(index), stringify);
+        }
+    }
+
+    /**
+     * Creates the column writer which reads the value by the column name, for the drivers which
+     * describe the columns per row.
+     *
+     * @param name the column name
+     * @param stringify whether null and binary values have to be written as placeholders
+     * @return the column writer
+     */
+    static ColumnJsonWriter forName(String name, boolean stringify) {
+        return (resultSet, jsonGenerator) -> writeObject(jsonGenerator, resultSet.getObject(name), stringify);
+    }
+
+    /**
+     * Write null.
+     *
+     * @param jsonGenerator the json generator
+     * @param stringify the stringify
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeNull(JsonGenerator jsonGenerator, boolean stringify) throws IOException {
+        if (stringify) {
+            jsonGenerator.writeString(NULL_VALUE);
+        } else {
+            jsonGenerator.writeNull();
+        }
+    }
+
+    /**
+     * Write the text representation of the value.
+     *
+     * @param jsonGenerator the json generator
+     * @param value the value
+     * @param stringify the stringify
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeText(JsonGenerator jsonGenerator, Object value, boolean stringify) throws IOException {
+        if (value == null) {
+            writeNull(jsonGenerator, stringify);
+        } else {
+            jsonGenerator.writeString(value.toString());
+        }
+    }
+
+    /**
+     * Write a value of a type without a dedicated column writer.
+     *
+     * @param jsonGenerator the json generator
+     * @param value the value
+     * @param stringify the stringify
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeObject(JsonGenerator jsonGenerator, Object value, boolean stringify) throws IOException {
+        if (value == null) {
+            writeNull(jsonGenerator, stringify);
+            return;
+        }
+        Class<?> valueClass = value.getClass();
+        if (stringify) {
+            String className = valueClass.getCanonicalName();
+            if ("org.bson.Document".equals(className) || "org.bson.types.ObjectId".equals(className)
+                    || "java.util.ArrayList".equals(className)) {
+                jsonGenerator.writeString(value.toString());
+                return;
+            }
+            if (!ClassUtils.isPrimitiveOrWrapper(valueClass) && valueClass != String.class
+                    && !java.util.Date.class.isAssignableFrom(valueClass) && !BigInteger.class.isAssignableFrom(valueClass)
+                    && !BigDecimal.class.isAssignableFrom(valueClass)) {
+                jsonGenerator.writeString(BINARY_VALUE);
+                return;
+            }
+        }
+
+        if (value instanceof String) {
+            jsonGenerator.writeString((String) value);
+        } else if (value instanceof Character) {
+            jsonGenerator.writeString(String.valueOf((char) value));
+        } else if (value instanceof Float) {
+            jsonGenerator.writeNumber((Float) value);
+        } else if (value instanceof Double) {
+            jsonGenerator.writeNumber((Double) value);
+        } else if (value instanceof BigDecimal) {
+            jsonGenerator.writeNumber((BigDecimal) value);
+        } else if (value instanceof Long) {
+            jsonGenerator.writeNumber((Long) value);
+        } else if (value instanceof BigInteger) {
+            jsonGenerator.writeNumber((BigInteger) value);
+        } else if (value instanceof Integer) {
+            jsonGenerator.writeNumber((Integer) value);
+        } else if (value instanceof Byte) {
+            jsonGenerator.writeNumber((Byte) value);
+        } else if (value instanceof Short) {
+            jsonGenerator.writeNumber((Short) value);
+        } else if (value instanceof Boolean) {
+            jsonGenerator.writeBoolean((Boolean) value);
+        } else {
+            jsonGenerator.writeString(value.toString());
+        }
+    }
+
+}
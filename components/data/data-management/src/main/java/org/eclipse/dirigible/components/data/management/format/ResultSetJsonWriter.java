@@ -10,21 +10,12 @@
 package org.eclipse.dirigible.components.data.management.format;
 
 import java.io.OutputStream;
-import java.math.BigDecimal;
-import java.math.BigInteger;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
-import java.sql.SQLException;
-
-import jakarta.annotation.PostConstruct;
-
-import org.apache.commons.lang3.ClassUtils;
-import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
 
 /**
  * The ResultSet JSON Writer.
@@ -77,7 +68,11 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
     private ObjectMapper objectMapper = new ObjectMapper();
 
     /**
-     * Write.
+     * Write. The column metadata is resolved once, on the first row, and the values are read by index
+     * with the typed column writers. A driver which hands out a new metadata instance for each row
+     * (e.g. MongoDB, whose documents are schemaless) is switched to reading the values by the column
+     * labels of the current row. The output is streamed row by row, so an unlimited result set is not
+     * held in memory.
      *
      * @param resultSet the result set
      * @param output the output
@@ -91,64 +86,38 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
 
         jsonGenerator.writeStartArray();
 
+        ResultSetMetaData resultSetMetaData = null;
+        boolean cachedMetaData = false;
+        boolean rowMetaData = false;
+        SerializedString[] fieldNames = null;
+        ColumnJsonWriter[] columnWriters = null;
+
         int count = 0;
         while (resultSet.next()) {
-            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            if (resultSetMetaData == null) {
+                resultSetMetaData = resultSet.getMetaData();
+                int columnCount = resultSetMetaData.getColumnCount();
+                fieldNames = new SerializedString[columnCount];
+                columnWriters = new ColumnJsonWriter[columnCount];
+                for (int i = 1; i <= columnCount; i++) {
+                    fieldNames[i - 1] = new SerializedString(getFieldName(resultSetMetaData, i));
+                    columnWriters[i - 1] = ColumnJsonWriter.forType(i, resultSetMetaData.getColumnType(i), stringify);
+                }
+                // drivers creating the metadata on each call describe the whole result set, only the ones
+                // which cache it can replace it per row
+                cachedMetaData = resultSet.getMetaData() == resultSetMetaData;
+            } else if (cachedMetaData && !rowMetaData && resultSet.getMetaData() != resultSetMetaData) {
+                rowMetaData = true;
+            }
 
             jsonGenerator.writeStartObject();
 
-            for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
-                String name = resultSetMetaData.getColumnName(i);
-                String label = resultSetMetaData.getColumnLabel(i);
-                Object value = resultSet.getObject(name);
-                if (value == null && stringify) {
-                    value = "[NULL]";
-                }
-                if (value != null && ("org.bson.Document".equals(value.getClass()
-                                                                      .getCanonicalName())
-                        || "org.bson.types.ObjectId".equals(value.getClass()
-                                                                 .getCanonicalName())
-                        || "java.util.ArrayList".equals(value.getClass()
-                                                             .getCanonicalName()))) {
-                    if (stringify) {
-                        value = value.toString();
-                    }
-                }
-                if (value != null && !ClassUtils.isPrimitiveOrWrapper(value.getClass()) && value.getClass() != String.class
-                        && !java.util.Date.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigInteger.class.isAssignableFrom(value.getClass())
-                        && !java.math.BigDecimal.class.isAssignableFrom(value.getClass())) {
-                    if (stringify) {
-                        value = "[BINARY]";
-                    }
-                }
-
-                jsonGenerator.writeFieldName(label != null ? label : name);
-
-                if (value instanceof String) {
-                    jsonGenerator.writeString((String) value);
-                } else if (value instanceof Character) {
-                    jsonGenerator.writeString(new String(new char[] {(char) value}));
-                } else if (value instanceof Float) {
-                    jsonGenerator.writeNumber((Float) value);
-                } else if (value instanceof Double) {
-                    jsonGenerator.writeNumber((Double) value);
-                } else if (value instanceof BigDecimal) {
-                    jsonGenerator.writeNumber((BigDecimal) value);
-                } else if (value instanceof Long) {
-                    jsonGenerator.writeNumber((Long) value);
-                } else if (value instanceof BigInteger) {
-                    jsonGenerator.writeNumber((BigInteger) value);
-                } else if (value instanceof Integer) {
-                    jsonGenerator.writeNumber((Integer) value);
-                } else if (value instanceof Byte) {
-                    jsonGenerator.writeNumber((Byte) value);
-                } else if (value instanceof Short) {
-                    jsonGenerator.writeNumber((Short) value);
-                } else if (value instanceof Boolean) {
-                    jsonGenerator.writeBoolean((Boolean) value);
-                } else {
-                    jsonGenerator.writeString(value == null ? null : value.toString());
+            if (rowMetaData) {
+                writeByLabel(resultSet, jsonGenerator);
+            } else {
+                for (int i = 0; i < fieldNames.length; i++) {
+                    jsonGenerator.writeFieldName(fieldNames[i]);
+                    columnWriters[i].write(resultSet, jsonGenerator);
                 }
             }
 
@@ -163,4 +132,33 @@ public class ResultSetJsonWriter extends AbstractResultSetWriter<String> {
         jsonGenerator.flush();
     }
 
+    /**
+     * Write the current row by the column labels of its own metadata.
+     *
+     * @param resultSet the result set
+     * @param jsonGenerator the json generator
+     * @throws Exception the exception
+     */
+    private void writeByLabel(ResultSet resultSet, JsonGenerator jsonGenerator) throws Exception {
+        ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+        for (int i = 1; i <= resultSetMetaData.getColumnCount(); i++) {
+            jsonGenerator.writeFieldName(getFieldName(resultSetMetaData, i));
+            ColumnJsonWriter.forName(resultSetMetaData.getColumnName(i), stringify)
+                            .write(resultSet, jsonGenerator);
+        }
+    }
+
+    /**
+     * Gets the field name of a column.
+     *
+     * @param resultSetMetaData the result set meta data
+     * @param index the column index
+     * @return the field name
+     * @throws Exception the exception
+     */
+    private static String getFieldName(ResultSetMetaData resultSetMetaData, int index) throws Exception {
+        String label = resultSetMetaData.getColumnLabel(index);
+        return label != null ? label : resultSetMetaData.getColumnName(index);
+    }
+
 }
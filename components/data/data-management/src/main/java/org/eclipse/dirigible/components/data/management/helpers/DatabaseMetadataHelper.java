@@ -694,10 +694,19 @@ public class DatabaseMetadataHelper implements DatabaseParameters {
      * @throws SQLException the SQL exception
      */
     public static String getMetadataAsJson(DataSource dataSource) throws SQLException {
+        return GsonHelper.toJson(getMetadata(dataSource));
+    }
+
+    /**
+     * Gets the metadata.
+     *
+     * @param dataSource the data source
+     * @return the metadata
+     * @throws SQLException the SQL exception
+     */
+    public static DatabaseMetadata getMetadata(DataSource dataSource) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            DatabaseMetadata database = new DatabaseMetadata(connection, null, null, null);
-            String json = GsonHelper.toJson(database);
-            return json;
+            return new DatabaseMetadata(connection, null, null, null);
         }
     }
 
@@ -710,10 +719,20 @@ public class DatabaseMetadataHelper implements DatabaseParameters {
      * @throws SQLException the SQL exception
      */
     public static String getSchemaMetadataAsJson(DataSource dataSource, String schema) throws SQLException {
+        return GsonHelper.toJson(getSchemaMetadata(dataSource, schema));
+    }
+
+    /**
+     * Gets the schema metadata.
+     *
+     * @param dataSource the data source
+     * @param schema the schema
+     * @return the schema metadata
+     * @throws SQLException the SQL exception
+     */
+    public static SchemaMetadata getSchemaMetadata(DataSource dataSource, String schema) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            SchemaMetadata metadata = new SchemaMetadata(schema, connection, null, null);
-            String json = GsonHelper.toJson(metadata);
-            return json;
+            return new SchemaMetadata(schema, connection, null, null);
         }
     }
 
@@ -727,18 +746,27 @@ public class DatabaseMetadataHelper implements DatabaseParameters {
      * @throws SQLException the SQL exception
      */
     public static String getTableMetadataAsJson(DataSource dataSource, String schema, String table) throws SQLException {
+        return GsonHelper.toJson(getTableMetadata(dataSource, schema, table));
+    }
+
+    /**
+     * Gets the table metadata - {@link TableMetadata} or {@link NoSQLTableMetadata} depending on the
+     * database type.
+     *
+     * @param dataSource the data source
+     * @param schema the schema name
+     * @param table the table name
+     * @return the table metadata or null if the table does not exist
+     * @throws SQLException the SQL exception
+     */
+    public static Object getTableMetadata(DataSource dataSource, String schema, String table) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             if (SqlFactory.deriveDialect(connection)
                           .getDatabaseType(connection)
                           .equals(DatabaseType.NOSQL.getName())) {
-                NoSQLTableMetadata noSQLTableMetadata = describeNoSQL(connection, null, schema, table);
-                String json = GsonHelper.toJson(noSQLTableMetadata);
-                return json;
-            } else {
-                TableMetadata tableMetadata = describeTable(connection, null, schema, table);
-                String json = GsonHelper.toJson(tableMetadata);
-                return json;
+                return describeNoSQL(connection, null, schema, table);
             }
+            return describeTable(connection, null, schema, table);
         }
     }
 
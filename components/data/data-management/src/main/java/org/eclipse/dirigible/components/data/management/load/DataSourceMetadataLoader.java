@@ -136,12 +136,23 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
      */
     private static void iterateColumns(Table tableMetadata, ResultSet columns) throws SQLException {
         do {
-            new TableColumn(columns.getString(JDBC_COLUMN_NAME_PROPERTY), columns.getString(JDBC_COLUMN_TYPE_PROPERTY),
-                    columns.getInt(JDBC_COLUMN_SIZE_PROPERTY) + "", columns.getBoolean(JDBC_COLUMN_NULLABLE_PROPERTY), false, null,
-                    columns.getInt(JDBC_COLUMN_DECIMAL_DIGITS_PROPERTY) + "", false, tableMetadata);
+            addColumn(tableMetadata, columns);
         } while (columns.next());
     }
 
+    /**
+     * Adds the column at the current row.
+     *
+     * @param tableMetadata the table metadata
+     * @param columns the columns
+     * @throws SQLException the SQL exception
+     */
+    private static void addColumn(Table tableMetadata, ResultSet columns) throws SQLException {
+        new TableColumn(columns.getString(JDBC_COLUMN_NAME_PROPERTY), columns.getString(JDBC_COLUMN_TYPE_PROPERTY),
+                columns.getInt(JDBC_COLUMN_SIZE_PROPERTY) + "", columns.getBoolean(JDBC_COLUMN_NULLABLE_PROPERTY), false, null,
+                columns.getInt(JDBC_COLUMN_DECIMAL_DIGITS_PROPERTY) + "", false, tableMetadata);
+    }
+
     /**
      * Adds the primary keys.
      *
@@ -216,13 +227,24 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
      */
     private static void iterateForeignKeys(Table tableMetadata, ResultSet foreignKeys) throws SQLException {
         do {
-            new TableConstraintForeignKey(foreignKeys.getString(JDBC_FK_NAME_PROPERTY), new String[] {},
-                    new String[] {foreignKeys.getString(JDBC_FK_COLUMN_NAME_PROPERTY)}, foreignKeys.getString(JDBC_PK_TABLE_NAME_PROPERTY),
-                    foreignKeys.getString(JDBC_PK_SCHEMA_NAME_PROPERTY), new String[] {foreignKeys.getString(JDBC_PK_COLUMN_NAME_PROPERTY)},
-                    tableMetadata.getConstraints());
+            addForeignKey(tableMetadata, foreignKeys);
         } while (foreignKeys.next());
     }
 
+    /**
+     * Adds the foreign key at the current row.
+     *
+     * @param tableMetadata the table metadata
+     * @param foreignKeys the foreign keys
+     * @throws SQLException the SQL exception
+     */
+    private static void addForeignKey(Table tableMetadata, ResultSet foreignKeys) throws SQLException {
+        new TableConstraintForeignKey(foreignKeys.getString(JDBC_FK_NAME_PROPERTY), new String[] {},
+                new String[] {foreignKeys.getString(JDBC_FK_COLUMN_NAME_PROPERTY)}, foreignKeys.getString(JDBC_PK_TABLE_NAME_PROPERTY),
+                foreignKeys.getString(JDBC_PK_SCHEMA_NAME_PROPERTY), new String[] {foreignKeys.getString(JDBC_PK_COLUMN_NAME_PROPERTY)},
+                tableMetadata.getConstraints());
+    }
+
     /**
      * Add indices.
      *
@@ -240,34 +262,48 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
             String lastIndexName = "";
 
             while (indexes.next()) {
-                String indexName = indexes.getString("INDEX_NAME");
-                if (indexName == null) {
-                    continue;
-                }
+                lastIndexName = addIndex(tableMetadata, indexes, lastIndexName);
+            }
+        }
 
-                TableConstraint index = null;
-                if (!indexName.equals(lastIndexName)) {
-                    boolean unique = indexes.getBoolean("NON_UNIQUE");
+    }
 
-                    if (!unique) {
-                        index = new TableConstraintUnique(indexName, new String[] {}, new String[] {}, tableMetadata.getConstraints(),
-                                indexes.getShort("TYPE") + "", indexes.getString("ASC_OR_DESC"));
-                    } else {
-                        index = new TableConstraintCheck(indexName, new String[] {}, new String[] {}, tableMetadata.getConstraints(),
-                                indexes.getShort(JDBC_FILTER_CONDITION_PROPERTY) + "");
-                    }
+    /**
+     * Adds the index at the current row.
+     *
+     * @param tableMetadata the table metadata
+     * @param indexes the indexes
+     * @param lastIndexName the name of the index at the previous row of the same table
+     * @return the name of the last processed index
+     * @throws SQLException the SQL exception
+     */
+    private static String addIndex(Table tableMetadata, ResultSet indexes, String lastIndexName) throws SQLException {
+        String indexName = indexes.getString("INDEX_NAME");
+        if (indexName == null) {
+            return lastIndexName;
+        }
 
-                    lastIndexName = indexName;
-                }
-                if (index != null) {
-                    String columnName = indexes.getString(JDBC_COLUMN_NAME_PROPERTY);
-                    String[] array = Arrays.copyOf(index.getColumns(), index.getColumns().length + 1);
-                    array[array.length - 1] = columnName;
-                    index.setColumns(array);
-                }
+        TableConstraint index = null;
+        if (!indexName.equals(lastIndexName)) {
+            boolean unique = indexes.getBoolean("NON_UNIQUE");
+
+            if (!unique) {
+                index = new TableConstraintUnique(indexName, new String[] {}, new String[] {}, tableMetadata.getConstraints(),
+                        indexes.getShort("TYPE") + "", indexes.getString("ASC_OR_DESC"));
+            } else {
+                index = new TableConstraintCheck(indexName, new String[] {}, new String[] {}, tableMetadata.getConstraints(),
+                        indexes.getShort(JDBC_FILTER_CONDITION_PROPERTY) + "");
             }
-        }
 
+            lastIndexName = indexName;
+        }
+        if (index != null) {
+            String columnName = indexes.getString(JDBC_COLUMN_NAME_PROPERTY);
+            String[] array = Arrays.copyOf(index.getColumns(), index.getColumns().length + 1);
+            array[array.length - 1] = columnName;
+            index.setColumns(array);
+        }
+        return lastIndexName;
     }
 
     /**
@@ -376,7 +412,9 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
     }
 
     /**
-     * Gets the schema metadata.
+     * Gets the schema metadata. The columns, primary keys, foreign keys and indices are fetched with a
+     * single metadata call per kind for the whole schema, falling back to per table calls for drivers,
+     * which do not accept a null table name.
      *
      * @param schema the schema
      * @param datasource the datasource
@@ -388,10 +426,78 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
 
         List<String> tableNames = getTablesInSchema(datasource, schema);
         if (tableNames != null) {
+            Map<String, Table> tablesByName = new LinkedHashMap<>();
             for (String tableName : tableNames) {
-                Table tableModel = loadTableMetadata(schema, tableName, datasource);
-                tables.add(tableModel);
+                Table tableModel = new Table();
+                tableModel.setName(tableName);
+                tableModel.setSchema(schema);
+                tablesByName.put(tableName, tableModel);
+            }
+            if (!tablesByName.isEmpty()) {
+                try (Connection connection = datasource.getConnection()) {
+                    DatabaseMetaData databaseMetadata = connection.getMetaData();
+                    String catalog = connection.getCatalog();
+                    try (ResultSet columns = databaseMetadata.getColumns(catalog, schema, null, null)) {
+                        while (columns.next()) {
+                            Table tableModel = tablesByName.get(columns.getString(JDBC_TABLE_NAME_PROPERTY));
+                            if (tableModel != null) {
+                                addColumn(tableModel, columns);
+                            }
+                        }
+                    }
+                    try (ResultSet primaryKeys = databaseMetadata.getPrimaryKeys(catalog, schema, null)) {
+                        while (primaryKeys.next()) {
+                            Table tableModel = tablesByName.get(primaryKeys.getString(JDBC_TABLE_NAME_PROPERTY));
+                            if (tableModel != null) {
+                                setColumnPrimaryKey(primaryKeys.getString(JDBC_COLUMN_NAME_PROPERTY), tableModel);
+                            }
+                        }
+                    } catch (SQLException e) {
+                        logBulkNotSupported("primary keys", schema, e);
+                        for (Table tableModel : tablesByName.values()) {
+                            addPrimaryKeys(databaseMetadata, connection, tableModel, schema);
+                        }
+                    }
+                    try (ResultSet foreignKeys = databaseMetadata.getImportedKeys(catalog, schema, null)) {
+                        while (foreignKeys.next()) {
+                            Table tableModel = tablesByName.get(foreignKeys.getString(JDBC_FK_TABLE_NAME_PROPERTY));
+                            if (tableModel != null) {
+                                addForeignKey(tableModel, foreignKeys);
+                            }
+                        }
+                    } catch (SQLException e) {
+                        logBulkNotSupported("foreign keys", schema, e);
+                        for (Table tableModel : tablesByName.values()) {
+                            addForeignKeys(databaseMetadata, connection, tableModel, schema);
+                        }
+                    }
+                    try (ResultSet indexes = databaseMetadata.getIndexInfo(catalog, schema, null, false, true)) {
+                        Map<String, String> lastIndexNames = new HashMap<>();
+                        while (indexes.next()) {
+                            String tableName = indexes.getString(JDBC_TABLE_NAME_PROPERTY);
+                            Table tableModel = tablesByName.get(tableName);
+                            if (tableModel != null) {
+                                String lastIndexName = addIndex(tableModel, indexes, lastIndexNames.getOrDefault(tableName, ""));
+                                lastIndexNames.put(tableName, lastIndexName);
+                            }
+                        }
+                    } catch (SQLException e) {
+                        logBulkNotSupported("indices", schema, e);
+                        for (Table tableModel : tablesByName.values()) {
+                            addIndices(databaseMetadata, connection, tableModel, schema);
+                        }
+                    }
+                    try (ResultSet tableTypes = databaseMetadata.getTables(catalog, schema, null, null)) {
+                        while (tableTypes.next()) {
+                            Table tableModel = tablesByName.get(tableTypes.getString(JDBC_TABLE_NAME_PROPERTY));
+                            if (tableModel != null) {
+                                tableModel.setKind(tableTypes.getString(JDBC_TABLE_TYPE_PROPERTY));
+                            }
+                        }
+                    }
+                }
             }
+            tables.addAll(tablesByName.values());
         } else {
             String error = schema + " does not exist in the target database";
             if (logger.isErrorEnabled()) {
@@ -402,6 +508,19 @@ public class DataSourceMetadataLoader implements DatabaseParameters {
         return tables;
     }
 
+    /**
+     * Log that a schema wide metadata call is not supported by the driver.
+     *
+     * @param kind the metadata kind
+     * @param schema the schema
+     * @param e the exception
+     */
+    private static void logBulkNotSupported(String kind, String schema, SQLException e) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Loading of {} for the whole schema [{}] is not supported by the driver, loading them per table", kind, schema, e);
+        }
+    }
+
     /**
      * Gets the schemas.
      *
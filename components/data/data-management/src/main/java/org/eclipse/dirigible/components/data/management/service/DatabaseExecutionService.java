@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.eclipse.dirigible.components.data.management.config.DatabaseMetadataCache;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseErrorHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseQueryHelper;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseQueryHelper.RequestExecutionCallback;
@@ -61,16 +62,22 @@ public class DatabaseExecutionService {
     /** The data sources service. */
     private final DataSourceService datasourceService;
 
+    /** The metadata cache. */
+    private final DatabaseMetadataCache metadataCache;
+
     /**
      * Instantiates a new data source endpoint.
      *
      * @param datasourceManager the datasource manager
      * @param datasourceService the datasource service
+     * @param metadataCache the metadata cache
      */
     @Autowired
-    public DatabaseExecutionService(DataSourcesManager datasourceManager, DataSourceService datasourceService) {
+    public DatabaseExecutionService(DataSourcesManager datasourceManager, DataSourceService datasourceService,
+            DatabaseMetadataCache metadataCache) {
         this.datasourceManager = datasourceManager;
         this.datasourceService = datasourceService;
+        this.metadataCache = metadataCache;
     }
 
     /**
@@ -115,6 +122,7 @@ public class DatabaseExecutionService {
         javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
         if (dataSource != null) {
             executeStatement(dataSource, sql, false, isJson, isCsv, true, output);
+            metadataCache.removeDataSource(datasource);
         }
     }
 
@@ -131,6 +139,7 @@ public class DatabaseExecutionService {
         javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
         if (dataSource != null) {
             executeProcedure(dataSource, sql, isJson, isCsv, output);
+            metadataCache.removeDataSource(datasource);
         }
     }
 
@@ -147,6 +156,7 @@ public class DatabaseExecutionService {
         javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
         if (dataSource != null) {
             executeStatement(dataSource, sql, true, isJson, isCsv, true, output);
+            metadataCache.removeDataSource(datasource);
         }
     }
 
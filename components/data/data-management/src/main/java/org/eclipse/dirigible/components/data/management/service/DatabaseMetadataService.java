@@ -14,8 +14,11 @@ import java.sql.SQLException;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.data.management.config.DatabaseMetadataCache;
+import org.eclipse.dirigible.components.data.management.domain.DatabaseMetadata;
 import org.eclipse.dirigible.components.data.management.domain.DatabaseStructureTypes;
+import org.eclipse.dirigible.components.data.management.domain.SchemaMetadata;
 import org.eclipse.dirigible.components.data.management.helpers.DatabaseMetadataHelper;
 import org.eclipse.dirigible.components.data.sources.domain.DataSource;
 import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
@@ -78,14 +81,14 @@ public class DatabaseMetadataService {
      * @throws SQLException the SQL exception
      */
     public String getDataSourceMetadata(String datasource) throws SQLException {
-        String key = "DATASOURCE_" + datasource;
-        String metadata = cache.get(key);
+        String key = DatabaseMetadataCache.key(datasource);
+        DatabaseMetadata metadata = cache.get(key, DatabaseMetadata.class);
         if (metadata == null) {
             javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
-            metadata = DatabaseMetadataHelper.getMetadataAsJson(dataSource);
+            metadata = DatabaseMetadataHelper.getMetadata(dataSource);
             cache.put(key, metadata);
         }
-        return metadata;
+        return GsonHelper.toJson(metadata);
     }
 
     /**
@@ -109,22 +112,38 @@ public class DatabaseMetadataService {
      * @throws SQLException the SQL exception
      */
     public String getSchemaMetadata(String datasource, String schema) throws SQLException {
-        String key = "DATASOURCE_" + datasource + "_SCHEMA_" + schema;
-        String metadata = cache.get(key);
+        String key = DatabaseMetadataCache.key(datasource, schema);
+        SchemaMetadata metadata = cache.get(key, SchemaMetadata.class);
         if (metadata == null) {
             javax.sql.DataSource dataSource = datasourceManager.getDataSource(datasource);
-            metadata = DatabaseMetadataHelper.getSchemaMetadataAsJson(dataSource, schema);
+            metadata = DatabaseMetadataHelper.getSchemaMetadata(dataSource, schema);
             cache.put(key, metadata);
         }
-        return metadata;
+        return GsonHelper.toJson(metadata);
     }
 
     /**
      * Invalidate cache.
      */
     public void invalidateCache() {
-        cache.getInternalCache()
-             .invalidateAll();
+        cache.clear();
+    }
+
+    /**
+     * Invalidate the cached metadata of a data source, a schema or a single structure.
+     *
+     * @param datasource the datasource
+     * @param schema the schema or null for the whole data source
+     * @param structure the structure or null for the whole schema
+     */
+    public void invalidateCache(String datasource, String schema, String structure) {
+        if (schema == null) {
+            cache.removeDataSource(datasource);
+        } else if (structure == null) {
+            cache.removeSchema(datasource, schema);
+        } else {
+            cache.removeStructure(datasource, schema, structure);
+        }
     }
 
     /**
@@ -161,10 +180,30 @@ public class DatabaseMetadataService {
                     metadata = DatabaseMetadataHelper.getFunctionMetadataAsJson(dataSource, schema, artifact);
                     break;
                 default:
-                    metadata = DatabaseMetadataHelper.getTableMetadataAsJson(dataSource, schema, artifact); // TABLE, VIEW
+                    metadata = getTableMetadata(datasource, dataSource, schema, artifact); // TABLE, VIEW
             }
         }
         return metadata;
     }
 
+    /**
+     * Gets the table metadata loaded on demand and cached per structure.
+     *
+     * @param datasource the datasource name
+     * @param dataSource the data source
+     * @param schema the schema
+     * @param table the table
+     * @return the table metadata as json
+     * @throws SQLException the SQL exception
+     */
+    private String getTableMetadata(String datasource, javax.sql.DataSource dataSource, String schema, String table) throws SQLException {
+        String key = DatabaseMetadataCache.key(datasource, schema, table);
+        Object metadata = cache.get(key, Object.class);
+        if (metadata == null) {
+            metadata = DatabaseMetadataHelper.getTableMetadata(dataSource, schema, table);
+            cache.put(key, metadata);
+        }
+        return GsonHelper.toJson(metadata);
+    }
+
 }
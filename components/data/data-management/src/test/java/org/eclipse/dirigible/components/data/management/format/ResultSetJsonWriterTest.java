@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.management.format;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class ResultSetJsonWriterTest.
+ */
+public class ResultSetJsonWriterTest {
+
+    /**
+     * Write typed columns.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeTypedColumns() throws Exception {
+        String json = write(true, false);
+        assertEquals("[{\"ID\":1,\"NAME\":\"first\",\"PRICE\":1.50,\"ACTIVE\":true,\"SCORE\":2.5,\"NOTE\":\"[NULL]\"},"
+                + "{\"ID\":2,\"NAME\":\"second\",\"PRICE\":2.25,\"ACTIVE\":false,\"SCORE\":0.5,\"NOTE\":\"[NULL]\"}]", json);
+    }
+
+    /**
+     * Write not stringified.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeNotStringified() throws Exception {
+        String json = write(false, false);
+        assertEquals("[{\"ID\":1,\"NAME\":\"first\",\"PRICE\":1.50,\"ACTIVE\":true,\"SCORE\":2.5,\"NOTE\":null},"
+                + "{\"ID\":2,\"NAME\":\"second\",\"PRICE\":2.25,\"ACTIVE\":false,\"SCORE\":0.5,\"NOTE\":null}]", json);
+    }
+
+    /**
+     * Write limited.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeLimited() throws Exception {
+        String json = write(true, true);
+        assertEquals("[{\"ID\":1,\"NAME\":\"first\",\"PRICE\":1.50,\"ACTIVE\":true,\"SCORE\":2.5,\"NOTE\":\"[NULL]\"}]", json);
+    }
+
+    /**
+     * Write a result set which describes the columns per row, like the MongoDB driver does for the
+     * schemaless documents.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeRowMetaData() throws Exception {
+        ResultSet resultSet = mockDocuments(List.of(Map.of("_id", "a", "name", "first", "qty", 1),
+                Map.of("_id", "b", "name", "second", "tags", new ArrayList<>(List.of("x"))), Map.of("_id", "c")));
+
+        ResultSetJsonWriter writer = new ResultSetJsonWriter();
+        writer.setLimited(false);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        writer.write(resultSet, output);
+
+        assertEquals(
+                "[{\"_id\":\"a\",\"name\":\"first\",\"qty\":1},{\"_id\":\"b\",\"name\":\"second\",\"tags\":\"[x]\"}," + "{\"_id\":\"c\"}]",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Write an empty result set, which has no metadata before the first row.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void writeEmptyRowMetaData() throws Exception {
+        ResultSet resultSet = mockDocuments(List.of());
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        new ResultSetJsonWriter().write(resultSet, output);
+
+        assertEquals("[]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Mock a result set over the given documents. As in the MongoDB driver, the metadata is created on
+     * each next() from the sorted keys of the current document and is null before the first row.
+     *
+     * @param documents the documents
+     * @return the result set
+     * @throws Exception the exception
+     */
+    private static ResultSet mockDocuments(List<Map<String, Object>> documents) throws Exception {
+        Iterator<Map<String, Object>> iterator = documents.iterator();
+        Object[] current = new Object[2];
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenAnswer(invocation -> {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            TreeMap<String, Object> document = new TreeMap<>(iterator.next());
+            current[0] = document;
+            current[1] = mockMetaData(document);
+            return true;
+        });
+        when(resultSet.getMetaData()).thenAnswer(invocation -> current[1]);
+        when(resultSet.getObject(anyString())).thenAnswer(invocation -> document(current).get(invocation.getArgument(0)));
+        when(resultSet.getObject(anyInt())).thenAnswer(invocation -> column(current, invocation.getArgument(0)));
+        when(resultSet.getString(anyInt())).thenAnswer(invocation -> String.valueOf(column(current, invocation.getArgument(0))));
+        when(resultSet.getLong(anyInt())).thenAnswer(invocation -> ((Number) column(current, invocation.getArgument(0))).longValue());
+        return resultSet;
+    }
+
+    /**
+     * Mock the metadata of a document.
+     *
+     * @param document the document
+     * @return the result set meta data
+     * @throws Exception the exception
+     */
+    private static ResultSetMetaData mockMetaData(TreeMap<String, Object> document) throws Exception {
+        List<String> names = new ArrayList<>(document.keySet());
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(names.size());
+        when(metaData.getColumnName(anyInt())).thenAnswer(invocation -> names.get((int) invocation.getArgument(0) - 1));
+        when(metaData.getColumnLabel(anyInt())).thenAnswer(invocation -> names.get((int) invocation.getArgument(0) - 1));
+        when(metaData.getColumnType(anyInt())).thenAnswer(invocation -> {
+            Object value = document.get(names.get((int) invocation.getArgument(0) - 1));
+            return value instanceof String ? Types.VARCHAR : value instanceof Integer ? Types.INTEGER : Types.OTHER;
+        });
+        return metaData;
+    }
+
+    /**
+     * The current document.
+     *
+     * @param current the current document and metadata
+     * @return the document
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> document(Object[] current) {
+        return (Map<String, Object>) current[0];
+    }
+
+    /**
+     * The value of a column of the current document.
+     *
+     * @param current the current document and metadata
+     * @param index the column index
+     * @return the value
+     * @throws Exception the exception
+     */
+    private static Object column(Object[] current, int index) throws Exception {
+        return document(current).get(((ResultSetMetaData) current[1]).getColumnName(index));
+    }
+
+    /**
+     * Write the test table with the given writer settings.
+     *
+     * @param stringify the stringify
+     * @param limited the limited
+     * @return the json
+     * @throws Exception the exception
+     */
+    private String write(boolean stringify, boolean limited) throws Exception {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:ResultSetJsonWriterTest");
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE ITEMS (ID INTEGER, NAME VARCHAR(32), PRICE DECIMAL(10,2), ACTIVE BOOLEAN, "
+                    + "SCORE DOUBLE PRECISION, NOTE VARCHAR(32))");
+            statement.execute("INSERT INTO ITEMS VALUES (1, 'first', 1.50, TRUE, 2.5, NULL), (2, 'second', 2.25, FALSE, 0.5, NULL)");
+            try (ResultSet resultSet = statement.executeQuery("SELECT * FROM ITEMS ORDER BY ID")) {
+                ResultSetJsonWriter writer = new ResultSetJsonWriter();
+                writer.setStringified(stringify);
+                writer.setLimited(limited);
+                writer.setLimit(0);
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                writer.write(resultSet, output);
+                return output.toString(StandardCharsets.UTF_8);
+            } finally {
+                statement.execute("DROP TABLE ITEMS");
+            }
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.metadata.endpoint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.eclipse.dirigible.components.data.management.load.DataSourceMetadataLoader;
+import org.eclipse.dirigible.components.data.sources.manager.DataSourcesManager;
+import org.eclipse.dirigible.components.data.structures.domain.Table;
+import org.eclipse.dirigible.components.data.structures.domain.TableColumn;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+
+/**
+ * The Class DataSourceMetadataLoaderTest.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class DataSourceMetadataLoaderTest {
+
+    /** The Constant SCHEMA. */
+    private static final String SCHEMA = "METADATA_LOADER_TEST";
+
+    /** The datasources manager. */
+    @Autowired
+    private DataSourcesManager datasourcesManager;
+
+    /** The metadata loader. */
+    @Autowired
+    private DataSourceMetadataLoader metadataLoader;
+
+    /**
+     * Setup.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @BeforeEach
+    public void setup() throws SQLException {
+        execute("CREATE SCHEMA " + SCHEMA, "CREATE TABLE " + SCHEMA + ".CUSTOMERS (ID INT PRIMARY KEY, NAME VARCHAR(100))",
+                "CREATE TABLE " + SCHEMA + ".ORDERS (ID INT PRIMARY KEY, CUSTOMER_ID INT, AMOUNT DECIMAL(10,2), "
+                        + "CONSTRAINT FK_ORDERS_CUSTOMERS FOREIGN KEY (CUSTOMER_ID) REFERENCES " + SCHEMA + ".CUSTOMERS(ID))");
+    }
+
+    /**
+     * Cleanup.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @AfterEach
+    public void cleanup() throws SQLException {
+        execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+    }
+
+    /**
+     * Load schema metadata test.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void loadSchemaMetadataTest() throws SQLException {
+        List<Table> tables = metadataLoader.loadSchemaMetadata(SCHEMA, datasourcesManager.getDefaultDataSource());
+        assertEquals(2, tables.size());
+
+        Table orders = tables.stream()
+                             .filter(t -> "ORDERS".equals(t.getName()))
+                             .findFirst()
+                             .orElse(null);
+        assertNotNull(orders);
+        assertEquals(3, orders.getColumns()
+                              .size());
+        TableColumn id = orders.getColumns()
+                               .get(0);
+        assertEquals("ID", id.getName());
+        assertTrue(id.isPrimaryKey());
+        assertEquals(1, orders.getConstraints()
+                              .getForeignKeys()
+                              .size());
+        assertEquals("CUSTOMERS", orders.getConstraints()
+                                        .getForeignKeys()
+                                        .get(0)
+                                        .getReferencedTable());
+    }
+
+    /**
+     * Executes the statements against the default data source.
+     *
+     * @param statements the statements
+     * @throws SQLException the SQL exception
+     */
+    private void execute(String... statements) throws SQLException {
+        DataSource dataSource = datasourcesManager.getDefaultDataSource();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+}
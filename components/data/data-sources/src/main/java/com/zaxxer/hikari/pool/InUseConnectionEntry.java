@@ -1,5 +1,7 @@
 package com.zaxxer.hikari.pool;
 
+import com.zaxxer.hikari.util.ClockSource;
+
 import java.sql.Connection;
 import java.util.Objects;
 
@@ -7,10 +9,22 @@ class InUseConnectionEntry {
 
     private final Connection connection;
     private final long borrowedAt;
+    /**
+     * The borrow time in the clock of the pool entries, used to compare with their last borrow and
+     * access.
+     */
+    private final long borrowedAtPoolTime;
+    private final String threadName;
+    /** The stack origin of the borrow or null if not sampled. */
+    private final String origin;
 
-    InUseConnectionEntry(Connection connection) {
+    InUseConnectionEntry(Connection connection, String origin) {
         this.connection = connection;
         this.borrowedAt = System.currentTimeMillis();
+        this.borrowedAtPoolTime = ClockSource.currentTime();
+        this.threadName = Thread.currentThread()
+                                .getName();
+        this.origin = origin;
     }
 
     public Connection getConnection() {
@@ -21,6 +35,18 @@ class InUseConnectionEntry {
         return borrowedAt;
     }
 
+    public long getBorrowedAtPoolTime() {
+        return borrowedAtPoolTime;
+    }
+
+    public String getThreadName() {
+        return threadName;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -38,6 +64,7 @@ class InUseConnectionEntry {
 
     @Override
     public String toString() {
-        return "InUseConnectionEntry{" + "connection=" + connection + ", borrowedAt=" + borrowedAt + '}';
+        return "InUseConnectionEntry{" + "connection=" + connection + ", borrowedAt=" + borrowedAt + ", threadName=" + threadName
+                + ", origin=" + origin + '}';
     }
 }
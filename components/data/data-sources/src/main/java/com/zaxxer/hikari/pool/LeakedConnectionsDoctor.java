@@ -8,26 +8,44 @@ import org.springframework.stereotype.Component;
 
 import java.sql.Connection;
 import java.sql.SQLException;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Component
 public class LeakedConnectionsDoctor {
 
     public static final int INITIAL_DELAY = 30;
+    static final String ORIGIN_SEPARATOR = " <- ";
     private static final Logger LOGGER = LoggerFactory.getLogger(LeakedConnectionsDoctor.class);
     private static final long MAX_IN_USE_MILLIS =
             TimeUnit.SECONDS.toMillis(DirigibleConfig.LEAKED_CONNECTIONS_MAX_IN_USE_SECONDS.getIntValue());
-    private static final Set<InUseConnectionEntry> IN_USE_CONNECTIONS = new HashSet<>();
+    private static final int ORIGIN_DEPTH = 8;
+    private static final String DATA_SOURCES_PACKAGE = "org.eclipse.dirigible.components.data.sources.manager.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    /** The in use connections by pool name. */
+    private static final Map<String, PoolConnections> POOLS = new ConcurrentHashMap<>();
+    /** The listeners of the tracked pools. */
+    private static final List<PoolListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static volatile int trackingPercent = DirigibleConfig.LEAKED_CONNECTIONS_TRACKING_PERCENT.getIntValue();
+    private static volatile int stackSamplingPercent = DirigibleConfig.LEAKED_CONNECTIONS_STACK_SAMPLING_PERCENT.getIntValue();
 
     public static void init() {
         ScheduledExecutorService executor = Executors.newScheduledThreadPool(1);
 
-        LOGGER.info("Scheduling check for leaked connection with initial delay of [{}] seconds and interval [{}] seconds.", INITIAL_DELAY,
-                DirigibleConfig.LEAKED_CONNECTIONS_CHECK_INTERVAL_SECONDS.getIntValue());
+        LOGGER.info(
+                "Scheduling check for leaked connection with initial delay of [{}] seconds and interval [{}] seconds. Tracking [{}]% of the connections, sampling the stack of [{}]% of them.",
+                INITIAL_DELAY, DirigibleConfig.LEAKED_CONNECTIONS_CHECK_INTERVAL_SECONDS.getIntValue(), trackingPercent,
+                stackSamplingPercent);
         executor.scheduleAtFixedRate(LeakedConnectionsDoctor::closeLeakedConnections, INITIAL_DELAY,
                 DirigibleConfig.LEAKED_CONNECTIONS_CHECK_INTERVAL_SECONDS.getIntValue(), TimeUnit.SECONDS);
 
@@ -46,47 +64,64 @@ public class LeakedConnectionsDoctor {
                }));
     }
 
+    /**
+     * Sets the percentages of the tracked connections and of the tracked connections with a sampled
+     * stack origin.
+     *
+     * @param tracking the tracking percent
+     * @param stackSampling the stack sampling percent
+     */
+    static void setSampling(int tracking, int stackSampling) {
+        trackingPercent = tracking;
+        stackSamplingPercent = stackSampling;
+    }
+
     private static void closeLeakedConnections() {
+        closeLeakedConnections(System.currentTimeMillis());
+    }
+
+    static void closeLeakedConnections(long executionStartedAt) {
         LOGGER.debug("Checking for leaked connections...");
-        long executionStartedAt = System.currentTimeMillis();
-        Set<InUseConnectionEntry> leftInUseConnections = new HashSet<>();
-        Set<InUseConnectionEntry> connectionsForRemove = new HashSet<>();
-
-        IN_USE_CONNECTIONS.forEach(entry -> {
-            if (isClosed(entry.getConnection())) {
-                LOGGER.debug("Connection [{}] borrowed at [{}] is closed. Will be removed from the list.", entry.getConnection(),
-                        entry.getBorrowedAt());
-                connectionsForRemove.add(entry);
-                return;
-            }
+        // the maps are weakly consistent, connections registered or unregistered during the check are
+        // handled on the next execution
+        POOLS.values()
+             .forEach(pool -> pool.getEntries()
+                                  .forEach(entry -> checkEntry(pool, entry, executionStartedAt)));
+    }
+
+    private static void checkEntry(PoolConnections pool, InUseConnectionEntry entry, long executionStartedAt) {
+        if (isClosed(entry.getConnection())) {
+            LOGGER.debug("Connection [{}] borrowed at [{}] is closed. Will be removed from the list.", entry.getConnection(),
+                    entry.getBorrowedAt());
+            pool.remove(entry);
+            return;
+        }
 
-            if (entry.getConnection() instanceof HikariProxyConnection hikariProxyConnection
-                    && isInUse(hikariProxyConnection.getPoolEntry())
-                    && (isNotBorrowedSinceRegistered(hikariProxyConnection.getPoolEntry(), entry)
-                            && isNotAccessedSinceRegistered(hikariProxyConnection.getPoolEntry(), entry))) {
-
-                boolean maxInUsePassed = executionStartedAt > (entry.getBorrowedAt() + MAX_IN_USE_MILLIS);
-                if (maxInUsePassed) {
-                    closeLeakedEntry(entry, hikariProxyConnection);
-                    connectionsForRemove.add(entry);
-                } else {
-                    LOGGER.debug(
-                            "Connection [{}] borrowed at [{}] didn't reached the configured max in use time of [{}] millis. Will check it on the next execution.",
-                            entry.getConnection(), entry.getBorrowedAt(), MAX_IN_USE_MILLIS);
-                    leftInUseConnections.add(entry);
-                }
+        if (entry.getConnection() instanceof HikariProxyConnection hikariProxyConnection && isInUse(hikariProxyConnection.getPoolEntry())
+                && (isNotBorrowedSinceRegistered(hikariProxyConnection.getPoolEntry(), entry)
+                        && isNotAccessedSinceRegistered(hikariProxyConnection.getPoolEntry(), entry))) {
+
+            boolean maxInUsePassed = executionStartedAt > (entry.getBorrowedAt() + MAX_IN_USE_MILLIS);
+            if (maxInUsePassed) {
+                closeLeakedEntry(entry, hikariProxyConnection);
+                pool.remove(entry);
+                pool.recordLeak(entry);
             } else {
-                connectionsForRemove.add(entry);
+                LOGGER.debug(
+                        "Connection [{}] borrowed at [{}] didn't reached the configured max in use time of [{}] millis. Will check it on the next execution.",
+                        entry.getConnection(), entry.getBorrowedAt(), MAX_IN_USE_MILLIS);
             }
-        });
-        IN_USE_CONNECTIONS.removeAll(connectionsForRemove);
-        IN_USE_CONNECTIONS.addAll(leftInUseConnections);
+        } else {
+            pool.remove(entry);
+        }
     }
 
     private static void closeLeakedEntry(InUseConnectionEntry entry, HikariProxyConnection hikariProxyConnection) {
         try {
-            LOGGER.warn("Found leaked connection [{}] borrowed at [{}] and remained in state IN_USE. Will be closed.",
-                    entry.getConnection(), entry.getBorrowedAt());
+            LOGGER.warn(
+                    "Found leaked connection [{}] borrowed at [{}] by thread [{}] from [{}] and remained in state IN_USE. Will be closed.",
+                    entry.getConnection(), entry.getBorrowedAt(), entry.getThreadName(),
+                    entry.getOrigin() == null ? "not sampled origin" : entry.getOrigin());
             entry.getConnection()
                  .close();
             hikariProxyConnection.getPoolEntry()
@@ -99,7 +134,7 @@ public class LeakedConnectionsDoctor {
     }
 
     private static boolean isNotAccessedSinceRegistered(PoolEntry poolEntry, InUseConnectionEntry entry) {
-        return poolEntry.lastAccessed <= entry.getBorrowedAt();
+        return poolEntry.lastAccessed <= entry.getBorrowedAtPoolTime();
 
     }
 
@@ -108,7 +143,7 @@ public class LeakedConnectionsDoctor {
     }
 
     private static boolean isNotBorrowedSinceRegistered(PoolEntry poolEntry, InUseConnectionEntry entry) {
-        return poolEntry.lastBorrowed <= entry.getBorrowedAt();
+        return poolEntry.lastBorrowed <= entry.getBorrowedAtPoolTime();
     }
 
     private static boolean isClosed(Connection connection) {
@@ -120,7 +155,176 @@ public class LeakedConnectionsDoctor {
         }
     }
 
+    /**
+     * Registers a borrowed connection. Only the connections of the Hikari pools are tracked, and only
+     * the configured percentage of them.
+     *
+     * @param connection the connection
+     */
     public static void registerConnection(Connection connection) {
-        IN_USE_CONNECTIONS.add(new InUseConnectionEntry(connection));
+        if (!(connection instanceof HikariProxyConnection hikariProxyConnection) || !isSampled(trackingPercent)) {
+            return;
+        }
+        String origin = isSampled(stackSamplingPercent) ? captureOrigin() : null;
+        POOLS.computeIfAbsent(hikariProxyConnection.getPoolEntry()
+                                                   .getPoolName(),
+                LeakedConnectionsDoctor::trackPool)
+             .add(new InUseConnectionEntry(connection, origin));
+    }
+
+    private static PoolConnections trackPool(String poolName) {
+        PoolConnections pool = new PoolConnections(poolName);
+        LISTENERS.forEach(listener -> listener.poolTracked(poolName, pool));
+        return pool;
+    }
+
+    static void leakOriginTracked(PoolConnections pool, String origin) {
+        LISTENERS.forEach(listener -> listener.leakOriginTracked(pool.getPoolName(), origin, pool));
+    }
+
+    /**
+     * Adds a listener of the tracked pools, e.g. to publish their metrics. The listener is notified of
+     * the pools and the leak origins tracked so far and of the ones tracked later.
+     *
+     * @param listener the listener
+     */
+    public static void addPoolListener(PoolListener listener) {
+        LISTENERS.add(listener);
+        POOLS.values()
+             .forEach(pool -> {
+                 listener.poolTracked(pool.getPoolName(), pool);
+                 pool.getLeakedConnectionsByOrigin()
+                     .keySet()
+                     .forEach(origin -> listener.leakOriginTracked(pool.getPoolName(), origin, pool));
+             });
+    }
+
+    /**
+     * Removes a listener of the tracked pools.
+     *
+     * @param listener the listener
+     */
+    public static void removePoolListener(PoolListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Unregisters a connection returned to the pool.
+     *
+     * @param connection the connection
+     */
+    public static void unregisterConnection(Connection connection) {
+        if (connection instanceof HikariProxyConnection hikariProxyConnection) {
+            PoolConnections pool = POOLS.get(hikariProxyConnection.getPoolEntry()
+                                                                  .getPoolName());
+            if (pool != null) {
+                pool.remove(connection);
+            }
+        }
+    }
+
+    /**
+     * Gets the tracked connections held for at least the given time, the oldest first.
+     *
+     * @param minAgeMillis the min age in milliseconds
+     * @return the held connections
+     */
+    public static List<HeldConnection> getHeldConnections(long minAgeMillis) {
+        long now = System.currentTimeMillis();
+        List<HeldConnection> held = new ArrayList<>();
+        POOLS.values()
+             .forEach(pool -> pool.getEntries()
+                                  .stream()
+                                  .filter(entry -> now - entry.getBorrowedAt() >= minAgeMillis)
+                                  .forEach(entry -> held.add(new HeldConnection(pool.getPoolName(), now - entry.getBorrowedAt(),
+                                          entry.getThreadName(), entry.getOrigin()))));
+        held.sort(Comparator.comparingLong(HeldConnection::ageMillis)
+                            .reversed());
+        return held;
+    }
+
+    /**
+     * Gets the number of the tracked connections of a pool.
+     *
+     * @param poolName the pool name
+     * @return the tracked connections count
+     */
+    public static int getTrackedConnectionsCount(String poolName) {
+        PoolConnections pool = POOLS.get(poolName);
+        return pool == null ? 0 : pool.getHeldConnections();
+    }
+
+    /**
+     * Gets the leaked connections metrics of a pool, also registered as an MBean with name
+     * <code>org.eclipse.dirigible:type=LeakedConnections,pool="&lt;pool&gt;"</code>.
+     *
+     * @param poolName the pool name
+     * @return the metrics or null if no connection of the pool has been tracked
+     */
+    public static LeakedConnectionsMXBean getMetrics(String poolName) {
+        return POOLS.get(poolName);
+    }
+
+    /**
+     * Gets the number of the leaked connections of a pool closed so far.
+     *
+     * @param poolName the pool name
+     * @return the leaked connections count
+     */
+    public static long getLeakedConnectionsCount(String poolName) {
+        PoolConnections pool = POOLS.get(poolName);
+        return pool == null ? 0 : pool.getLeakedConnections();
+    }
+
+    private static boolean isSampled(int percent) {
+        return percent >= 100 || (percent > 0 && ThreadLocalRandom.current()
+                                                                  .nextInt(100) < percent);
+    }
+
+    private static String captureOrigin() {
+        return STACK_WALKER.walk(frames -> frames.filter(frame -> !isTrackingFrame(frame.getClassName()))
+                                                 .limit(ORIGIN_DEPTH)
+                                                 .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":"
+                                                         + frame.getLineNumber())
+                                                 .collect(Collectors.joining(ORIGIN_SEPARATOR)));
+    }
+
+    private static boolean isTrackingFrame(String className) {
+        return className.equals(LeakedConnectionsDoctor.class.getName()) || className.startsWith(DATA_SOURCES_PACKAGE);
+    }
+
+    /**
+     * The listener of the tracked pools. A listener may be notified more than once of the same pool or
+     * origin, when it is added while they are being tracked.
+     */
+    public interface PoolListener {
+
+        /**
+         * Called when the first connection of a pool is tracked.
+         *
+         * @param poolName the pool name
+         * @param metrics the metrics of the pool
+         */
+        void poolTracked(String poolName, LeakedConnectionsMXBean metrics);
+
+        /**
+         * Called when the first leaked connection of a pool from an origin is closed.
+         *
+         * @param poolName the pool name
+         * @param origin the top frame of the stack origin or unknown, if not sampled
+         * @param metrics the metrics of the pool
+         */
+        void leakOriginTracked(String poolName, String origin, LeakedConnectionsMXBean metrics);
+    }
+
+    /**
+     * A connection held by the application.
+     *
+     * @param poolName the pool name
+     * @param ageMillis the time since the borrow
+     * @param threadName the borrowing thread
+     * @param origin the sampled stack origin of the borrow or null
+     */
+    public record HeldConnection(String poolName, long ageMillis, String threadName, String origin) {
     }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2010-2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package com.zaxxer.hikari.pool;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The JMX view of the tracked in use connections of a pool.
+ */
+public interface LeakedConnectionsMXBean {
+
+    /**
+     * Gets the number of the tracked connections currently borrowed from the pool.
+     *
+     * @return the held connections
+     */
+    int getHeldConnections();
+
+    /**
+     * Gets the age of the longest held tracked connection.
+     *
+     * @return the age in milliseconds
+     */
+    long getMaxHeldAgeMillis();
+
+    /**
+     * Gets the held connections as age, thread and sampled stack origin, the oldest first.
+     *
+     * @return the held connections details
+     */
+    List<String> getHeldConnectionsDetails();
+
+    /**
+     * Gets the number of the leaked connections closed so far.
+     *
+     * @return the leaked connections
+     */
+    long getLeakedConnections();
+
+    /**
+     * Gets the number of the leaked connections closed so far by the top frame of their stack origin.
+     *
+     * @return the leaked connections by origin
+     */
+    Map<String, Long> getLeakedConnectionsByOrigin();
+}
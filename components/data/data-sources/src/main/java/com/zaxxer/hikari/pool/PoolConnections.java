@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010-2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package com.zaxxer.hikari.pool;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The in use connections of a single pool together with their metrics. The metrics are registered
+ * as an MBean, so that they are available also when they are not published to a meter registry.
+ */
+class PoolConnections implements LeakedConnectionsMXBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PoolConnections.class);
+    private static final String UNKNOWN_ORIGIN = "unknown";
+
+    private final String poolName;
+    private final ConcurrentHashMap<Connection, InUseConnectionEntry> connections = new ConcurrentHashMap<>();
+    private final LongAdder leaked = new LongAdder();
+    private final ConcurrentHashMap<String, LongAdder> leakedByOrigin = new ConcurrentHashMap<>();
+
+    PoolConnections(String poolName) {
+        this.poolName = poolName;
+        try {
+            ObjectName name = new ObjectName("org.eclipse.dirigible:type=LeakedConnections,pool=" + ObjectName.quote(poolName));
+            if (!ManagementFactory.getPlatformMBeanServer()
+                                  .isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer()
+                                 .registerMBean(this, name);
+            }
+        } catch (JMException | RuntimeException ex) {
+            LOGGER.warn("Failed to register the leaked connections MBean of pool [{}]", poolName, ex);
+        }
+    }
+
+    String getPoolName() {
+        return poolName;
+    }
+
+    void add(InUseConnectionEntry entry) {
+        connections.put(entry.getConnection(), entry);
+    }
+
+    void remove(Connection connection) {
+        connections.remove(connection);
+    }
+
+    void remove(InUseConnectionEntry entry) {
+        connections.remove(entry.getConnection(), entry);
+    }
+
+    Collection<InUseConnectionEntry> getEntries() {
+        return connections.values();
+    }
+
+    /**
+     * Records a closed leaked connection by the top frame of its stack origin.
+     *
+     * @param entry the entry
+     */
+    void recordLeak(InUseConnectionEntry entry) {
+        leaked.increment();
+        String origin = entry.getOrigin();
+        String topFrame = UNKNOWN_ORIGIN;
+        if (origin != null) {
+            int separator = origin.indexOf(LeakedConnectionsDoctor.ORIGIN_SEPARATOR);
+            topFrame = separator < 0 ? origin : origin.substring(0, separator);
+        }
+        LongAdder count = leakedByOrigin.get(topFrame);
+        if (count == null) {
+            LongAdder created = new LongAdder();
+            count = leakedByOrigin.putIfAbsent(topFrame, created);
+            if (count == null) {
+                count = created;
+                LeakedConnectionsDoctor.leakOriginTracked(this, topFrame);
+            }
+        }
+        count.increment();
+    }
+
+    @Override
+    public int getHeldConnections() {
+        return connections.size();
+    }
+
+    @Override
+    public long getMaxHeldAgeMillis() {
+        long now = System.currentTimeMillis();
+        long oldest = now;
+        for (InUseConnectionEntry entry : connections.values()) {
+            oldest = Math.min(oldest, entry.getBorrowedAt());
+        }
+        return now - oldest;
+    }
+
+    @Override
+    public List<String> getHeldConnectionsDetails() {
+        return LeakedConnectionsDoctor.getHeldConnections(0)
+                                      .stream()
+                                      .filter(held -> held.poolName()
+                                                          .equals(poolName))
+                                      .map(held -> held.ageMillis() + " ms by [" + held.threadName() + "] from ["
+                                              + (held.origin() == null ? UNKNOWN_ORIGIN : held.origin()) + "]")
+                                      .toList();
+    }
+
+    @Override
+    public long getLeakedConnections() {
+        return leaked.sum();
+    }
+
+    @Override
+    public Map<String, Long> getLeakedConnectionsByOrigin() {
+        Map<String, Long> result = new TreeMap<>();
+        leakedByOrigin.forEach((origin, count) -> result.put(origin, count.sum()));
+        return result;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.sources.config;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.database.DatabaseConfigurator;
+import org.eclipse.dirigible.components.database.DatabaseSystem;
+import org.eclipse.dirigible.components.database.DatabaseSystemDeterminer;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariConfig;
+
+/**
+ * Enables the per connection cache of prepared statements for the drivers, which support it, so
+ * that statements prepared again on a pooled connection are reused instead of parsed by the
+ * database each time. The properties set explicitly for the data source take precedence.
+ */
+@Component
+class PreparedStatementCacheConfigurator implements DatabaseConfigurator {
+
+    /** The Constant DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_ENABLED. */
+    private static final String DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_ENABLED =
+            "DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_ENABLED";
+
+    /** The Constant DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SIZE. */
+    private static final String DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SIZE = "DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SIZE";
+
+    /** The Constant DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SQL_LIMIT. */
+    private static final String DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SQL_LIMIT =
+            "DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SQL_LIMIT";
+
+    /**
+     * Checks if is applicable.
+     *
+     * @param databaseSystem the database system
+     * @return true, if is applicable
+     */
+    @Override
+    public boolean isApplicable(DatabaseSystem databaseSystem) {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_ENABLED, Boolean.TRUE.toString()))
+                && (databaseSystem.isMySQL() || databaseSystem.isMariaDB() || databaseSystem.isPostgreSQL());
+    }
+
+    /**
+     * Apply.
+     *
+     * @param config the config
+     */
+    @Override
+    public void apply(HikariConfig config) {
+        String size = Configuration.get(DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SIZE, "250");
+        if (DatabaseSystemDeterminer.determine(config.getJdbcUrl(), config.getDriverClassName())
+                                    .isPostgreSQL()) {
+            addIfAbsent(config, "preparedStatementCacheQueries", size);
+        } else {
+            addIfAbsent(config, "cachePrepStmts", Boolean.TRUE.toString());
+            addIfAbsent(config, "prepStmtCacheSize", size);
+            addIfAbsent(config, "prepStmtCacheSqlLimit", Configuration.get(DIRIGIBLE_DATABASE_PREPARED_STATEMENTS_CACHE_SQL_LIMIT, "2048"));
+        }
+    }
+
+    /**
+     * Adds the data source property, if it is not set already.
+     *
+     * @param config the config
+     * @param name the name
+     * @param value the value
+     */
+    private static void addIfAbsent(HikariConfig config, String name, String value) {
+        if (!config.getDataSourceProperties()
+                   .containsKey(name)) {
+            config.addDataSourceProperty(name, value);
+        }
+    }
+
+}
@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.data.sources.manager;
 
 import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.DirigibleConfig;
 import org.eclipse.dirigible.components.data.sources.config.DefaultDataSourceName;
@@ -27,7 +28,9 @@ import org.springframework.stereotype.Component;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.text.MessageFormat.format;
@@ -41,7 +44,11 @@ public class DataSourceInitializer {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(DataSourceInitializer.class);
     /** The Constant DATASOURCES. */
-    private static final Map<String, DirigibleDataSource> DATASOURCES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, DirigibleDataSource> DATASOURCES = new ConcurrentHashMap<>();
+    /** The locks of the data sources being initialized. */
+    private static final Map<String, Object> INITIALIZATION_LOCKS = new ConcurrentHashMap<>();
+    /** The names of the tenant data sources with own pools, which are evicted when idle. */
+    private static final Set<String> EVICTABLE_DATASOURCES = ConcurrentHashMap.newKeySet();
     /** The application context. */
     private final ApplicationContext applicationContext;
 
@@ -64,7 +71,8 @@ public class DataSourceInitializer {
         this.systemDataSourceName = systemDataSourceName;
         this.defaultDataSourceName = defaultDataSourceName;
         this.dataSourceFactory = dataSourceFactory;
-        this.timer = new Timer();
+        this.timer = new Timer(true);
+        scheduleIdleTenantPoolsEviction(DirigibleConfig.TENANT_DATABASE_POOL_EVICTION_SECONDS.getIntValue());
     }
 
     /**
@@ -74,11 +82,19 @@ public class DataSourceInitializer {
      * @return the javax.sql. data source
      */
     public DirigibleDataSource initialize(DataSource dataSource) {
-        if (isInitialized(dataSource.getName())) {
-            return getInitializedDataSource(dataSource.getName());
+        DirigibleDataSource initialized = getInitializedDataSource(dataSource.getName());
+        if (null != initialized) {
+            return initialized;
+        }
+        // only one thread creates the pool of a data source, the concurrent callers wait and reuse it
+        Object lock = INITIALIZATION_LOCKS.computeIfAbsent(dataSource.getName(), k -> new Object());
+        synchronized (lock) {
+            initialized = getInitializedDataSource(dataSource.getName());
+            if (null != initialized) {
+                return initialized;
+            }
+            return initDataSource(dataSource);
         }
-
-        return initDataSource(dataSource);
     }
 
     /**
@@ -123,6 +139,15 @@ public class DataSourceInitializer {
         String schema = dataSource.getSchema();
 
         logger.info("Initializing a datasource with name: [{}]", name);
+        boolean tenantDataSource = tenantDataSourceNameManager.isTenantDataSource(name);
+        if (tenantDataSource && DirigibleConfig.TENANT_DATABASE_SHARED_POOL.getBooleanValue()) {
+            DirigibleDataSource sharedDataSource = createSharedDataSource(dataSource, dbType);
+            if (null != sharedDataSource) {
+                registerDataSourceBean(name, sharedDataSource);
+                DATASOURCES.put(name, sharedDataSource);
+                return sharedDataSource;
+            }
+        }
         if (dbType.isH2()) {
             prepareRootFolder(name);
         }
@@ -138,10 +163,19 @@ public class DataSourceInitializer {
         config.setSchema(schema);
         config.setPoolName(name);
         config.setAutoCommit(true);
-        config.setMaximumPoolSize(20);
-
-        config.setMinimumIdle(10);
-        config.setIdleTimeout(TimeUnit.MINUTES.toMillis(3)); // free connections when idle, potentially remove leaked connections
+        // the explicit <name>_HIKARI_* properties take precedence over the defaults
+        if (!hikariProperties.containsKey("maximumPoolSize")) {
+            config.setMaximumPoolSize(tenantDataSource ? DirigibleConfig.TENANT_DATABASE_POOL_MAX_SIZE.getIntValue()
+                    : DirigibleConfig.DATABASE_POOL_MAX_SIZE.getIntValue());
+        }
+        if (!hikariProperties.containsKey("minimumIdle")) {
+            config.setMinimumIdle(
+                    Math.min(config.getMaximumPoolSize(), tenantDataSource ? DirigibleConfig.TENANT_DATABASE_POOL_MIN_IDLE.getIntValue()
+                            : DirigibleConfig.DATABASE_POOL_MIN_IDLE.getIntValue()));
+        }
+        if (!hikariProperties.containsKey("idleTimeout")) {
+            config.setIdleTimeout(TimeUnit.MINUTES.toMillis(3)); // free connections when idle, potentially remove leaked connections
+        }
         config.setMaxLifetime(TimeUnit.MINUTES.toMillis(15)); // recreate connections after specified time
         config.setConnectionTimeout(TimeUnit.SECONDS.toMillis(15));
         config.setLeakDetectionThreshold(TimeUnit.MINUTES.toMillis(1)); // log message for possible leaked connection
@@ -155,6 +189,9 @@ public class DataSourceInitializer {
 
         registerDataSourceBean(name, managedDataSource);
         DATASOURCES.put(name, managedDataSource);
+        if (tenantDataSource) {
+            EVICTABLE_DATASOURCES.add(name);
+        }
 
         if (dbType.isSnowflake()) {
             // schedule data source destroy periodically since the oauth token
@@ -165,6 +202,79 @@ public class DataSourceInitializer {
         return managedDataSource;
     }
 
+    /**
+     * Creates a tenant data source on top of the pool of the default data source, if both point to the
+     * same database with the same credentials. The tenant connections are switched to the tenant schema
+     * on checkout.
+     *
+     * @param dataSource the tenant data source
+     * @param dbType the database type
+     * @return the shared data source or null if the pool cannot be shared
+     */
+    private DirigibleDataSource createSharedDataSource(DataSource dataSource, DatabaseSystem dbType) {
+        DirigibleDataSource defaultDataSource = DATASOURCES.get(defaultDataSourceName);
+        if (null == defaultDataSource || null == dataSource.getSchema()) {
+            return null;
+        }
+        try {
+            HikariDataSource defaultPool = defaultDataSource.unwrap(HikariDataSource.class);
+            // the pool resets the schema of the returned connections only when it has a schema configured,
+            // and the tenant connections must not get the privileges of other credentials
+            if (null == defaultPool.getSchema() || !Objects.equals(defaultPool.getJdbcUrl(), dataSource.getUrl())
+                    || !Objects.equals(defaultPool.getDriverClassName(), dataSource.getDriver())
+                    || !Objects.equals(defaultPool.getUsername(), dataSource.getUsername())
+                    || !Objects.equals(defaultPool.getPassword(), dataSource.getPassword())) {
+                logger.debug("Data source [{}] does not match the pool of [{}], a dedicated pool will be created", dataSource.getName(),
+                        defaultDataSourceName);
+                return null;
+            }
+            logger.info("Data source [{}] shares the pool of [{}] with schema [{}]", dataSource.getName(), defaultDataSourceName,
+                    dataSource.getSchema());
+            return dataSourceFactory.createShared(defaultPool, dbType, dataSource.getSchema());
+        } catch (SQLException ex) {
+            logger.warn("The pool of [{}] cannot be shared, a dedicated pool will be created for [{}]", defaultDataSourceName,
+                    dataSource.getName(), ex);
+            return null;
+        }
+    }
+
+    /**
+     * Schedules the eviction of the tenant pools, which are idle for the given time.
+     *
+     * @param evictionSeconds the idle time in seconds, 0 disables the eviction
+     */
+    private void scheduleIdleTenantPoolsEviction(int evictionSeconds) {
+        if (evictionSeconds <= 0) {
+            return;
+        }
+        long idleMillis = TimeUnit.SECONDS.toMillis(evictionSeconds);
+        TimerTask evictionTask = new TimerTask() {
+            public void run() {
+                evictIdleTenantPools(idleMillis);
+            }
+        };
+        long periodMillis = Math.max(TimeUnit.SECONDS.toMillis(1), Math.min(idleMillis / 2, TimeUnit.MINUTES.toMillis(1)));
+        timer.schedule(evictionTask, periodMillis, periodMillis);
+    }
+
+    /**
+     * Evicts the tenant pools, which are idle for the given time. The data sources stay registered and
+     * their pools are recreated on the next connection request.
+     *
+     * @param idleMillis the idle time in milliseconds
+     */
+    void evictIdleTenantPools(long idleMillis) {
+        for (String name : EVICTABLE_DATASOURCES) {
+            try {
+                if (DATASOURCES.get(name) instanceof DirigibleDataSourceImpl dataSource) {
+                    dataSource.evictIfIdle(idleMillis);
+                }
+            } catch (RuntimeException ex) {
+                logger.error("Failed to evict the pool of data source [{}]", name, ex);
+            }
+        }
+    }
+
     private void scheduleDataSourceDestroy(String name, int duration, TimeUnit unit) {
         TimerTask repeatedTask = new TimerTask() {
             public void run() {
@@ -254,6 +364,25 @@ public class DataSourceInitializer {
      */
     public void removeInitializedDataSource(String dataSourceName) {
         String name = tenantDataSourceNameManager.getTenantDataSourceName(dataSourceName);
+        removeDataSource(name);
+        if (Objects.equals(defaultDataSourceName, name)) {
+            // the tenant data sources sharing the removed pool have to be initialized again
+            DATASOURCES.entrySet()
+                       .stream()
+                       .filter(e -> e.getValue() instanceof DirigibleDataSourceImpl impl && impl.isShared())
+                       .map(Map.Entry::getKey)
+                       .toList()
+                       .forEach(this::removeDataSource);
+        }
+    }
+
+    /**
+     * Removes the data source with the resolved name.
+     *
+     * @param name the name
+     */
+    private void removeDataSource(String name) {
+        EVICTABLE_DATASOURCES.remove(name);
         DirigibleDataSource removedDataSource = DATASOURCES.remove(name);
         logger.info("DataSource [{}] with name [{}] will be removed if exists...", removedDataSource, name);
         if (null != removedDataSource) {
@@ -88,8 +88,8 @@ public class DataSourcesManager {
      * @return the data source
      */
     public DirigibleDataSource getDataSource(String name) {
-        return dataSourceInitializer.isInitialized(name) ? dataSourceInitializer.getInitializedDataSource(name)
-                : dataSourceInitializer.initialize(getDataSourceDefinition(name));
+        DirigibleDataSource dataSource = dataSourceInitializer.getInitializedDataSource(name);
+        return null != dataSource ? dataSource : dataSourceInitializer.initialize(getDataSourceDefinition(name));
     }
 
     /**
@@ -1,5 +1,6 @@
 package org.eclipse.dirigible.components.data.sources.manager;
 
+import com.zaxxer.hikari.pool.LeakedConnectionsDoctor;
 import org.eclipse.dirigible.components.database.DatabaseSystem;
 import org.eclipse.dirigible.components.database.DirigibleConnection;
 
@@ -60,7 +61,11 @@ class DirigibleConnectionImpl implements DirigibleConnection {
 
     @Override
     public void close() throws SQLException {
-        connection.close();
+        try {
+            connection.close();
+        } finally {
+            LeakedConnectionsDoctor.unregisterConnection(connection);
+        }
     }
 
     @Override
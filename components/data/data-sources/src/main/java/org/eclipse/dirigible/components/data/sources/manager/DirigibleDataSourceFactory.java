@@ -1,3 +1,12 @@
+/*
+ * Copyright (c) 2010-2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
 package org.eclipse.dirigible.components.data.sources.manager;
 
 import com.zaxxer.hikari.HikariConfig;
@@ -30,4 +39,8 @@ class DirigibleDataSourceFactory {
 
         return dataSource;
     }
+
+    public DirigibleDataSource createShared(HikariDataSource sharedDataSource, DatabaseSystem databaseSystem, String schema) {
+        return new DirigibleDataSourceImpl(connectionEnhancers, sharedDataSource, databaseSystem, schema);
+    }
 }
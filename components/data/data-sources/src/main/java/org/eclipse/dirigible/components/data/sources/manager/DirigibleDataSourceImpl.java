@@ -9,7 +9,9 @@
  */
 package org.eclipse.dirigible.components.data.sources.manager;
 
+import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.LeakedConnectionsDoctor;
 import org.eclipse.dirigible.components.database.ConnectionEnhancer;
 import org.eclipse.dirigible.components.database.DatabaseSystem;
@@ -36,9 +38,23 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
     private static final Logger logger = LoggerFactory.getLogger(DirigibleDataSourceImpl.class);
 
     private final List<ConnectionEnhancer> connectionEnhancers;
-    private final HikariDataSource originalDataSource;
     private final DatabaseSystem databaseSystem;
 
+    /** The pool, null while evicted. */
+    private volatile HikariDataSource originalDataSource;
+
+    /** The configuration the pool is recreated from after an eviction, null for a shared pool. */
+    private final HikariConfig config;
+
+    /** The schema set on each connection of a shared pool. */
+    private final String schema;
+
+    /** The time of the last connection checkout. */
+    private volatile long lastUsed = System.currentTimeMillis();
+
+    /** Whether the data source is closed. */
+    private volatile boolean closed;
+
     /**
      * Wrapper of the default datasource provided by the underlying platform It has some fault tolerance
      * features, which are not available by default in the popular JDBC drivers.
@@ -48,6 +64,25 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     DirigibleDataSourceImpl(List<ConnectionEnhancer> allConnectionEnhancers, HikariDataSource originalDataSource,
             DatabaseSystem databaseSystem) {
+        this(allConnectionEnhancers, originalDataSource, databaseSystem, copyConfig(originalDataSource), null);
+    }
+
+    /**
+     * Wrapper of a pool owned by another data source. The connections are switched to the given schema
+     * on checkout and the pool is neither closed nor evicted by this data source.
+     *
+     * @param allConnectionEnhancers the connection enhancers
+     * @param sharedDataSource the shared pool
+     * @param databaseSystem database type
+     * @param schema the schema
+     */
+    DirigibleDataSourceImpl(List<ConnectionEnhancer> allConnectionEnhancers, HikariDataSource sharedDataSource,
+            DatabaseSystem databaseSystem, String schema) {
+        this(allConnectionEnhancers, sharedDataSource, databaseSystem, null, schema);
+    }
+
+    private DirigibleDataSourceImpl(List<ConnectionEnhancer> allConnectionEnhancers, HikariDataSource originalDataSource,
+            DatabaseSystem databaseSystem, HikariConfig config, String schema) {
         this.connectionEnhancers = allConnectionEnhancers.stream()
                                                          .filter(e -> e.isApplicable(databaseSystem))
                                                          .collect(Collectors.toList());
@@ -55,24 +90,138 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
                 allConnectionEnhancers.size(), databaseSystem, connectionEnhancers);
         this.originalDataSource = originalDataSource;
         this.databaseSystem = databaseSystem;
+        this.config = config;
+        this.schema = schema;
+    }
+
+    private static HikariConfig copyConfig(HikariDataSource dataSource) {
+        HikariConfig config = new HikariConfig();
+        dataSource.copyStateTo(config);
+        return config;
     }
 
     /**
-     * Gets the connection.
+     * Gets the pool, recreating it if it has been evicted.
      *
+     * @return the pool
+     */
+    private HikariDataSource getPool() {
+        HikariDataSource pool = originalDataSource;
+        if (pool == null) {
+            synchronized (this) {
+                pool = originalDataSource;
+                if (pool == null) {
+                    logger.info("Recreating the evicted pool [{}]", config.getPoolName());
+                    pool = new HikariDataSource(config);
+                    originalDataSource = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Gets a connection from the pool. A pool closed by a concurrent eviction is recreated once.
+     *
+     * @param checkout the checkout from a pool
      * @return the connection
      * @throws SQLException the SQL exception
      */
-    @Override
-    public DirigibleConnection getConnection() throws SQLException {
-        Connection connection = originalDataSource.getConnection();
+    private Connection getPooledConnection(Checkout checkout) throws SQLException {
+        lastUsed = System.currentTimeMillis();
+        HikariDataSource pool = getPool();
+        try {
+            return checkout.apply(pool);
+        } catch (SQLException ex) {
+            if (closed || config == null || !pool.isClosed()) {
+                throw ex;
+            }
+            return checkout.apply(getPool());
+        }
+    }
+
+    /**
+     * The checkout of a connection from a pool.
+     */
+    @FunctionalInterface
+    private interface Checkout {
 
+        /**
+         * Apply.
+         *
+         * @param pool the pool
+         * @return the connection
+         * @throws SQLException the SQL exception
+         */
+        Connection apply(HikariDataSource pool) throws SQLException;
+    }
+
+    private DirigibleConnection wrapConnection(Connection connection) throws SQLException {
+        if (schema != null) {
+            try {
+                connection.setSchema(schema);
+            } catch (SQLException ex) {
+                connection.close();
+                throw ex;
+            }
+        }
         enhanceConnection(connection);
         LeakedConnectionsDoctor.registerConnection(connection);
 
         return new DirigibleConnectionImpl(connection, databaseSystem);
     }
 
+    /**
+     * Closes the pool if it has no active connections and has not been used for the given time. The
+     * pool is recreated on the next connection request.
+     *
+     * @param idleMillis the idle time in milliseconds
+     * @return true, if the pool was evicted
+     */
+    synchronized boolean evictIfIdle(long idleMillis) {
+        HikariDataSource pool = originalDataSource;
+        if (closed || config == null || pool == null || System.currentTimeMillis() - lastUsed < idleMillis) {
+            return false;
+        }
+        HikariPoolMXBean poolBean = pool.getHikariPoolMXBean();
+        if (poolBean != null && poolBean.getActiveConnections() > 0) {
+            return false;
+        }
+        originalDataSource = null;
+        pool.close();
+        logger.info("Evicted the idle pool [{}]", config.getPoolName());
+        return true;
+    }
+
+    /**
+     * Checks if the pool is evicted.
+     *
+     * @return true, if evicted
+     */
+    boolean isEvicted() {
+        return originalDataSource == null;
+    }
+
+    /**
+     * Checks if the pool is owned by another data source.
+     *
+     * @return true, if shared
+     */
+    boolean isShared() {
+        return config == null;
+    }
+
+    /**
+     * Gets the connection.
+     *
+     * @return the connection
+     * @throws SQLException the SQL exception
+     */
+    @Override
+    public DirigibleConnection getConnection() throws SQLException {
+        return wrapConnection(getPooledConnection(HikariDataSource::getConnection));
+    }
+
     /**
      * Gets the connection.
      *
@@ -83,12 +232,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public DirigibleConnection getConnection(String username, String password) throws SQLException {
-        Connection connection = originalDataSource.getConnection(username, password);
-
-        enhanceConnection(connection);
-        LeakedConnectionsDoctor.registerConnection(connection);
-
-        return new DirigibleConnectionImpl(connection, databaseSystem);
+        return wrapConnection(getPooledConnection(pool -> pool.getConnection(username, password)));
     }
 
     private void enhanceConnection(Connection connection) throws SQLException {
@@ -105,7 +249,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public PrintWriter getLogWriter() throws SQLException {
-        return originalDataSource.getLogWriter();
+        return getPool().getLogWriter();
     }
 
     /**
@@ -116,7 +260,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public void setLogWriter(PrintWriter arg0) throws SQLException {
-        originalDataSource.setLogWriter(arg0);
+        getPool().setLogWriter(arg0);
     }
 
     /**
@@ -127,7 +271,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public int getLoginTimeout() throws SQLException {
-        return originalDataSource.getLoginTimeout();
+        return getPool().getLoginTimeout();
     }
 
     /**
@@ -138,7 +282,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public void setLoginTimeout(int arg0) throws SQLException {
-        originalDataSource.setLoginTimeout(arg0);
+        getPool().setLoginTimeout(arg0);
     }
 
     /**
@@ -150,7 +294,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public boolean isWrapperFor(Class<?> arg0) throws SQLException {
-        return originalDataSource.isWrapperFor(arg0);
+        return getPool().isWrapperFor(arg0);
     }
 
     /**
@@ -163,7 +307,7 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
      */
     @Override
     public <T> T unwrap(Class<T> arg0) throws SQLException {
-        return originalDataSource.unwrap(arg0);
+        return getPool().unwrap(arg0);
     }
 
     /**
@@ -188,7 +332,11 @@ class DirigibleDataSourceImpl implements DirigibleDataSource {
     }
 
     @Override
-    public void close() {
-        originalDataSource.close();
+    public synchronized void close() {
+        closed = true;
+        HikariDataSource pool = originalDataSource;
+        if (pool != null && !isShared()) {
+            pool.close();
+        }
     }
 }
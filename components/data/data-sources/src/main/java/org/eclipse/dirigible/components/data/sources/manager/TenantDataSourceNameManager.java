@@ -45,6 +45,20 @@ public class TenantDataSourceNameManager {
         return createName(tenant, dataSourceName);
     }
 
+    /**
+     * Checks if the data source belongs to the current non-default tenant.
+     *
+     * @param dataSourceName the data source name
+     * @return true, if is tenant data source
+     */
+    public boolean isTenantDataSource(String dataSourceName) {
+        if (isSystemDataSource(dataSourceName) || tenantContext.isNotInitialized()) {
+            return false;
+        }
+        Tenant tenant = tenantContext.getCurrentTenant();
+        return !tenant.isDefault() && isTenantDataSourceName(tenant, dataSourceName);
+    }
+
     /**
      * Checks if is system data source.
      *
@@ -61,4 +61,14 @@ public class DataSourceService extends BaseArtefactService<DataSource, Long> {
         dataSourceListeners.forEach(l -> l.onDelete(datasource));
     }
 
+    /**
+     * Checks if cacheable - not, as the properties are loaded lazily.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package com.zaxxer.hikari.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.management.ObjectName;
+
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The Class LeakedConnectionsDoctorTest.
+ */
+public class LeakedConnectionsDoctorTest {
+
+    /** The Constant MAX_IN_USE_MILLIS. */
+    private static final long MAX_IN_USE_MILLIS =
+            TimeUnit.SECONDS.toMillis(DirigibleConfig.LEAKED_CONNECTIONS_MAX_IN_USE_SECONDS.getIntValue());
+
+    /** The pools. */
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        pools.forEach(HikariDataSource::close);
+        LeakedConnectionsDoctor.setSampling(DirigibleConfig.LEAKED_CONNECTIONS_TRACKING_PERCENT.getIntValue(),
+                DirigibleConfig.LEAKED_CONNECTIONS_STACK_SAMPLING_PERCENT.getIntValue());
+    }
+
+    /**
+     * Concurrent borrows, returns and checks keep the tracking consistent and the leaked connections
+     * are closed with their origin.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testConcurrentTracking() throws Exception {
+        LeakedConnectionsDoctor.setSampling(100, 100);
+        HikariDataSource dataSource = createPool("LeakStressPool", 10);
+        int threads = 8;
+        int iterations = 300;
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger borrows = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            Future<?> checker = executor.submit(() -> {
+                while (running.get()) {
+                    LeakedConnectionsDoctor.closeLeakedConnections(System.currentTimeMillis());
+                }
+            });
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; j++) {
+                        Connection connection = dataSource.getConnection();
+                        LeakedConnectionsDoctor.registerConnection(connection);
+                        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+                            assertTrue(resultSet.next());
+                        } finally {
+                            connection.close();
+                            LeakedConnectionsDoctor.unregisterConnection(connection);
+                        }
+                        borrows.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(60, TimeUnit.SECONDS);
+            }
+            running.set(false);
+            checker.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(threads * iterations, borrows.get());
+        assertEquals(0, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakStressPool"));
+        assertEquals(0, LeakedConnectionsDoctor.getLeakedConnectionsCount("LeakStressPool"));
+
+        List<Connection> leaked = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Connection connection = dataSource.getConnection();
+            LeakedConnectionsDoctor.registerConnection(connection);
+            leaked.add(connection);
+        }
+        LeakedConnectionsDoctor.closeLeakedConnections(System.currentTimeMillis());
+        assertEquals(3, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakStressPool"));
+        List<LeakedConnectionsDoctor.HeldConnection> held = LeakedConnectionsDoctor.getHeldConnections(0)
+                                                                                   .stream()
+                                                                                   .filter(h -> h.poolName()
+                                                                                                 .equals("LeakStressPool"))
+                                                                                   .toList();
+        assertEquals(3, held.size());
+        held.forEach(h -> assertTrue(h.origin()
+                                      .startsWith(LeakedConnectionsDoctorTest.class.getName() + ".testConcurrentTracking"),
+                h.origin()));
+
+        LeakedConnectionsDoctor.closeLeakedConnections(System.currentTimeMillis() + MAX_IN_USE_MILLIS + 1000);
+        for (Connection connection : leaked) {
+            assertTrue(connection.isClosed());
+        }
+        assertEquals(0, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakStressPool"));
+        assertEquals(3, LeakedConnectionsDoctor.getLeakedConnectionsCount("LeakStressPool"));
+        ObjectName name = new ObjectName("org.eclipse.dirigible:type=LeakedConnections,pool=\"LeakStressPool\"");
+        assertEquals(3L, ManagementFactory.getPlatformMBeanServer()
+                                          .getAttribute(name, "LeakedConnections"));
+        assertEquals(Map.of(LeakedConnectionsDoctorTest.class.getName()
+                + ".testConcurrentTracking", 3L), LeakedConnectionsDoctor.getMetrics("LeakStressPool")
+                                                                         .getLeakedConnectionsByOrigin()
+                                                                         .entrySet()
+                                                                         .stream()
+                                                                         .collect(Collectors.toMap(e -> e.getKey()
+                                                                                                         .replaceAll(":\\d+$", ""),
+                                                                                 Map.Entry::getValue, Long::sum)));
+        assertEquals(0, dataSource.getHikariPoolMXBean()
+                                  .getActiveConnections());
+    }
+
+    /**
+     * Only the sampled connections are tracked and only the stack sampled ones have an origin.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSampling() throws Exception {
+        HikariDataSource dataSource = createPool("LeakSamplingPool", 2);
+        LeakedConnectionsDoctor.setSampling(0, 0);
+        try (Connection connection = dataSource.getConnection()) {
+            LeakedConnectionsDoctor.registerConnection(connection);
+            assertEquals(0, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakSamplingPool"));
+        }
+
+        LeakedConnectionsDoctor.setSampling(100, 0);
+        try (Connection connection = dataSource.getConnection()) {
+            LeakedConnectionsDoctor.registerConnection(connection);
+            assertEquals(1, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakSamplingPool"));
+            assertNull(LeakedConnectionsDoctor.getHeldConnections(0)
+                                              .stream()
+                                              .filter(h -> h.poolName()
+                                                            .equals("LeakSamplingPool"))
+                                              .findFirst()
+                                              .orElseThrow()
+                                              .origin());
+            LeakedConnectionsDoctor.unregisterConnection(connection);
+        }
+        assertEquals(0, LeakedConnectionsDoctor.getTrackedConnectionsCount("LeakSamplingPool"));
+    }
+
+    /**
+     * The listeners are notified of the tracked pools and leak origins, also of the ones tracked before
+     * they were added.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testPoolListener() throws Exception {
+        LeakedConnectionsDoctor.setSampling(100, 0);
+        HikariDataSource dataSource = createPool("LeakListenerPool", 2);
+        List<String> tracked = new CopyOnWriteArrayList<>();
+        LeakedConnectionsDoctor.PoolListener listener = new LeakedConnectionsDoctor.PoolListener() {
+
+            @Override
+            public void poolTracked(String poolName, LeakedConnectionsMXBean metrics) {
+                if (poolName.equals("LeakListenerPool")) {
+                    tracked.add("pool");
+                }
+            }
+
+            @Override
+            public void leakOriginTracked(String poolName, String origin, LeakedConnectionsMXBean metrics) {
+                if (poolName.equals("LeakListenerPool")) {
+                    tracked.add(origin + "=" + metrics.getLeakedConnectionsByOrigin()
+                                                      .get(origin));
+                }
+            }
+        };
+        LeakedConnectionsDoctor.addPoolListener(listener);
+        try {
+            Connection connection = dataSource.getConnection();
+            LeakedConnectionsDoctor.registerConnection(connection);
+            assertEquals(List.of("pool"), tracked);
+            assertEquals(1, LeakedConnectionsDoctor.getMetrics("LeakListenerPool")
+                                                   .getHeldConnections());
+
+            LeakedConnectionsDoctor.closeLeakedConnections(System.currentTimeMillis() + MAX_IN_USE_MILLIS + 1000);
+            assertTrue(connection.isClosed());
+            // the origin is notified once, before its first leak is counted
+            assertEquals(List.of("pool", "unknown=0"), tracked);
+            Connection other = dataSource.getConnection();
+            LeakedConnectionsDoctor.registerConnection(other);
+            LeakedConnectionsDoctor.closeLeakedConnections(System.currentTimeMillis() + MAX_IN_USE_MILLIS + 1000);
+            assertEquals(List.of("pool", "unknown=0"), tracked);
+            assertEquals(Map.of("unknown", 2L), LeakedConnectionsDoctor.getMetrics("LeakListenerPool")
+                                                                       .getLeakedConnectionsByOrigin());
+        } finally {
+            LeakedConnectionsDoctor.removePoolListener(listener);
+        }
+
+        tracked.clear();
+        LeakedConnectionsDoctor.addPoolListener(listener);
+        LeakedConnectionsDoctor.removePoolListener(listener);
+        assertEquals(List.of("pool", "unknown=2"), tracked);
+    }
+
+    /**
+     * Creates the pool.
+     *
+     * @param name the name
+     * @param size the size
+     * @return the hikari data source
+     */
+    private HikariDataSource createPool(String name, int size) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name);
+        config.setUsername("sa");
+        config.setPassword("");
+        config.setPoolName(name);
+        config.setMaximumPoolSize(size);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        pools.add(dataSource);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.data.sources.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.DirigibleConfig;
+import org.eclipse.dirigible.components.data.sources.domain.DataSource;
+import org.eclipse.dirigible.components.database.DatabaseSystem;
+import org.eclipse.dirigible.components.database.DirigibleDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * The Class DataSourceInitializerTest.
+ */
+public class DataSourceInitializerTest {
+
+    /** The created pools. */
+    private final AtomicInteger createdPools = new AtomicInteger();
+
+    /** The initializer. */
+    private DataSourceInitializer initializer;
+
+    /** The initialized names. */
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    public void setUp() {
+        TenantDataSourceNameManager nameManager = mock(TenantDataSourceNameManager.class);
+        when(nameManager.getTenantDataSourceName(anyString())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(nameManager.isTenantDataSource(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0)
+                                                                                             .startsWith("tenant1_"));
+        DirigibleDataSourceFactory factory = new DirigibleDataSourceFactory(List.of()) {
+            @Override
+            public DirigibleDataSource create(HikariConfig config, DatabaseSystem databaseSystem) {
+                createdPools.incrementAndGet();
+                return super.create(config, databaseSystem);
+            }
+        };
+        initializer = new DataSourceInitializer(new GenericApplicationContext(), List.of(), nameManager, "SystemDB", "DefaultDB", factory);
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterEach
+    public void tearDown() {
+        names.forEach(initializer::removeInitializedDataSource);
+    }
+
+    /**
+     * Concurrent initialization creates a single pool.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSingleFlightInitialization() throws Exception {
+        DataSource definition = definition("SingleFlightDB");
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<DirigibleDataSource>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return initializer.initialize(definition);
+                }));
+            }
+            start.countDown();
+            DirigibleDataSource first = futures.get(0)
+                                               .get(30, TimeUnit.SECONDS);
+            for (Future<DirigibleDataSource> future : futures) {
+                assertSame(first, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, createdPools.get());
+    }
+
+    /**
+     * Tenant pools are sized with the tenant defaults and the idle ones are evicted and recreated on
+     * demand.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testTenantPoolEviction() throws Exception {
+        DirigibleDataSource tenantDataSource = initializer.initialize(definition("tenant1_EvictionDB"));
+        DirigibleDataSource dataSource = initializer.initialize(definition("EvictionDB"));
+        HikariDataSource tenantPool = tenantDataSource.unwrap(HikariDataSource.class);
+        assertEquals(10, tenantPool.getMaximumPoolSize());
+        assertEquals(0, tenantPool.getMinimumIdle());
+        assertEquals(20, dataSource.unwrap(HikariDataSource.class)
+                                   .getMaximumPoolSize());
+
+        try (Connection connection = tenantDataSource.getConnection()) {
+            initializer.evictIdleTenantPools(0);
+            assertFalse(((DirigibleDataSourceImpl) tenantDataSource).isEvicted(), "A pool with active connections is evicted");
+        }
+        initializer.evictIdleTenantPools(0);
+        assertTrue(((DirigibleDataSourceImpl) tenantDataSource).isEvicted());
+        assertTrue(tenantPool.isClosed());
+        assertFalse(((DirigibleDataSourceImpl) dataSource).isEvicted(), "A non-tenant pool is evicted");
+
+        try (Connection connection = tenantDataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery("SELECT 1")) {
+            assertTrue(resultSet.next());
+        }
+        assertFalse(((DirigibleDataSourceImpl) tenantDataSource).isEvicted());
+        assertSame(tenantDataSource, initializer.getInitializedDataSource("tenant1_EvictionDB"));
+    }
+
+    /**
+     * Tenant data sources share the pool of the default data source only with the same url, driver and
+     * credentials, their connections are switched to the tenant schema and reset when returned.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSharedTenantPool() throws Exception {
+        Configuration.set(DirigibleConfig.TENANT_DATABASE_SHARED_POOL.getKey(), Boolean.TRUE.toString());
+        // a single connection, so that the tenant and the default data sources get the same one
+        Configuration.set("DefaultDB_HIKARI_maximumPoolSize", "1");
+        try {
+            DataSource defaultDefinition = definition("DefaultDB");
+            defaultDefinition.setSchema("PUBLIC");
+            DirigibleDataSource defaultDataSource = initializer.initialize(defaultDefinition);
+            try (Connection connection = defaultDataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("CREATE SCHEMA IF NOT EXISTS TENANT1");
+            }
+
+            DataSource tenantDefinition = definition("tenant1_SharedDB");
+            tenantDefinition.setUrl(defaultDefinition.getUrl());
+            tenantDefinition.setSchema("TENANT1");
+            DirigibleDataSource tenantDataSource = initializer.initialize(tenantDefinition);
+            assertTrue(((DirigibleDataSourceImpl) tenantDataSource).isShared());
+            assertEquals(1, createdPools.get());
+            try (Connection connection = tenantDataSource.getConnection()) {
+                assertEquals("TENANT1", connection.getSchema());
+            }
+            try (Connection connection = defaultDataSource.getConnection()) {
+                assertEquals("PUBLIC", connection.getSchema(), "The schema of a returned tenant connection is not reset");
+            }
+
+            // H2 accepts the user name in any case, but the pool is shared only for the same one
+            DataSource otherUserDefinition = definition("tenant1_OtherUserDB");
+            otherUserDefinition.setUrl(defaultDefinition.getUrl());
+            otherUserDefinition.setUsername("SA");
+            otherUserDefinition.setSchema("TENANT1");
+            DirigibleDataSource otherUserDataSource = initializer.initialize(otherUserDefinition);
+            assertFalse(((DirigibleDataSourceImpl) otherUserDataSource).isShared());
+            assertEquals(2, createdPools.get());
+
+            // the open connection of the default pool keeps working after the password change
+            try (Connection connection = defaultDataSource.getConnection(); Statement statement = connection.createStatement()) {
+                statement.execute("ALTER USER SA SET PASSWORD 'other'");
+            }
+            DataSource otherPasswordDefinition = definition("tenant1_OtherPasswordDB");
+            otherPasswordDefinition.setUrl(defaultDefinition.getUrl());
+            otherPasswordDefinition.setPassword("other");
+            otherPasswordDefinition.setSchema("TENANT1");
+            assertFalse(((DirigibleDataSourceImpl) initializer.initialize(otherPasswordDefinition)).isShared());
+        } finally {
+            Configuration.remove(DirigibleConfig.TENANT_DATABASE_SHARED_POOL.getKey());
+            Configuration.remove("DefaultDB_HIKARI_maximumPoolSize");
+        }
+    }
+
+    /**
+     * Definition.
+     *
+     * @param name the name
+     * @return the data source
+     */
+    private DataSource definition(String name) {
+        names.add(name);
+        return new DataSource("/test/" + name + ".datasource", name, null, "org.h2.Driver", "jdbc:h2:mem:" + name, "sa", "");
+    }
+
+}
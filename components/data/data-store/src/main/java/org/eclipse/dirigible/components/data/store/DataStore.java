@@ -16,6 +16,7 @@ import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.sql.DataSource;
 import org.apache.commons.io.IOUtils;
 import org.eclipse.dirigible.components.base.helpers.JsonHelper;
@@ -39,7 +40,7 @@ import jakarta.persistence.Query;
 public class DataStore {
 
     /** The session factory. */
-    private SessionFactory sessionFactory;
+    private volatile SessionFactory sessionFactory;
 
     /** The datasources manager. */
     private final DataSourcesManager datasourcesManager;
@@ -47,8 +48,8 @@ public class DataStore {
     /** The data source. */
     private DataSource dataSource;
 
-    /** The mappings. */
-    private final Map<String, String> mappings = new HashMap<>();
+    /** The mappings, which may be changed while the store is being initialized. */
+    private final Map<String, String> mappings = new ConcurrentHashMap<>();
 
     /**
      * Instantiates a new object store.
@@ -119,7 +120,7 @@ public class DataStore {
                                                          .setProperty("hibernate.current_session_context_class",
                                                                  "org.hibernate.context.internal.ThreadLocalSessionContext");
 
-        mappings.forEach((k, v) -> addInputStreamToConfig(configuration, k, v));
+        new HashMap<>(mappings).forEach((k, v) -> addInputStreamToConfig(configuration, k, v));
 
         StandardServiceRegistryBuilder serviceRegistryBuilder = new StandardServiceRegistryBuilder();
         serviceRegistryBuilder.applySetting(Environment.DATASOURCE, getDataSource());
@@ -31,4 +31,14 @@ public class SchemaService extends BaseArtefactService<Schema, Long> {
         super(repository);
     }
 
+    /**
+     * Checks if cacheable - not, as the tables and views are loaded lazily.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
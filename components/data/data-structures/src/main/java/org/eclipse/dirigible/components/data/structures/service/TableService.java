@@ -31,4 +31,14 @@ public class TableService extends BaseArtefactService<Table, Long> {
         super(repository);
     }
 
+    /**
+     * Checks if cacheable - not, as the columns, indexes and constraints are loaded lazily.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
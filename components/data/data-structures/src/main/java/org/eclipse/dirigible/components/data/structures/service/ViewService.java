@@ -31,4 +31,14 @@ public class ViewService extends BaseArtefactService<View, Long> {
         super(repository);
     }
 
+    /**
+     * Checks if cacheable - not, as the schema references lazily loaded tables and views.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
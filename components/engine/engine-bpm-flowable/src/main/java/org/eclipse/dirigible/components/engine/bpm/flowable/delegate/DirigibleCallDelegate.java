@@ -13,6 +13,7 @@ import jakarta.annotation.Nullable;
 import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
 import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ExecutionData;
 import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptRunnerPool;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
 import org.flowable.engine.delegate.BpmnError;
 import org.flowable.engine.delegate.DelegateExecution;
@@ -227,7 +228,8 @@ public class DirigibleCallDelegate implements JavaDelegate {
     }
 
     /**
-     * Execute JS handler.
+     * Execute JS handler. The handlers exporting the method to be called are run on a pooled runner,
+     * the plain scripts are evaluated in a new runner each time.
      *
      * @param context the context
      */
@@ -235,20 +237,33 @@ public class DirigibleCallDelegate implements JavaDelegate {
         RepositoryPath path = new RepositoryPath(handler.getExpressionText());
         JSTask task = JSTask.fromRepositoryPath(path);
 
-        try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(context, false)) {
-            Source source = runner.prepareSource(task.getSourceFilePath());
-            Value value = runner.run(source);
-
-            if (task.hasExportedClassAndMethod()) {
-                value.getMember(task.getClassName())
-                     .newInstance()
-                     .getMember(task.getMethodName())
-                     .executeVoid();
-            } else if (task.hasExportedMethod()) {
-                value.getMember(task.getMethodName())
-                     .executeVoid();
+        if (!task.hasExportedMethod() && !task.hasExportedClassAndMethod()) {
+            try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(context, false)) {
+                Source source = runner.prepareSource(task.getSourceFilePath());
+                runner.run(source);
             }
+            return;
+        }
 
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(task.getSourceFilePath())) {
+            lease.getContext()
+                 .putAll(context);
+            Value value = lease.getModule()
+                               .module();
+            try {
+                if (task.hasExportedClassAndMethod()) {
+                    value.getMember(task.getClassName())
+                         .newInstance()
+                         .getMember(task.getMethodName())
+                         .executeVoid();
+                } else {
+                    value.getMember(task.getMethodName())
+                         .executeVoid();
+                }
+            } catch (RuntimeException e) {
+                lease.discard();
+                throw e;
+            }
         }
     }
 
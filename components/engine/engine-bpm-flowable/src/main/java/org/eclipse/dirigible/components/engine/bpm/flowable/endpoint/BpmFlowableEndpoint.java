@@ -26,7 +26,6 @@ import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.engine.*;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.repository.ProcessDefinition;
-import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.IdentityLinkInfo;
 import org.flowable.image.ProcessDiagramGenerator;
 import org.flowable.job.api.Job;
@@ -70,6 +69,12 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
      */
     private static final Logger logger = LoggerFactory.getLogger(BpmFlowableEndpoint.class);
 
+    /** The ascending order. */
+    private static final String ORDER_ASC = "asc";
+
+    /** The descending order. */
+    private static final String ORDER_DESC = "desc";
+
     /**
      * The bpm provider flowable.
      */
@@ -193,11 +198,40 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
     /**
      * Gets the process definitions.
      *
+     * @param condition the key pattern
+     * @param offset the offset
+     * @param limit the limit
+     * @param order the order
      * @return the process definitions
      */
     @GetMapping(value = "/bpm-processes/definitions")
-    public ResponseEntity<List<ProcessDefinitionData>> getProcessDefinitions() {
-        return ResponseEntity.ok(getBpmService().getProcessDefinitions());
+    public ResponseEntity<List<ProcessDefinitionData>> getProcessDefinitions(
+            @Nullable @RequestParam("condition") Optional<String> condition,
+            @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "order", required = false, defaultValue = ORDER_ASC) String order) {
+        return ResponseEntity.ok(getBpmService().getProcessDefinitions(condition, offset, limit, isAscending(order)));
+    }
+
+    /**
+     * Counts the process definitions.
+     *
+     * @param condition the key pattern
+     * @return the count
+     */
+    @GetMapping(value = "/bpm-processes/definitions/count")
+    public ResponseEntity<Long> countProcessDefinitions(@Nullable @RequestParam("condition") Optional<String> condition) {
+        return ResponseEntity.ok(getBpmService().countProcessDefinitions(condition));
+    }
+
+    /**
+     * Checks if the order is ascending.
+     *
+     * @param order the order
+     * @return true, if ascending
+     */
+    private static boolean isAscending(String order) {
+        return !ORDER_DESC.equalsIgnoreCase(order);
     }
 
     /**
@@ -223,25 +257,66 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
      *
      * @param businessKey the business key
      * @param key the key
+     * @param offset the offset
+     * @param limit the limit
+     * @param order the order by start time
      * @return the processes keys
      */
     @GetMapping(value = "/bpm-processes/instances")
     public ResponseEntity<List<ProcessInstanceData>> getProcessesInstances(@Nullable @RequestParam("id") Optional<String> businessKey,
+            @Nullable @RequestParam("key") Optional<String> key,
+            @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "order", required = false, defaultValue = ORDER_DESC) String order) {
+        return ResponseEntity.ok(getBpmService().getProcessInstances(key, businessKey, offset, limit, isAscending(order)));
+    }
+
+    /**
+     * Counts the process instances.
+     *
+     * @param businessKey the business key
+     * @param key the key
+     * @return the count
+     */
+    @GetMapping(value = "/bpm-processes/instances/count")
+    public ResponseEntity<Long> countProcessesInstances(@Nullable @RequestParam("id") Optional<String> businessKey,
             @Nullable @RequestParam("key") Optional<String> key) {
-        return ResponseEntity.ok(getBpmService().getProcessInstances(key, businessKey));
+        return ResponseEntity.ok(getBpmService().countProcessInstances(key, businessKey));
     }
 
     /**
      * Gets the completed historic process instances.
      *
+     * @param definitionKey the definition key
+     * @param businessKey the business key
+     * @param offset the offset
+     * @param limit the limit
+     * @param order the order by end time
      * @return the process instances
      */
     @GetMapping(value = "/bpm-processes/historic-instances")
     public ResponseEntity<List<HistoricProcessInstance>> getHistoricProcessesInstances(
             @Nullable @RequestParam("definitionKey") Optional<String> definitionKey,
-            @Nullable @RequestParam("businessKey") Optional<String> businessKey) {
+            @Nullable @RequestParam("businessKey") Optional<String> businessKey,
+            @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "order", required = false, defaultValue = ORDER_DESC) String order) {
 
-        return ResponseEntity.ok(getBpmService().getCompletedProcessInstances(definitionKey, businessKey));
+        return ResponseEntity.ok(
+                getBpmService().getCompletedProcessInstances(definitionKey, businessKey, offset, limit, isAscending(order)));
+    }
+
+    /**
+     * Counts the completed historic process instances.
+     *
+     * @param definitionKey the definition key
+     * @param businessKey the business key
+     * @return the count
+     */
+    @GetMapping(value = "/bpm-processes/historic-instances/count")
+    public ResponseEntity<Long> countHistoricProcessesInstances(@Nullable @RequestParam("definitionKey") Optional<String> definitionKey,
+            @Nullable @RequestParam("businessKey") Optional<String> businessKey) {
+        return ResponseEntity.ok(getBpmService().countCompletedProcessInstances(definitionKey, businessKey));
     }
 
     /**
@@ -308,7 +383,7 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
     }
 
     private TaskDTO mapToDTO(Task task) {
-        List<IdentityLink> identityLinks = getTaskService().getIdentityLinksForTask(task.getId());
+        List<? extends IdentityLinkInfo> identityLinks = task.getIdentityLinks();
 
         TaskDTO dto = new TaskDTO();
         dto.setId(task.getId());
@@ -335,14 +410,22 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
     }
 
     @GetMapping(value = "/bpm-processes/tasks")
-    public ResponseEntity<List<TaskDTO>> getTasks(@RequestParam(value = "type", required = false) String type) {
-        List<TaskDTO> taskDTOS = taskQueryExecutor.findTasks(extractPrincipalType(type))
+    public ResponseEntity<List<TaskDTO>> getTasks(@RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "offset", required = false, defaultValue = "0") int offset,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "order", required = false, defaultValue = ORDER_DESC) String order) {
+        List<TaskDTO> taskDTOS = taskQueryExecutor.findTasks(extractPrincipalType(type), offset, limit, isAscending(order))
                                                   .stream()
                                                   .map(this::mapToDTO)
                                                   .collect(Collectors.toList());
         return ResponseEntity.ok(taskDTOS);
     }
 
+    @GetMapping(value = "/bpm-processes/tasks/count")
+    public ResponseEntity<Long> countTasks(@RequestParam(value = "type", required = false) String type) {
+        return ResponseEntity.ok(taskQueryExecutor.countTasks(extractPrincipalType(type)));
+    }
+
     @GetMapping(value = "/bpm-processes/tasks/{taskId}/variables")
     public ResponseEntity<?> getTaskVariables(@PathVariable("taskId") String taskId) {
         TaskService taskService = getTaskService();
@@ -383,29 +466,12 @@ public class BpmFlowableEndpoint extends BaseEndpoint {
     }
 
     private void verifyCurrentUserHasPermissionForTask(String id) {
-        Set<String> userTaskIds = getUserTaskIds();
-        if (!userTaskIds.contains(id)) {
+        if (!taskQueryExecutor.hasTask(id)) {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN,
                     "Current user [" + UserFacade.getName() + "] doesn't have permissions for task with id " + id);
         }
     }
 
-    private Set<String> getUserTaskIds() {
-        Set<String> userRolesTasks = taskQueryExecutor.findTasks(Type.CANDIDATE_GROUPS)
-                                                      .stream()
-                                                      .map(Task::getId)
-                                                      .collect(Collectors.toSet());
-
-        Set<String> userAssignedTasks = taskQueryExecutor.findTasks(Type.ASSIGNEE)
-                                                         .stream()
-                                                         .map(Task::getId)
-                                                         .collect(Collectors.toSet());
-
-        Set<String> allTasks = new HashSet<>(userRolesTasks);
-        allTasks.addAll(userAssignedTasks);
-        return Collections.unmodifiableSet(allTasks);
-    }
-
     /**
      * Add or update active process instance variable.
      *
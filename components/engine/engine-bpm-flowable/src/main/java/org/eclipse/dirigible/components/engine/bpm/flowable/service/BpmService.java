@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Optional;
 
 import org.apache.commons.io.IOUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ProcessDefinitionData;
 import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ProcessInstanceData;
 import org.eclipse.dirigible.components.engine.bpm.flowable.provider.BpmProviderFlowable;
@@ -34,6 +35,7 @@ import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.history.HistoricProcessInstanceQuery;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.repository.ProcessDefinitionQuery;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.runtime.ProcessInstanceQuery;
 import org.flowable.job.api.Job;
@@ -60,6 +62,12 @@ public class BpmService {
     /** The Constant DIRIGIBLE_BPM_INTERNAL_SKIP_STEP. */
     public static final String DIRIGIBLE_BPM_INTERNAL_SKIP_STEP = "DIRIGIBLE_BPM_INTERNAL_SKIP_STEP";
 
+    /** The maximum number of entries returned by a single BPM query. */
+    public static final String DIRIGIBLE_BPM_QUERY_LIMIT = "DIRIGIBLE_BPM_QUERY_LIMIT";
+
+    /** The Constant DEFAULT_BPM_QUERY_LIMIT. */
+    private static final int DEFAULT_BPM_QUERY_LIMIT = 1000;
+
     /** The workspace service. */
     private WorkspaceService workspaceService;
 
@@ -190,16 +198,25 @@ public class BpmService {
     }
 
     /**
-     * Gets the process definitions.
+     * Gets a page of the process definitions.
      *
+     * @param condition the key or name pattern
+     * @param offset the offset
+     * @param limit the limit
+     * @param ascending the order
      * @return the process definitions
      */
-    public List<ProcessDefinitionData> getProcessDefinitions() {
-        ProcessEngine processEngine = ((ProcessEngine) getBpmProviderFlowable().getProcessEngine());
-
-        List<ProcessDefinition> processDefinitions = processEngine.getRepositoryService()
-                                                                  .createProcessDefinitionQuery()
-                                                                  .list();
+    public List<ProcessDefinitionData> getProcessDefinitions(Optional<String> condition, int offset, Integer limit, boolean ascending) {
+        ProcessDefinitionQuery processDefinitionQuery = createProcessDefinitionQuery(condition).orderByProcessDefinitionKey();
+        if (ascending) {
+            processDefinitionQuery.asc();
+        } else {
+            processDefinitionQuery.desc();
+        }
+        List<ProcessDefinition> processDefinitions = processDefinitionQuery.orderByProcessDefinitionVersion()
+                                                                           .desc()
+                                                                           .listPage(offset, getLimit(limit));
+        checkTruncated("process definitions", processDefinitions, limit);
 
         List<ProcessDefinitionData> results = new ArrayList<ProcessDefinitionData>();
         for (ProcessDefinition processDefinition : processDefinitions) {
@@ -209,6 +226,33 @@ public class BpmService {
         return results;
     }
 
+    /**
+     * Counts the process definitions.
+     *
+     * @param condition the key or name pattern
+     * @return the count
+     */
+    public long countProcessDefinitions(Optional<String> condition) {
+        return createProcessDefinitionQuery(condition).count();
+    }
+
+    /**
+     * Creates the process definition query.
+     *
+     * @param condition the key or name pattern
+     * @return the process definition query
+     */
+    private ProcessDefinitionQuery createProcessDefinitionQuery(Optional<String> condition) {
+        ProcessDefinitionQuery processDefinitionQuery = getBpmProviderFlowable().getProcessEngine()
+                                                                                .getRepositoryService()
+                                                                                .createProcessDefinitionQuery();
+        if (condition.isPresent() && !condition.get()
+                                               .isEmpty()) {
+            processDefinitionQuery.processDefinitionKeyLike("%" + condition.get() + "%");
+        }
+        return processDefinitionQuery;
+    }
+
     /**
      * Gets the process definition by key.
      *
@@ -252,14 +296,56 @@ public class BpmService {
     }
 
     /**
-     * Gets the process instances.
+     * Gets a page of the process instances.
      *
+     * @param key the process definition key
+     * @param businessKey the business key pattern
+     * @param offset the offset
+     * @param limit the limit
+     * @param ascending the order by start time
      * @return the process instances
      */
-    public List<ProcessInstanceData> getProcessInstances(Optional<String> key, Optional<String> businessKey) {
-        ProcessEngine processEngine = ((ProcessEngine) getBpmProviderFlowable().getProcessEngine());
-        ProcessInstanceQuery processInstanceQuery = processEngine.getRuntimeService()
-                                                                 .createProcessInstanceQuery();
+    public List<ProcessInstanceData> getProcessInstances(Optional<String> key, Optional<String> businessKey, int offset, Integer limit,
+            boolean ascending) {
+        ProcessInstanceQuery processInstanceQuery = createProcessInstanceQuery(key, businessKey).orderByStartTime();
+        if (ascending) {
+            processInstanceQuery.asc();
+        } else {
+            processInstanceQuery.desc();
+        }
+        List<ProcessInstance> processInstances = processInstanceQuery.listPage(offset, getLimit(limit));
+        checkTruncated("process instances", processInstances, limit);
+
+        List<ProcessInstanceData> results = new ArrayList<ProcessInstanceData>();
+        for (ProcessInstance processInstance : processInstances) {
+            ProcessInstanceData processInstanceData = mapProcessInstance(processInstance);
+            results.add(processInstanceData);
+        }
+        return results;
+    }
+
+    /**
+     * Counts the process instances.
+     *
+     * @param key the process definition key
+     * @param businessKey the business key pattern
+     * @return the count
+     */
+    public long countProcessInstances(Optional<String> key, Optional<String> businessKey) {
+        return createProcessInstanceQuery(key, businessKey).count();
+    }
+
+    /**
+     * Creates the process instance query.
+     *
+     * @param key the process definition key
+     * @param businessKey the business key pattern
+     * @return the process instance query
+     */
+    private ProcessInstanceQuery createProcessInstanceQuery(Optional<String> key, Optional<String> businessKey) {
+        ProcessInstanceQuery processInstanceQuery = getBpmProviderFlowable().getProcessEngine()
+                                                                            .getRuntimeService()
+                                                                            .createProcessInstanceQuery();
 
         if (key.isPresent() && !key.get()
                                    .isEmpty()) {
@@ -270,15 +356,7 @@ public class BpmService {
                                                    .isEmpty()) {
             processInstanceQuery.processInstanceBusinessKeyLike("%" + businessKey.get() + "%");
         }
-
-        List<ProcessInstance> processInstances = processInstanceQuery.list();
-
-        List<ProcessInstanceData> results = new ArrayList<ProcessInstanceData>();
-        for (ProcessInstance processInstance : processInstances) {
-            ProcessInstanceData processInstanceData = mapProcessInstance(processInstance);
-            results.add(processInstanceData);
-        }
-        return results;
+        return processInstanceQuery;
     }
 
     /**
@@ -347,11 +425,46 @@ public class BpmService {
     }
 
     /**
-     * Gets the completed historic process instances.
+     * Gets a page of the completed historic process instances.
      *
+     * @param definitionKey the process definition key
+     * @param businessKey the business key pattern
+     * @param offset the offset
+     * @param limit the limit
+     * @param ascending the order by end time
      * @return the process instances
      */
-    public List<HistoricProcessInstance> getCompletedProcessInstances(Optional<String> definitionKey, Optional<String> businessKey) {
+    public List<HistoricProcessInstance> getCompletedProcessInstances(Optional<String> definitionKey, Optional<String> businessKey,
+            int offset, Integer limit, boolean ascending) {
+        HistoricProcessInstanceQuery historicProcessInstanceQuery =
+                createCompletedProcessInstanceQuery(definitionKey, businessKey).orderByProcessInstanceEndTime();
+        if (ascending) {
+            historicProcessInstanceQuery.asc();
+        } else {
+            historicProcessInstanceQuery.desc();
+        }
+        return checkTruncated("historic process instances", historicProcessInstanceQuery.listPage(offset, getLimit(limit)), limit);
+    }
+
+    /**
+     * Counts the completed historic process instances.
+     *
+     * @param definitionKey the process definition key
+     * @param businessKey the business key pattern
+     * @return the count
+     */
+    public long countCompletedProcessInstances(Optional<String> definitionKey, Optional<String> businessKey) {
+        return createCompletedProcessInstanceQuery(definitionKey, businessKey).count();
+    }
+
+    /**
+     * Creates the completed historic process instance query.
+     *
+     * @param definitionKey the process definition key
+     * @param businessKey the business key pattern
+     * @return the historic process instance query
+     */
+    private HistoricProcessInstanceQuery createCompletedProcessInstanceQuery(Optional<String> definitionKey, Optional<String> businessKey) {
         HistoricProcessInstanceQuery historicProcessInstanceQuery = getBpmProviderFlowable().getProcessEngine()
                                                                                             .getHistoryService()
                                                                                             .createHistoricProcessInstanceQuery();
@@ -365,8 +478,49 @@ public class BpmService {
                                                    .isEmpty()) {
             historicProcessInstanceQuery.processInstanceBusinessKeyLike("%" + businessKey.get() + "%");
         }
-        return historicProcessInstanceQuery.finished()
-                                           .list();
+        return historicProcessInstanceQuery.finished();
+    }
+
+    /**
+     * Gets the page size - the requested limit, bounded by the configured maximum.
+     *
+     * @param limit the requested limit or null
+     * @return the limit
+     */
+    public static int getLimit(Integer limit) {
+        int max = getMaxLimit();
+        if (limit == null || limit <= 0) {
+            return max;
+        }
+        return Math.min(limit, max);
+    }
+
+    /**
+     * Checks whether a page has been cut by the configured maximum instead of by the requested limit
+     * and logs a warning, as then the caller may not get all the entries it asked for.
+     *
+     * @param <T> the entry type
+     * @param query the query name
+     * @param page the page
+     * @param limit the requested limit or null
+     * @return the page
+     */
+    public static <T> List<T> checkTruncated(String query, List<T> page, Integer limit) {
+        int max = getMaxLimit();
+        if (page.size() >= max && (limit == null || limit <= 0 || limit > max)) {
+            logger.warn("The {} query was truncated to [{}] entries by {}, use offset and limit to get the rest", query, max,
+                    DIRIGIBLE_BPM_QUERY_LIMIT);
+        }
+        return page;
+    }
+
+    /**
+     * Gets the configured maximum page size.
+     *
+     * @return the maximum page size
+     */
+    private static int getMaxLimit() {
+        return Configuration.getAsInt(DIRIGIBLE_BPM_QUERY_LIMIT, DEFAULT_BPM_QUERY_LIMIT);
     }
 
     /**
@@ -36,18 +36,56 @@ public record TaskQueryExecutor(BpmService bpmService) {
     public List<Task> findTasks(String processInstanceId, Type type) {
         TaskInfoQuery<TaskQuery, Task> taskQuery = prepareQuery(type);
         taskQuery.processInstanceId(processInstanceId);
-        return taskQuery.list();
+        return taskQuery.includeIdentityLinks()
+                        .list();
     }
 
     /**
-     * Find tasks.
+     * Find a page of tasks, ordered by create time. The identity links are fetched with the tasks, the
+     * variables are not loaded.
      *
      * @param type the type
+     * @param offset the offset
+     * @param limit the limit
+     * @param ascending the order
      * @return the list
      */
-    public List<Task> findTasks(Type type) {
-        TaskInfoQuery<TaskQuery, Task> taskQuery = prepareQuery(type);
-        return taskQuery.list();
+    public List<Task> findTasks(Type type, int offset, Integer limit, boolean ascending) {
+        TaskInfoQuery<TaskQuery, Task> taskQuery = prepareQuery(type).orderByTaskCreateTime();
+        if (ascending) {
+            taskQuery.asc();
+        } else {
+            taskQuery.desc();
+        }
+        List<Task> tasks = taskQuery.includeIdentityLinks()
+                                    .listPage(offset, BpmService.getLimit(limit));
+        return BpmService.checkTruncated("tasks", tasks, limit);
+    }
+
+    /**
+     * Count tasks.
+     *
+     * @param type the type
+     * @return the count
+     */
+    public long countTasks(Type type) {
+        return prepareQuery(type).count();
+    }
+
+    /**
+     * Checks whether the task is assigned to the current user or to one of its groups.
+     *
+     * @param taskId the task id
+     * @return true, if the current user has the task
+     */
+    public boolean hasTask(String taskId) {
+        for (Type type : Type.values()) {
+            if (prepareQuery(type).taskId(taskId)
+                                  .count() > 0) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private TaskInfoQuery<TaskQuery, Task> prepareQuery(Type type) {
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.bpm.flowable.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ProcessDefinitionData;
+import org.eclipse.dirigible.components.engine.bpm.flowable.dto.ProcessInstanceData;
+import org.eclipse.dirigible.components.engine.bpm.flowable.provider.BpmProviderFlowable;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.RepositoryService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The Class BpmServiceTest.
+ */
+class BpmServiceTest {
+
+    /** The number of the deployed processes. */
+    private static final int PROCESSES = 5;
+
+    /** The process template. */
+    private static final String PROCESS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+            + "<definitions xmlns=\"http://www.omg.org/spec/BPMN/20100524/MODEL\" targetNamespace=\"test\">"
+            + "<process id=\"process%d\" isExecutable=\"true\"><startEvent id=\"start\"/>"
+            + "<sequenceFlow id=\"toTask\" sourceRef=\"start\" targetRef=\"task\"/><userTask id=\"task\"/>"
+            + "<sequenceFlow id=\"toEnd\" sourceRef=\"task\" targetRef=\"end\"/><endEvent id=\"end\"/></process></definitions>";
+
+    /** The process engine. */
+    private static ProcessEngine processEngine;
+
+    /** The bpm service. */
+    private static BpmService bpmService;
+
+    /**
+     * Sets up the in-memory process engine with the processes and one instance of each.
+     */
+    @BeforeAll
+    static void setUp() {
+        processEngine = ProcessEngineConfiguration.createStandaloneInMemProcessEngineConfiguration()
+                                                  .setJdbcUrl("jdbc:h2:mem:bpm-service-test;DB_CLOSE_DELAY=-1")
+                                                  .buildProcessEngine();
+        RepositoryService repositoryService = processEngine.getRepositoryService();
+        for (int i = 0; i < PROCESSES; i++) {
+            repositoryService.createDeployment()
+                             .addString("process" + i + ".bpmn20.xml", String.format(PROCESS, i))
+                             .deploy();
+            processEngine.getRuntimeService()
+                         .startProcessInstanceByKey("process" + i, "business" + i);
+        }
+        BpmProviderFlowable bpmProviderFlowable = mock(BpmProviderFlowable.class);
+        when(bpmProviderFlowable.getProcessEngine()).thenReturn(processEngine);
+        bpmService = new BpmService(null, bpmProviderFlowable);
+    }
+
+    /**
+     * Tear down.
+     */
+    @AfterAll
+    static void tearDown() {
+        processEngine.close();
+    }
+
+    /**
+     * Resets the limit.
+     */
+    @AfterEach
+    void resetLimit() {
+        Configuration.remove(BpmService.DIRIGIBLE_BPM_QUERY_LIMIT);
+    }
+
+    /**
+     * Test the first and the last pages of the process definitions in both orders.
+     */
+    @Test
+    void testProcessDefinitionsPages() {
+        assertEquals(List.of("process0", "process1"), keys(bpmService.getProcessDefinitions(Optional.empty(), 0, 2, true)));
+        assertEquals(List.of("process4"), keys(bpmService.getProcessDefinitions(Optional.empty(), 4, 2, true)));
+        assertEquals(List.of("process4", "process3"), keys(bpmService.getProcessDefinitions(Optional.empty(), 0, 2, false)));
+        assertEquals(List.of("process0"), keys(bpmService.getProcessDefinitions(Optional.empty(), 4, 2, false)));
+        assertEquals(List.of(), keys(bpmService.getProcessDefinitions(Optional.empty(), PROCESSES, 2, true)));
+        assertEquals(PROCESSES, bpmService.countProcessDefinitions(Optional.empty()));
+        assertEquals(List.of("process3"), keys(bpmService.getProcessDefinitions(Optional.of("3"), 0, null, true)));
+    }
+
+    /**
+     * Test the first and the last pages of the process instances.
+     */
+    @Test
+    void testProcessInstancesPages() {
+        List<ProcessInstanceData> first = bpmService.getProcessInstances(Optional.empty(), Optional.empty(), 0, 3, true);
+        List<ProcessInstanceData> last = bpmService.getProcessInstances(Optional.empty(), Optional.empty(), 3, 3, true);
+        assertEquals(3, first.size());
+        assertEquals(PROCESSES - 3, last.size());
+        Set<String> ids = new HashSet<>();
+        first.forEach(instance -> ids.add(instance.getId()));
+        last.forEach(instance -> ids.add(instance.getId()));
+        assertEquals(PROCESSES, ids.size());
+        assertEquals(PROCESSES, bpmService.countProcessInstances(Optional.empty(), Optional.empty()));
+        assertEquals(1, bpmService.countProcessInstances(Optional.of("process2"), Optional.empty()));
+    }
+
+    /**
+     * Test the page size is capped by the configured maximum, also when no limit is requested, while
+     * the count still reports all the entries.
+     */
+    @Test
+    void testLimitCap() {
+        Configuration.set(BpmService.DIRIGIBLE_BPM_QUERY_LIMIT, "3");
+
+        assertEquals(3, BpmService.getLimit(null));
+        assertEquals(3, BpmService.getLimit(0));
+        assertEquals(2, BpmService.getLimit(2));
+        assertEquals(3, BpmService.getLimit(10));
+
+        assertEquals(3, bpmService.getProcessDefinitions(Optional.empty(), 0, null, true)
+                                  .size());
+        assertEquals(3, bpmService.getProcessDefinitions(Optional.empty(), 0, 10, true)
+                                  .size());
+        assertEquals(List.of("process3", "process4"), keys(bpmService.getProcessDefinitions(Optional.empty(), 3, 10, true)));
+        assertEquals(PROCESSES, bpmService.countProcessDefinitions(Optional.empty()));
+    }
+
+    /**
+     * Gets the keys of the process definitions.
+     *
+     * @param processDefinitions the process definitions
+     * @return the keys
+     */
+    private static List<String> keys(List<ProcessDefinitionData> processDefinitions) {
+        return processDefinitions.stream()
+                                 .map(ProcessDefinitionData::getKey)
+                                 .collect(Collectors.toList());
+    }
+
+}
@@ -13,7 +13,7 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.spi.Synchronization;
 import org.eclipse.dirigible.components.engine.camel.processor.CamelProcessor;
-import org.eclipse.dirigible.graalium.core.DirigibleJavascriptCodeRunner;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptRunnerPool;
 import org.eclipse.dirigible.graalium.core.javascript.CalledFromJS;
 import org.graalvm.polyglot.Value;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,31 +47,43 @@ public class Invoker {
      * @param camelMessage the camel message
      */
     public void invoke(Message camelMessage) {
-        DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner();
         String resourcePath = (String) camelMessage.getExchange()
                                                    .getProperty("resource");
 
-        var module = runner.run(Path.of(resourcePath));
-        var result = runner.runMethod(module, "onMessage", wrapCamelMessage(camelMessage));
+        DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(Path.of(resourcePath));
+        Value result;
+        try {
+            result = lease.getRunner()
+                          .runMethod(lease.getModule(), "onMessage", wrapCamelMessage(camelMessage));
+            if (result != null) {
+                camelMessage.getExchange()
+                            .setMessage(unwrapCamelMessage(result));
+            }
+        } catch (RuntimeException e) {
+            lease.discard();
+            lease.close();
+            throw e;
+        }
 
         if (result != null) {
-            camelMessage.getExchange()
-                        .setMessage(unwrapCamelMessage(result));
+            // the message may still reference values of the runner context, so it is released after the
+            // exchange
             camelMessage.getExchange()
                         .getExchangeExtension()
                         .addOnCompletion(new Synchronization() {
                             @Override
                             public void onComplete(Exchange exchange) {
-                                runner.close();
+                                lease.close();
                             }
 
                             @Override
                             public void onFailure(Exchange exchange) {
-                                runner.close();
+                                lease.discard();
+                                lease.close();
                             }
                         });
         } else {
-            runner.close();
+            lease.close();
         }
     }
 
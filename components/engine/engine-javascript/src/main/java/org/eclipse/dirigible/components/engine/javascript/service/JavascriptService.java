@@ -10,13 +10,22 @@
 package org.eclipse.dirigible.components.engine.javascript.service;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.modules.DirigibleSourceProvider;
+import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -24,17 +33,41 @@ import org.springframework.stereotype.Service;
  * The Class JavascriptHandler.
  */
 @Service
-public class JavascriptService implements InitializingBean {
+public class JavascriptService implements InitializingBean, PublisherHandler {
 
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(JavascriptService.class);
 
+    /** The Constant EXECUTION_OBSERVATION. */
+    private static final String EXECUTION_OBSERVATION = "dirigible.script.execution";
+
+    /** The Constant UNKNOWN_PROJECT. */
+    private static final String UNKNOWN_PROJECT = "unknown";
+
+    /** The time after which the published projects are listed again. */
+    private static final long PUBLISHED_PROJECTS_TTL = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * The names of the published projects.
+     *
+     * @param names the names
+     * @param listedAt the time they were listed at
+     */
+    private record PublishedProjects(Set<String> names, long listedAt) {
+    }
+
     /** The repository. */
     private IRepository repository;
 
+    /** The published projects or null, if they have to be listed again. */
+    private volatile PublishedProjects publishedProjects;
+
     /** The handler. */
     private JavascriptHandler handler;
 
+    /** The observation registry. */
+    private final ObservationRegistry observationRegistry;
+
     /** The instance. */
     private static JavascriptService INSTANCE;
 
@@ -42,11 +75,13 @@ public class JavascriptService implements InitializingBean {
      * Instantiates a new javascript service.
      *
      * @param repository the repository
+     * @param observationRegistry the observation registry
      */
     @Autowired
-    public JavascriptService(IRepository repository) {
+    public JavascriptService(IRepository repository, ObjectProvider<ObservationRegistry> observationRegistry) {
         this.repository = repository;
         this.handler = new JavascriptHandler(getRepository());
+        this.observationRegistry = observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP);
     }
 
     /**
@@ -78,7 +113,9 @@ public class JavascriptService implements InitializingBean {
     }
 
     /**
-     * Handle request.
+     * Handle request. The execution is observed per project, only the published projects are tagged, as
+     * the project name comes from the request. The script path is kept as a high cardinality key value,
+     * so that it is available to the tracing, but it does not create meters.
      *
      * @param projectName the project name
      * @param projectFilePath the project file path
@@ -89,7 +126,71 @@ public class JavascriptService implements InitializingBean {
      */
     public Object handleRequest(String projectName, String projectFilePath, String projectFilePathParam, Map<Object, Object> parameters,
             boolean debug) {
-        return handler.handleRequest(projectName, projectFilePath, projectFilePathParam, parameters, debug);
+        Observation observation = Observation.createNotStarted(EXECUTION_OBSERVATION, observationRegistry)
+                                             .highCardinalityKeyValue("path", projectFilePath);
+        if (!observationRegistry.isNoop()) {
+            observation.lowCardinalityKeyValue("project", isPublished(projectName) ? projectName : UNKNOWN_PROJECT);
+        }
+        return observation.observe(() -> handler.handleRequest(projectName, projectFilePath, projectFilePathParam, parameters, debug));
+    }
+
+    /**
+     * Checks if the project is published. The published projects are listed once and kept until a
+     * publish or an unpublish, or for a while at most, as the registry may be changed directly too, so
+     * that the requests do not hit the repository.
+     *
+     * @param projectName the project name
+     * @return true, if is published
+     */
+    boolean isPublished(String projectName) {
+        if (projectName == null || projectName.isEmpty()) {
+            return false;
+        }
+        PublishedProjects published = publishedProjects;
+        if (published == null || System.currentTimeMillis() - published.listedAt() > PUBLISHED_PROJECTS_TTL) {
+            published = listPublishedProjects();
+        }
+        return published.names()
+                        .contains(projectName);
+    }
+
+    /**
+     * Lists the published projects, unless another request has just listed them.
+     *
+     * @return the published projects
+     */
+    private synchronized PublishedProjects listPublishedProjects() {
+        PublishedProjects published = publishedProjects;
+        if (published != null && System.currentTimeMillis() - published.listedAt() <= PUBLISHED_PROJECTS_TTL) {
+            return published;
+        }
+        ICollection registry = repository.getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC);
+        Set<String> names = registry.exists() ? Set.copyOf(registry.getCollectionsNames()) : Set.of();
+        published = new PublishedProjects(names, System.currentTimeMillis());
+        publishedProjects = published;
+        return published;
+    }
+
+    /**
+     * After publish.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        publishedProjects = null;
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        publishedProjects = null;
     }
 
     /**
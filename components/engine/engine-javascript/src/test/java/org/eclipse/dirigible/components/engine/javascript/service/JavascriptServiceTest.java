@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.javascript.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * The Class JavascriptServiceTest.
+ */
+class JavascriptServiceTest {
+
+    /** The registry. */
+    private ICollection registry;
+
+    /** The javascript service. */
+    private JavascriptService javascriptService;
+
+    /**
+     * Sets the up.
+     */
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        IRepository repository = mock(IRepository.class);
+        registry = mock(ICollection.class);
+        when(repository.getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC)).thenReturn(registry);
+        when(registry.exists()).thenReturn(true);
+        when(registry.getCollectionsNames()).thenReturn(List.of("project"));
+        ObjectProvider<ObservationRegistry> observationRegistry = mock(ObjectProvider.class);
+        when(observationRegistry.getIfAvailable(any())).thenReturn(ObservationRegistry.NOOP);
+        javascriptService = new JavascriptService(repository, observationRegistry);
+    }
+
+    /**
+     * Test the published projects are listed once and not on every request.
+     */
+    @Test
+    void testPublishedProjectsListedOnce() {
+        assertTrue(javascriptService.isPublished("project"));
+        assertFalse(javascriptService.isPublished("other"));
+        assertFalse(javascriptService.isPublished("../project"));
+        assertFalse(javascriptService.isPublished(null));
+        assertTrue(javascriptService.isPublished("project"));
+        verify(registry, times(1)).getCollectionsNames();
+    }
+
+    /**
+     * Test the published projects are listed again after a publish and an unpublish.
+     */
+    @Test
+    void testPublishedProjectsListedAfterPublish() {
+        assertFalse(javascriptService.isPublished("other"));
+
+        when(registry.getCollectionsNames()).thenReturn(List.of("project", "other"));
+        javascriptService.afterPublish("/workspace/other", "/registry/public/other", null);
+        assertTrue(javascriptService.isPublished("other"));
+
+        when(registry.getCollectionsNames()).thenReturn(List.of("project"));
+        javascriptService.afterUnpublish("/registry/public/other");
+        assertFalse(javascriptService.isPublished("other"));
+        verify(registry, times(3)).getCollectionsNames();
+    }
+
+}
@@ -21,8 +21,12 @@ import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+
 import java.nio.file.Path;
 import java.util.Date;
 
@@ -42,6 +46,9 @@ public class JobHandler implements Job {
     /** The engine type. */
     public static String JOB_PARAMETER_ENGINE = "dirigible-engine-type";
 
+    /** The Constant EXECUTION_OBSERVATION. */
+    private static final String EXECUTION_OBSERVATION = "dirigible.job.execution";
+
     /** The job log service. */
     @Autowired
     private JobLogService jobLogService;
@@ -54,6 +61,10 @@ public class JobHandler implements Job {
     @Autowired
     private JobNameCreator jobNameCreator;
 
+    /** The observation registry. */
+    @Autowired
+    private ObjectProvider<ObservationRegistry> observationRegistry;
+
     /**
      * Execute.
      *
@@ -102,14 +113,20 @@ public class JobHandler implements Job {
             context.put("handler", handler);
             Path handlerPath = Path.of(handler);
 
+            Observation observation =
+                    Observation.start(EXECUTION_OBSERVATION, observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP))
+                               .lowCardinalityKeyValue("job", name);
             try (DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner()) {
                 runner.run(handlerPath);
                 registeredFinished(name, handler, triggered);
             } catch (RuntimeException ex) {
+                observation.error(ex);
                 registeredFailed(name, handler, triggered, ex);
                 String msg = "Failed to execute JS. Job name [" + name + "], handler [" + handler + "]";
                 LOGGER.error(msg, ex);
                 throw new JobExecutionException(msg, ex);
+            } finally {
+                observation.stop();
             }
         }
     }
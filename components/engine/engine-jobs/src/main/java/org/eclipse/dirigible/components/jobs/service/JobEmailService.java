@@ -43,6 +43,7 @@ public class JobEmailService extends BaseArtefactService<JobEmail, Long> {
         filter.setJobName(jobName);
         Example<JobEmail> example = Example.of(filter);
         List<JobEmail> jobLogs = getRepo().findAll(example);
+        invalidateCache();
         getRepo().deleteAll(jobLogs);
     }
 
@@ -278,4 +278,15 @@ public class JobLogService extends BaseArtefactService<JobLog, Long> {
         Example<JobLog> example = Example.of(filter);
         return getRepo().findAll(example);
     }
+
+    /**
+     * Checks if cacheable - not, as the logs change on each job execution.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -157,4 +157,14 @@ public class JobService extends BaseArtefactService<Job, Long> {
         return true;
     }
 
+    /**
+     * Checks if cacheable - not, as the parameters are loaded lazily.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
 }
@@ -9,6 +9,10 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageListener;
@@ -31,6 +35,12 @@ class AsynchronousMessageListener implements MessageListener {
     /** The Constant LOGGER. */
     private static final Logger LOGGER = LoggerFactory.getLogger(AsynchronousMessageListener.class);
 
+    /** The Constant LAG_METRIC. */
+    static final String LAG_METRIC = "dirigible.listener.lag";
+
+    /** The Constant PROCESSING_METRIC. */
+    static final String PROCESSING_METRIC = "dirigible.listener.processing";
+
     /** The listener. */
     private final ListenerDescriptor listenerDescriptor;
 
@@ -40,18 +50,33 @@ class AsynchronousMessageListener implements MessageListener {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The time between sending and receiving of a message. */
+    private final Timer lagTimer;
+
+    /** The processing time of a message. */
+    private final Timer processingTimer;
+
     /**
      * Instantiates a new asynchronous message listener.
      *
      * @param listenerDescriptor the listener
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param meterRegistry the meter registry
      */
     AsynchronousMessageListener(ListenerDescriptor listenerDescriptor, TenantPropertyManager tenantPropertyManager,
-            TenantContext tenantContext) {
+            TenantContext tenantContext, MeterRegistry meterRegistry) {
         this.listenerDescriptor = listenerDescriptor;
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.lagTimer = Timer.builder(LAG_METRIC)
+                             .description("The time between sending and receiving of a message")
+                             .tag("destination", listenerDescriptor.getDestination())
+                             .register(meterRegistry);
+        this.processingTimer = Timer.builder(PROCESSING_METRIC)
+                                    .description("The processing time of a message by its handler")
+                                    .tag("destination", listenerDescriptor.getDestination())
+                                    .register(meterRegistry);
     }
 
     /**
@@ -68,6 +93,8 @@ class AsynchronousMessageListener implements MessageListener {
                     listenerDescriptor.getDestination());
             throw new IllegalStateException(msg);
         }
+        recordLag(message);
+        Timer.Sample sample = Timer.start();
         try {
             String tenantId = tenantPropertyManager.getCurrentTenantId(message);
             LOGGER.debug("Processing message WITH context for tenant [{}].", tenantId);
@@ -80,6 +107,24 @@ class AsynchronousMessageListener implements MessageListener {
                     listenerDescriptor.getHandlerPath());
         } catch (Exception e) {
             throw new IllegalStateException("Failed to handle message: " + message, e);
+        } finally {
+            sample.stop(processingTimer);
+        }
+    }
+
+    /**
+     * Records the lag of a message, if the producer has set its timestamp.
+     *
+     * @param message the message
+     */
+    private void recordLag(Message message) {
+        try {
+            long timestamp = message.getJMSTimestamp();
+            if (timestamp > 0) {
+                lagTimer.record(Math.max(0, System.currentTimeMillis() - timestamp), TimeUnit.MILLISECONDS);
+            }
+        } catch (JMSException e) {
+            LOGGER.debug("Cannot get the timestamp of message [{}]", message, e);
         }
     }
 
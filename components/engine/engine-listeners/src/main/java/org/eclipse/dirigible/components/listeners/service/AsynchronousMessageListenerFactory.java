@@ -10,8 +10,12 @@
 package org.eclipse.dirigible.components.listeners.service;
 
 import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 /**
  * A factory for creating AsynchronousMessageListener objects.
  */
@@ -24,15 +28,21 @@ class AsynchronousMessageListenerFactory {
     /** The tenant context. */
     private final TenantContext tenantContext;
 
+    /** The meter registry. */
+    private final MeterRegistry meterRegistry;
+
     /**
      * Instantiates a new asynchronous message listener factory.
      *
      * @param tenantPropertyManager the tenant property manager
      * @param tenantContext the tenant context
+     * @param meterRegistry the meter registry, the global one is used if the application has none
      */
-    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext) {
+    AsynchronousMessageListenerFactory(TenantPropertyManager tenantPropertyManager, TenantContext tenantContext,
+            ObjectProvider<MeterRegistry> meterRegistry) {
         this.tenantPropertyManager = tenantPropertyManager;
         this.tenantContext = tenantContext;
+        this.meterRegistry = meterRegistry.getIfAvailable(() -> Metrics.globalRegistry);
     }
 
     /**
@@ -42,6 +52,6 @@ class AsynchronousMessageListenerFactory {
      * @return the asynchronous message listener
      */
     AsynchronousMessageListener create(ListenerDescriptor listenerDescriptor) {
-        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext);
+        return new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, tenantContext, meterRegistry);
     }
 }
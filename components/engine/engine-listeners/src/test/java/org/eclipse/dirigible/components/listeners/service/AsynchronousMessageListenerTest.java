@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.components.listeners.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.spy;
@@ -23,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.jms.BytesMessage;
 import jakarta.jms.JMSException;
 import jakarta.jms.TextMessage;
@@ -40,6 +42,9 @@ class AsynchronousMessageListenerTest {
     /** The Constant HANDLER. */
     private static final String HANDLER = "test-handler";
 
+    /** The Constant DESTINATION. */
+    private static final String DESTINATION = "test-destination";
+
     /** The Constant TENANT_ID. */
     private static final String TENANT_ID = "1e7252b1-3bca-4285-bd4e-60e19886d063";
 
@@ -70,12 +75,18 @@ class AsynchronousMessageListenerTest {
     @Mock
     private TenantPropertyManager tenantPropertyManager;
 
+    /** The meter registry. */
+    private SimpleMeterRegistry meterRegistry;
+
     /**
      * Sets the up.
      */
     @BeforeEach
     void setUp() {
-        asyncMessageListener = spy(new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, new TestTenantContext()));
+        meterRegistry = new SimpleMeterRegistry();
+        when(listenerDescriptor.getDestination()).thenReturn(DESTINATION);
+        asyncMessageListener =
+                spy(new AsynchronousMessageListener(listenerDescriptor, tenantPropertyManager, new TestTenantContext(), meterRegistry));
     }
 
     /**
@@ -91,10 +102,18 @@ class AsynchronousMessageListenerTest {
         when(listenerDescriptor.getHandlerPath()).thenReturn(HANDLER);
         when(textMessage.getText()).thenReturn(MESSAGE);
         when(jsCodeRunner.run(HANDLER)).thenReturn(module);
+        when(textMessage.getJMSTimestamp()).thenReturn(System.currentTimeMillis());
 
         asyncMessageListener.onMessage(textMessage);
 
         verify(jsCodeRunner).runMethod(module, "onMessage", MESSAGE);
+        assertEquals(1, meterRegistry.get(AsynchronousMessageListener.LAG_METRIC)
+                                     .tag("destination", DESTINATION)
+                                     .timer()
+                                     .count());
+        assertEquals(1, meterRegistry.get(AsynchronousMessageListener.PROCESSING_METRIC)
+                                     .timer()
+                                     .count());
     }
 
     /**
@@ -10,12 +10,17 @@
 package org.eclipse.dirigible.components.odata.config;
 
 import org.apache.olingo.odata2.core.servlet.ODataServlet;
+import org.eclipse.dirigible.components.odata.filter.ODataObservationFilter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.liquibase.LiquibaseAutoConfiguration;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.boot.web.servlet.ServletRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import io.micrometer.observation.ObservationRegistry;
+
 /**
  * The Class ODataConfig.
  */
@@ -38,4 +43,18 @@ class ODataConfig {
         return bean;
     }
 
+    /**
+     * OData observation filter.
+     *
+     * @param observationRegistry the observation registry
+     * @return the filter registration bean
+     */
+    @Bean
+    FilterRegistrationBean<ODataObservationFilter> odataObservationFilter(ObjectProvider<ObservationRegistry> observationRegistry) {
+        ODataObservationFilter filter = new ODataObservationFilter(observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+        FilterRegistrationBean<ODataObservationFilter> bean = new FilterRegistrationBean<>(filter);
+        bean.addUrlPatterns("/odata/v2/*");
+        return bean;
+    }
+
 }
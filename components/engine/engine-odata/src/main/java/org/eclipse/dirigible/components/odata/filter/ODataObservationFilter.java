@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.filter;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * The OData Observation Filter. Observes the latency of the OData requests per HTTP method and
+ * status. The entity set, the first segment of the path info without the key predicate, comes from
+ * the request and is not checked against the deployed OData definitions, so it is a high
+ * cardinality key value, available to the tracing but not creating meters.
+ */
+public class ODataObservationFilter extends OncePerRequestFilter {
+
+    /** The Constant REQUEST_OBSERVATION. */
+    static final String REQUEST_OBSERVATION = "dirigible.odata.request";
+
+    /** The Constant NONE. */
+    private static final String NONE = "none";
+
+    /** The observation registry. */
+    private final ObservationRegistry observationRegistry;
+
+    /**
+     * Instantiates a new OData observation filter.
+     *
+     * @param observationRegistry the observation registry
+     */
+    public ODataObservationFilter(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    /**
+     * Do filter internal.
+     *
+     * @param request the request
+     * @param response the response
+     * @param chain the chain
+     * @throws ServletException the servlet exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (observationRegistry.isNoop()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        Observation observation = Observation.start(REQUEST_OBSERVATION, observationRegistry)
+                                             .lowCardinalityKeyValue("method", request.getMethod())
+                                             .highCardinalityKeyValue("entitySet", getEntitySet(request.getPathInfo()));
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.lowCardinalityKeyValue("status", Integer.toString(response.getStatus()))
+                       .stop();
+        }
+    }
+
+    /**
+     * Gets the entity set of a path info - e.g. Books for /Books(1)/Author.
+     *
+     * @param pathInfo the path info
+     * @return the entity set
+     */
+    static String getEntitySet(String pathInfo) {
+        if (pathInfo == null || pathInfo.length() <= 1) {
+            return NONE;
+        }
+        int start = pathInfo.charAt(0) == '/' ? 1 : 0;
+        int end = start;
+        while (end < pathInfo.length() && pathInfo.charAt(end) != '/' && pathInfo.charAt(end) != '(') {
+            end++;
+        }
+        return end > start ? pathInfo.substring(start, end) : NONE;
+    }
+
+}
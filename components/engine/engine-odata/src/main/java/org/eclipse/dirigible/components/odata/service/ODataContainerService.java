@@ -41,6 +41,7 @@ public class ODataContainerService extends BaseArtefactService<ODataContainer, L
         ODataContainer filter = new ODataContainer();
         filter.setLocation(location);
         Example<ODataContainer> example = Example.of(filter);
+        invalidateCache();
         getRepo().deleteAll(getRepo().findAll(example));
     }
 
@@ -65,6 +65,7 @@ public class ODataHandlerService extends BaseArtefactService<ODataHandler, Long>
         ODataHandler filter = new ODataHandler();
         filter.setLocation(location);
         Example<ODataHandler> example = Example.of(filter);
+        invalidateCache();
         getRepo().deleteAll(getRepo().findAll(example));
     }
 
@@ -64,6 +64,7 @@ public class ODataMappingService extends BaseArtefactService<ODataMapping, Long>
         ODataMapping filter = new ODataMapping();
         filter.setLocation(location);
         Example<ODataMapping> example = Example.of(filter);
+        invalidateCache();
         getRepo().deleteAll(getRepo().findAll(example));
     }
 
@@ -41,6 +41,7 @@ public class ODataSchemaService extends BaseArtefactService<ODataSchema, Long> {
         ODataSchema filter = new ODataSchema();
         filter.setLocation(location);
         Example<ODataSchema> example = Example.of(filter);
+        invalidateCache();
         getRepo().deleteAll(getRepo().findAll(example));
     }
 
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.odata.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+
+/**
+ * The Class ODataObservationFilterTest.
+ */
+public class ODataObservationFilterTest {
+
+    /**
+     * Test entity set.
+     */
+    @Test
+    public void testEntitySet() {
+        assertEquals("none", ODataObservationFilter.getEntitySet(null));
+        assertEquals("none", ODataObservationFilter.getEntitySet("/"));
+        assertEquals("$metadata", ODataObservationFilter.getEntitySet("/$metadata"));
+        assertEquals("Books", ODataObservationFilter.getEntitySet("/Books"));
+        assertEquals("Books", ODataObservationFilter.getEntitySet("/Books(1)/Author"));
+    }
+
+    /**
+     * Test observed request.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testObservedRequest() throws Exception {
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig()
+                .observationHandler(new ObservationHandler<Observation.Context>() {
+
+                    @Override
+                    public boolean supportsContext(Observation.Context context) {
+                        return true;
+                    }
+
+                    @Override
+                    public void onStop(Observation.Context context) {
+                        stopped.add(context);
+                    }
+                });
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/odata/v2/Books(1)");
+        request.setServletPath("/odata/v2");
+        request.setPathInfo("/Books(1)");
+        new ODataObservationFilter(registry).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1, stopped.size());
+        Observation.Context context = stopped.get(0);
+        assertEquals(ODataObservationFilter.REQUEST_OBSERVATION, context.getName());
+        assertEquals("GET", context.getLowCardinalityKeyValue("method")
+                                   .getValue());
+        assertNull(context.getLowCardinalityKeyValue("entitySet"));
+        assertEquals("Books", context.getHighCardinalityKeyValue("entitySet")
+                                     .getValue());
+        assertEquals("200", context.getLowCardinalityKeyValue("status")
+                                   .getValue());
+    }
+
+}
@@ -9,10 +9,19 @@
  */
 package org.eclipse.dirigible.components.security.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
 import org.eclipse.dirigible.components.base.artefact.BaseArtefactService;
 import org.eclipse.dirigible.components.security.domain.Access;
 import org.eclipse.dirigible.components.security.repository.AccessRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -31,4 +40,43 @@ public class AccessService extends BaseArtefactService<Access, Long> {
         super(repository);
     }
 
+    /**
+     * Finds the accesses of the given scope for reading only, sorted by path length descending, so that
+     * the most specific ones come first. The accesses are shared with the other threads, so they must
+     * not be changed. Called on each request, so it does not start a transaction.
+     *
+     * @param scope the scope, case insensitive
+     * @return the accesses
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Access> findByScopeReadOnly(String scope) {
+        Map<String, List<Access>> byScope = getDerived("byScope", AccessService::indexByScope);
+        return byScope.getOrDefault(scope.toLowerCase(Locale.ROOT), List.of());
+    }
+
+    /**
+     * Indexes the accesses with a path by scope.
+     *
+     * @param accesses the accesses
+     * @return the accesses by lower case scope
+     */
+    private static Map<String, List<Access>> indexByScope(List<Access> accesses) {
+        Map<String, List<Access>> byScope = new HashMap<>();
+        for (Access access : accesses) {
+            if (access.getScope() != null && access.getPath() != null) {
+                byScope.computeIfAbsent(access.getScope()
+                                              .toLowerCase(Locale.ROOT),
+                        k -> new ArrayList<>())
+                       .add(access);
+            }
+        }
+        byScope.replaceAll((scope, scoped) -> {
+            scoped.sort(Comparator.comparingInt((Access access) -> access.getPath()
+                                                                         .length())
+                                  .reversed());
+            return Collections.unmodifiableList(scoped);
+        });
+        return Collections.unmodifiableMap(byScope);
+    }
+
 }
@@ -40,7 +40,8 @@ public class AccessVerifier {
     }
 
     /**
-     * Checks whether the URI is secured via the *.access file or not
+     * Checks whether the URI is secured via the *.access file or not. The accesses are shared with the
+     * other threads, so they must not be changed.
      *
      * @param scope the scope
      * @param path the path
@@ -50,23 +51,18 @@ public class AccessVerifier {
     public List<Access> getMatchingSecurityAccesses(String scope, String path, String method) {
         List<Access> securityAccesses = new ArrayList<>();
         Access currentSecurityAccess = null;
-        List<Access> existingSecurityAccesses = accessService.getAll();
-        for (Access securityAccess : existingSecurityAccesses) {
-            if (scope.equalsIgnoreCase(securityAccess.getScope()) //
-                    && ("*".equals(securityAccess.getMethod()) || method.equals(securityAccess.getMethod()))//
+        // sorted by path length descending, so the first match is among the most specific ones
+        for (Access securityAccess : accessService.findByScopeReadOnly(scope)) {
+            if (currentSecurityAccess != null && securityAccess.getPath()
+                                                               .length() < currentSecurityAccess.getPath()
+                                                                                                .length()) {
+                break;
+            }
+            if (("*".equals(securityAccess.getMethod()) || method.equals(securityAccess.getMethod()))//
                     && antPathMatcher.match(securityAccess.getPath(), path)) {
                 logger.debug("Path [{}] and HTTP method [{}] is secured by definition [{}]", path, method, securityAccess.getLocation());
-                if ((currentSecurityAccess == null) || (securityAccess.getPath()
-                                                                      .length() > currentSecurityAccess.getPath()
-                                                                                                       .length())) {
-                    currentSecurityAccess = securityAccess;
-                    securityAccesses.clear();
-                    securityAccesses.add(securityAccess);
-                } else if (securityAccess.getPath()
-                                         .length() == currentSecurityAccess.getPath()
-                                                                           .length()) {
-                    securityAccesses.add(securityAccess);
-                }
+                currentSecurityAccess = securityAccess;
+                securityAccesses.add(securityAccess);
             }
         }
         if (securityAccesses.isEmpty()) {
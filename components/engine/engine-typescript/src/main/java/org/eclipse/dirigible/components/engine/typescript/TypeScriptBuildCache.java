@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.typescript;
+
+import org.eclipse.dirigible.commons.api.helpers.GsonHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The TypeScript build cache of a project. It keeps the content hash and the resolved relative
+ * imports of each compiled file, so that only the changed files and the files importing them are
+ * compiled again. The cache is persisted as JSON and survives restarts.
+ */
+class TypeScriptBuildCache {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TypeScriptBuildCache.class);
+
+    /** The Constant IMPORT_PATTERN. */
+    private static final Pattern IMPORT_PATTERN =
+            Pattern.compile("(?:\\bfrom\\s*|\\bimport\\s*\\(?\\s*|\\brequire\\s*\\(\\s*)['\"]([^'\"]+)['\"]");
+
+    /** The Constant TS_EXT. */
+    private static final String TS_EXT = ".ts";
+
+    /** The Constant MJS_EXT. */
+    private static final String MJS_EXT = ".mjs";
+
+    /**
+     * The Class Entry.
+     */
+    static class Entry {
+
+        /** The hash. */
+        String hash;
+
+        /** The project relative paths of the imported files. */
+        List<String> imports = new ArrayList<>();
+    }
+
+    /**
+     * The Class State.
+     */
+    static class State {
+
+        /** The entries by project relative path. */
+        Map<String, Entry> entries = new HashMap<>();
+    }
+
+    /** The project dir. */
+    private final File projectDir;
+
+    /** The cache file. */
+    private final File cacheFile;
+
+    /** The state. */
+    private final State state;
+
+    /**
+     * Instantiates a new type script build cache.
+     *
+     * @param projectDir the project dir
+     * @param cacheFile the cache file
+     */
+    TypeScriptBuildCache(File projectDir, File cacheFile) {
+        this.projectDir = projectDir;
+        this.cacheFile = cacheFile;
+        this.state = load(cacheFile);
+    }
+
+    /**
+     * Load.
+     *
+     * @param cacheFile the cache file
+     * @return the state
+     */
+    private static State load(File cacheFile) {
+        if (cacheFile.exists()) {
+            try {
+                State loaded = GsonHelper.fromJson(Files.readString(cacheFile.toPath(), StandardCharsets.UTF_8), State.class);
+                if (loaded != null && loaded.entries != null) {
+                    return loaded;
+                }
+            } catch (Exception e) {
+                logger.warn("Ignoring the unreadable TypeScript build cache [{}]", cacheFile, e);
+            }
+        }
+        return new State();
+    }
+
+    /**
+     * Save.
+     */
+    void save() {
+        try {
+            Files.createDirectories(cacheFile.getParentFile()
+                                             .toPath());
+            Files.writeString(cacheFile.toPath(), GsonHelper.toJson(state), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Could not save the TypeScript build cache [{}]", cacheFile, e);
+        }
+    }
+
+    /**
+     * Computes the files, which have to be compiled - the new and changed ones, the ones without an
+     * output, and all the files importing them directly or transitively.
+     *
+     * @param files all the TypeScript files of the project
+     * @return the files to compile
+     */
+    Set<File> getFilesToCompile(Collection<File> files) {
+        Map<String, File> byPath = new HashMap<>();
+        for (File file : files) {
+            byPath.put(relativize(file), file);
+        }
+
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, File> file : byPath.entrySet()) {
+            Entry entry = state.entries.get(file.getKey());
+            if (entry == null || !hash(file.getValue()).equals(entry.hash) || !getOutputFile(file.getValue()).exists()) {
+                changed.add(file.getKey());
+            }
+        }
+        for (String path : state.entries.keySet()) {
+            if (!byPath.containsKey(path)) {
+                // removed - its importers have to be compiled again
+                changed.add(path);
+            }
+        }
+
+        Set<File> result = new LinkedHashSet<>();
+        for (String path : collectDependents(changed)) {
+            File file = byPath.get(path);
+            if (file != null) {
+                result.add(file);
+            }
+        }
+        state.entries.keySet()
+                     .retainAll(byPath.keySet());
+        return result;
+    }
+
+    /**
+     * Collects the given paths together with the paths, which import them directly or transitively.
+     *
+     * @param paths the paths
+     * @return the dependents
+     */
+    Set<String> collectDependents(Set<String> paths) {
+        Map<String, Set<String>> importers = new HashMap<>();
+        for (Map.Entry<String, Entry> entry : state.entries.entrySet()) {
+            for (String imported : entry.getValue().imports) {
+                importers.computeIfAbsent(imported, k -> new HashSet<>())
+                         .add(entry.getKey());
+            }
+        }
+        Set<String> result = new LinkedHashSet<>(paths);
+        Deque<String> queue = new ArrayDeque<>(paths);
+        while (!queue.isEmpty()) {
+            for (String importer : importers.getOrDefault(queue.poll(), Set.of())) {
+                if (result.add(importer)) {
+                    queue.add(importer);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records the compiled files with their current hashes and imports.
+     *
+     * @param files the compiled files
+     */
+    void update(Collection<File> files) {
+        for (File file : files) {
+            try {
+                byte[] content = Files.readAllBytes(file.toPath());
+                Entry entry = new Entry();
+                entry.hash = sha256(content);
+                entry.imports = resolveImports(file, new String(content, StandardCharsets.UTF_8));
+                state.entries.put(relativize(file), entry);
+            } catch (IOException e) {
+                state.entries.remove(relativize(file));
+            }
+        }
+    }
+
+    /**
+     * Gets the project relative path of the file.
+     *
+     * @param file the file
+     * @return the relative path
+     */
+    String relativize(File file) {
+        return projectDir.toPath()
+                         .relativize(file.toPath())
+                         .toString()
+                         .replace(File.separatorChar, '/');
+    }
+
+    /**
+     * Resolves the relative imports of a file to project relative paths of TypeScript files.
+     *
+     * @param file the file
+     * @param content the content
+     * @return the imports
+     */
+    private List<String> resolveImports(File file, String content) {
+        List<String> imports = new ArrayList<>();
+        Matcher matcher = IMPORT_PATTERN.matcher(content);
+        while (matcher.find()) {
+            String specifier = matcher.group(1);
+            if (!specifier.startsWith("./") && !specifier.startsWith("../")) {
+                continue;
+            }
+            Path base = file.toPath()
+                            .getParent()
+                            .resolve(specifier)
+                            .normalize();
+            String path = base.toString();
+            if (path.endsWith(".js") || path.endsWith(MJS_EXT)) {
+                path = path.substring(0, path.lastIndexOf('.'));
+            }
+            for (String candidate : new String[] {path, path + TS_EXT, path + File.separator + "index" + TS_EXT}) {
+                File imported = new File(candidate);
+                if (candidate.endsWith(TS_EXT) && imported.isFile()) {
+                    imports.add(relativize(imported));
+                    break;
+                }
+            }
+        }
+        return imports;
+    }
+
+    /**
+     * Gets the output file of a TypeScript file.
+     *
+     * @param file the file
+     * @return the output file
+     */
+    static File getOutputFile(File file) {
+        String path = file.getPath();
+        return new File(path.substring(0, path.length() - TS_EXT.length()) + MJS_EXT);
+    }
+
+    /**
+     * Hash.
+     *
+     * @param file the file
+     * @return the hash or an empty string if the file cannot be read
+     */
+    private static String hash(File file) {
+        try {
+            return sha256(Files.readAllBytes(file.toPath()));
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    /**
+     * SHA-256 of the content.
+     *
+     * @param content the content
+     * @return the hex encoded hash
+     */
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of()
+                            .formatHex(MessageDigest.getInstance("SHA-256")
+                                                    .digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -13,6 +13,8 @@ import org.apache.commons.io.FileUtils;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -26,6 +28,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -41,9 +46,18 @@ public class TypeScriptService {
     /** The Constant DTS_EXT. */
     private static final String DTS_EXT = ".d.ts";
 
+    /** The Constant BUILD_CACHE_ROOT. */
+    private static final String BUILD_CACHE_ROOT = "/typescript/cache";
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(TypeScriptService.class);
+
     /** The repository. */
     private final IRepository repository;
 
+    /** The locks per project. */
+    private final Map<String, Object> projectLocks = new ConcurrentHashMap<>();
+
     /**
      * Instantiates a new type script service.
      *
@@ -115,28 +129,64 @@ public class TypeScriptService {
     }
 
     /**
-     * Compile type script.
+     * Compile type script. Only the changed files and the files importing them are compiled, based on
+     * the build cache of the project.
      *
      * @param projectName the project name
      * @param entryPath the entry path
      */
     public void compileTypeScript(String projectName, String entryPath) {
         var projectDir = getProjectDirFile(projectName);
-        File outDir;
-        Collection<File> tsFiles;
+        synchronized (getProjectLock(projectName)) {
+            TypeScriptBuildCache buildCache = new TypeScriptBuildCache(projectDir, getBuildCacheFile(projectName));
+            Collection<File> tsFiles;
+
+            if (entryPath != null && !entryPath.equals("")) {
+                var tsFilePathString = new RepositoryPath(IRepositoryStructure.PATH_REGISTRY_PUBLIC, projectName, entryPath).toString();
+                var tsFile = new File(repository.getInternalResourcePath(tsFilePathString));
+                tsFiles = new LinkedHashSet<>();
+                tsFiles.add(tsFile);
+                var dependents = buildCache.collectDependents(Collections.singleton(buildCache.relativize(tsFile)));
+                for (String dependent : dependents) {
+                    var dependentFile = new File(projectDir, dependent);
+                    if (dependentFile.isFile()) {
+                        tsFiles.add(dependentFile);
+                    }
+                }
+            } else {
+                tsFiles = buildCache.getFilesToCompile(getTypeScriptFilesInDir(projectDir));
+            }
 
-        if (entryPath != null && !entryPath.equals("")) {
-            var tsFilePathString = new RepositoryPath(IRepositoryStructure.PATH_REGISTRY_PUBLIC, projectName, entryPath).toString();
-            var tsFilePath = new File(repository.getInternalResourcePath(tsFilePathString)).toPath();
-            outDir = tsFilePath.getParent()
-                               .toFile();
-            tsFiles = Collections.singletonList(tsFilePath.toFile());
-        } else {
-            tsFiles = getTypeScriptFilesInDir(projectDir);
-            outDir = projectDir;
+            if (tsFiles.isEmpty()) {
+                logger.debug("TypeScript files of project [{}] are up to date", projectName);
+                return;
+            }
+            esbuild(projectDir, projectDir, tsFiles);
+            buildCache.update(tsFiles);
+            buildCache.save();
         }
+    }
 
-        esbuild(projectDir, outDir, tsFiles);
+    /**
+     * Gets the lock for the builds of a project.
+     *
+     * @param projectName the project name
+     * @return the project lock
+     */
+    private Object getProjectLock(String projectName) {
+        return projectLocks.computeIfAbsent(projectName, k -> new Object());
+    }
+
+    /**
+     * Gets the build cache file of a project. It is kept outside of the registry, so that it is neither
+     * published nor synchronized.
+     *
+     * @param projectName the project name
+     * @return the build cache file
+     */
+    private File getBuildCacheFile(String projectName) {
+        var cachePath = new RepositoryPath(BUILD_CACHE_ROOT, projectName + ".json").toString();
+        return new File(repository.getInternalResourcePath(cachePath));
     }
 
     /**
@@ -153,6 +203,7 @@ public class TypeScriptService {
                                             .map(Object::toString)
                                             .toList());
         esbuildCommand.add("--outdir=" + outDir);
+        esbuildCommand.add("--outbase=" + projectDir);
         esbuildCommand.add("--out-extension:.js=.mjs");
         esbuildCommand.add("--sourcemap=inline");
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.engine.typescript;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The Class TypeScriptBuildCacheTest.
+ */
+public class TypeScriptBuildCacheTest {
+
+    /** The temp dir. */
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test only changed files and their importers are compiled.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Test
+    public void testChangedAndDependents() throws IOException {
+        File projectDir = tempDir.resolve("project")
+                                 .toFile();
+        File cacheFile = tempDir.resolve("cache/project.json")
+                                .toFile();
+        File util = write(projectDir, "lib/util.ts", "export const a = 1;");
+        File service = write(projectDir, "service.ts", "import { a } from './lib/util';\nexport const b = a;");
+        File api = write(projectDir, "api.ts", "import { b } from \"./service.js\";\nconsole.log(b);");
+        File other = write(projectDir, "other.ts", "console.log('other');");
+        List<File> files = List.of(util, service, api, other);
+
+        TypeScriptBuildCache cache = new TypeScriptBuildCache(projectDir, cacheFile);
+        assertEquals(4, cache.getFilesToCompile(files)
+                             .size());
+        cache.update(files);
+        cache.save();
+        for (File file : files) {
+            Files.writeString(TypeScriptBuildCache.getOutputFile(file)
+                                                  .toPath(),
+                    "");
+        }
+
+        cache = new TypeScriptBuildCache(projectDir, cacheFile);
+        assertTrue(cache.getFilesToCompile(files)
+                        .isEmpty());
+
+        write(projectDir, "lib/util.ts", "export const a = 2;");
+        cache = new TypeScriptBuildCache(projectDir, cacheFile);
+        assertEquals(Set.of(util, service, api), cache.getFilesToCompile(files));
+    }
+
+    /**
+     * Write.
+     *
+     * @param projectDir the project dir
+     * @param path the path
+     * @param content the content
+     * @return the file
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static File write(File projectDir, String path, String content) throws IOException {
+        File file = new File(projectDir, path);
+        Files.createDirectories(file.getParentFile()
+                                    .toPath());
+        Files.writeString(file.toPath(), content);
+        return file;
+    }
+
+}
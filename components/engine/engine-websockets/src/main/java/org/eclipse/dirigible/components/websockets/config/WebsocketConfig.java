@@ -12,10 +12,13 @@ package org.eclipse.dirigible.components.websockets.config;
 import org.eclipse.dirigible.components.websockets.service.WebsocketProcessor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.TaskExecutorRegistration;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 /**
  * The Class DataTransferWebsocketConfig.
@@ -24,6 +27,21 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    /** The Constant DIRIGIBLE_WEBSOCKETS_INBOUND. */
+    private static final String DIRIGIBLE_WEBSOCKETS_INBOUND = "DIRIGIBLE_WEBSOCKETS_INBOUND";
+
+    /** The Constant DIRIGIBLE_WEBSOCKETS_OUTBOUND. */
+    private static final String DIRIGIBLE_WEBSOCKETS_OUTBOUND = "DIRIGIBLE_WEBSOCKETS_OUTBOUND";
+
+    /** The Constant DIRIGIBLE_WEBSOCKETS_SEND_TIME_LIMIT. */
+    private static final String DIRIGIBLE_WEBSOCKETS_SEND_TIME_LIMIT = "DIRIGIBLE_WEBSOCKETS_SEND_TIME_LIMIT";
+
+    /** The Constant DIRIGIBLE_WEBSOCKETS_SEND_BUFFER_SIZE_LIMIT. */
+    private static final String DIRIGIBLE_WEBSOCKETS_SEND_BUFFER_SIZE_LIMIT = "DIRIGIBLE_WEBSOCKETS_SEND_BUFFER_SIZE_LIMIT";
+
+    /** The Constant DIRIGIBLE_WEBSOCKETS_MESSAGE_SIZE_LIMIT. */
+    private static final String DIRIGIBLE_WEBSOCKETS_MESSAGE_SIZE_LIMIT = "DIRIGIBLE_WEBSOCKETS_MESSAGE_SIZE_LIMIT";
+
     /** The processor. */
     private final WebsocketProcessor processor;
 
@@ -57,6 +75,67 @@ public class WebsocketConfig implements WebSocketMessageBrokerConfigurer {
         config.setApplicationDestinationPrefixes("/ws");
     }
 
+    /**
+     * Configure the client inbound channel, which runs the message handlers.
+     *
+     * @param registration the registration
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        configureTaskExecutor(registration.taskExecutor(), DIRIGIBLE_WEBSOCKETS_INBOUND);
+    }
+
+    /**
+     * Configure the client outbound channel, which delivers the replies and the broadcasts to the
+     * sessions.
+     *
+     * @param registration the registration
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureTaskExecutor(registration.taskExecutor(), DIRIGIBLE_WEBSOCKETS_OUTBOUND);
+    }
+
+    /**
+     * Configure the task executor of a channel from the _CORE_POOL_SIZE, _MAX_POOL_SIZE and
+     * _QUEUE_CAPACITY settings with the given prefix. The settings, which are not set, keep their
+     * defaults. With a bounded queue and maximum pool size, the messages exceeding them are rejected.
+     *
+     * @param executor the executor
+     * @param prefix the settings prefix
+     */
+    private static void configureTaskExecutor(TaskExecutorRegistration executor, String prefix) {
+        int corePoolSize = org.eclipse.dirigible.commons.config.Configuration.getAsInt(prefix + "_CORE_POOL_SIZE", 0);
+        int maxPoolSize = org.eclipse.dirigible.commons.config.Configuration.getAsInt(prefix + "_MAX_POOL_SIZE", 0);
+        int queueCapacity = org.eclipse.dirigible.commons.config.Configuration.getAsInt(prefix + "_QUEUE_CAPACITY", 0);
+        if (corePoolSize > 0) {
+            executor.corePoolSize(corePoolSize);
+        }
+        if (maxPoolSize > 0) {
+            executor.maxPoolSize(maxPoolSize);
+        }
+        if (queueCapacity > 0) {
+            executor.queueCapacity(queueCapacity);
+        }
+    }
+
+    /**
+     * Configure the WebSocket transport. A session, which does not keep up with the sent messages
+     * within the time and buffer size limits, is closed, so that a slow client does not hold the
+     * outbound threads.
+     *
+     * @param registry the registry
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendTimeLimit(
+                org.eclipse.dirigible.commons.config.Configuration.getAsInt(DIRIGIBLE_WEBSOCKETS_SEND_TIME_LIMIT, 10 * 1000))
+                .setSendBufferSizeLimit(org.eclipse.dirigible.commons.config.Configuration.getAsInt(
+                        DIRIGIBLE_WEBSOCKETS_SEND_BUFFER_SIZE_LIMIT, 512 * 1024))
+                .setMessageSizeLimit(
+                        org.eclipse.dirigible.commons.config.Configuration.getAsInt(DIRIGIBLE_WEBSOCKETS_MESSAGE_SIZE_LIMIT, 64 * 1024));
+    }
+
     /**
      * Register stomp endpoints.
      *
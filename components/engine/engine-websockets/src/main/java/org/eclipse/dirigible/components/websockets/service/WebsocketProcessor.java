@@ -9,19 +9,37 @@
  */
 package org.eclipse.dirigible.components.websockets.service;
 
+import static org.eclipse.dirigible.graalium.core.graal.ValueTransformer.transformValue;
+
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.dirigible.components.api.websockets.WebsocketsFacade;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
 import org.eclipse.dirigible.components.engine.javascript.service.JavascriptService;
-import org.eclipse.dirigible.components.websockets.domain.Websocket;
+import org.eclipse.dirigible.graalium.core.DirigibleJavascriptRunnerPool;
 import org.eclipse.dirigible.repository.api.RepositoryPath;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 /**
- * The Class WebsocketHandler.
+ * The Class WebsocketHandler. The handlers exporting the event functions are called on a pooled
+ * runner, where the handler module is loaded once per runner. The other handlers are run through
+ * the wrapper scripts in a new runner for each event.
  */
 @Component
-public class WebsocketProcessor {
+public class WebsocketProcessor implements PublisherHandler {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(WebsocketProcessor.class);
+
+    /** The Constant NOT_EXPORTED. */
+    private static final Object NOT_EXPORTED = new Object();
 
     /** The websocket service. */
     private final WebsocketService websocketService;
@@ -29,6 +47,9 @@ public class WebsocketProcessor {
     /** The javascript service. */
     private final JavascriptService javascriptService;
 
+    /** The handlers, which have to be run through the wrapper scripts. */
+    private final Set<String> wrappedHandlers = ConcurrentHashMap.newKeySet();
+
     /**
      * Instantiates a new websocket handler.
      *
@@ -69,14 +90,13 @@ public class WebsocketProcessor {
      * @throws Exception the exception
      */
     public Object processEvent(String endpoint, String wrapper, Map<Object, Object> context) throws Exception {
-        Websocket websocket = websocketService.findByEndpoint(endpoint);
-        String module = websocket.getHandler();
-        // String engine = websocket.getEngine();
+        String module = websocketService.findHandlerByEndpoint(endpoint);
         try {
-            // if (engine == null) {
-            // engine = "javascript";
-            // }
             context.put("handler", module);
+            Object result = processPooled(module, wrapper, context);
+            if (result != NOT_EXPORTED) {
+                return result;
+            }
             RepositoryPath path = new RepositoryPath(wrapper);
             return getJavascriptService().handleRequest(path.getSegments()[0], path.constructPathFrom(1), null, context, false);
         } catch (Exception e) {
@@ -84,4 +104,87 @@ public class WebsocketProcessor {
         }
     }
 
+    /**
+     * Calls the event function exported by the handler on a pooled runner.
+     *
+     * @param handler the handler
+     * @param wrapper the wrapper
+     * @param context the context
+     * @return the result or {@link #NOT_EXPORTED}, if the handler has to be run through the wrapper
+     */
+    private Object processPooled(String handler, String wrapper, Map<Object, Object> context) {
+        String function = getFunction(wrapper);
+        if (function == null || handler == null || !(handler.endsWith(".js") || handler.endsWith(".mjs") || handler.endsWith(".ts"))
+                || wrappedHandlers.contains(handler)) {
+            return NOT_EXPORTED;
+        }
+        DirigibleJavascriptRunnerPool.Lease lease;
+        try {
+            lease = DirigibleJavascriptRunnerPool.acquire(Path.of(handler));
+        } catch (RuntimeException e) {
+            // e.g. a CommonJS handler, the wrapper loads it with require()
+            logger.debug("Handler [{}] cannot be loaded as a module, it will be run through the wrapper", handler, e);
+            wrappedHandlers.add(handler);
+            return NOT_EXPORTED;
+        }
+        try (lease) {
+            Value member = lease.getModule()
+                                .module()
+                                .getMember(function);
+            if (member == null || !member.canExecute()) {
+                wrappedHandlers.add(handler);
+                return NOT_EXPORTED;
+            }
+            lease.getContext()
+                 .putAll(context);
+            try {
+                Value value =
+                        WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_ERROR.equals(wrapper) ? member.execute(context.get("error"))
+                                : member.execute(context.get("message"), context.get("from"));
+                return transformValue(value);
+            } catch (RuntimeException e) {
+                lease.discard();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Gets the handler function called by the wrapper.
+     *
+     * @param wrapper the wrapper
+     * @return the function or null, if not supported
+     */
+    private static String getFunction(String wrapper) {
+        if (WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_MESSAGE.equals(wrapper)) {
+            return "onMessage";
+        }
+        if (WebsocketsFacade.DIRIGIBLE_WEBSOCKET_WRAPPER_MODULE_ON_ERROR.equals(wrapper)) {
+            return "onError";
+        }
+        return null;
+    }
+
+    /**
+     * After publish. The handlers are checked again for exported functions.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        wrappedHandlers.clear();
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        wrappedHandlers.clear();
+    }
+
 }
@@ -9,12 +9,17 @@
  */
 package org.eclipse.dirigible.components.websockets.service;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import org.eclipse.dirigible.components.base.artefact.ArtefactCache;
 import org.eclipse.dirigible.components.base.artefact.BaseArtefactService;
 import org.eclipse.dirigible.components.websockets.domain.Websocket;
 import org.eclipse.dirigible.components.websockets.repository.WebsocketRepository;
 import org.springframework.data.domain.Example;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -39,15 +44,55 @@ public class WebsocketService extends BaseArtefactService<Websocket, Long> {
      * @param endpoint the endpoint
      * @return the websocket
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Websocket findByEndpoint(String endpoint) {
-        Websocket filter = new Websocket();
-        filter.setEndpoint(endpoint);
-        Example<Websocket> example = Example.of(filter);
-        Optional<Websocket> extension = getRepo().findOne(example);
-        if (extension.isPresent()) {
-            return extension.get();
+        ArtefactCache<Websocket> readCache = getReadCache();
+        if (readCache != null) {
+            Websocket websocket = getByEndpoint().get(endpoint);
+            if (websocket != null) {
+                return readCache.copy(websocket);
+            }
+        } else {
+            Websocket filter = new Websocket();
+            filter.setEndpoint(endpoint);
+            Example<Websocket> example = Example.of(filter);
+            Optional<Websocket> extension = getRepo().findOne(example);
+            if (extension.isPresent()) {
+                return extension.get();
+            }
         }
         throw new IllegalArgumentException("Websocket for endpoint does not exist: " + endpoint);
     }
+
+    /**
+     * Find the handler of the websocket by endpoint. Called for each received message, hence served
+     * from the cached artefacts without a transaction and without copying the websocket.
+     *
+     * @param endpoint the endpoint
+     * @return the handler
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public String findHandlerByEndpoint(String endpoint) {
+        if (getReadCache() == null) {
+            return findByEndpoint(endpoint).getHandler();
+        }
+        Websocket websocket = getByEndpoint().get(endpoint);
+        if (websocket == null) {
+            throw new IllegalArgumentException("Websocket for endpoint does not exist: " + endpoint);
+        }
+        return websocket.getHandler();
+    }
+
+    /**
+     * Gets the cached websockets by endpoint, which must not be changed.
+     *
+     * @return the websockets by endpoint
+     */
+    private Map<String, Websocket> getByEndpoint() {
+        return getDerived("byEndpoint", websockets -> {
+            Map<String, Websocket> byEndpoint = new HashMap<>();
+            websockets.forEach(websocket -> byEndpoint.putIfAbsent(websocket.getEndpoint(), websocket));
+            return Collections.unmodifiableMap(byEndpoint);
+        });
+    }
 }
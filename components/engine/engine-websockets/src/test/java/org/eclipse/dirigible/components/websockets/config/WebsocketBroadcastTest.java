@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.websockets.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.dirigible.components.api.websockets.WebsocketsFacade;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * The Class WebsocketBroadcastTest. Sustained broadcasts to thousands of sessions subscribed to a
+ * topic, through the broker and the client outbound channel, without the network transport.
+ */
+@WithMockUser
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class WebsocketBroadcastTest {
+
+    /** The Constant SESSIONS. */
+    private static final int SESSIONS = 2000;
+
+    /** The Constant MESSAGES. */
+    private static final int MESSAGES = 50;
+
+    /** The Constant TOPIC. */
+    private static final String TOPIC = WebsocketsFacade.TOPIC_PREFIX + "load";
+
+    /** The client inbound channel. */
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private MessageChannel clientInboundChannel;
+
+    /** The client outbound channel. */
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private AbstractSubscribableChannel clientOutboundChannel;
+
+    /**
+     * Publish to thousands of sessions.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void publishToThousandsOfSessions() throws InterruptedException {
+        CountDownLatch subscribed = new CountDownLatch(SESSIONS);
+        CountDownLatch delivered = new CountDownLatch(SESSIONS * MESSAGES);
+        AtomicInteger unexpected = new AtomicInteger();
+        ChannelInterceptor interceptor = new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                if (TOPIC.equals(SimpMessageHeaderAccessor.getDestination(message.getHeaders()))) {
+                    delivered.countDown();
+                } else if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+                    unexpected.incrementAndGet();
+                }
+                // there are no transport sessions behind the simulated ones
+                return null;
+            }
+        };
+        ChannelInterceptor subscriptions = new ChannelInterceptor() {
+            @Override
+            public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+                if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.SUBSCRIBE) {
+                    subscribed.countDown();
+                }
+            }
+        };
+        clientOutboundChannel.addInterceptor(interceptor);
+        ((AbstractSubscribableChannel) clientInboundChannel).addInterceptor(subscriptions);
+        try {
+            for (int i = 0; i < SESSIONS; i++) {
+                SimpMessageHeaderAccessor connect = SimpMessageHeaderAccessor.create(SimpMessageType.CONNECT);
+                connect.setSessionId("session" + i);
+                connect.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[] {0, 0});
+                connect.setSessionAttributes(new HashMap<>());
+                assertTrue(clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], connect.getMessageHeaders())));
+
+                SimpMessageHeaderAccessor subscribe = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+                subscribe.setSessionId("session" + i);
+                subscribe.setSubscriptionId("subscription" + i);
+                subscribe.setDestination(TOPIC);
+                subscribe.setSessionAttributes(new HashMap<>());
+                assertTrue(clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], subscribe.getMessageHeaders())));
+            }
+            assertTrue(subscribed.await(30, TimeUnit.SECONDS), "Not subscribed: " + subscribed.getCount());
+
+            for (int i = 0; i < MESSAGES; i++) {
+                WebsocketsFacade.publish("load", "message" + i);
+            }
+            assertTrue(delivered.await(60, TimeUnit.SECONDS), "Not delivered: " + delivered.getCount());
+            assertEquals(0, unexpected.get());
+        } finally {
+            clientOutboundChannel.removeInterceptor(interceptor);
+            ((AbstractSubscribableChannel) clientInboundChannel).removeInterceptor(subscriptions);
+        }
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication(scanBasePackages = "org.eclipse.dirigible.components")
+    static class TestConfiguration {
+    }
+
+}
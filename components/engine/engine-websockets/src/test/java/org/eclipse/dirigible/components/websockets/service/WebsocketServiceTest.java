@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.websockets.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.eclipse.dirigible.components.websockets.domain.Websocket;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * The Class WebsocketServiceTest.
+ */
+@WithMockUser
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class WebsocketServiceTest {
+
+    /** The websocket service. */
+    @Autowired
+    private WebsocketService websocketService;
+
+    /**
+     * Cleanup.
+     */
+    @AfterEach
+    public void cleanup() {
+        websocketService.getAll()
+                        .forEach(websocketService::delete);
+    }
+
+    /**
+     * Find by endpoint follows the saved websockets.
+     */
+    @Test
+    public void findByEndpoint() {
+        Websocket websocket =
+                websocketService.save(new Websocket("/a/b/c/w1.websocket", "name1", "description", "endpoint1", "handler1", "engine1"));
+        websocketService.save(new Websocket("/a/b/c/w2.websocket", "name2", "description", "endpoint2", "handler2", "engine2"));
+
+        assertEquals("handler1", websocketService.findByEndpoint("endpoint1")
+                                                 .getHandler());
+        assertEquals("handler2", websocketService.findByEndpoint("endpoint2")
+                                                 .getHandler());
+
+        websocket.setHandler("handler1changed");
+        websocketService.save(websocket);
+        assertEquals("handler1changed", websocketService.findByEndpoint("endpoint1")
+                                                        .getHandler());
+
+        websocketService.delete(websocket);
+        assertThrows(IllegalArgumentException.class, () -> websocketService.findByEndpoint("endpoint1"));
+    }
+
+    /**
+     * The websocket found by endpoint is a copy, while the handler is looked up without copying.
+     */
+    @Test
+    public void findByEndpointIsolation() {
+        websocketService.save(new Websocket("/a/b/c/w1.websocket", "name1", "description", "endpoint1", "handler1", "engine1"));
+
+        Websocket found = websocketService.findByEndpoint("endpoint1");
+        found.setHandler("changed");
+        assertNotSame(found, websocketService.findByEndpoint("endpoint1"));
+        assertEquals("handler1", websocketService.findByEndpoint("endpoint1")
+                                                 .getHandler());
+        assertEquals("handler1", websocketService.findHandlerByEndpoint("endpoint1"));
+        assertThrows(IllegalArgumentException.class, () -> websocketService.findHandlerByEndpoint("endpoint2"));
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication(scanBasePackages = "org.eclipse.dirigible.components")
+    static class TestConfiguration {
+    }
+
+}
@@ -11,7 +11,14 @@ package org.eclipse.dirigible.components.ide.git.domain;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.dirigible.commons.api.helpers.FileSystemUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.ide.git.command.StatusCommand;
 import org.eclipse.dirigible.components.ide.git.utils.GitFileUtils;
 import org.eclipse.dirigible.components.ide.workspace.domain.ProjectStatus;
@@ -21,16 +28,45 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
- * The Class GitProjectStatusProvider.
+ * The Class GitProjectStatusProvider. The statuses are cached per Git repository and project. A
+ * cached status is computed again, when the index or the current branch of the repository have been
+ * modified, when the project files have been changed in the workspace, or after a short time to
+ * live for the changes made outside the workspace.
  */
 public class GitProjectStatusProvider implements ProjectStatusProvider {
 
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(GitProjectStatusProvider.class);
 
+    /** The Constant DIRIGIBLE_GIT_STATUS_CACHE_TTL. */
+    private static final String DIRIGIBLE_GIT_STATUS_CACHE_TTL = "DIRIGIBLE_GIT_STATUS_CACHE_TTL";
+
+    /** The Constant DEFAULT_CACHE_TTL. */
+    private static final int DEFAULT_CACHE_TTL = 30;
+
+    /** The Constant HEAD. */
+    private static final String HEAD = "HEAD";
+
+    /** The Constant REF_PREFIX. */
+    private static final String REF_PREFIX = "ref:";
+
     /** The status command. */
     private StatusCommand statusCommand;
 
+    /** The cached statuses by git directory and project. */
+    private final Map<String, CachedStatus> cache = new ConcurrentHashMap<>();
+
+    /**
+     * The cached status.
+     *
+     * @param status the status
+     * @param root the repository root
+     * @param fingerprint the fingerprint of the repository metadata
+     * @param cachedAt the cached at
+     */
+    private record CachedStatus(ProjectStatus status, File root, String fingerprint, long cachedAt) {
+    }
+
     /**
      * Instantiates a new git project status provider.
      *
@@ -50,6 +86,54 @@ public class GitProjectStatusProvider implements ProjectStatusProvider {
      */
     @Override
     public ProjectStatus getProjectStatus(String workspace, String project) {
+        File gitDirectory = getGitDirectory(workspace, project);
+        File root = gitDirectory != null ? findRepositoryRoot(gitDirectory) : null;
+        if (root == null) {
+            return executeStatus(workspace, project);
+        }
+        String key = gitDirectory.getPath() + File.pathSeparator + project;
+        String fingerprint = getFingerprint(root);
+        CachedStatus cached = cache.get(key);
+        if (cached != null && cached.fingerprint()
+                                    .equals(fingerprint)
+                && System.currentTimeMillis() - cached.cachedAt() < getTimeToLive()) {
+            return cached.status();
+        }
+        ProjectStatus status = executeStatus(workspace, project);
+        if (status != null) {
+            cache.put(key, new CachedStatus(status, root, fingerprint, System.currentTimeMillis()));
+        }
+        return status;
+    }
+
+    /**
+     * Invalidates the cached statuses of the Git repository of the project.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     */
+    @Override
+    public void invalidate(String workspace, String project) {
+        if (cache.isEmpty()) {
+            return;
+        }
+        File gitDirectory = getGitDirectory(workspace, project);
+        File root = gitDirectory != null ? findRepositoryRoot(gitDirectory) : null;
+        if (root != null) {
+            cache.values()
+                 .removeIf(cached -> cached.root()
+                                           .equals(root));
+        }
+    }
+
+    /**
+     * Execute the status command.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @return the project status
+     */
+    private ProjectStatus executeStatus(String workspace, String project) {
         try {
             return statusCommand.execute(workspace, project);
         } catch (GitConnectorException e) {
@@ -60,6 +144,83 @@ public class GitProjectStatusProvider implements ProjectStatusProvider {
         return null;
     }
 
+    /**
+     * Gets the git directory of the project.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @return the git directory or null
+     */
+    private static File getGitDirectory(String workspace, String project) {
+        try {
+            File gitDirectory = GitFileUtils.getGitDirectoryByRepositoryName(workspace, project);
+            return gitDirectory != null ? gitDirectory.getCanonicalFile() : null;
+        } catch (IOException | RuntimeException e) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(e.getMessage(), e);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Find the root of the Git repository, containing the git directory.
+     *
+     * @param gitDirectory the git directory
+     * @return the repository root or null
+     */
+    private static File findRepositoryRoot(File gitDirectory) {
+        File directory = gitDirectory;
+        // the git directories are stored under a .git folder, which is not a repository itself
+        while (directory != null && !FileSystemUtils.DOT_GIT.equals(directory.getName())) {
+            if (new File(directory, FileSystemUtils.DOT_GIT).isDirectory()) {
+                return directory;
+            }
+            directory = directory.getParentFile();
+        }
+        return null;
+    }
+
+    /**
+     * Gets the fingerprint of the repository metadata - the index and the current branch.
+     *
+     * @param root the repository root
+     * @return the fingerprint
+     */
+    private static String getFingerprint(File root) {
+        File dotGit = new File(root, FileSystemUtils.DOT_GIT);
+        File index = new File(dotGit, "index");
+        File head = new File(dotGit, HEAD);
+        StringBuilder fingerprint = new StringBuilder().append(index.lastModified())
+                                                       .append(':')
+                                                       .append(index.length())
+                                                       .append(':')
+                                                       .append(head.lastModified())
+                                                       .append(':')
+                                                       .append(new File(dotGit, "packed-refs").lastModified());
+        try {
+            String ref = Files.readString(head.toPath(), StandardCharsets.UTF_8)
+                              .trim();
+            if (ref.startsWith(REF_PREFIX)) {
+                fingerprint.append(':')
+                           .append(new File(dotGit, ref.substring(REF_PREFIX.length())
+                                                       .trim()).lastModified());
+            }
+        } catch (IOException e) {
+            // no current branch - the timestamps are enough
+        }
+        return fingerprint.toString();
+    }
+
+    /**
+     * Gets the time to live of a cached status in milliseconds.
+     *
+     * @return the time to live
+     */
+    private static long getTimeToLive() {
+        return TimeUnit.SECONDS.toMillis(Configuration.getAsInt(DIRIGIBLE_GIT_STATUS_CACHE_TTL, DEFAULT_CACHE_TTL));
+    }
+
     /**
      * Gets the project git folder.
      *
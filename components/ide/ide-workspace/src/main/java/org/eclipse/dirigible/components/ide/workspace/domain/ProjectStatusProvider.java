@@ -35,4 +35,12 @@ public interface ProjectStatusProvider {
      */
     String getProjectGitFolder(String workspace, String project) throws IOException;
 
+    /**
+     * Invalidates the cached status of the project, after its files have been changed.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     */
+    default void invalidate(String workspace, String project) {}
+
 }
@@ -29,6 +29,9 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.servlet.http.HttpServletRequest;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -143,7 +146,7 @@ public class TransportEndpoint {
             relativePath = UrlFacade.decode(folder, null);
         }
 
-        transportService.importZipToPath(workspace, project, relativePath, file.getBytes(), true);
+        transportService.importZipToPath(workspace, project, relativePath, file.getInputStream(), true);
         return ResponseEntity.ok()
                              .build();
     }
@@ -160,30 +163,37 @@ public class TransportEndpoint {
      * @throws DecoderException the repository export exception
      */
     @GetMapping(value = "/project/{workspace}/{project}/{*folder}", produces = "multipart/form-data")
-    public ResponseEntity<?> exportProject(@PathVariable("workspace") String workspace, @PathVariable("project") String project,
-            @PathVariable("folder") String folder) throws RepositoryExportException, UnsupportedEncodingException, DecoderException {
+    public ResponseEntity<StreamingResponseBody> exportProject(@PathVariable("workspace") String workspace,
+            @PathVariable("project") String project, @PathVariable("folder") String folder)
+            throws RepositoryExportException, UnsupportedEncodingException, DecoderException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip;
+        StreamingResponseBody zip;
 
         if ("*".equals(project)) {
-            zip = transportService.exportWorkspace(workspace);
+            zip = output -> transportService.exportWorkspace(workspace, output);
 
             final HttpHeaders httpHeaders = new HttpHeaders();
             httpHeaders.setContentDisposition(
                     ContentDisposition.parse("attachment; filename=\"" + workspace + "-" + pattern.format(new Date()) + ".zip\""));
-            return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+            return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
         } else if (folder == null || folder.isEmpty() || folder.trim()
                                                                .isEmpty()
                 || folder.equals("/"))
-            zip = transportService.exportProject(workspace, project);
+            zip = output -> transportService.exportProject(workspace, project, output);
         else
-            zip = transportService.exportFolder(workspace, project, folder);
+            zip = output -> {
+                try {
+                    transportService.exportFolder(workspace, project, folder, output);
+                } catch (DecoderException e) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage(), e);
+                }
+            };
 
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
                 ContentDisposition.parse("attachment; filename=\"" + project + "-" + pattern.format(new Date()) + ".zip\""));
-        return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
     }
 
     /**
@@ -198,7 +208,24 @@ public class TransportEndpoint {
     public ResponseEntity<?> importSnapshot(@Validated @RequestParam("file") MultipartFile file)
             throws RepositoryImportException, IOException {
 
-        transportService.importSnapshot(file.getBytes());
+        transportService.importSnapshot(file.getInputStream());
+        return ResponseEntity.ok()
+                             .build();
+    }
+
+    /**
+     * Import snapshot sent as a raw request body. The entries are imported as they arrive, without
+     * buffering the whole upload first.
+     *
+     * @param request the request
+     * @return the response
+     * @throws RepositoryImportException the repository import exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @PostMapping(value = "/snapshot", consumes = {"application/zip", "application/octet-stream"}, produces = "application/json")
+    public ResponseEntity<?> importSnapshotStream(HttpServletRequest request) throws RepositoryImportException, IOException {
+
+        transportService.importSnapshot(request.getInputStream());
         return ResponseEntity.ok()
                              .build();
     }
@@ -210,14 +237,14 @@ public class TransportEndpoint {
      * @throws RepositoryExportException the repository export exception
      */
     @GetMapping(value = "/snapshot", produces = "multipart/form-data")
-    public ResponseEntity<?> exportSnapshot() throws RepositoryExportException {
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() throws RepositoryExportException {
 
         SimpleDateFormat pattern = getDateFormat();
-        byte[] zip = transportService.exportSnapshot();
+        StreamingResponseBody zip = output -> transportService.exportSnapshot(output);
         final HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.setContentDisposition(
                 ContentDisposition.parse("attachment; filename=\"repository-snapshot-" + pattern.format(new Date()) + ".zip\""));
-        return new ResponseEntity(zip, httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(zip, httpHeaders, HttpStatus.OK);
     }
 
     /**
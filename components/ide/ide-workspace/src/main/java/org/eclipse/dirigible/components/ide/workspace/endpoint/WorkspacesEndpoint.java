@@ -40,6 +40,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 import jakarta.annotation.Nullable;
@@ -174,11 +175,15 @@ public class WorkspacesEndpoint {
      *
      * @param workspace the workspace
      * @param project the project
+     * @param offset the offset of the first child, when a page of the direct children is requested
+     * @param limit the maximum number of children, if set only a page of the direct children is
+     *        described
      * @return the project
      */
     @GetMapping(value = "/{workspace}/{project}", produces = "application/json")
     public ResponseEntity<ProjectDescriptor> getProject(@PathVariable("workspace") String workspace,
-            @PathVariable("project") String project) {
+            @PathVariable("project") String project, @Nullable @RequestParam("offset") Integer offset,
+            @Nullable @RequestParam("limit") Integer limit) {
 
         if (!workspaceService.existsWorkspace(workspace)) {
             String error = format(WORKSPACE_0_DOES_NOT_EXIST, workspace);
@@ -195,6 +200,9 @@ public class WorkspacesEndpoint {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, project);
         }
 
+        if (limit != null) {
+            return ResponseEntity.ok(workspaceService.renderProjectPage(workspace, projectObject, offset != null ? offset : 0, limit));
+        }
         return ResponseEntity.ok(workspaceService.renderProjectTree(workspace, projectObject));
     }
 
@@ -267,11 +275,16 @@ public class WorkspacesEndpoint {
      * @param project the project
      * @param path the path
      * @param headerContentType the header content type
+     * @param offset the offset of the first child, when a page of the direct children of a folder is
+     *        requested
+     * @param limit the maximum number of children, if set only a page of the direct children of a
+     *        folder is described
      * @return the file
      */
     @GetMapping("/{workspace}/{project}/{*path}")
     public ResponseEntity<?> getFile(@PathVariable("workspace") String workspace, @PathVariable("project") String project,
-            @PathVariable("path") String path, @Nullable @RequestHeader("describe") String headerContentType) {
+            @PathVariable("path") String path, @Nullable @RequestHeader("describe") String headerContentType,
+            @Nullable @RequestParam("offset") Integer offset, @Nullable @RequestParam("limit") Integer limit) {
         if (path.startsWith("/"))
             path = path.substring(1);
 
@@ -294,6 +307,10 @@ public class WorkspacesEndpoint {
             }
             final HttpHeaders httpHeaders = new HttpHeaders();
             httpHeaders.setContentType(MediaType.APPLICATION_JSON);
+            if (limit != null) {
+                return new ResponseEntity<>(workspaceService.renderFolderPage(workspace, folder, offset != null ? offset : 0, limit),
+                        httpHeaders, HttpStatus.OK);
+            }
             return new ResponseEntity<>(workspaceService.renderFolderTree(workspace, folder), httpHeaders, HttpStatus.OK);
         }
         if (ContentTypeHelper.APPLICATION_JSON.equals(headerContentType)) {
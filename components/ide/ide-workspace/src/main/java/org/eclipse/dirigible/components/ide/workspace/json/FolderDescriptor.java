@@ -35,6 +35,9 @@ public class FolderDescriptor {
     /** The files. */
     private List<FileDescriptor> files = new ArrayList<FileDescriptor>();
 
+    /** The total number of the children, set when only a page of them is described. */
+    private Integer total;
+
     /**
      * Gets the name.
      *
@@ -134,4 +137,22 @@ public class FolderDescriptor {
         this.files = files;
     }
 
+    /**
+     * Gets the total number of the children, set when only a page of them is described.
+     *
+     * @return the total
+     */
+    public Integer getTotal() {
+        return total;
+    }
+
+    /**
+     * Sets the total.
+     *
+     * @param total the new total
+     */
+    public void setTotal(Integer total) {
+        this.total = total;
+    }
+
 }
@@ -68,15 +68,7 @@ public class WorkspaceGitHelper {
                     for (int i = 0; i < segmentsCount; i++) {
                         directory = directory.getParentFile();
                     }
-                    boolean haveGitDirectory = false;
-                    for (File next : directory.listFiles()) {
-                        if (next.exists() && next.isDirectory() && next.getName()
-                                                                       .equals(DOT_GIT)) {
-                            haveGitDirectory = true;
-                            break;
-                        }
-                    }
-                    if (directory.exists() && haveGitDirectory) {
+                    if (new File(directory, DOT_GIT).isDirectory()) {
                         return directory;
                     }
                 }
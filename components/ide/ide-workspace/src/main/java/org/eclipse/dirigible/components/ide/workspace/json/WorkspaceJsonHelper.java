@@ -12,6 +12,8 @@ package org.eclipse.dirigible.components.ide.workspace.json;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -181,6 +183,32 @@ public class WorkspaceJsonHelper implements InitializingBean {
         return projectPojo;
     }
 
+    /**
+     * Describe a page of the direct children of the project. The child folders are described without
+     * their content, which is requested when they are expanded.
+     *
+     * @param workspace the workspace
+     * @param collection the collection
+     * @param removePathPrefix the remove path prefix
+     * @param addPathPrefix the add path prefix
+     * @param offset the offset of the first child, the folders are listed before the files
+     * @param limit the maximum number of children
+     * @return the project descriptor
+     */
+    public static ProjectDescriptor describeProjectPage(String workspace, ICollection collection, String removePathPrefix,
+            String addPathPrefix, int offset, int limit) {
+        ProjectDescriptor projectPojo = new ProjectDescriptor();
+        projectPojo.setName(collection.getName());
+        projectPojo.setPath(addPathPrefix + collection.getPath()
+                                                      .substring(removePathPrefix.length()));
+        RepositoryPath repositoryPath = new RepositoryPath(collection.getPath());
+
+        ProjectStatus status = getProjectStatus(workspace, collection, projectPojo, repositoryPath);
+        projectPojo.setTotal(describeChildrenPage(collection, removePathPrefix, addPathPrefix, status, offset, limit,
+                projectPojo.getFolders(), projectPojo.getFiles()));
+        return projectPojo;
+    }
+
     /**
      * Gets the project status.
      *
@@ -372,6 +400,33 @@ public class WorkspaceJsonHelper implements InitializingBean {
      */
     public static FolderDescriptor describeFolder(ICollection collection, String removePathPrefix, String addPathPrefix,
             ProjectStatus status) {
+        FolderDescriptor folderPojo = describeFolderOnly(collection, removePathPrefix, addPathPrefix, status);
+        List<ICollection> collections = collection.getCollections();
+        for (ICollection childCollection : collections) {
+            folderPojo.getFolders()
+                      .add(describeFolder(childCollection, removePathPrefix, addPathPrefix, status));
+        }
+
+        List<IResource> resources = collection.getResources();
+        for (IResource childResource : resources) {
+            folderPojo.getFiles()
+                      .add(describeFile(childResource, removePathPrefix, addPathPrefix, status));
+        }
+
+        return folderPojo;
+    }
+
+    /**
+     * Describe the folder without its content.
+     *
+     * @param collection the collection
+     * @param removePathPrefix the remove path prefix
+     * @param addPathPrefix the add path prefix
+     * @param status the project status
+     * @return the folder descriptor
+     */
+    private static FolderDescriptor describeFolderOnly(ICollection collection, String removePathPrefix, String addPathPrefix,
+            ProjectStatus status) {
         FolderDescriptor folderPojo = new FolderDescriptor();
         folderPojo.setName(collection.getName());
         folderPojo.setPath(addPathPrefix + collection.getPath()
@@ -392,21 +447,70 @@ public class WorkspaceJsonHelper implements InitializingBean {
                 }
             }
         }
-        List<ICollection> collections = collection.getCollections();
-        for (ICollection childCollection : collections) {
-            folderPojo.getFolders()
-                      .add(describeFolder(childCollection, removePathPrefix, addPathPrefix, status));
-        }
+        return folderPojo;
+    }
 
-        List<IResource> resources = collection.getResources();
-        for (IResource childResource : resources) {
-            folderPojo.getFiles()
-                      .add(describeFile(childResource, removePathPrefix, addPathPrefix, status));
-        }
+    /**
+     * Describe a page of the direct children of the folder. The child folders are described without
+     * their content, which is requested when they are expanded.
+     *
+     * @param workspace the workspace
+     * @param collection the collection
+     * @param removePathPrefix the remove path prefix
+     * @param addPathPrefix the add path prefix
+     * @param offset the offset of the first child, the folders are listed before the files
+     * @param limit the maximum number of children
+     * @return the folder descriptor
+     */
+    public static FolderDescriptor describeFolderPage(String workspace, ICollection collection, String removePathPrefix,
+            String addPathPrefix, int offset, int limit) {
+        ProjectDescriptor projectPojo = getProjectForStatus(collection, removePathPrefix, addPathPrefix);
+        RepositoryPath repositoryPath = new RepositoryPath(removePathPrefix + projectPojo.getPath());
 
+        ProjectStatus status = getProjectStatus(workspace, collection.getRepository()
+                                                                     .getCollection(repositoryPath.toString()),
+                projectPojo, repositoryPath);
+        FolderDescriptor folderPojo = describeFolderOnly(collection, removePathPrefix, addPathPrefix, status);
+        folderPojo.setTotal(describeChildrenPage(collection, removePathPrefix, addPathPrefix, status, offset, limit,
+                folderPojo.getFolders(), folderPojo.getFiles()));
         return folderPojo;
     }
 
+    /**
+     * Describe a page of the direct children of a collection. Only the names are listed for the whole
+     * collection, the descriptors are created for the children in the page.
+     *
+     * @param collection the collection
+     * @param removePathPrefix the remove path prefix
+     * @param addPathPrefix the add path prefix
+     * @param status the project status
+     * @param offset the offset
+     * @param limit the limit
+     * @param folders the folders of the page
+     * @param files the files of the page
+     * @return the total number of children
+     */
+    private static int describeChildrenPage(ICollection collection, String removePathPrefix, String addPathPrefix, ProjectStatus status,
+            int offset, int limit, List<FolderDescriptor> folders, List<FileDescriptor> files) {
+        List<String> collectionsNames = new ArrayList<>(collection.getCollectionsNames());
+        List<String> resourcesNames = new ArrayList<>(collection.getResourcesNames());
+        Collections.sort(collectionsNames);
+        Collections.sort(resourcesNames);
+
+        int total = collectionsNames.size() + resourcesNames.size();
+        int from = Math.max(0, offset);
+        int to = (int) Math.min(total, (long) from + Math.max(0, limit));
+        for (int i = from; i < to; i++) {
+            if (i < collectionsNames.size()) {
+                folders.add(describeFolderOnly(collection.getCollection(collectionsNames.get(i)), removePathPrefix, addPathPrefix, status));
+            } else {
+                files.add(describeFile(collection.getResource(resourcesNames.get(i - collectionsNames.size())), removePathPrefix,
+                        addPathPrefix, status));
+            }
+        }
+        return total;
+    }
+
     /**
      * Describe file.
      *
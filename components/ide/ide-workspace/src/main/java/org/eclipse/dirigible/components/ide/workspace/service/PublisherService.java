@@ -9,12 +9,17 @@
  */
 package org.eclipse.dirigible.components.ide.workspace.service;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.components.api.security.UserFacade;
 import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
 import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.api.IEntityInformation;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IRepositoryStructure;
 import org.eclipse.dirigible.repository.api.IResource;
@@ -36,6 +41,15 @@ public class PublisherService {
     /** The Constant logger. */
     private static final Logger logger = LoggerFactory.getLogger(PublisherService.class);
 
+    /**
+     * The location of the manifests of the registry resources published by each workspace. It is out of
+     * the public registry, hence neither synchronized nor served.
+     */
+    static final String PATH_PUBLISHED_MANIFESTS = IRepositoryStructure.PATH_REGISTRY + IRepositoryStructure.SEPARATOR + ".published";
+
+    /** The locks of the manifests. */
+    private final Map<String, Object> manifestLocks = new ConcurrentHashMap<>();
+
     /** The publisher handlers. */
     private final List<PublisherHandler> publisherHandlers;
 
@@ -97,12 +111,12 @@ public class PublisherService {
         ICollection collection = getRepository().getCollection(sourceLocation);
         if (collection.exists()) {
             String targetLocation = new RepositoryPath(IRepositoryStructure.PATH_REGISTRY_PUBLIC, project, path).toString();
-            publishResource(sourceLocation, targetLocation, new PublisherHandler.AfterPublishMetadata(workspace, project, path, true));
+            publishResource(sourceLocation, targetLocation, user, workspace, project, path, true);
         } else {
             IResource resource = getRepository().getResource(sourceLocation);
             if (resource.exists()) {
                 String targetLocation = new RepositoryPath(IRepositoryStructure.PATH_REGISTRY_PUBLIC, project, path).toString();
-                publishResource(sourceLocation, targetLocation, new PublisherHandler.AfterPublishMetadata(workspace, project, path, false));
+                publishResource(sourceLocation, targetLocation, user, workspace, project, path, false);
             }
         }
     }
@@ -125,9 +139,14 @@ public class PublisherService {
      *
      * @param sourceLocation the source location
      * @param targetLocation the target location
-     * @param afterPublishMetadata the after publish metadata
+     * @param user the user
+     * @param workspace the workspace
+     * @param project the project
+     * @param path the path
+     * @param isDirectory the is directory
      */
-    private void publishResource(String sourceLocation, String targetLocation, PublisherHandler.AfterPublishMetadata afterPublishMetadata) {
+    private void publishResource(String sourceLocation, String targetLocation, String user, String workspace, String project, String path,
+            boolean isDirectory) {
         for (PublisherHandler next : publisherHandlers) {
             try {
                 next.beforePublish(sourceLocation);
@@ -138,23 +157,33 @@ public class PublisherService {
             }
         }
 
-        ICollection sourceCollection = getRepository().getCollection(sourceLocation);
-        if (sourceCollection.exists()) {
-            // publish collection
-            ICollection targetCollection = getRepository().getCollection(targetLocation);
-            sourceCollection.copyTo(targetCollection.getPath());
-            logger.info("Published collection: {} -> {}", sourceCollection.getPath(), targetCollection.getPath());
-        } else {
-            // publish a single resource
-            IResource sourceResource = getRepository().getResource(sourceLocation);
-            IResource targetResource = getRepository().getResource(targetLocation);
-            if (targetResource.exists()) {
-                targetResource.setContent(sourceResource.getContent());
+        PublisherHandler.PublishDelta delta = new PublisherHandler.PublishDelta();
+        String manifestLocation = new RepositoryPath(PATH_PUBLISHED_MANIFESTS, user, workspace + ".properties").toString();
+        synchronized (manifestLocks.computeIfAbsent(manifestLocation, k -> new Object())) {
+            Properties manifest = loadManifest(manifestLocation);
+            ICollection sourceCollection = getRepository().getCollection(sourceLocation);
+            if (sourceCollection.exists()) {
+                // publish collection
+                ICollection targetCollection = getRepository().getCollection(targetLocation);
+                publishCollection(sourceCollection, targetCollection, delta, manifest);
+                logger.info("Published collection: {} -> {} with [{}] added, [{}] changed and [{}] removed", sourceCollection.getPath(),
+                        targetCollection.getPath(), delta.added()
+                                                         .size(),
+                        delta.changed()
+                             .size(),
+                        delta.removed()
+                             .size());
             } else {
-                getRepository().createResource(targetLocation, sourceResource.getContent());
+                // publish a single resource
+                IResource sourceResource = getRepository().getResource(sourceLocation);
+                IResource targetResource = getRepository().getResource(targetLocation);
+                publishFile(sourceResource, targetResource, delta, manifest);
+                logger.info("Published resource: {} -> {}", sourceResource.getPath(), targetResource.getPath());
             }
-            logger.info("Published resource: {} -> {}", sourceResource.getPath(), targetResource.getPath());
+            saveManifest(manifestLocation, manifest);
         }
+        PublisherHandler.AfterPublishMetadata afterPublishMetadata =
+                new PublisherHandler.AfterPublishMetadata(workspace, project, path, isDirectory, delta);
 
         for (PublisherHandler next : publisherHandlers) {
             try {
@@ -167,6 +196,197 @@ public class PublisherService {
         }
     }
 
+    /**
+     * Publish only the added, changed and removed resources of a collection. Only the registry
+     * resources published by the workspace before and not changed since then are removed, so that the
+     * resources published by other workspaces or created directly in the registry are kept.
+     *
+     * @param sourceCollection the source collection
+     * @param targetCollection the target collection
+     * @param delta the delta
+     * @param manifest the manifest of the resources published by the workspace
+     */
+    private void publishCollection(ICollection sourceCollection, ICollection targetCollection, PublisherHandler.PublishDelta delta,
+            Properties manifest) {
+        if (!targetCollection.exists()) {
+            targetCollection.create();
+        }
+
+        Set<String> sourceResources = new HashSet<>();
+        for (IResource sourceResource : sourceCollection.getResources()) {
+            sourceResources.add(sourceResource.getName());
+            publishFile(sourceResource, targetCollection.getResource(sourceResource.getName()), delta, manifest);
+        }
+        for (IResource targetResource : targetCollection.getResources()) {
+            if (!sourceResources.contains(targetResource.getName())) {
+                removeFile(targetResource, delta, manifest);
+            }
+        }
+
+        Set<String> sourceCollections = new HashSet<>();
+        for (ICollection sourceChild : sourceCollection.getCollections()) {
+            sourceCollections.add(sourceChild.getName());
+            publishCollection(sourceChild, targetCollection.getCollection(sourceChild.getName()), delta, manifest);
+        }
+        for (ICollection targetChild : targetCollection.getCollections()) {
+            if (!sourceCollections.contains(targetChild.getName())) {
+                removeCollection(targetChild, delta, manifest);
+            }
+        }
+    }
+
+    /**
+     * Removes the resources of a registry collection, which are no longer in the workspace, and the
+     * collection itself, if nothing else remains in it.
+     *
+     * @param targetCollection the target collection
+     * @param delta the delta
+     * @param manifest the manifest
+     */
+    private void removeCollection(ICollection targetCollection, PublisherHandler.PublishDelta delta, Properties manifest) {
+        for (IResource targetResource : targetCollection.getResources()) {
+            removeFile(targetResource, delta, manifest);
+        }
+        for (ICollection targetChild : targetCollection.getCollections()) {
+            removeCollection(targetChild, delta, manifest);
+        }
+        if (targetCollection.getResources()
+                            .isEmpty()
+                && targetCollection.getCollections()
+                                   .isEmpty()) {
+            targetCollection.delete();
+            delta.removed()
+                 .add(targetCollection.getPath());
+        }
+    }
+
+    /**
+     * Removes a registry resource, which is no longer in the workspace, if it has been published by the
+     * workspace and not changed since then.
+     *
+     * @param targetResource the target resource
+     * @param delta the delta
+     * @param manifest the manifest
+     */
+    private void removeFile(IResource targetResource, PublisherHandler.PublishDelta delta, Properties manifest) {
+        String published = manifest.getProperty(targetResource.getPath());
+        if (published == null) {
+            return;
+        }
+        manifest.remove(targetResource.getPath());
+        if (published.equals(getModifiedAt(targetResource))) {
+            targetResource.delete();
+            delta.removed()
+                 .add(targetResource.getPath());
+        }
+    }
+
+    /**
+     * Publish a single resource, if it is new or changed, and record it in the manifest.
+     *
+     * @param sourceResource the source resource
+     * @param targetResource the target resource
+     * @param delta the delta
+     * @param manifest the manifest
+     */
+    private void publishFile(IResource sourceResource, IResource targetResource, PublisherHandler.PublishDelta delta, Properties manifest) {
+        if (!targetResource.exists()) {
+            getRepository().createResource(targetResource.getPath(), sourceResource.getContent(), sourceResource.isBinary(),
+                    sourceResource.getContentType());
+            delta.added()
+                 .add(targetResource.getPath());
+        } else if (isModified(sourceResource, targetResource)) {
+            byte[] content = sourceResource.getContent();
+            if (!Arrays.equals(content, targetResource.getContent())) {
+                targetResource.setContent(content);
+                delta.changed()
+                     .add(targetResource.getPath());
+            }
+        }
+        String modifiedAt = getModifiedAt(targetResource);
+        if (modifiedAt != null) {
+            manifest.setProperty(targetResource.getPath(), modifiedAt);
+        }
+    }
+
+    /**
+     * Gets the modification timestamp of a registry resource, as recorded in the manifests.
+     *
+     * @param resource the resource
+     * @return the timestamp, or null if not known
+     */
+    private static String getModifiedAt(IResource resource) {
+        IEntityInformation information = resource.getInformation();
+        return information != null && information.getModifiedAt() != null ? String.valueOf(information.getModifiedAt()
+                                                                                                      .getTime())
+                : null;
+    }
+
+    /**
+     * Loads the manifest of the registry resources published by a workspace with their modification
+     * timestamps at publish time.
+     *
+     * @param manifestLocation the manifest location
+     * @return the manifest
+     */
+    private Properties loadManifest(String manifestLocation) {
+        Properties manifest = new Properties();
+        IResource resource = getRepository().getResource(manifestLocation);
+        if (resource.exists()) {
+            try {
+                manifest.load(new ByteArrayInputStream(resource.getContent()));
+            } catch (IOException e) {
+                logger.error("Could not load the publish manifest [{}], no resources will be removed from the registry", manifestLocation,
+                        e);
+            }
+        }
+        return manifest;
+    }
+
+    /**
+     * Saves the manifest of a workspace.
+     *
+     * @param manifestLocation the manifest location
+     * @param manifest the manifest
+     */
+    private void saveManifest(String manifestLocation, Properties manifest) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        try {
+            manifest.store(content, null);
+        } catch (IOException e) {
+            logger.error("Could not store the publish manifest [{}]", manifestLocation, e);
+            return;
+        }
+        IResource resource = getRepository().getResource(manifestLocation);
+        if (resource.exists()) {
+            resource.setContent(content.toByteArray());
+        } else {
+            getRepository().createResource(manifestLocation, content.toByteArray());
+        }
+    }
+
+    /**
+     * Checks if the source resource may differ from the published one. The published copy is written
+     * after the source, hence only a source, which is not older than its copy, has to be compared.
+     *
+     * @param sourceResource the source resource
+     * @param targetResource the target resource
+     * @return true, if the source may be modified
+     */
+    private boolean isModified(IResource sourceResource, IResource targetResource) {
+        IEntityInformation sourceInformation = sourceResource.getInformation();
+        IEntityInformation targetInformation = targetResource.getInformation();
+        if (sourceInformation == null || targetInformation == null) {
+            return true;
+        }
+        if (!Objects.equals(sourceInformation.getSize(), targetInformation.getSize())) {
+            return true;
+        }
+        Date sourceModifiedAt = sourceInformation.getModifiedAt();
+        Date targetModifiedAt = targetInformation.getModifiedAt();
+        return sourceModifiedAt == null || targetModifiedAt == null || !sourceModifiedAt.before(targetModifiedAt);
+    }
+
     /**
      * Publish resource.
      *
@@ -10,6 +10,7 @@
 package org.eclipse.dirigible.components.ide.workspace.service;
 
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.util.zip.ZipInputStream;
 
@@ -73,17 +74,17 @@ public class TransportService {
      * @param workspaceName the workspace name
      * @param projectName the project name
      * @param pathInProject the path in project
-     * @param content the content
+     * @param content the zip content, which entries are imported as they are read
      * @param override the override
      */
-    public void importZipToPath(String workspaceName, String projectName, String pathInProject, byte[] content, Boolean override) {
+    public void importZipToPath(String workspaceName, String projectName, String pathInProject, InputStream content, Boolean override) {
         if (override == null)
             override = true;
         Workspace workspace = getWorkspace(workspaceName);
         String projectPath = workspace.getProject(projectName)
                                       .getPath();
         String importPath = projectPath + IRepositoryStructure.SEPARATOR + pathInProject;
-        getRepository().importZip(content, importPath, override, false, null);
+        getRepository().importZip(new ZipInputStream(content), importPath, override);
     }
 
     /**
@@ -131,23 +132,23 @@ public class TransportService {
      *
      * @param workspace the workspace
      * @param project the project
-     * @return the byte[]
+     * @param output the output stream
      */
-    public byte[] exportProject(String workspace, String project) {
+    public void exportProject(String workspace, String project, OutputStream output) {
         Workspace workspaceApi = getWorkspace(workspace);
         Project projectApi = getProject(workspaceApi, project);
-        return getRepository().exportZip(projectApi.getPath(), true);
+        getRepository().exportZip(projectApi.getPath(), true, output);
     }
 
     /**
      * Export workspace.
      *
      * @param workspace the workspace
-     * @return the byte[]
+     * @param output the output stream
      */
-    public byte[] exportWorkspace(String workspace) {
+    public void exportWorkspace(String workspace, OutputStream output) {
         Workspace workspaceApi = getWorkspace(workspace);
-        return getRepository().exportZip(workspaceApi.getPath(), false);
+        getRepository().exportZip(workspaceApi.getPath(), false, output);
     }
 
     /**
@@ -156,15 +157,16 @@ public class TransportService {
      * @param workspace the workspace
      * @param project the project
      * @param folder the project
-     * @return the byte[]
+     * @param output the output stream
      * @throws UnsupportedEncodingException the unsupported encoding exception
      * @throws DecoderException the decoder exception
      */
-    public byte[] exportFolder(String workspace, String project, String folder) throws UnsupportedEncodingException, DecoderException {
+    public void exportFolder(String workspace, String project, String folder, OutputStream output)
+            throws UnsupportedEncodingException, DecoderException {
         Workspace workspaceApi = getWorkspace(workspace);
         Project projectApi = getProject(workspaceApi, project);
         String decodedPath = UrlFacade.decode(folder, null);
-        return getRepository().exportZip(projectApi.getPath() + IRepositoryStructure.SEPARATOR + decodedPath, true);
+        getRepository().exportZip(projectApi.getPath() + IRepositoryStructure.SEPARATOR + decodedPath, true, output);
     }
 
     /**
@@ -191,19 +193,19 @@ public class TransportService {
     /**
      * Import snapshot.
      *
-     * @param content the content
+     * @param content the zip content, which entries are imported as they are read
      */
-    public void importSnapshot(byte[] content) {
-        getRepository().importZip(content, IRepositoryStructure.SEPARATOR, true, false, null);
+    public void importSnapshot(InputStream content) {
+        getRepository().importZip(new ZipInputStream(content), IRepositoryStructure.SEPARATOR, true);
     }
 
     /**
      * Export snapshot.
      *
-     * @return the byte[]
+     * @param output the output stream
      */
-    public byte[] exportSnapshot() {
-        return getRepository().exportZip(IRepositoryStructure.SEPARATOR, true);
+    public void exportSnapshot(OutputStream output) {
+        getRepository().exportZip(IRepositoryStructure.SEPARATOR, true, output);
     }
 
     /**
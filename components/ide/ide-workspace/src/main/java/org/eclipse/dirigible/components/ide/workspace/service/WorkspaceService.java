@@ -347,7 +347,9 @@ public class WorkspaceService {
     public Folder createFolder(String workspace, String project, String path) {
         Workspace workspaceObject = getWorkspace(workspace);
         Project projectObject = workspaceObject.getProject(project);
-        return projectObject.createFolder(path);
+        Folder folderObject = projectObject.createFolder(path);
+        invalidateProjectStatus(workspace, project);
+        return folderObject;
     }
 
     /**
@@ -361,6 +363,7 @@ public class WorkspaceService {
         Workspace workspaceObject = getWorkspace(workspace);
         Project projectObject = workspaceObject.getProject(project);
         projectObject.deleteFolder(path);
+        invalidateProjectStatus(workspace, project);
     }
 
     // File
@@ -412,6 +415,7 @@ public class WorkspaceService {
         boolean isBinary = ContentTypeHelper.isBinary(contentType);
         File fileObject = projectObject.createFile(path, content, isBinary, contentType);
         triggerOnSaveExtensions(workspace, project, path);
+        invalidateProjectStatus(workspace, project);
         return fileObject;
     }
 
@@ -431,6 +435,7 @@ public class WorkspaceService {
         fileObject.getInternal()
                   .setContent(content);
         triggerOnSaveExtensions(workspace, project, path);
+        invalidateProjectStatus(workspace, project);
         return fileObject;
     }
 
@@ -445,6 +450,7 @@ public class WorkspaceService {
         Workspace workspaceObject = getWorkspace(workspace);
         Project projectObject = workspaceObject.getProject(project);
         projectObject.deleteFile(path);
+        invalidateProjectStatus(workspace, project);
     }
 
     /**
@@ -505,6 +511,34 @@ public class WorkspaceService {
                 IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(), "");
     }
 
+    /**
+     * Render a page of the direct children of the project.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     * @param offset the offset
+     * @param limit the limit
+     * @return the project descriptor
+     */
+    public ProjectDescriptor renderProjectPage(String workspace, Project project, int offset, int limit) {
+        return WorkspaceJsonHelper.describeProjectPage(workspace, project,
+                IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(), "", offset, limit);
+    }
+
+    /**
+     * Render a page of the direct children of the folder.
+     *
+     * @param workspace the workspace
+     * @param folder the folder
+     * @param offset the offset
+     * @param limit the limit
+     * @return the folder descriptor
+     */
+    public FolderDescriptor renderFolderPage(String workspace, Folder folder, int offset, int limit) {
+        return WorkspaceJsonHelper.describeFolderPage(workspace, folder,
+                IRepositoryStructure.PATH_USERS + IRepositoryStructure.SEPARATOR + UserFacade.getName(), "", offset, limit);
+    }
+
     /**
      * Render file description.
      *
@@ -702,6 +736,8 @@ public class WorkspaceService {
     public void moveFolder(String workspace, String sourceProject, String sourceFolderPath, String targetProject, String targetFolderPath) {
         Workspace workspaceObject = getWorkspace(workspace);
         workspaceObject.moveFolder(sourceProject, sourceFolderPath, targetProject, targetFolderPath);
+        invalidateProjectStatus(workspace, sourceProject);
+        invalidateProjectStatus(workspace, targetProject);
     }
 
     /**
@@ -716,6 +752,8 @@ public class WorkspaceService {
     public void moveFile(String workspace, String sourceProject, String sourceFilePath, String targetProject, String targetFilePath) {
         Workspace workspaceObject = getWorkspace(workspace);
         workspaceObject.moveFile(sourceProject, sourceFilePath, targetProject, targetFilePath);
+        invalidateProjectStatus(workspace, sourceProject);
+        invalidateProjectStatus(workspace, targetProject);
     }
 
     // Search
@@ -803,6 +841,20 @@ public class WorkspaceService {
         }
     }
 
+    /**
+     * Invalidates the cached status of the project, after its files have been changed.
+     *
+     * @param workspace the workspace
+     * @param project the project
+     */
+    private void invalidateProjectStatus(String workspace, String project) {
+        WorkspaceJsonHelper workspaceJsonHelper = WorkspaceJsonHelper.get();
+        if (workspaceJsonHelper != null && workspaceJsonHelper.getProjectStatusProvider() != null) {
+            workspaceJsonHelper.getProjectStatusProvider()
+                               .invalidate(workspace, project);
+        }
+    }
+
     /**
      * Link project.
      *
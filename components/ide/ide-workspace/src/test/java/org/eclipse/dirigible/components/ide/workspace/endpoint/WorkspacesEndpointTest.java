@@ -18,6 +18,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import org.eclipse.dirigible.components.ide.workspace.domain.File;
 import org.eclipse.dirigible.components.ide.workspace.domain.Project;
@@ -156,6 +157,37 @@ public class WorkspacesEndpointTest {
                .andExpect(status().is2xxSuccessful());
     }
 
+    /**
+     * Gets a page of the project and folder children.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void getProjectAndFolderPage() throws Exception {
+        Workspace workspace = workspaceService.createWorkspace("workspace1");
+        Project project = workspace.createProject("project1");
+        project.createFile("folder1/file3.txt", "test3".getBytes());
+        project.createFile("folder2/file4.txt", "test4".getBytes());
+        project.createFile("file1.txt", "test1".getBytes());
+        project.createFile("file2.txt", "test2".getBytes());
+
+        mockMvc.perform(get("/services/ide/workspaces/workspace1/project1").param("offset", "1")
+                                                                           .param("limit", "2"))
+               .andDo(print())
+               .andExpect(status().is2xxSuccessful())
+               .andExpect(jsonPath("$.total").value(4))
+               .andExpect(jsonPath("$.folders.length()").value(1))
+               .andExpect(jsonPath("$.folders[0].name").value("folder2"))
+               .andExpect(jsonPath("$.folders[0].files.length()").value(0))
+               .andExpect(jsonPath("$.files.length()").value(1))
+               .andExpect(jsonPath("$.files[0].name").value("file1.txt"));
+        mockMvc.perform(get("/services/ide/workspaces/workspace1/project1/folder1").param("limit", "10"))
+               .andDo(print())
+               .andExpect(status().is2xxSuccessful())
+               .andExpect(jsonPath("$.total").value(1))
+               .andExpect(jsonPath("$.files[0].name").value("file3.txt"));
+    }
+
     /**
      * Creates the get delete file.
      *
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.components.ide.workspace.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.eclipse.dirigible.components.ide.workspace.domain.Project;
+import org.eclipse.dirigible.components.ide.workspace.domain.Workspace;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+/**
+ * The Class PublisherServiceTest.
+ */
+@WithMockUser
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ComponentScan(basePackages = {"org.eclipse.dirigible.components"})
+@EntityScan("org.eclipse.dirigible.components")
+public class PublisherServiceTest {
+
+    /** The workspaces core service. */
+    @Autowired
+    private WorkspaceService workspaceService;
+
+    /** The repository. */
+    @Autowired
+    private IRepository repository;
+
+    /**
+     * Publish delta test.
+     */
+    @Test
+    public void publishDeltaTest() {
+        List<PublisherHandler.AfterPublishMetadata> published = new ArrayList<>();
+        PublisherHandler handler = new PublisherHandler() {
+            @Override
+            public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+                published.add(metadata);
+            }
+        };
+        PublisherService publisherService = new PublisherService(repository, List.of(handler));
+
+        Workspace workspace1 = workspaceService.createWorkspace("PublishWorkspace1");
+        Project project1 = workspace1.createProject("PublishProject1");
+        project1.createFile("file1.txt", "content1".getBytes());
+        project1.createFile("folder1/file2.txt", "content2".getBytes());
+
+        publisherService.publish("guest", "PublishWorkspace1", "PublishProject1", "");
+        PublisherHandler.PublishDelta delta = published.get(0)
+                                                       .delta();
+        assertNotNull(delta);
+        assertEquals(2, delta.added()
+                             .size());
+        assertEquals("content1", new String(repository.getResource("/registry/public/PublishProject1/file1.txt")
+                                                      .getContent()));
+
+        publisherService.publish("guest", "PublishWorkspace1", "PublishProject1", "");
+        assertTrue(published.get(1)
+                            .delta()
+                            .isEmpty());
+
+        project1.getFile("file1.txt")
+                .setContent("changed1".getBytes());
+        project1.deleteFolder("folder1");
+        publisherService.publish("guest", "PublishWorkspace1", "PublishProject1", "");
+        delta = published.get(2)
+                         .delta();
+        assertEquals(List.of("/registry/public/PublishProject1/file1.txt"), delta.changed());
+        assertEquals(List.of("/registry/public/PublishProject1/folder1/file2.txt", "/registry/public/PublishProject1/folder1"),
+                delta.removed());
+        assertEquals("changed1", new String(repository.getResource("/registry/public/PublishProject1/file1.txt")
+                                                      .getContent()));
+        assertFalse(repository.hasCollection("/registry/public/PublishProject1/folder1"));
+
+        publisherService.unpublish("PublishProject1");
+        workspace1.deleteProject("PublishProject1");
+        workspaceService.deleteWorkspace("PublishWorkspace1");
+    }
+
+    /**
+     * The registry resources not published by the workspace, or changed after it published them, are
+     * kept when they are missing in the workspace.
+     *
+     * @throws InterruptedException the interrupted exception
+     */
+    @Test
+    public void publishKeepsRegistryContentTest() throws InterruptedException {
+        PublisherService publisherService = new PublisherService(repository, List.of());
+
+        Workspace workspace2 = workspaceService.createWorkspace("PublishWorkspace2");
+        Project project2 = workspace2.createProject("PublishProject2");
+        project2.createFile("file1.txt", "content1".getBytes());
+        project2.createFile("file2.txt", "content2".getBytes());
+        publisherService.publish("guest", "PublishWorkspace2", "PublishProject2", "");
+
+        repository.createResource("/registry/public/PublishProject2/registry.txt", "registry".getBytes());
+        repository.createResource("/registry/public/PublishProject2/folder/registry.txt", "registry".getBytes());
+        // make sure the change gets a later timestamp than the publish
+        Thread.sleep(10);
+        repository.getResource("/registry/public/PublishProject2/file2.txt")
+                  .setContent("registry2".getBytes());
+        project2.getFile("file1.txt")
+                .delete();
+        project2.getFile("file2.txt")
+                .delete();
+        publisherService.publish("guest", "PublishWorkspace2", "PublishProject2", "");
+
+        assertFalse(repository.hasResource("/registry/public/PublishProject2/file1.txt"));
+        assertEquals("registry2", new String(repository.getResource("/registry/public/PublishProject2/file2.txt")
+                                                       .getContent()));
+        assertTrue(repository.hasResource("/registry/public/PublishProject2/registry.txt"));
+        assertTrue(repository.hasResource("/registry/public/PublishProject2/folder/registry.txt"));
+
+        publisherService.unpublish("PublishProject2");
+        workspace2.deleteProject("PublishProject2");
+        workspaceService.deleteWorkspace("PublishWorkspace2");
+    }
+
+    /**
+     * The Class TestConfiguration.
+     */
+    @SpringBootApplication
+    static class TestConfiguration {
+    }
+
+}
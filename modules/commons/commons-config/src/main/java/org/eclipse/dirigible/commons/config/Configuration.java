@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -29,7 +30,8 @@ import static java.text.MessageFormat.format;
  * properties are replaced with the ones coming as: 1. System's properties 2. Environment variables
  * This can be triggered programmatically with update() method It supports also loading of custom
  * properties files from the class loader with load() for the modules and also merge with a provided
- * properties object with add() methods
+ * properties object with add() methods. The sources are merged by precedence into an immutable
+ * snapshot, which is swapped atomically on every change, so that the lookups are lock free.
  */
 public class Configuration {
 
@@ -39,14 +41,23 @@ public class Configuration {
     private static final String MULTIVARIABLE_REGEX = "\\$\\{([^}]+)\\}";
     /** The Constant MULTIVARIABLE_PATTERN. */
     private static final Pattern MULTIVARIABLE_PATTERN = Pattern.compile(MULTIVARIABLE_REGEX);
+    /** The Constant LOCK guarding the configuration sources. */
+    private static final Object LOCK = new Object();
     /** The Constant RUNTIME_VARIABLES. */
-    private static final Map<String, String> RUNTIME_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> RUNTIME_VARIABLES = new HashMap<>();
     /** The Constant ENVIRONMENT_VARIABLES. */
-    private static final Map<String, String> ENVIRONMENT_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> ENVIRONMENT_VARIABLES = new HashMap<>();
     /** The Constant DEPLOYMENT_VARIABLES. */
-    private static final Map<String, String> DEPLOYMENT_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> DEPLOYMENT_VARIABLES = new HashMap<>();
     /** The Constant MODULE_VARIABLES. */
-    private static final Map<String, String> MODULE_VARIABLES = Collections.synchronizedMap(new HashMap<>());
+    private static final Map<String, String> MODULE_VARIABLES = new HashMap<>();
+    /** The Constant SOURCES in order of precedence. */
+    private static final List<Map<String, String>> SOURCES =
+            List.of(RUNTIME_VARIABLES, ENVIRONMENT_VARIABLES, DEPLOYMENT_VARIABLES, MODULE_VARIABLES);
+    /** The Constant LISTENERS. */
+    private static final List<ConfigurationChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+    /** The merged snapshot of all the sources. */
+    private static volatile Map<String, String> snapshot = Collections.emptyMap();
     /** The Constant CONFIG_FILE_PATH_DIRIGIBLE_PROPERTIES. */
     private static final String CONFIG_FILE_PATH_DIRIGIBLE_PROPERTIES = "/dirigible.properties";
     /** The Constant ERROR_MESSAGE_CONFIGURATION_DOES_NOT_EXIST. */
@@ -62,6 +73,108 @@ public class Configuration {
         LOADED = true;
     }
 
+    /**
+     * Adds a listener, which is notified with the keys of the changed values.
+     *
+     * @param listener the listener
+     */
+    public static void addChangeListener(ConfigurationChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     */
+    public static void removeChangeListener(ConfigurationChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Applies a change to the sources and swaps the snapshot. Only the given keys are resolved again,
+     * or all of them if the keys are null.
+     *
+     * @param change the change of the sources
+     * @param keys the changed keys or null
+     */
+    private static void change(Runnable change, Collection<String> keys) {
+        Map<String, String> previous;
+        Map<String, String> current;
+        synchronized (LOCK) {
+            change.run();
+            previous = snapshot;
+            Map<String, String> merged;
+            if (keys == null) {
+                merged = new HashMap<>();
+                for (int i = SOURCES.size() - 1; i >= 0; i--) {
+                    merged.putAll(SOURCES.get(i));
+                }
+            } else {
+                merged = new HashMap<>(previous);
+                for (String key : keys) {
+                    resolve(key, merged);
+                }
+            }
+            current = Collections.unmodifiableMap(merged);
+            snapshot = current;
+        }
+        notifyListeners(previous, current, keys);
+    }
+
+    /**
+     * Resolves a key from the sources by precedence into the target map.
+     *
+     * @param key the key
+     * @param target the target
+     */
+    private static void resolve(String key, Map<String, String> target) {
+        for (Map<String, String> source : SOURCES) {
+            if (source.containsKey(key)) {
+                target.put(key, source.get(key));
+                return;
+            }
+        }
+        target.remove(key);
+    }
+
+    /**
+     * Notifies the listeners for the changed keys.
+     *
+     * @param previous the previous snapshot
+     * @param current the current snapshot
+     * @param keys the changed keys or null
+     */
+    private static void notifyListeners(Map<String, String> previous, Map<String, String> current, Collection<String> keys) {
+        if (LISTENERS.isEmpty()) {
+            return;
+        }
+        Set<String> candidates = new HashSet<>();
+        if (keys == null) {
+            candidates.addAll(previous.keySet());
+            candidates.addAll(current.keySet());
+        } else {
+            candidates.addAll(keys);
+        }
+        Set<String> changed = new HashSet<>();
+        for (String key : candidates) {
+            if (previous.containsKey(key) != current.containsKey(key) || !Objects.equals(previous.get(key), current.get(key))) {
+                changed.add(key);
+            }
+        }
+        if (changed.isEmpty()) {
+            return;
+        }
+        Set<String> changedKeys = Collections.unmodifiableSet(changed);
+        for (ConfigurationChangeListener listener : LISTENERS) {
+            try {
+                listener.configurationChanged(changedKeys);
+            } catch (RuntimeException e) {
+                logger.error("Configuration change listener [{}] failed", listener, e);
+            }
+        }
+    }
+
 
     /**
      * The Enum ConfigType.
@@ -168,22 +281,7 @@ public class Configuration {
             if (in != null) {
                 try {
                     custom.load(in);
-                    switch (type) {
-                        case RUNTIME:
-                            addConfigProperties(custom, RUNTIME_VARIABLES);
-                            break;
-                        case ENVIRONMENT:
-                            addConfigProperties(custom, ENVIRONMENT_VARIABLES);
-                            break;
-                        case DEPLOYMENT:
-                            addConfigProperties(custom, DEPLOYMENT_VARIABLES);
-                            break;
-                        case MODULE:
-                            addConfigProperties(custom, MODULE_VARIABLES);
-                            break;
-                        default:
-                            break;
-                    }
+                    addConfigProperties(custom, type);
                 } finally {
                     in.close();
                 }
@@ -260,16 +358,7 @@ public class Configuration {
      * @return the string
      */
     public static String get(String key, String defaultValue) {
-        String value = null;
-        if (RUNTIME_VARIABLES.containsKey(key)) {
-            value = RUNTIME_VARIABLES.get(key);
-        } else if (ENVIRONMENT_VARIABLES.containsKey(key)) {
-            value = ENVIRONMENT_VARIABLES.get(key);
-        } else if (DEPLOYMENT_VARIABLES.containsKey(key)) {
-            value = DEPLOYMENT_VARIABLES.get(key);
-        } else if (MODULE_VARIABLES.containsKey(key)) {
-            value = MODULE_VARIABLES.get(key);
-        }
+        String value = snapshot.get(key);
         return (value != null) ? value : defaultValue;
     }
 
@@ -302,7 +391,7 @@ public class Configuration {
      * @param value the value
      */
     public static void set(String key, String value) {
-        RUNTIME_VARIABLES.put(key, value);
+        change(() -> RUNTIME_VARIABLES.put(key, value), Collections.singleton(key));
     }
 
     /**
@@ -311,7 +400,7 @@ public class Configuration {
      * @param key the key
      */
     public static void remove(String key) {
-        RUNTIME_VARIABLES.remove(key);
+        change(() -> RUNTIME_VARIABLES.remove(key), Collections.singleton(key));
     }
 
     /**
@@ -320,12 +409,8 @@ public class Configuration {
      * @return the keys
      */
     public static String[] getKeys() {
-        Set<String> keys = new HashSet<>();
-        keys.addAll(RUNTIME_VARIABLES.keySet());
-        keys.addAll(ENVIRONMENT_VARIABLES.keySet());
-        keys.addAll(DEPLOYMENT_VARIABLES.keySet());
-        keys.addAll(MODULE_VARIABLES.keySet());
-        return keys.toArray(new String[] {});
+        return snapshot.keySet()
+                       .toArray(new String[] {});
     }
 
     /**
@@ -339,8 +424,10 @@ public class Configuration {
      * Load environment config.
      */
     private static void loadEnvironmentConfig() {
-        addConfigProperties(System.getenv(), ConfigType.ENVIRONMENT);
-        addConfigProperties(System.getProperties(), ConfigType.ENVIRONMENT);
+        change(() -> {
+            ENVIRONMENT_VARIABLES.putAll(System.getenv());
+            addConfigProperties(System.getProperties(), ENVIRONMENT_VARIABLES);
+        }, null);
     }
 
     /**
@@ -349,48 +436,27 @@ public class Configuration {
      * @param properties the properties
      * @param type the type
      */
-    private static void addConfigProperties(Map<String, String> properties, ConfigType type) {
-        switch (type) {
-            case RUNTIME:
-                RUNTIME_VARIABLES.putAll(properties);
-                break;
-            case ENVIRONMENT:
-                ENVIRONMENT_VARIABLES.putAll(properties);
-                break;
-            case DEPLOYMENT:
-                DEPLOYMENT_VARIABLES.putAll(properties);
-                break;
-            case MODULE:
-                MODULE_VARIABLES.putAll(properties);
-                break;
-            default:
-                break;
-
-        }
+    private static void addConfigProperties(Properties properties, ConfigType type) {
+        change(() -> addConfigProperties(properties, getSource(type)), null);
     }
 
     /**
-     * Adds the config properties.
+     * Gets the source map of the config type.
      *
-     * @param properties the properties
      * @param type the type
+     * @return the source
      */
-    private static void addConfigProperties(Properties properties, ConfigType type) {
+    private static Map<String, String> getSource(ConfigType type) {
         switch (type) {
             case RUNTIME:
-                addConfigProperties(properties, RUNTIME_VARIABLES);
-                break;
+                return RUNTIME_VARIABLES;
             case ENVIRONMENT:
-                addConfigProperties(properties, ENVIRONMENT_VARIABLES);
-                break;
+                return ENVIRONMENT_VARIABLES;
             case DEPLOYMENT:
-                addConfigProperties(properties, DEPLOYMENT_VARIABLES);
-                break;
+                return DEPLOYMENT_VARIABLES;
             case MODULE:
-                addConfigProperties(properties, MODULE_VARIABLES);
-                break;
             default:
-                break;
+                return MODULE_VARIABLES;
         }
     }
 
@@ -511,7 +577,9 @@ public class Configuration {
      * @return the map of the runtime variables
      */
     public static Map<String, String> getRuntimeVariables() {
-        return new HashMap<>(RUNTIME_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(RUNTIME_VARIABLES);
+        }
     }
 
     /**
@@ -520,7 +588,9 @@ public class Configuration {
      * @return the map of the variables from the environment
      */
     public static Map<String, String> getEnvironmentVariables() {
-        return new HashMap<>(ENVIRONMENT_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(ENVIRONMENT_VARIABLES);
+        }
     }
 
     /**
@@ -529,7 +599,9 @@ public class Configuration {
      * @return the map of the variables from the dirigible.properties files
      */
     public static Map<String, String> getDeploymentVariables() {
-        return new HashMap<>(DEPLOYMENT_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(DEPLOYMENT_VARIABLES);
+        }
     }
 
     /**
@@ -538,7 +610,9 @@ public class Configuration {
      * @return the map of the variables from the module's dirigible-*.properties files
      */
     public static Map<String, String> getModuleVariables() {
-        return new HashMap<>(MODULE_VARIABLES);
+        synchronized (LOCK) {
+            return new HashMap<>(MODULE_VARIABLES);
+        }
     }
 
     /**
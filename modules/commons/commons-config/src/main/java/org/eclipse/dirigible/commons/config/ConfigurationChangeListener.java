@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.config;
+
+import java.util.Set;
+
+/**
+ * The listener for changes of the {@link Configuration} values.
+ */
+@FunctionalInterface
+public interface ConfigurationChangeListener {
+
+    /**
+     * Called after the configuration snapshot has been swapped.
+     *
+     * @param changedKeys the keys, which values have been added, changed or removed
+     */
+    void configurationChanged(Set<String> changedKeys);
+
+}
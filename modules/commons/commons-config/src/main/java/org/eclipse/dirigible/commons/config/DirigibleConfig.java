@@ -26,8 +26,24 @@ public enum DirigibleConfig {
 
     LEAKED_CONNECTIONS_CHECK_INTERVAL_SECONDS("DIRIGIBLE_LEAKED_CONNECTIONS_CHECK_INTERVAL_SECONDS", "30"),
 
+    LEAKED_CONNECTIONS_TRACKING_PERCENT("DIRIGIBLE_LEAKED_CONNECTIONS_TRACKING_PERCENT", "100"), // only tracked leaks are closed
+
+    LEAKED_CONNECTIONS_STACK_SAMPLING_PERCENT("DIRIGIBLE_LEAKED_CONNECTIONS_STACK_SAMPLING_PERCENT", "1"),
+
     TENANTS_PROVISIONING_FREQUENCY_SECONDS("DIRIGIBLE_TENANTS_PROVISIONING_FREQUENCY_SECONDS", "900"), // 15 minutes
 
+    DATABASE_POOL_MAX_SIZE("DIRIGIBLE_DATABASE_POOL_MAX_SIZE", "20"),
+
+    DATABASE_POOL_MIN_IDLE("DIRIGIBLE_DATABASE_POOL_MIN_IDLE", "10"),
+
+    TENANT_DATABASE_POOL_MAX_SIZE("DIRIGIBLE_DATABASE_TENANT_POOL_MAX_SIZE", "10"),
+
+    TENANT_DATABASE_POOL_MIN_IDLE("DIRIGIBLE_DATABASE_TENANT_POOL_MIN_IDLE", "0"),
+
+    TENANT_DATABASE_POOL_EVICTION_SECONDS("DIRIGIBLE_DATABASE_TENANT_POOL_EVICTION_SECONDS", "900"), // 15 minutes, 0 disables
+
+    TENANT_DATABASE_SHARED_POOL("DIRIGIBLE_DATABASE_TENANT_SHARED_POOL", Boolean.FALSE.toString()),
+
     /** The cms internal root folder. */
     CMS_INTERNAL_ROOT_FOLDER("DIRIGIBLE_CMS_INTERNAL_ROOT_FOLDER", "target/dirigible/cms"),
 
@@ -11,6 +11,10 @@ package org.eclipse.dirigible.commons.config;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.Assert.*;
 
 /**
@@ -176,4 +180,28 @@ public class ConfigurationTest {
         assertEquals("my-test-project ${projectVersion} - Application View", o.s5);
     }
 
+    /**
+     * Change listener test.
+     */
+    @Test
+    public void changeListenerTest() {
+        List<Set<String>> changes = new ArrayList<>();
+        ConfigurationChangeListener listener = changes::add;
+        Configuration.addChangeListener(listener);
+        try {
+            Configuration.set("DIRIGIBLE_TEST_LISTENER", "first");
+            Configuration.set("DIRIGIBLE_TEST_LISTENER", "first");
+            Configuration.remove("DIRIGIBLE_TEST_LISTENER");
+            assertNull(Configuration.get("DIRIGIBLE_TEST_LISTENER"));
+        } finally {
+            Configuration.removeChangeListener(listener);
+        }
+        Configuration.set("DIRIGIBLE_TEST_LISTENER", "second");
+
+        assertEquals(2, changes.size());
+        assertEquals(Set.of("DIRIGIBLE_TEST_LISTENER"), changes.get(0));
+        assertEquals(Set.of("DIRIGIBLE_TEST_LISTENER"), changes.get(1));
+        Configuration.remove("DIRIGIBLE_TEST_LISTENER");
+    }
+
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Streaming JSON to XML converter based on the Gson streaming reader and a StAX writer. The members
+ * are written to the output as they are read, so the memory needed depends on the depth of the
+ * document and not on its size. The primitive members of an object are held back until its first
+ * nested member, so that the attributes can still be added to the start tag.
+ */
+class JsonToXmlConverter {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(JsonToXmlConverter.class);
+
+    /** The Constant ATTR_TEXT. */
+    private static final String ATTR_TEXT = "#text";
+
+    /** The Constant ATTR_CDATA. */
+    private static final String ATTR_CDATA = "#cdata-section";
+
+    /** The Constant ATTR_PREFIX. */
+    private static final String ATTR_PREFIX = "-";
+
+    /** The Constant XML_OUTPUT_FACTORY. */
+    private static final XMLOutputFactory XML_OUTPUT_FACTORY = XMLOutputFactory.newFactory();
+
+    /**
+     * Convert.
+     *
+     * @param json the json
+     * @param xml the xml
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws XMLStreamException the XML stream exception
+     */
+    void convert(Reader json, OutputStream xml) throws IOException, XMLStreamException {
+        JsonReader reader = new JsonReader(json);
+        reader.setLenient(true);
+        XMLStreamWriter writer = XML_OUTPUT_FACTORY.createXMLStreamWriter(xml, StandardCharsets.UTF_8.name());
+        try {
+            reader.beginObject();
+            writeMembers(reader, writer, false);
+            reader.endObject();
+            writer.flush();
+        } finally {
+            writer.close();
+        }
+    }
+
+    /**
+     * Writes the members of the current object.
+     *
+     * @param reader the reader
+     * @param writer the writer
+     * @param startTag whether the start tag of the element is still open for attributes
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws XMLStreamException the XML stream exception
+     */
+    private static void writeMembers(JsonReader reader, XMLStreamWriter writer, boolean startTag) throws IOException, XMLStreamException {
+        List<String[]> held = new ArrayList<>();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                if (startTag) {
+                    writeHeld(writer, held);
+                    startTag = false;
+                }
+                if (token == JsonToken.BEGIN_OBJECT) {
+                    writeElement(reader, writer, name);
+                } else {
+                    writeArray(reader, writer, name);
+                }
+            } else if (token == JsonToken.NULL) {
+                reader.nextNull();
+            } else {
+                String value = nextPrimitive(reader, token);
+                if (name.startsWith(ATTR_PREFIX)) {
+                    if (startTag) {
+                        writer.writeAttribute(name.substring(ATTR_PREFIX.length()), value);
+                    } else if (logger.isDebugEnabled()) {
+                        logger.debug("Skipped attribute [{}] following the content of its element", name);
+                    }
+                } else if (startTag) {
+                    held.add(new String[] {name, value});
+                } else {
+                    writePrimitive(writer, name, value);
+                }
+            }
+        }
+        writeHeld(writer, held);
+    }
+
+    /**
+     * Writes an object as an element.
+     *
+     * @param reader the reader
+     * @param writer the writer
+     * @param name the name
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws XMLStreamException the XML stream exception
+     */
+    private static void writeElement(JsonReader reader, XMLStreamWriter writer, String name) throws IOException, XMLStreamException {
+        writer.writeStartElement(name);
+        reader.beginObject();
+        writeMembers(reader, writer, true);
+        reader.endObject();
+        writer.writeEndElement();
+    }
+
+    /**
+     * Writes an array as repeated elements.
+     *
+     * @param reader the reader
+     * @param writer the writer
+     * @param name the name
+     * @throws IOException Signals that an I/O exception has occurred.
+     * @throws XMLStreamException the XML stream exception
+     */
+    private static void writeArray(JsonReader reader, XMLStreamWriter writer, String name) throws IOException, XMLStreamException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            JsonToken token = reader.peek();
+            if (token == JsonToken.BEGIN_OBJECT) {
+                writeElement(reader, writer, name);
+            } else if (token == JsonToken.BEGIN_ARRAY) {
+                writeArray(reader, writer, name);
+            } else if (token == JsonToken.NULL) {
+                reader.nextNull();
+            } else if (name.startsWith(ATTR_PREFIX)) {
+                reader.skipValue();
+            } else {
+                writePrimitive(writer, name, nextPrimitive(reader, token));
+            }
+        }
+        reader.endArray();
+    }
+
+    /**
+     * Writes the held back primitive members.
+     *
+     * @param writer the writer
+     * @param held the held members
+     * @throws XMLStreamException the XML stream exception
+     */
+    private static void writeHeld(XMLStreamWriter writer, List<String[]> held) throws XMLStreamException {
+        for (String[] member : held) {
+            writePrimitive(writer, member[0], member[1]);
+        }
+        held.clear();
+    }
+
+    /**
+     * Writes a primitive member as text, CDATA section or text only element.
+     *
+     * @param writer the writer
+     * @param name the name
+     * @param value the value
+     * @throws XMLStreamException the XML stream exception
+     */
+    private static void writePrimitive(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        if (ATTR_TEXT.equals(name)) {
+            writer.writeCharacters(value);
+        } else if (ATTR_CDATA.equals(name)) {
+            writer.writeCData(new String(Base64.getDecoder()
+                                               .decode(value),
+                    StandardCharsets.UTF_8));
+        } else {
+            writer.writeStartElement(name);
+            writer.writeCharacters(value);
+            writer.writeEndElement();
+        }
+    }
+
+    /**
+     * Reads a primitive value as string.
+     *
+     * @param reader the reader
+     * @param token the token
+     * @return the string
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static String nextPrimitive(JsonReader reader, JsonToken token) throws IOException {
+        return token == JsonToken.BOOLEAN ? String.valueOf(reader.nextBoolean()) : reader.nextString();
+    }
+
+}
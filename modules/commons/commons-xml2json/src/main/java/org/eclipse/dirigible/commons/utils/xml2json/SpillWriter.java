@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A writer, which keeps the written characters in memory up to a limit and moves them to a
+ * temporary file after that. It is used to hold a converted value, until it is known how it has to
+ * be written to the output, without keeping large values in the heap.
+ */
+class SpillWriter extends Writer {
+
+    /** The limit of characters kept in memory. */
+    private final int limit;
+
+    /** The buffer. */
+    private StringBuilder buffer = new StringBuilder();
+
+    /** The file. */
+    private Path file;
+
+    /** The file writer. */
+    private Writer fileWriter;
+
+    /**
+     * Instantiates a new spill writer.
+     *
+     * @param limit the limit of characters kept in memory
+     */
+    SpillWriter(int limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Write.
+     *
+     * @param c the character
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void write(int c) throws IOException {
+        ensureCapacity(1);
+        if (fileWriter != null) {
+            fileWriter.write(c);
+        } else {
+            buffer.append((char) c);
+        }
+    }
+
+    /**
+     * Write.
+     *
+     * @param chars the chars
+     * @param offset the offset
+     * @param length the length
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        ensureCapacity(length);
+        if (fileWriter != null) {
+            fileWriter.write(chars, offset, length);
+        } else {
+            buffer.append(chars, offset, length);
+        }
+    }
+
+    /**
+     * Write.
+     *
+     * @param string the string
+     * @param offset the offset
+     * @param length the length
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void write(String string, int offset, int length) throws IOException {
+        ensureCapacity(length);
+        if (fileWriter != null) {
+            fileWriter.write(string, offset, length);
+        } else {
+            buffer.append(string, offset, offset + length);
+        }
+    }
+
+    /**
+     * Moves the buffer to a temporary file, if the given number of characters does not fit in it.
+     *
+     * @param length the length
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (fileWriter == null && buffer.length() + length > limit) {
+            file = Files.createTempFile("xml2json", ".tmp");
+            fileWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+            fileWriter.append(buffer);
+            buffer = null;
+        }
+    }
+
+    /**
+     * Copies the written characters to the given writer and releases the buffer.
+     *
+     * @param out the out
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void transferTo(Writer out) throws IOException {
+        if (fileWriter == null) {
+            out.append(buffer);
+        } else {
+            fileWriter.flush();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                reader.transferTo(out);
+            }
+        }
+        close();
+    }
+
+    /**
+     * Flush.
+     */
+    @Override
+    public void flush() {
+        // flushed on transfer
+    }
+
+    /**
+     * Close and delete the temporary file if any.
+     *
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    @Override
+    public void close() throws IOException {
+        buffer = null;
+        if (fileWriter != null) {
+            fileWriter.close();
+            fileWriter = null;
+            Files.deleteIfExists(file);
+        }
+    }
+
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Streaming XML to JSON converter based on StAX. The child elements of an element are collected per
+ * name, so that all the siblings with the same name, adjacent or not, are written as one member, as
+ * an array when there are more than one of them. The collected values are moved to temporary files
+ * when they are large, so the memory needed depends on the depth of the document and not on its
+ * size.
+ */
+class XmlToJsonConverter {
+
+    /** The Constant ATTR_TEXT. */
+    private static final String ATTR_TEXT = "#text";
+
+    /** The Constant ATTR_CDATA. */
+    private static final String ATTR_CDATA = "#cdata-section";
+
+    /** The Constant ATTR_PREFIX. */
+    private static final String ATTR_PREFIX = "-";
+
+    /** The Constant HEX. */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /** The Constant REPORT_CDATA, a property of the JDK parser reporting the CDATA sections as such. */
+    private static final String REPORT_CDATA = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+    /** The Constant XML_INPUT_FACTORY. */
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /** The limit of characters of a held back element kept in memory. */
+    private final int bufferLimit;
+
+    /**
+     * Instantiates a new XML to JSON converter.
+     *
+     * @param bufferLimit the limit of characters of a held back element kept in memory
+     */
+    XmlToJsonConverter(int bufferLimit) {
+        this.bufferLimit = bufferLimit;
+    }
+
+    /**
+     * Creates the input factory. DTDs and external entities are not supported. The parser is not
+     * namespace aware, so that the element and attribute names are the qualified ones.
+     *
+     * @return the XML input factory
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, false);
+        if (factory.isPropertySupported(REPORT_CDATA)) {
+            factory.setProperty(REPORT_CDATA, true);
+        }
+        return factory;
+    }
+
+    /**
+     * Convert.
+     *
+     * @param xml the xml
+     * @param json the json
+     * @throws XMLStreamException the XML stream exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    void convert(InputStream xml, Writer json) throws XMLStreamException, IOException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(xml);
+        try {
+            json.write('{');
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    writeName(json, reader.getLocalName(), false);
+                    writeElement(reader, json);
+                }
+            }
+            json.write('}');
+            json.flush();
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Writes the value of the current element and leaves the reader at its end.
+     *
+     * @param reader the reader positioned at the start of the element
+     * @param out the out
+     * @throws XMLStreamException the XML stream exception
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void writeElement(XMLStreamReader reader, Writer out) throws XMLStreamException, IOException {
+        List<String[]> attributes = new ArrayList<>(reader.getAttributeCount());
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name =
+                    prefix == null || prefix.isEmpty() ? reader.getAttributeLocalName(i) : prefix + ':' + reader.getAttributeLocalName(i);
+            attributes.add(new String[] {ATTR_PREFIX + name, reader.getAttributeValue(i)});
+        }
+        StringBuilder text = new StringBuilder();
+        StringBuilder cdata = null;
+        boolean object = false;
+        int members = 0;
+
+        Map<String, Group> groups = null;
+
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        if (!object) {
+                            // the element has child elements, so it is an object
+                            out.write('{');
+                            object = true;
+                            members = writeAttributes(out, attributes, members);
+                            text = appendTrimmed(new StringBuilder(), text);
+                            groups = new LinkedHashMap<>();
+                        }
+                        Group group = groups.computeIfAbsent(reader.getLocalName(), name -> new Group(bufferLimit));
+                        if (group.count++ > 0) {
+                            group.values.write(',');
+                        }
+                        writeElement(reader, group.values);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        if (object) {
+                            appendTrimmed(text, reader.getText());
+                        } else {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.CDATA:
+                        if (cdata == null) {
+                            cdata = new StringBuilder();
+                        }
+                        cdata.append(reader.getText());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        members = writeGroups(out, groups, members);
+                        boolean hasText = !text.toString()
+                                               .isBlank();
+                        if (!object) {
+                            if (hasText && cdata == null && attributes.isEmpty()) {
+                                // text only element, so it is a primitive
+                                writeString(out, text.toString());
+                                return;
+                            }
+                            out.write('{');
+                            if (hasText && cdata == null) {
+                                writeName(out, ATTR_TEXT, members++ > 0);
+                                writeString(out, text.toString());
+                            }
+                            members = writeAttributes(out, attributes, members);
+                            if (hasText && cdata != null) {
+                                writeName(out, ATTR_TEXT, members++ > 0);
+                                writeString(out, text.toString());
+                            }
+                        } else if (hasText) {
+                            writeName(out, ATTR_TEXT, members++ > 0);
+                            writeString(out, text.toString());
+                        }
+                        if (cdata != null) {
+                            writeName(out, ATTR_CDATA, members++ > 0);
+                            writeString(out, Base64.getEncoder()
+                                                   .encodeToString(cdata.toString()
+                                                                        .getBytes(StandardCharsets.UTF_8)));
+                        }
+                        out.write('}');
+                        return;
+                    default:
+                        // comments and processing instructions are skipped
+                        break;
+                }
+            }
+        } finally {
+            // the groups are released when written, unless the conversion failed
+            if (groups != null) {
+                for (Group group : groups.values()) {
+                    group.values.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes the collected groups of child elements, in the order of their first element. A group of
+     * more than one element is written as an array.
+     *
+     * @param out the out
+     * @param groups the groups, null if the element has no child elements
+     * @param members the members written so far
+     * @return the members written
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static int writeGroups(Writer out, Map<String, Group> groups, int members) throws IOException {
+        if (groups == null) {
+            return members;
+        }
+        for (Map.Entry<String, Group> entry : groups.entrySet()) {
+            Group group = entry.getValue();
+            writeName(out, entry.getKey(), members++ > 0);
+            if (group.count > 1) {
+                out.write('[');
+                group.values.transferTo(out);
+                out.write(']');
+            } else {
+                group.values.transferTo(out);
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Write attributes.
+     *
+     * @param out the out
+     * @param attributes the attributes
+     * @param members the members written so far
+     * @return the members written
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static int writeAttributes(Writer out, List<String[]> attributes, int members) throws IOException {
+        for (String[] attribute : attributes) {
+            writeName(out, attribute[0], members++ > 0);
+            writeString(out, attribute[1]);
+        }
+        return members;
+    }
+
+    /**
+     * Appends the text without the surrounding whitespace and separated by a space, if it is not blank.
+     *
+     * @param buffer the buffer
+     * @param text the text
+     * @return the buffer
+     */
+    private static StringBuilder appendTrimmed(StringBuilder buffer, CharSequence text) {
+        String trimmed = text.toString()
+                             .trim();
+        if (!trimmed.isEmpty()) {
+            if (!buffer.isEmpty()) {
+                buffer.append(' ');
+            }
+            buffer.append(trimmed);
+        }
+        return buffer;
+    }
+
+    /**
+     * Write name.
+     *
+     * @param out the out
+     * @param name the name
+     * @param separator whether a separator is needed before the name
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeName(Writer out, String name, boolean separator) throws IOException {
+        if (separator) {
+            out.write(',');
+        }
+        writeString(out, name);
+        out.write(':');
+    }
+
+    /**
+     * Writes a JSON string, escaping the same characters as Gson without HTML escaping.
+     *
+     * @param out the out
+     * @param value the value
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void writeString(Writer out, String value) throws IOException {
+        out.write('"');
+        int last = 0;
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement;
+            if (c == '"') {
+                replacement = "\\\"";
+            } else if (c == '\\') {
+                replacement = "\\\\";
+            } else if (c == '\n') {
+                replacement = "\\n";
+            } else if (c == '\r') {
+                replacement = "\\r";
+            } else if (c == '\t') {
+                replacement = "\\t";
+            } else if (c < 0x20 || c == 0x2028 || c == 0x2029) {
+                replacement = "\\u" + HEX[c >> 12 & 0xf] + HEX[c >> 8 & 0xf] + HEX[c >> 4 & 0xf] + HEX[c & 0xf];
+            } else {
+                continue;
+            }
+            out.write(value, last, i - last);
+            out.write(replacement);
+            last = i + 1;
+        }
+        out.write(value, last, length - last);
+        out.write('"');
+    }
+
+    /**
+     * The converted values of the child elements with the same name.
+     */
+    private static class Group {
+
+        /** The values, separated by commas. */
+        private final SpillWriter values;
+
+        /** The count of the values. */
+        private int count;
+
+        /**
+         * Instantiates a new group.
+         *
+         * @param bufferLimit the limit of characters kept in memory
+         */
+        Group(int bufferLimit) {
+            this.values = new SpillWriter(bufferLimit);
+        }
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.commons.utils.xml2json.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.utils.xml2json.Xml2Json;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * The Class Xml2JsonStreamingTest.
+ */
+public class Xml2JsonStreamingTest {
+
+    /**
+     * Test the streaming conversion of groups of siblings, adjacent or not, qualified names, escaping
+     * and mixed content.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testToJsonStream() throws Exception {
+        String xml = "<r><i>1</i><i a=\"x\">2</i><j/><i>3</i><p:k xmlns:p=\"urn:p\">a&amp;\"b\"</p:k><m>one<n>n</n>two</m></r>";
+        assertEquals(
+                "{\"r\":{\"i\":[\"1\",{\"#text\":\"2\",\"-a\":\"x\"},\"3\"],\"j\":{},"
+                        + "\"p:k\":{\"#text\":\"a&\\\"b\\\"\",\"-xmlns:p\":\"urn:p\"},\"m\":{\"n\":\"n\",\"#text\":\"one two\"}}}",
+                toJson(xml));
+    }
+
+    /**
+     * Test that the string conversion merges the siblings with the same name into one array, even when
+     * they are not adjacent, so that no member is duplicated.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testToJsonStringMergesSiblings() throws Exception {
+        JsonObject json = JsonParser.parseString(Xml2Json.toJson("<r><i>1</i><j>a</j><i>2</i><k/><i><l>3</l></i><j>b</j></r>"))
+                                    .getAsJsonObject()
+                                    .getAsJsonObject("r");
+        assertEquals("[i, j, k]", json.keySet()
+                                      .toString());
+        assertEquals("[\"1\",\"2\",{\"l\":\"3\"}]", json.get("i")
+                                                        .toString());
+        assertEquals("[\"a\",\"b\"]", json.get("j")
+                                          .toString());
+    }
+
+    /**
+     * Test the JSON to XML streaming conversion.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testToXmlStream() throws Exception {
+        String json = "{\"r\":{\"-v\":1,\"i\":[\"1\",{\"#text\":\"2\",\"-a\":\"x\"}],\"j\":{\"-b\":true},"
+                + "\"c\":{\"#cdata-section\":\"PGE+\"},\"t\":\"a<b\"}}";
+        ByteArrayOutputStream xml = new ByteArrayOutputStream();
+        Xml2Json.toXml(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), xml);
+        assertEquals("<r v=\"1\"><i>1</i><i a=\"x\">2</i><j b=\"true\"></j><c><![CDATA[<a>]]></c><t>a&lt;b</t></r>",
+                xml.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test that a large first element of a group is moved out of the memory without changing the
+     * result.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSpilledGroup() throws Exception {
+        StringBuilder xml = new StringBuilder("<rss><channel>");
+        for (int i = 0; i < 1000; i++) {
+            xml.append("<item id=\"")
+               .append(i)
+               .append("\"><title>Title ")
+               .append(i)
+               .append("</title></item>");
+        }
+        xml.append("</channel></rss>");
+        String expected = toJson(xml.toString());
+        Configuration.set("DIRIGIBLE_XML2JSON_BUFFER_LIMIT", "64");
+        try {
+            assertEquals(expected, toJson(xml.toString()));
+        } finally {
+            Configuration.remove("DIRIGIBLE_XML2JSON_BUFFER_LIMIT");
+        }
+        assertEquals(1000, countItems(new ByteArrayInputStream(expected.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    /**
+     * To json through the streaming API.
+     *
+     * @param xml the xml
+     * @return the json
+     * @throws Exception the exception
+     */
+    private static String toJson(String xml) throws Exception {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        Xml2Json.toJson(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), json);
+        return json.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Counts the items of a converted feed without loading it.
+     *
+     * @param json the json
+     * @return the count
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static int countItems(InputStream json) throws IOException {
+        int count = 0;
+        try (JsonReader reader = new JsonReader(new InputStreamReader(json, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            skipTo(reader, "rss");
+            reader.beginObject();
+            skipTo(reader, "channel");
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("item".equals(reader.nextName())) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        reader.skipValue();
+                        count++;
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Skips the members of the current object until the one with the given name.
+     *
+     * @param reader the reader
+     * @param name the name
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private static void skipTo(JsonReader reader, String name) throws IOException {
+        while (!name.equals(reader.nextName())) {
+            reader.skipValue();
+        }
+    }
+
+}
@@ -12,6 +12,7 @@ package org.eclipse.dirigible.mongodb.jdbc;
 import java.io.InputStream;
 import java.io.Reader;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.sql.Array;
@@ -34,16 +35,20 @@ import java.text.DecimalFormat;
 import java.text.ParsePosition;
 import java.util.Base64;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
+import java.util.TreeMap;
 
+import org.bson.BsonDocument;
+import org.bson.BsonType;
 import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.types.Decimal128;
 
 import com.mongodb.MongoClient;
-import com.mongodb.client.FindIterable;
 import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
 
 /**
  * The Class MongoDBResultSet.
@@ -56,8 +61,8 @@ public class MongoDBResultSet implements ResultSet {
     /** The stmnt. */
     private Statement stmnt;
 
-    /** The find iterable. */
-    private FindIterable<Document> findIterable;
+    /** The find or aggregate iterable. */
+    private MongoIterable<Document> findIterable;
 
     /** The find iterator. */
     private MongoCursor<Document> findIterator;
@@ -74,19 +79,38 @@ public class MongoDBResultSet implements ResultSet {
     /** The warning. */
     private SQLWarning warning;
 
+    /** The column labels in the select order or null to take the fields of each document. */
+    private List<String> columns;
+
     /** The rs metadata. */
     private MongoDBResultSetMetaData metadata;
 
+    /** Whether the last read column value was null. */
+    private boolean wasNull;
+
     /**
      * Instantiates a new mongo DB result set.
      *
      * @param stmnt the stmnt
-     * @param findIterable the find iterable
+     * @param findIterable the find or aggregate iterable
+     */
+    public MongoDBResultSet(Statement stmnt, MongoIterable<Document> findIterable) {
+        this(stmnt, findIterable, null);
+    }
+
+    /**
+     * Instantiates a new mongo DB result set with the columns of a select list. The columns are
+     * numbered in the select order, as MongoDB returns the fields in the order they are stored in.
+     *
+     * @param stmnt the stmnt
+     * @param findIterable the find or aggregate iterable
+     * @param columns the column labels in the select order or null for the fields of each document
      */
-    public MongoDBResultSet(Statement stmnt, FindIterable<Document> findIterable) {
+    public MongoDBResultSet(Statement stmnt, MongoIterable<Document> findIterable, List<String> columns) {
         this.stmnt = stmnt;
         this.findIterable = findIterable;
         this.findIterator = this.findIterable.iterator();
+        this.columns = columns;
         this.isClosed = false;
     }
 
@@ -99,11 +123,18 @@ public class MongoDBResultSet implements ResultSet {
         this.metadata = new MongoDBResultSetMetaData(this.stmnt.getConnection()
                                                                .unwrap(MongoDBConnection.class)
                                                                .getCollectionName());
+        BsonDocument document = this.currentDoc.toBsonDocument(this.currentDoc.getClass(), MongoClient.getDefaultCodecRegistry());
+        if (this.columns != null) {
+            this.metadata.setColumnCount(this.columns.size());
+            for (String column : this.columns) {
+                BsonValue value = document.get(column);
+                this.metadata.keys()
+                             .put(column, value == null ? BsonType.NULL : value.getBsonType());
+            }
+            return;
+        }
         this.metadata.setColumnCount(this.currentDoc.size());
-        Set<Entry<String, BsonValue>> docEntries =
-                this.currentDoc.toBsonDocument(this.currentDoc.getClass(), MongoClient.getDefaultCodecRegistry())
-                               .entrySet();
-        for (Entry<String, BsonValue> docEntry : docEntries) {
+        for (Entry<String, BsonValue> docEntry : new TreeMap<>(document).entrySet()) {
             this.metadata.keys()
                          .put(docEntry.getKey(), docEntry.getValue()
                                                          .getBsonType());
@@ -175,8 +206,70 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public boolean wasNull() throws SQLException {
-        // TODO Auto-generated method stub
-        return false;
+        return this.wasNull;
+    }
+
+    /**
+     * Gets the value of the column at the given index of the current document. The columns are numbered
+     * from 1, in the order of the current row metadata.
+     *
+     * @param columnIndex the column index
+     * @return the value
+     * @throws SQLException the SQL exception
+     */
+    private Object getValue(int columnIndex) throws SQLException {
+        if (this.currentDoc == null) {
+            throw new SQLException("The cursor is not positioned on a row");
+        }
+        if (columnIndex < 1 || columnIndex > this.metadata.getColumnCount()) {
+            throw new SQLException("Column index out of range: " + columnIndex);
+        }
+        Object value = this.currentDoc.get(this.metadata.getColumnName(columnIndex));
+        this.wasNull = value == null;
+        return value;
+    }
+
+    /**
+     * Gets the numeric value of the column at the given index.
+     *
+     * @param columnIndex the column index
+     * @return the number or null
+     * @throws SQLException the SQL exception
+     */
+    private Number getNumber(int columnIndex) throws SQLException {
+        Object value = getValue(columnIndex);
+        if (value == null || value instanceof Number) {
+            return (Number) value;
+        }
+        if (value instanceof Boolean) {
+            return ((Boolean) value) ? 1 : 0;
+        }
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException e) {
+            throw new SQLException("The value of column " + columnIndex + " is not a number: " + value, e);
+        }
+    }
+
+    /**
+     * Gets the date value of the column at the given index as milliseconds since the epoch.
+     *
+     * @param columnIndex the column index
+     * @return the milliseconds or null
+     * @throws SQLException the SQL exception
+     */
+    private Long getMillis(int columnIndex) throws SQLException {
+        Object value = getValue(columnIndex);
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof java.util.Date) {
+            return ((java.util.Date) value).getTime();
+        }
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        throw new SQLException("The value of column " + columnIndex + " is not a date: " + value);
     }
 
     /**
@@ -191,16 +284,8 @@ public class MongoDBResultSet implements ResultSet {
         if (columnIndex == RAW_DOCUMENT_INDEX) {
             return this.currentDoc.toJson();
         }
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        Object object = this.currentDoc.get(name);
-        if (object != null) {
-            if (object instanceof String) {
-                return (String) name;
-            } else {
-                return name.toString();
-            }
-        }
-        return null;
+        Object object = getValue(columnIndex);
+        return object != null ? object.toString() : null;
 
     }
 
@@ -213,8 +298,14 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public boolean getBoolean(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getBoolean(name);
+        Object value = getValue(columnIndex);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof Number) {
+            return ((Number) value).intValue() != 0;
+        }
+        return value != null && Boolean.parseBoolean(value.toString());
     }
 
     /**
@@ -226,9 +317,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public byte getByte(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getInteger(name)
-                              .byteValue();
+        Number value = getNumber(columnIndex);
+        return value != null ? value.byteValue() : 0;
     }
 
     /**
@@ -240,9 +330,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public short getShort(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getInteger(name)
-                              .shortValue();
+        Number value = getNumber(columnIndex);
+        return value != null ? value.shortValue() : 0;
     }
 
     /**
@@ -254,8 +343,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public int getInt(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getInteger(name);
+        Number value = getNumber(columnIndex);
+        return value != null ? value.intValue() : 0;
     }
 
     /**
@@ -267,8 +356,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public long getLong(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getLong(name);
+        Number value = getNumber(columnIndex);
+        return value != null ? value.longValue() : 0;
     }
 
     /**
@@ -280,9 +369,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public float getFloat(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getDouble(name)
-                              .floatValue();
+        Number value = getNumber(columnIndex);
+        return value != null ? value.floatValue() : 0;
     }
 
     /**
@@ -294,8 +382,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public double getDouble(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.getDouble(name);
+        Number value = getNumber(columnIndex);
+        return value != null ? value.doubleValue() : 0;
     }
 
     /**
@@ -308,8 +396,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public BigDecimal getBigDecimal(int columnIndex, int scale) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return new BigDecimal(this.currentDoc.getDouble(name));
+        BigDecimal value = getBigDecimal(columnIndex);
+        return value != null ? value.setScale(scale, RoundingMode.HALF_UP) : null;
     }
 
     /**
@@ -333,9 +421,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public Date getDate(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return new Date(this.currentDoc.getDate(name)
-                                       .getTime());
+        Long millis = getMillis(columnIndex);
+        return millis != null ? new Date(millis) : null;
     }
 
     /**
@@ -347,9 +434,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public Time getTime(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return new Time(this.currentDoc.getDate(name)
-                                       .getTime());
+        Long millis = getMillis(columnIndex);
+        return millis != null ? new Time(millis) : null;
     }
 
     /**
@@ -361,9 +447,8 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public Timestamp getTimestamp(int columnIndex) throws SQLException {
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return new Timestamp(this.currentDoc.getDate(name)
-                                            .getTime());
+        Long millis = getMillis(columnIndex);
+        return millis != null ? new Timestamp(millis) : null;
     }
 
     /**
@@ -661,8 +746,7 @@ public class MongoDBResultSet implements ResultSet {
         if (columnIndex == RAW_DOCUMENT_INDEX) {
             return this.currentDoc.toJson();
         }
-        String name = this.metadata.getColumnName(columnIndex - 1);
-        return this.currentDoc.get(name);
+        return getValue(columnIndex);
     }
 
     /**
@@ -674,7 +758,9 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public Object getObject(String columnLabel) throws SQLException {
-        return this.currentDoc.get(columnLabel);
+        Object value = this.currentDoc.get(columnLabel);
+        this.wasNull = value == null;
+        return value;
     }
 
     /**
@@ -723,7 +809,17 @@ public class MongoDBResultSet implements ResultSet {
      */
     @Override
     public BigDecimal getBigDecimal(int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        Number value = getNumber(columnIndex);
+        if (value == null || value instanceof BigDecimal) {
+            return (BigDecimal) value;
+        }
+        if (value instanceof Decimal128) {
+            return ((Decimal128) value).bigDecimalValue();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return BigDecimal.valueOf(value.doubleValue());
+        }
+        return BigDecimal.valueOf(value.longValue());
     }
 
     /**
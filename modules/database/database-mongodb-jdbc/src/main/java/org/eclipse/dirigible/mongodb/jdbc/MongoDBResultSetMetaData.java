@@ -12,10 +12,9 @@ package org.eclipse.dirigible.mongodb.jdbc;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 import org.bson.BsonType;
 import org.bson.codecs.BsonTypeClassMap;
@@ -28,8 +27,8 @@ public class MongoDBResultSetMetaData implements ResultSetMetaData {
     /** The column count. */
     private int columnCount;
 
-    /** The key map. */
-    private SortedMap<String, BsonType> keyMap = new TreeMap<String, BsonType>();
+    /** The key map in the order of the columns. */
+    private Map<String, BsonType> keyMap = new LinkedHashMap<String, BsonType>();
 
     /** The collection name. */
     private String collectionName;
@@ -21,10 +21,14 @@ import java.util.List;
 
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.eclipse.dirigible.mongodb.jdbc.sql.MongoQuery;
+import org.eclipse.dirigible.mongodb.jdbc.sql.SqlQueryTranslator;
 import org.eclipse.dirigible.mongodb.jdbc.util.SingleColumnStaticResultSet;
 
 import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.DeleteOneModel;
@@ -50,6 +54,9 @@ public class MongoDBStatement implements Statement {
     /** The current collection. */
     protected String currentCollection;
 
+    /** The fetch size used as cursor batch size, 0 for the server default. */
+    protected int fetchSize;
+
 
 
     /**
@@ -92,7 +99,8 @@ public class MongoDBStatement implements Statement {
 
     /**
      * Input string: the document specification as defined in
-     * https://docs.mongodb.org/manual/reference/command/find/#dbcmd.find
+     * https://docs.mongodb.org/manual/reference/command/find/#dbcmd.find or an SQL SELECT, which is
+     * translated to a find or an aggregation by {@link SqlQueryTranslator}
      *
      * @param sql the sql
      * @return the result set
@@ -101,6 +109,9 @@ public class MongoDBStatement implements Statement {
     @Override
     public ResultSet executeQuery(String sql) throws SQLException {
         MongoDatabase db = this.conn.getMongoDatabase();
+        if (SqlQueryTranslator.isSelect(sql)) {
+            return executeQuery(db, SqlQueryTranslator.translate(sql));
+        }
         BsonDocument filterDocument = null;
         if (sql == null || sql.length() < 1) {
             filterDocument = new BsonDocument();
@@ -131,6 +142,8 @@ public class MongoDBStatement implements Statement {
             if (filterDocument.containsKey("batchSize"))
                 searchHits.batchSize(filterDocument.getInt32("batchSize")
                                                    .getValue());
+            else if (fetchSize > 0)
+                searchHits.batchSize(fetchSize);
             if (filterDocument.containsKey("limit"))
                 searchHits.limit(filterDocument.getInt32("limit")
                                                .getValue());
@@ -164,6 +177,45 @@ public class MongoDBStatement implements Statement {
         throw new IllegalArgumentException("Specifying a collection is mandatory for query operations");
     }
 
+    /**
+     * Executes a query translated from SQL. The results are streamed from the server cursor in batches
+     * of the fetch size.
+     *
+     * @param db the db
+     * @param query the query
+     * @return the result set
+     */
+    private ResultSet executeQuery(MongoDatabase db, MongoQuery query) {
+        currentCollection = query.getCollection();
+        MongoCollection<Document> collection = db.getCollection(query.getCollection());
+        if (query.isAggregation()) {
+            AggregateIterable<Document> aggregateHits = collection.aggregate(query.getPipeline())
+                                                                  .allowDiskUse(true);
+            if (fetchSize > 0) {
+                aggregateHits.batchSize(fetchSize);
+            }
+            return new MongoDBResultSet(this, aggregateHits, query.getColumns());
+        }
+        FindIterable<Document> searchHits = collection.find(query.getFilter());
+        if (query.getProjection() != null) {
+            searchHits.projection(query.getProjection());
+        }
+        if (query.getSort() != null) {
+            searchHits.sort(query.getSort());
+        }
+        if (query.getSkip() > 0) {
+            searchHits.skip(query.getSkip());
+        }
+        // -1 for none, while an explicit zero limit is already translated to a filter matching nothing
+        if (query.getLimit() > 0) {
+            searchHits.limit(query.getLimit());
+        }
+        if (fetchSize > 0) {
+            searchHits.batchSize(fetchSize);
+        }
+        return new MongoDBResultSet(this, searchHits, query.getColumns());
+    }
+
     /**
      * https://docs.mongodb.org/manual/reference/command/update/#dbcmd.update
      *
@@ -402,7 +454,10 @@ public class MongoDBStatement implements Statement {
      */
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        if (rows < 0) {
+            throw new SQLException("The fetch size must not be negative: " + rows);
+        }
+        this.fetchSize = rows;
     }
 
     /**
@@ -413,7 +468,7 @@ public class MongoDBStatement implements Statement {
      */
     @Override
     public int getFetchSize() throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        return fetchSize;
     }
 
     /**
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc.sql;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonString;
+
+/**
+ * The MongoDB query translated from an SQL SELECT - either a find with filter, projection, sort,
+ * skip and limit, or an aggregation pipeline.
+ */
+public class MongoQuery {
+
+    /** The collection. */
+    private final String collection;
+
+    /** The filter. */
+    private final BsonDocument filter;
+
+    /** The projection or null for all the fields. */
+    private final BsonDocument projection;
+
+    /** The sort or null. */
+    private final BsonDocument sort;
+
+    /** The skip, 0 for none. */
+    private final int skip;
+
+    /** The limit, -1 for none. */
+    private final int limit;
+
+    /** The aggregation pipeline or null for a find. */
+    private final List<BsonDocument> pipeline;
+
+    /** The column labels in the order of the select list or null for all the fields. */
+    private final List<String> columns;
+
+    /**
+     * Instantiates a new mongo query.
+     *
+     * @param collection the collection
+     * @param filter the filter
+     * @param projection the projection
+     * @param sort the sort
+     * @param skip the skip
+     * @param limit the limit
+     * @param pipeline the pipeline
+     * @param columns the columns
+     */
+    private MongoQuery(String collection, BsonDocument filter, BsonDocument projection, BsonDocument sort, int skip, int limit,
+            List<BsonDocument> pipeline, List<String> columns) {
+        this.collection = collection;
+        this.filter = filter;
+        this.projection = projection;
+        this.sort = sort;
+        this.skip = skip;
+        this.limit = limit;
+        this.pipeline = pipeline;
+        this.columns = columns == null ? null : Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * Creates a find query.
+     *
+     * @param collection the collection
+     * @param filter the filter
+     * @param projection the projection or null
+     * @param sort the sort or null
+     * @param skip the skip
+     * @param limit the limit
+     * @param columns the column labels in the select order or null
+     * @return the mongo query
+     */
+    static MongoQuery find(String collection, BsonDocument filter, BsonDocument projection, BsonDocument sort, int skip, int limit,
+            List<String> columns) {
+        return new MongoQuery(collection, filter, projection, sort, skip, limit, null, columns);
+    }
+
+    /**
+     * Creates an aggregation query.
+     *
+     * @param collection the collection
+     * @param pipeline the pipeline
+     * @param columns the column labels in the select order
+     * @return the mongo query
+     */
+    static MongoQuery aggregate(String collection, List<BsonDocument> pipeline, List<String> columns) {
+        return new MongoQuery(collection, null, null, null, 0, 0, Collections.unmodifiableList(pipeline), columns);
+    }
+
+    /**
+     * Gets the collection.
+     *
+     * @return the collection
+     */
+    public String getCollection() {
+        return collection;
+    }
+
+    /**
+     * Checks if it is an aggregation.
+     *
+     * @return true, if is aggregation
+     */
+    public boolean isAggregation() {
+        return pipeline != null;
+    }
+
+    /**
+     * Gets the column labels in the order of the select list. MongoDB returns the projected fields in
+     * the order they are stored in, so the result set uses these to number the columns.
+     *
+     * @return the columns or null for all the fields
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the filter.
+     *
+     * @return the filter
+     */
+    public BsonDocument getFilter() {
+        return filter;
+    }
+
+    /**
+     * Gets the projection.
+     *
+     * @return the projection
+     */
+    public BsonDocument getProjection() {
+        return projection;
+    }
+
+    /**
+     * Gets the sort.
+     *
+     * @return the sort
+     */
+    public BsonDocument getSort() {
+        return sort;
+    }
+
+    /**
+     * Gets the skip.
+     *
+     * @return the skip
+     */
+    public int getSkip() {
+        return skip;
+    }
+
+    /**
+     * Gets the limit. An explicit zero limit is translated to a filter matching no documents, as
+     * MongoDB treats a zero limit as none.
+     *
+     * @return the limit, -1 for none
+     */
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the pipeline.
+     *
+     * @return the pipeline
+     */
+    public List<BsonDocument> getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * The query as a MongoDB command document.
+     *
+     * @return the command
+     */
+    public BsonDocument toCommand() {
+        if (isAggregation()) {
+            return new BsonDocument("aggregate", new BsonString(collection)).append("pipeline", new BsonArray(pipeline));
+        }
+        BsonDocument command = new BsonDocument("find", new BsonString(collection)).append("filter", filter);
+        if (projection != null) {
+            command.append("projection", projection);
+        }
+        if (sort != null) {
+            command.append("sort", sort);
+        }
+        if (skip > 0) {
+            command.append("skip", new BsonInt32(skip));
+        }
+        if (limit > 0) {
+            command.append("limit", new BsonInt32(limit));
+        }
+        return command;
+    }
+
+    /**
+     * To string.
+     *
+     * @return the string
+     */
+    @Override
+    public String toString() {
+        return toCommand().toJson();
+    }
+
+}
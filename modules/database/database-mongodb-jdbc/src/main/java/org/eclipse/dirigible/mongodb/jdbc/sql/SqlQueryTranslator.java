@@ -0,0 +1,1004 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc.sql;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonBoolean;
+import org.bson.BsonDocument;
+import org.bson.BsonDouble;
+import org.bson.BsonInt32;
+import org.bson.BsonInt64;
+import org.bson.BsonNull;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * Translates SQL SELECT statements to MongoDB queries, so that the projection, the filtering, the
+ * sorting, the paging and the grouping are evaluated by the server.
+ *
+ * The supported subset is:
+ *
+ * <pre>
+ * SELECT [DISTINCT] * | column [[AS] alias] | COUNT|SUM|AVG|MIN|MAX(* | column) [[AS] alias], ...
+ * FROM collection [[AS] alias]
+ * [WHERE condition]
+ * [GROUP BY column, ...]
+ * [ORDER BY column | alias [ASC|DESC], ...]
+ * [LIMIT count [OFFSET skip] | LIMIT skip, count] [OFFSET skip [ROWS]] [FETCH FIRST|NEXT count ROWS ONLY]
+ * </pre>
+ *
+ * The conditions are comparisons (=, &lt;&gt;, !=, &lt;, &lt;=, &gt;, &gt;=), [NOT] IN, [NOT] LIKE,
+ * [NOT] BETWEEN, IS [NOT] NULL, combined with AND, OR, NOT and parentheses. The queries without
+ * grouping and aliases are translated to a find, the rest to an aggregation pipeline. Note that,
+ * unlike in SQL, an aggregation without GROUP BY over no documents returns no rows.
+ */
+public class SqlQueryTranslator {
+
+    /** The Constant SELECT_PATTERN. */
+    private static final Pattern SELECT_PATTERN = Pattern.compile("^\\s*select\\s", Pattern.CASE_INSENSITIVE);
+
+    /** The Constant AGGREGATE_FUNCTIONS. */
+    private static final Set<String> AGGREGATE_FUNCTIONS = Set.of("COUNT", "SUM", "AVG", "MIN", "MAX");
+
+    /** The reserved words, which cannot be an alias without AS. */
+    private static final Set<String> RESERVED = Set.of("FROM", "WHERE", "GROUP", "ORDER", "BY", "HAVING", "LIMIT", "OFFSET", "FETCH", "AS",
+            "ON", "JOIN", "INNER", "LEFT", "RIGHT", "FULL", "CROSS", "UNION", "AND", "OR", "NOT", "ASC", "DESC");
+
+    /** The Constant COMPARISON_OPERATORS. */
+    private static final Map<String, String> COMPARISON_OPERATORS =
+            Map.of("=", "$eq", "<>", "$ne", "!=", "$ne", "<", "$lt", "<=", "$lte", ">", "$gt", ">=", "$gte");
+
+    /**
+     * The Enum TokenType.
+     */
+    enum TokenType {
+        IDENTIFIER, QUOTED_IDENTIFIER, STRING, NUMBER, SYMBOL, END
+    }
+
+    /**
+     * The Token.
+     *
+     * @param type the type
+     * @param text the text
+     */
+    record Token(TokenType type, String text) {
+
+        /**
+         * Checks if the token is the keyword.
+         *
+         * @param keyword the keyword
+         * @return true, if is the keyword
+         */
+        boolean is(String keyword) {
+            return type == TokenType.IDENTIFIER && text.equalsIgnoreCase(keyword);
+        }
+
+        /**
+         * Checks if the token is the symbol.
+         *
+         * @param symbol the symbol
+         * @return true, if is the symbol
+         */
+        boolean isSymbol(String symbol) {
+            return type == TokenType.SYMBOL && text.equals(symbol);
+        }
+    }
+
+    /**
+     * A column or an aggregate function of the select list.
+     *
+     * @param function the aggregate function or null
+     * @param field the field or null for *
+     * @param alias the alias or null
+     */
+    record SelectItem(String function, String field, String alias) {
+
+        /**
+         * Checks if is aggregate.
+         *
+         * @return true, if is aggregate
+         */
+        boolean isAggregate() {
+            return function != null;
+        }
+
+        /**
+         * The name of the column in the result.
+         *
+         * @return the label
+         */
+        String label() {
+            if (alias != null) {
+                return alias;
+            }
+            if (function == null) {
+                return field;
+            }
+            return (function + "(" + (field == null ? "*" : field) + ")").replace('.', '_');
+        }
+    }
+
+    /**
+     * An ORDER BY item.
+     *
+     * @param key the key
+     * @param descending the descending
+     */
+    record OrderItem(SelectItem key, boolean descending) {
+    }
+
+    /** The tokens. */
+    private final List<Token> tokens;
+
+    /** The position. */
+    private int position;
+
+    /** The collection. */
+    private String collection;
+
+    /** The collection alias. */
+    private String collectionAlias;
+
+    /**
+     * Instantiates a new sql query translator.
+     *
+     * @param tokens the tokens
+     */
+    private SqlQueryTranslator(List<Token> tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Checks if the statement is an SQL SELECT rather than a MongoDB command document.
+     *
+     * @param sql the sql
+     * @return true, if is select
+     */
+    public static boolean isSelect(String sql) {
+        return sql != null && SELECT_PATTERN.matcher(sql)
+                                            .find();
+    }
+
+    /**
+     * Translates an SQL SELECT to a MongoDB query.
+     *
+     * @param sql the sql
+     * @return the mongo query
+     * @throws SQLException in case of invalid or not supported SQL
+     */
+    public static MongoQuery translate(String sql) throws SQLException {
+        return new SqlQueryTranslator(tokenize(sql)).parseSelect();
+    }
+
+    /**
+     * Tokenize.
+     *
+     * @param sql the sql
+     * @return the tokens
+     * @throws SQLSyntaxErrorException the SQL syntax error exception
+     */
+    static List<Token> tokenize(String sql) throws SQLSyntaxErrorException {
+        List<Token> result = new ArrayList<>();
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'') {
+                StringBuilder value = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= length) {
+                        throw new SQLSyntaxErrorException("Unterminated string literal in: " + sql);
+                    }
+                    char d = sql.charAt(i++);
+                    if (d == '\'') {
+                        if (i < length && sql.charAt(i) == '\'') {
+                            value.append('\'');
+                            i++;
+                            continue;
+                        }
+                        break;
+                    }
+                    value.append(d);
+                }
+                result.add(new Token(TokenType.STRING, value.toString()));
+            } else if (c == '"' || c == '`') {
+                int end = sql.indexOf(c, i + 1);
+                if (end < 0) {
+                    throw new SQLSyntaxErrorException("Unterminated quoted identifier in: " + sql);
+                }
+                result.add(new Token(TokenType.QUOTED_IDENTIFIER, sql.substring(i + 1, end)));
+                i = end + 1;
+            } else if (Character.isDigit(c)) {
+                int start = i;
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                result.add(new Token(TokenType.NUMBER, sql.substring(start, i)));
+            } else if (Character.isLetter(c) || c == '_' || c == '$') {
+                int start = i;
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '_' || sql.charAt(i) == '$')) {
+                    i++;
+                }
+                result.add(new Token(TokenType.IDENTIFIER, sql.substring(start, i)));
+            } else {
+                String pair = i + 1 < length ? sql.substring(i, i + 2) : "";
+                if (pair.equals("<=") || pair.equals(">=") || pair.equals("<>") || pair.equals("!=")) {
+                    result.add(new Token(TokenType.SYMBOL, pair));
+                    i += 2;
+                } else if ("(),*=<>.;-?".indexOf(c) >= 0) {
+                    result.add(new Token(TokenType.SYMBOL, String.valueOf(c)));
+                    i++;
+                } else {
+                    throw new SQLSyntaxErrorException("Unexpected character [" + c + "] at position " + i + " in: " + sql);
+                }
+            }
+        }
+        result.add(new Token(TokenType.END, ""));
+        return result;
+    }
+
+    /**
+     * Parses the select.
+     *
+     * @return the mongo query
+     * @throws SQLException the SQL exception
+     */
+    private MongoQuery parseSelect() throws SQLException {
+        expectKeyword("SELECT");
+        boolean distinct = acceptKeyword("DISTINCT");
+        List<SelectItem> items = new ArrayList<>();
+        if (!acceptSymbol("*")) {
+            do {
+                items.add(parseSelectItem(true));
+            } while (acceptSymbol(","));
+        }
+
+        expectKeyword("FROM");
+        collection = parseIdentifier();
+        while (acceptSymbol(".")) {
+            collection = parseIdentifier();
+        }
+        collectionAlias = parseOptionalAlias();
+        // the select list is parsed before the qualifiers are known
+        items.replaceAll(item -> new SelectItem(item.function(), unqualify(item.field()), item.alias()));
+        if (peek().isSymbol(",") || peek().is("JOIN") || peek().is("INNER") || peek().is("LEFT") || peek().is("RIGHT") || peek().is("FULL")
+                || peek().is("CROSS")) {
+            throw new SQLFeatureNotSupportedException("Joins are not supported by the MongoDB driver");
+        }
+
+        BsonDocument filter = acceptKeyword("WHERE") ? parseOr() : new BsonDocument();
+
+        List<String> groupBy = new ArrayList<>();
+        if (acceptKeyword("GROUP")) {
+            expectKeyword("BY");
+            do {
+                groupBy.add(parseField());
+            } while (acceptSymbol(","));
+        }
+        if (peek().is("HAVING")) {
+            throw new SQLFeatureNotSupportedException("HAVING is not supported by the MongoDB driver");
+        }
+
+        List<OrderItem> orderBy = new ArrayList<>();
+        if (acceptKeyword("ORDER")) {
+            expectKeyword("BY");
+            do {
+                SelectItem key = parseSelectItem(false);
+                boolean descending = acceptKeyword("DESC");
+                if (!descending) {
+                    acceptKeyword("ASC");
+                }
+                orderBy.add(new OrderItem(key, descending));
+            } while (acceptSymbol(","));
+        }
+
+        int skip = 0;
+        int limit = -1;
+        boolean paging = true;
+        while (paging) {
+            if (acceptKeyword("LIMIT")) {
+                int first = parseInteger();
+                if (acceptSymbol(",")) {
+                    skip = first;
+                    limit = parseInteger();
+                } else {
+                    limit = first;
+                }
+            } else if (acceptKeyword("OFFSET")) {
+                skip = parseInteger();
+                if (!acceptKeyword("ROWS")) {
+                    acceptKeyword("ROW");
+                }
+            } else {
+                paging = false;
+            }
+        }
+        if (acceptKeyword("FETCH")) {
+            if (!acceptKeyword("FIRST")) {
+                expectKeyword("NEXT");
+            }
+            limit = parseInteger();
+            if (!acceptKeyword("ROWS")) {
+                expectKeyword("ROW");
+            }
+            expectKeyword("ONLY");
+        }
+        acceptSymbol(";");
+        if (peek().type() != TokenType.END) {
+            throw syntaxError("Unexpected [" + peek().text() + "]");
+        }
+
+        if (limit == 0) {
+            // MongoDB treats a zero limit as none, so an explicit zero matches no documents instead
+            filter = new BsonDocument("_id", new BsonDocument("$in", new BsonArray()));
+        }
+
+        boolean aggregated = distinct || !groupBy.isEmpty() || items.stream()
+                                                                    .anyMatch(SelectItem::isAggregate);
+        if (aggregated) {
+            return buildAggregation(items, distinct, filter, groupBy, orderBy, skip, limit);
+        }
+        return buildFind(items, filter, orderBy, skip, limit);
+    }
+
+    /**
+     * Builds a find, or a pipeline if columns are renamed.
+     *
+     * @param items the items
+     * @param filter the filter
+     * @param orderBy the order by
+     * @param skip the skip
+     * @param limit the limit
+     * @return the mongo query
+     */
+    private MongoQuery buildFind(List<SelectItem> items, BsonDocument filter, List<OrderItem> orderBy, int skip, int limit) {
+        BsonDocument sort = null;
+        if (!orderBy.isEmpty()) {
+            sort = new BsonDocument();
+            for (OrderItem order : orderBy) {
+                String field = order.key()
+                                    .field();
+                for (SelectItem item : items) {
+                    if (field.equals(item.alias())) {
+                        field = item.field();
+                        break;
+                    }
+                }
+                sort.append(field, new BsonInt32(order.descending() ? -1 : 1));
+            }
+        }
+
+        boolean renamed = items.stream()
+                               .anyMatch(item -> item.alias() != null && !item.alias()
+                                                                              .equals(item.field()));
+        if (!renamed) {
+            BsonDocument projection = null;
+            if (!items.isEmpty()) {
+                projection = new BsonDocument();
+                for (SelectItem item : items) {
+                    projection.append(item.field(), new BsonInt32(1));
+                }
+                if (!projection.containsKey("_id")) {
+                    projection.append("_id", new BsonInt32(0));
+                }
+            }
+            return MongoQuery.find(collection, filter, projection, sort, skip, limit, columns(items));
+        }
+
+        // the projection of the find cannot rename fields
+        BsonDocument project = new BsonDocument("_id", new BsonInt32(0));
+        for (SelectItem item : items) {
+            project.append(item.label(), new BsonString("$" + item.field()));
+        }
+        List<BsonDocument> pipeline = new ArrayList<>();
+        if (!filter.isEmpty()) {
+            pipeline.add(new BsonDocument("$match", filter));
+        }
+        if (sort != null) {
+            pipeline.add(new BsonDocument("$sort", sort));
+        }
+        addPaging(pipeline, skip, limit);
+        pipeline.add(new BsonDocument("$project", project));
+        return MongoQuery.aggregate(collection, pipeline, columns(items));
+    }
+
+    /**
+     * Gets the column labels of the select list.
+     *
+     * @param items the items
+     * @return the labels or null for *
+     */
+    private static List<String> columns(List<SelectItem> items) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>();
+        items.forEach(item -> columns.add(item.label()));
+        return columns;
+    }
+
+    /**
+     * Builds the aggregation pipeline.
+     *
+     * @param items the items
+     * @param distinct the distinct
+     * @param filter the filter
+     * @param groupBy the group by
+     * @param orderBy the order by
+     * @param skip the skip
+     * @param limit the limit
+     * @return the mongo query
+     * @throws SQLException the SQL exception
+     */
+    private MongoQuery buildAggregation(List<SelectItem> items, boolean distinct, BsonDocument filter, List<String> groupBy,
+            List<OrderItem> orderBy, int skip, int limit) throws SQLException {
+        if (items.isEmpty()) {
+            throw new SQLFeatureNotSupportedException("SELECT * cannot be combined with DISTINCT, GROUP BY or aggregate functions");
+        }
+        if (distinct) {
+            if (items.stream()
+                     .anyMatch(SelectItem::isAggregate)) {
+                throw new SQLFeatureNotSupportedException("DISTINCT cannot be combined with aggregate functions");
+            }
+            if (groupBy.isEmpty()) {
+                items.forEach(item -> groupBy.add(item.field()));
+            }
+        }
+
+        Map<String, String> groupKeys = new LinkedHashMap<>();
+        BsonDocument id = new BsonDocument();
+        for (String field : groupBy) {
+            String key = "g" + groupKeys.size();
+            groupKeys.put(field, key);
+            id.append(key, new BsonString("$" + field));
+        }
+        BsonDocument group = new BsonDocument("_id", groupBy.isEmpty() ? BsonNull.VALUE : id);
+        BsonDocument project = new BsonDocument("_id", new BsonInt32(0));
+        for (SelectItem item : items) {
+            if (item.isAggregate()) {
+                group.append(item.label(), accumulator(item));
+                project.append(item.label(), new BsonInt32(1));
+            } else {
+                String key = groupKeys.get(item.field());
+                if (key == null) {
+                    throw syntaxError(
+                            "Column [" + item.field() + "] must appear in the GROUP BY clause or be used in an aggregate function");
+                }
+                project.append(item.label(), new BsonString("$_id." + key));
+            }
+        }
+
+        List<BsonDocument> pipeline = new ArrayList<>();
+        if (!filter.isEmpty()) {
+            pipeline.add(new BsonDocument("$match", filter));
+        }
+        pipeline.add(new BsonDocument("$group", group));
+        pipeline.add(new BsonDocument("$project", project));
+        if (!orderBy.isEmpty()) {
+            BsonDocument sort = new BsonDocument();
+            for (OrderItem order : orderBy) {
+                sort.append(resolveOutputName(items, order.key()), new BsonInt32(order.descending() ? -1 : 1));
+            }
+            pipeline.add(new BsonDocument("$sort", sort));
+        }
+        addPaging(pipeline, skip, limit);
+        return MongoQuery.aggregate(collection, pipeline, columns(items));
+    }
+
+    /**
+     * Resolves an ORDER BY key of an aggregation to the name of a selected column.
+     *
+     * @param items the items
+     * @param key the key
+     * @return the output name
+     * @throws SQLException the SQL exception
+     */
+    private String resolveOutputName(List<SelectItem> items, SelectItem key) throws SQLException {
+        for (SelectItem item : items) {
+            if (!key.isAggregate() && key.field()
+                                         .equals(item.alias())) {
+                return item.label();
+            }
+        }
+        for (SelectItem item : items) {
+            if (Objects.equals(key.function(), item.function()) && Objects.equals(key.field(), item.field())) {
+                return item.label();
+            }
+        }
+        throw syntaxError("ORDER BY [" + key.label() + "] must reference a selected column of the aggregation");
+    }
+
+    /**
+     * Adds the skip and limit stages.
+     *
+     * @param pipeline the pipeline
+     * @param skip the skip
+     * @param limit the limit
+     */
+    private static void addPaging(List<BsonDocument> pipeline, int skip, int limit) {
+        if (skip > 0) {
+            pipeline.add(new BsonDocument("$skip", new BsonInt32(skip)));
+        }
+        if (limit > 0) {
+            pipeline.add(new BsonDocument("$limit", new BsonInt32(limit)));
+        }
+    }
+
+    /**
+     * The group accumulator of an aggregate function.
+     *
+     * @param item the item
+     * @return the accumulator
+     */
+    private static BsonDocument accumulator(SelectItem item) {
+        String function = item.function();
+        if ("COUNT".equals(function)) {
+            if (item.field() == null) {
+                return new BsonDocument("$sum", new BsonInt32(1));
+            }
+            // counts the non null values only
+            BsonArray notNull = new BsonArray(List.of(new BsonString("$" + item.field()), BsonNull.VALUE));
+            BsonArray condition = new BsonArray(List.of(new BsonDocument("$gt", notNull), new BsonInt32(1), new BsonInt32(0)));
+            return new BsonDocument("$sum", new BsonDocument("$cond", condition));
+        }
+        return new BsonDocument("$" + function.toLowerCase(Locale.ROOT), new BsonString("$" + item.field()));
+    }
+
+    /**
+     * Parses a select item or an order by key.
+     *
+     * @param withAlias whether an alias is allowed
+     * @return the select item
+     * @throws SQLException the SQL exception
+     */
+    private SelectItem parseSelectItem(boolean withAlias) throws SQLException {
+        Token token = peek();
+        if (token.type() == TokenType.IDENTIFIER && AGGREGATE_FUNCTIONS.contains(token.text()
+                                                                                      .toUpperCase(Locale.ROOT))
+                && tokens.get(position + 1)
+                         .isSymbol("(")) {
+            String function = next().text()
+                                    .toUpperCase(Locale.ROOT);
+            expectSymbol("(");
+            if (peek().is("DISTINCT")) {
+                throw new SQLFeatureNotSupportedException("DISTINCT in aggregate functions is not supported by the MongoDB driver");
+            }
+            String field = null;
+            if (acceptSymbol("*")) {
+                if (!"COUNT".equals(function)) {
+                    throw syntaxError(function + "(*) is not valid");
+                }
+            } else {
+                field = parseField();
+            }
+            expectSymbol(")");
+            return new SelectItem(function, field, withAlias ? parseOptionalAlias() : null);
+        }
+        String field = parseField();
+        return new SelectItem(null, field, withAlias ? parseOptionalAlias() : null);
+    }
+
+    /**
+     * Parses a possibly qualified field. The collection name or alias qualifier is removed, the rest is
+     * a path to a nested field.
+     *
+     * @return the field
+     * @throws SQLException the SQL exception
+     */
+    private String parseField() throws SQLException {
+        List<String> parts = new ArrayList<>();
+        parts.add(parseIdentifier());
+        while (acceptSymbol(".")) {
+            parts.add(parseIdentifier());
+        }
+        return unqualify(String.join(".", parts));
+    }
+
+    /**
+     * Removes the collection name or alias qualifier of a field.
+     *
+     * @param field the field or null
+     * @return the unqualified field
+     */
+    private String unqualify(String field) {
+        if (field == null || collection == null) {
+            return field;
+        }
+        for (String qualifier : new String[] {collection, collectionAlias}) {
+            if (qualifier != null && field.startsWith(qualifier + ".")) {
+                return field.substring(qualifier.length() + 1);
+            }
+        }
+        return field;
+    }
+
+    /**
+     * Parses the optional alias.
+     *
+     * @return the alias or null
+     * @throws SQLException the SQL exception
+     */
+    private String parseOptionalAlias() throws SQLException {
+        if (acceptKeyword("AS")) {
+            return parseIdentifier();
+        }
+        Token token = peek();
+        if (token.type() == TokenType.QUOTED_IDENTIFIER || (token.type() == TokenType.IDENTIFIER && !RESERVED.contains(token.text()
+                                                                                                                            .toUpperCase(
+                                                                                                                                    Locale.ROOT)))) {
+            return next().text();
+        }
+        return null;
+    }
+
+    /**
+     * Parses the OR conditions.
+     *
+     * @return the filter
+     * @throws SQLException the SQL exception
+     */
+    private BsonDocument parseOr() throws SQLException {
+        List<BsonDocument> operands = new ArrayList<>();
+        do {
+            operands.add(parseAnd());
+        } while (acceptKeyword("OR"));
+        return combine("$or", operands);
+    }
+
+    /**
+     * Parses the AND conditions.
+     *
+     * @return the filter
+     * @throws SQLException the SQL exception
+     */
+    private BsonDocument parseAnd() throws SQLException {
+        List<BsonDocument> operands = new ArrayList<>();
+        do {
+            operands.add(parseNot());
+        } while (acceptKeyword("AND"));
+        return combine("$and", operands);
+    }
+
+    /**
+     * Combines the operands, flattening the nested ones of the same operator.
+     *
+     * @param operator the operator
+     * @param operands the operands
+     * @return the filter
+     */
+    private static BsonDocument combine(String operator, List<BsonDocument> operands) {
+        if (operands.size() == 1) {
+            return operands.get(0);
+        }
+        BsonArray flattened = new BsonArray();
+        for (BsonDocument operand : operands) {
+            if (operand.size() == 1 && operand.containsKey(operator)) {
+                flattened.addAll(operand.getArray(operator));
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return new BsonDocument(operator, flattened);
+    }
+
+    /**
+     * Parses a NOT condition.
+     *
+     * @return the filter
+     * @throws SQLException the SQL exception
+     */
+    private BsonDocument parseNot() throws SQLException {
+        if (acceptKeyword("NOT")) {
+            return new BsonDocument("$nor", new BsonArray(List.of(parseNot())));
+        }
+        if (acceptSymbol("(")) {
+            BsonDocument condition = parseOr();
+            expectSymbol(")");
+            return condition;
+        }
+        return parsePredicate();
+    }
+
+    /**
+     * Parses a predicate on a field.
+     *
+     * @return the filter
+     * @throws SQLException the SQL exception
+     */
+    private BsonDocument parsePredicate() throws SQLException {
+        String field = parseField();
+        if (acceptKeyword("IS")) {
+            boolean not = acceptKeyword("NOT");
+            expectKeyword("NULL");
+            return not ? condition(field, "$ne", BsonNull.VALUE) : new BsonDocument(field, BsonNull.VALUE);
+        }
+        boolean not = acceptKeyword("NOT");
+        if (acceptKeyword("IN")) {
+            expectSymbol("(");
+            BsonArray values = new BsonArray();
+            do {
+                values.add(parseValue());
+            } while (acceptSymbol(","));
+            expectSymbol(")");
+            if (not) {
+                // as in SQL, the null values do not match NOT IN
+                values.add(BsonNull.VALUE);
+                return condition(field, "$nin", values);
+            }
+            return condition(field, "$in", values);
+        }
+        if (acceptKeyword("LIKE")) {
+            Token pattern = next();
+            if (pattern.type() != TokenType.STRING) {
+                throw syntaxError("LIKE expects a string pattern");
+            }
+            BsonRegularExpression regex = new BsonRegularExpression(likeToRegex(pattern.text()), "s");
+            if (not) {
+                return new BsonDocument("$and",
+                        new BsonArray(List.of(condition(field, "$not", regex), condition(field, "$ne", BsonNull.VALUE))));
+            }
+            return new BsonDocument(field, regex);
+        }
+        if (acceptKeyword("BETWEEN")) {
+            BsonValue from = parseValue();
+            expectKeyword("AND");
+            BsonValue to = parseValue();
+            if (not) {
+                return new BsonDocument("$or", new BsonArray(List.of(condition(field, "$lt", from), condition(field, "$gt", to))));
+            }
+            return new BsonDocument(field, new BsonDocument("$gte", from).append("$lte", to));
+        }
+        if (not) {
+            throw syntaxError("NOT must be followed by IN, LIKE or BETWEEN");
+        }
+
+        Token operator = next();
+        String mongoOperator = operator.type() == TokenType.SYMBOL ? COMPARISON_OPERATORS.get(operator.text()) : null;
+        if (mongoOperator == null) {
+            throw syntaxError("Expected a comparison operator instead of [" + operator.text() + "]");
+        }
+        if (isFieldReference(peek())) {
+            // comparison of two fields of the same document
+            BsonArray arguments = new BsonArray(List.of(new BsonString("$" + field), new BsonString("$" + parseField())));
+            return new BsonDocument("$expr", new BsonDocument(mongoOperator, arguments));
+        }
+        BsonValue value = parseValue();
+        if (value.isNull()) {
+            return "$ne".equals(mongoOperator) ? condition(field, "$ne", BsonNull.VALUE) : new BsonDocument(field, BsonNull.VALUE);
+        }
+        if ("$eq".equals(mongoOperator)) {
+            return new BsonDocument(field, value);
+        }
+        if ("$ne".equals(mongoOperator)) {
+            // as in SQL, the null values do not match <>
+            return condition(field, "$nin", new BsonArray(List.of(value, BsonNull.VALUE)));
+        }
+        return condition(field, mongoOperator, value);
+    }
+
+    /**
+     * Checks if the token starts a field reference rather than a literal.
+     *
+     * @param token the token
+     * @return true, if is field reference
+     */
+    private static boolean isFieldReference(Token token) {
+        return token.type() == TokenType.QUOTED_IDENTIFIER
+                || (token.type() == TokenType.IDENTIFIER && !token.is("TRUE") && !token.is("FALSE") && !token.is("NULL"));
+    }
+
+    /**
+     * Condition.
+     *
+     * @param field the field
+     * @param operator the operator
+     * @param value the value
+     * @return the bson document
+     */
+    private static BsonDocument condition(String field, String operator, BsonValue value) {
+        return new BsonDocument(field, new BsonDocument(operator, value));
+    }
+
+    /**
+     * Converts a LIKE pattern to an anchored regular expression.
+     *
+     * @param pattern the pattern
+     * @return the regular expression
+     */
+    static String likeToRegex(String pattern) {
+        StringBuilder regex = new StringBuilder("^");
+        StringBuilder literal = new StringBuilder();
+        for (char c : pattern.toCharArray()) {
+            if (c == '%' || c == '_') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '%' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return regex.append("$")
+                    .toString();
+    }
+
+    /**
+     * Parses a literal value.
+     *
+     * @return the bson value
+     * @throws SQLException the SQL exception
+     */
+    private BsonValue parseValue() throws SQLException {
+        boolean negative = acceptSymbol("-");
+        Token token = next();
+        if (token.type() == TokenType.NUMBER) {
+            String number = negative ? "-" + token.text() : token.text();
+            try {
+                if (number.contains(".")) {
+                    return new BsonDouble(Double.parseDouble(number));
+                }
+                long value = Long.parseLong(number);
+                return value == (int) value ? new BsonInt32((int) value) : new BsonInt64(value);
+            } catch (NumberFormatException e) {
+                throw syntaxError("Invalid number [" + number + "]");
+            }
+        }
+        if (negative) {
+            throw syntaxError("Expected a number after [-]");
+        }
+        if (token.type() == TokenType.STRING) {
+            return new BsonString(token.text());
+        }
+        if (token.is("TRUE") || token.is("FALSE")) {
+            return BsonBoolean.valueOf(token.is("TRUE"));
+        }
+        if (token.is("NULL")) {
+            return BsonNull.VALUE;
+        }
+        if (token.isSymbol("?")) {
+            throw new SQLFeatureNotSupportedException("Parameters are not supported by the MongoDB driver");
+        }
+        throw syntaxError("Expected a literal instead of [" + token.text() + "]");
+    }
+
+    /**
+     * Parses a non negative integer.
+     *
+     * @return the int
+     * @throws SQLException the SQL exception
+     */
+    private int parseInteger() throws SQLException {
+        Token token = next();
+        if (token.type() != TokenType.NUMBER || token.text()
+                                                     .contains(".")) {
+            throw syntaxError("Expected an integer instead of [" + token.text() + "]");
+        }
+        return Integer.parseInt(token.text());
+    }
+
+    /**
+     * Parses an identifier.
+     *
+     * @return the identifier
+     * @throws SQLException the SQL exception
+     */
+    private String parseIdentifier() throws SQLException {
+        Token token = next();
+        if (token.type() != TokenType.IDENTIFIER && token.type() != TokenType.QUOTED_IDENTIFIER) {
+            throw syntaxError("Expected an identifier instead of [" + token.text() + "]");
+        }
+        return token.text();
+    }
+
+    /**
+     * Peek.
+     *
+     * @return the token
+     */
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    /**
+     * Next.
+     *
+     * @return the token
+     */
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.type() != TokenType.END) {
+            position++;
+        }
+        return token;
+    }
+
+    /**
+     * Accept keyword.
+     *
+     * @param keyword the keyword
+     * @return true, if accepted
+     */
+    private boolean acceptKeyword(String keyword) {
+        if (peek().is(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Expect keyword.
+     *
+     * @param keyword the keyword
+     * @throws SQLSyntaxErrorException the SQL syntax error exception
+     */
+    private void expectKeyword(String keyword) throws SQLSyntaxErrorException {
+        if (!acceptKeyword(keyword)) {
+            throw syntaxError("Expected [" + keyword + "] instead of [" + peek().text() + "]");
+        }
+    }
+
+    /**
+     * Accept symbol.
+     *
+     * @param symbol the symbol
+     * @return true, if accepted
+     */
+    private boolean acceptSymbol(String symbol) {
+        if (peek().isSymbol(symbol)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Expect symbol.
+     *
+     * @param symbol the symbol
+     * @throws SQLSyntaxErrorException the SQL syntax error exception
+     */
+    private void expectSymbol(String symbol) throws SQLSyntaxErrorException {
+        if (!acceptSymbol(symbol)) {
+            throw syntaxError("Expected [" + symbol + "] instead of [" + peek().text() + "]");
+        }
+    }
+
+    /**
+     * Syntax error.
+     *
+     * @param message the message
+     * @return the SQL syntax error exception
+     */
+    private SQLSyntaxErrorException syntaxError(String message) {
+        return new SQLSyntaxErrorException(message + " at token " + position);
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+
+import org.bson.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.Block;
+import com.mongodb.Function;
+import com.mongodb.ServerAddress;
+import com.mongodb.ServerCursor;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoIterable;
+
+/**
+ * The Class MongoDBResultSetTest.
+ */
+public class MongoDBResultSetTest {
+
+    /** The connection, which is not connected to a server. */
+    private MongoDBConnection connection;
+
+    /** The documents, with the fields in their stored order. */
+    private final List<Document> documents = List.of(new Document("number", 1).append("name", "first")
+                                                                              .append("value", 10),
+            new Document("number", 2).append("value", 20));
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        connection = new MongoDBConnection("jdbc:mongodb://localhost:27017/test", new Properties());
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @After
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    /**
+     * The columns are numbered in the select order, not in the stored one.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void columnsInSelectOrder() throws SQLException {
+        ResultSet resultSet =
+                new MongoDBResultSet(new MongoDBStatement(connection), new DocumentIterable(documents), List.of("value", "name", "number"));
+
+        assertTrue(resultSet.next());
+        ResultSetMetaData metadata = resultSet.getMetaData();
+        assertEquals(3, metadata.getColumnCount());
+        assertEquals("value", metadata.getColumnName(1));
+        assertEquals("name", metadata.getColumnName(2));
+        assertEquals("number", metadata.getColumnName(3));
+        assertEquals(10, resultSet.getInt(1));
+        assertEquals("first", resultSet.getString(2));
+        assertEquals(1, resultSet.getInt(3));
+
+        assertTrue(resultSet.next());
+        assertEquals(3, resultSet.getMetaData()
+                                 .getColumnCount());
+        assertEquals(20, resultSet.getInt(1));
+        assertNull(resultSet.getString(2));
+        assertTrue(resultSet.wasNull());
+        assertEquals(2, resultSet.getInt(3));
+        assertFalse(resultSet.next());
+    }
+
+    /**
+     * Without a select list the columns are the fields of each document.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void columnsOfDocument() throws SQLException {
+        ResultSet resultSet = new MongoDBResultSet(new MongoDBStatement(connection), new DocumentIterable(documents));
+
+        assertTrue(resultSet.next());
+        assertEquals(3, resultSet.getMetaData()
+                                 .getColumnCount());
+        assertTrue(resultSet.next());
+        assertEquals(2, resultSet.getMetaData()
+                                 .getColumnCount());
+    }
+
+    /**
+     * The documents of a list, as returned by a find.
+     */
+    private static class DocumentIterable implements MongoIterable<Document> {
+
+        /** The documents. */
+        private final List<Document> documents;
+
+        /**
+         * Instantiates a new document iterable.
+         *
+         * @param documents the documents
+         */
+        DocumentIterable(List<Document> documents) {
+            this.documents = documents;
+        }
+
+        /**
+         * Iterator.
+         *
+         * @return the mongo cursor
+         */
+        @Override
+        public MongoCursor<Document> iterator() {
+            Iterator<Document> iterator = documents.iterator();
+            return new MongoCursor<Document>() {
+
+                @Override
+                public void close() {}
+
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Document next() {
+                    return iterator.next();
+                }
+
+                @Override
+                public Document tryNext() {
+                    return iterator.hasNext() ? iterator.next() : null;
+                }
+
+                @Override
+                public ServerCursor getServerCursor() {
+                    return null;
+                }
+
+                @Override
+                public ServerAddress getServerAddress() {
+                    return null;
+                }
+            };
+        }
+
+        /**
+         * Cursor.
+         *
+         * @return the mongo cursor
+         */
+        @Override
+        public MongoCursor<Document> cursor() {
+            return iterator();
+        }
+
+        /**
+         * First.
+         *
+         * @return the document
+         */
+        @Override
+        public Document first() {
+            return documents.isEmpty() ? null : documents.get(0);
+        }
+
+        /**
+         * Map.
+         *
+         * @param <U> the generic type
+         * @param mapper the mapper
+         * @return the mongo iterable
+         */
+        @Override
+        public <U> MongoIterable<U> map(Function<Document, U> mapper) {
+            throw new UnsupportedOperationException();
+        }
+
+        /**
+         * For each.
+         *
+         * @param block the block
+         */
+        @Override
+        public void forEach(Block<? super Document> block) {
+            documents.forEach(block::apply);
+        }
+
+        /**
+         * Into.
+         *
+         * @param <A> the generic type
+         * @param target the target
+         * @return the target
+         */
+        @Override
+        public <A extends Collection<? super Document>> A into(A target) {
+            target.addAll(documents);
+            return target;
+        }
+
+        /**
+         * Batch size.
+         *
+         * @param batchSize the batch size
+         * @return the mongo iterable
+         */
+        @Override
+        public MongoIterable<Document> batchSize(int batchSize) {
+            return this;
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.bson.Document;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.mongodb.client.MongoCollection;
+
+/**
+ * Runs SQL queries against a local MongoDB instance. The test is skipped unless the connection url,
+ * e.g. jdbc:mongodb://localhost:27017/test, is set in the DIRIGIBLE_MONGODB_TEST_URL environment
+ * variable or system property.
+ */
+public class MongoDBSqlQueryIntegrationTest {
+
+    /** The Constant COLLECTION. */
+    private static final String COLLECTION = "dirigible_sql_pushdown";
+
+    /** The connection. */
+    private MongoDBConnection connection;
+
+    /** The collection. */
+    private MongoCollection<Document> collection;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        String url = System.getProperty("DIRIGIBLE_MONGODB_TEST_URL", System.getenv("DIRIGIBLE_MONGODB_TEST_URL"));
+        assumeTrue("DIRIGIBLE_MONGODB_TEST_URL is not set", url != null && !url.isBlank());
+        connection = new MongoDBConnection(url, new Properties());
+        collection = connection.getMongoDatabase()
+                               .getCollection(COLLECTION);
+        collection.drop();
+        List<Document> documents = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            documents.add(new Document("number", i).append("group", "g" + (i % 3))
+                                                   .append("value", i * 2)
+                                                   .append("name", i % 10 == 0 ? null : "item" + i));
+        }
+        collection.insertMany(documents);
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @After
+    public void tearDown() throws SQLException {
+        if (connection != null) {
+            collection.drop();
+            connection.close();
+        }
+    }
+
+    /**
+     * Find with projection, filter, sort and paging streamed in small batches.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void find() throws SQLException {
+        Statement statement = connection.createStatement();
+        statement.setFetchSize(7);
+        ResultSet resultSet = statement.executeQuery("SELECT number, name FROM " + COLLECTION
+                + " WHERE \"group\" = 'g1' AND number > 100 AND name IS NOT NULL ORDER BY number DESC LIMIT 20 OFFSET 5");
+        List<Integer> numbers = new ArrayList<>();
+        while (resultSet.next()) {
+            Document document = Document.parse(resultSet.getString(MongoDBResultSet.RAW_DOCUMENT_INDEX));
+            assertFalse(document.containsKey("_id"));
+            assertFalse(document.containsKey("value"));
+            numbers.add(document.getInteger("number"));
+        }
+        resultSet.close();
+        assertEquals(20, numbers.size());
+        // descending numbers from the g1 group, without the null names, skipping the first 5
+        assertEquals(Integer.valueOf(232), numbers.get(0));
+        for (int i = 1; i < numbers.size(); i++) {
+            assertTrue(numbers.get(i) < numbers.get(i - 1));
+        }
+    }
+
+    /**
+     * The columns are read in the select order, not in the stored one.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void columnsInSelectOrder() throws SQLException {
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT value, number FROM " + COLLECTION + " WHERE number = 7");
+        assertTrue(resultSet.next());
+        assertEquals("value", resultSet.getMetaData()
+                                       .getColumnName(1));
+        assertEquals(14, resultSet.getInt(1));
+        assertEquals(7, resultSet.getInt(2));
+        assertFalse(resultSet.next());
+        resultSet.close();
+    }
+
+    /**
+     * Group by with aggregates.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void groupBy() throws SQLException {
+        Statement statement = connection.createStatement();
+        ResultSet resultSet = statement.executeQuery("SELECT \"group\", COUNT(*) AS cnt, COUNT(name) AS named, SUM(value) AS total FROM "
+                + COLLECTION + " GROUP BY \"group\" ORDER BY \"group\"");
+        List<Document> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            rows.add(Document.parse(resultSet.getString(MongoDBResultSet.RAW_DOCUMENT_INDEX)));
+        }
+        resultSet.close();
+        assertEquals(3, rows.size());
+        assertEquals("g0", rows.get(0)
+                               .getString("group"));
+        assertEquals(83, rows.get(0)
+                             .getInteger("cnt")
+                             .intValue());
+        int count = 0;
+        int named = 0;
+        for (Document row : rows) {
+            count += row.getInteger("cnt");
+            named += row.getInteger("named");
+        }
+        assertEquals(250, count);
+        assertEquals(225, named);
+    }
+
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.mongodb.jdbc.sql;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLSyntaxErrorException;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+/**
+ * The Class SqlQueryTranslatorTest.
+ */
+public class SqlQueryTranslatorTest {
+
+    /**
+     * Select is detected.
+     */
+    @Test
+    public void isSelect() {
+        assertTrue(SqlQueryTranslator.isSelect("  select * from orders"));
+        assertTrue(SqlQueryTranslator.isSelect("SELECT\n* FROM orders"));
+        assertFalse(SqlQueryTranslator.isSelect("{ 'find': 'orders' }"));
+        assertFalse(SqlQueryTranslator.isSelect(null));
+    }
+
+    /**
+     * Select all.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void selectAll() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("SELECT * FROM orders");
+        assertFalse(query.isAggregation());
+        assertEquals("orders", query.getCollection());
+        assertEquals(new BsonDocument(), query.getFilter());
+        assertNull(query.getProjection());
+        assertNull(query.getSort());
+    }
+
+    /**
+     * The columns are listed in the select order, not in the stored one.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void columnsInSelectOrder() throws SQLException {
+        assertNull(SqlQueryTranslator.translate("SELECT * FROM t")
+                                     .getColumns());
+        assertEquals(List.of("value", "number", "name"), SqlQueryTranslator.translate("SELECT value, number, name FROM t")
+                                                                           .getColumns());
+        assertEquals(List.of("v", "number"), SqlQueryTranslator.translate("SELECT value AS v, number FROM t")
+                                                               .getColumns());
+        assertEquals(List.of("cnt", "group"), SqlQueryTranslator.translate("SELECT COUNT(*) AS cnt, \"group\" FROM t GROUP BY \"group\"")
+                                                                .getColumns());
+    }
+
+    /**
+     * Projection, filter, sort and paging translated to find options.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void findWithOptions() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("SELECT o.name, price FROM \"orders\" o "
+                + "WHERE o.status = 'open' AND price >= 10.5 AND qty < -1 ORDER BY price DESC, name LIMIT 20 OFFSET 40;");
+        assertFalse(query.isAggregation());
+        assertEquals(doc("{name: 1, price: 1, _id: 0}"), query.getProjection());
+        assertEquals(doc("{$and: [{status: 'open'}, {price: {$gte: 10.5}}, {qty: {$lt: -1}}]}"), query.getFilter());
+        assertEquals(List.of("price", "name"), List.copyOf(query.getSort()
+                                                                .keySet()));
+        assertEquals(doc("{price: -1, name: 1}"), query.getSort());
+        assertEquals(40, query.getSkip());
+        assertEquals(20, query.getLimit());
+    }
+
+    /**
+     * The MySQL and the standard paging syntax.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void paging() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("SELECT * FROM orders LIMIT 5, 10");
+        assertEquals(5, query.getSkip());
+        assertEquals(10, query.getLimit());
+
+        query = SqlQueryTranslator.translate("SELECT * FROM orders OFFSET 3 ROWS FETCH FIRST 7 ROWS ONLY");
+        assertEquals(3, query.getSkip());
+        assertEquals(7, query.getLimit());
+
+        query = SqlQueryTranslator.translate("SELECT * FROM orders");
+        assertEquals(0, query.getSkip());
+        assertEquals(-1, query.getLimit());
+    }
+
+    /**
+     * An explicit zero limit matches no documents, as MongoDB treats a zero limit as none.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void zeroLimit() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("SELECT * FROM orders WHERE a = 1 LIMIT 0");
+        assertEquals(0, query.getLimit());
+        assertEquals(doc("{_id: {$in: []}}"), query.getFilter());
+        assertEquals(doc("{find: 'orders', filter: {_id: {$in: []}}}"), query.toCommand());
+
+        query = SqlQueryTranslator.translate("SELECT * FROM orders FETCH FIRST 0 ROWS ONLY");
+        assertEquals(0, query.getLimit());
+        assertEquals(doc("{_id: {$in: []}}"), query.getFilter());
+
+        query = SqlQueryTranslator.translate("SELECT status, COUNT(*) FROM orders GROUP BY status LIMIT 0");
+        assertEquals(doc("{$match: {_id: {$in: []}}}"), query.getPipeline()
+                                                             .get(0));
+        assertFalse(query.getPipeline()
+                         .stream()
+                         .anyMatch(stage -> stage.containsKey("$limit")));
+    }
+
+    /**
+     * Conditions.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void conditions() throws SQLException {
+        assertEquals(doc("{$or: [{a: 1}, {b: {$in: ['x', 'y']}}, {c: null}]}"), filter("a = 1 OR b IN ('x', 'y') OR c IS NULL"));
+        assertEquals(doc("{$and: [{a: {$nin: [1, null]}}, {b: {$nin: ['x', null]}}, {c: {$ne: null}}]}"),
+                filter("a <> 1 AND b NOT IN ('x') AND c IS NOT NULL"));
+        assertEquals(doc("{$and: [{a: {$gte: 1, $lte: 5}}, {$or: [{b: {$lt: 2}}, {b: {$gt: 3}}]}]}"),
+                filter("a BETWEEN 1 AND 5 AND b NOT BETWEEN 2 AND 3"));
+        assertEquals(doc("{$and: [{a: true}, {$or: [{b: 1}, {c: 2}]}]}"), filter("a = TRUE AND (b = 1 OR c = 2)"));
+        assertEquals(doc("{$nor: [{a: {$gt: 1}}]}"), filter("NOT a > 1"));
+        assertEquals(doc("{'address.city': 'Sofia'}"), filter("address.city = 'Sofia'"));
+        assertEquals(doc("{$expr: {$lt: ['$shipped', '$ordered']}}"), filter("shipped < ordered"));
+        assertEquals(doc("{big: {$gt: {$numberLong: '3000000000'}}}"), filter("big > 3000000000"));
+        assertEquals(doc("{name: 'O\\'Brien'}"), filter("name = 'O''Brien'"));
+    }
+
+    /**
+     * LIKE to regular expression.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void like() throws SQLException {
+        String regex = SqlQueryTranslator.likeToRegex("a.b%c_");
+        assertTrue(Pattern.matches(regex, "a.bXYZcD"));
+        assertFalse(Pattern.matches(regex, "aXbcD"));
+        assertFalse(Pattern.matches(regex, "a.bc"));
+
+        BsonDocument filter = filter("name LIKE 'Jo%'");
+        assertEquals("^\\QJo\\E.*$", filter.getRegularExpression("name")
+                                           .getPattern());
+        filter = filter("name NOT LIKE 'Jo%'");
+        assertTrue(filter.getArray("$and")
+                         .get(0)
+                         .asDocument()
+                         .getDocument("name")
+                         .get("$not")
+                         .isRegularExpression());
+    }
+
+    /**
+     * Aliases are translated to a pipeline, as the find projection cannot rename.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void aliases() throws SQLException {
+        MongoQuery query =
+                SqlQueryTranslator.translate("SELECT name AS customer, total amount FROM orders WHERE total > 5 ORDER BY amount LIMIT 3");
+        assertTrue(query.isAggregation());
+        assertEquals(List.of(doc("{$match: {total: {$gt: 5}}}"), doc("{$sort: {total: 1}}"), doc("{$limit: 3}"),
+                doc("{$project: {_id: 0, customer: '$name', amount: '$total'}}")), query.getPipeline());
+    }
+
+    /**
+     * GROUP BY with aggregates.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void groupBy() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("SELECT status, COUNT(*) AS cnt, SUM(total) total, AVG(total), COUNT(note) "
+                + "FROM orders WHERE year = 2024 GROUP BY status ORDER BY cnt DESC, AVG(total) OFFSET 1 LIMIT 10");
+        assertTrue(query.isAggregation());
+        assertEquals(List.of(doc("{$match: {year: 2024}}"),
+                doc("{$group: {_id: {g0: '$status'}, cnt: {$sum: 1}, total: {$sum: '$total'}, 'AVG(total)': {$avg: '$total'}, "
+                        + "'COUNT(note)': {$sum: {$cond: [{$gt: ['$note', null]}, 1, 0]}}}}"),
+                doc("{$project: {_id: 0, status: '$_id.g0', cnt: 1, total: 1, 'AVG(total)': 1, 'COUNT(note)': 1}}"),
+                doc("{$sort: {cnt: -1, 'AVG(total)': 1}}"), doc("{$skip: 1}"), doc("{$limit: 10}")), query.getPipeline());
+    }
+
+    /**
+     * Aggregates without GROUP BY and DISTINCT.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void globalAggregateAndDistinct() throws SQLException {
+        MongoQuery query = SqlQueryTranslator.translate("select max(price) as top, min(price) from products");
+        assertEquals(List.of(doc("{$group: {_id: null, top: {$max: '$price'}, 'MIN(price)': {$min: '$price'}}}"),
+                doc("{$project: {_id: 0, top: 1, 'MIN(price)': 1}}")), query.getPipeline());
+
+        query = SqlQueryTranslator.translate("SELECT DISTINCT category, brand FROM products ORDER BY category");
+        assertEquals(
+                List.of(doc("{$group: {_id: {g0: '$category', g1: '$brand'}}}"),
+                        doc("{$project: {_id: 0, category: '$_id.g0', brand: '$_id.g1'}}"), doc("{$sort: {category: 1}}")),
+                query.getPipeline());
+    }
+
+    /**
+     * The command representation.
+     *
+     * @throws SQLException the SQL exception
+     */
+    @Test
+    public void toCommand() throws SQLException {
+        assertEquals(doc("{find: 'orders', filter: {a: 1}, projection: {a: 1, _id: 0}, limit: 1}"),
+                SqlQueryTranslator.translate("SELECT a FROM orders WHERE a = 1 LIMIT 1")
+                                  .toCommand());
+        assertEquals(
+                doc("{aggregate: 'orders', pipeline: [{$group: {_id: null, 'COUNT(*)': {$sum: 1}}}, {$project: {_id: 0, 'COUNT(*)': 1}}]}"),
+                SqlQueryTranslator.translate("SELECT COUNT(*) FROM orders")
+                                  .toCommand());
+    }
+
+    /**
+     * Invalid and not supported statements.
+     */
+    @Test
+    public void errors() {
+        assertThrows(SQLSyntaxErrorException.class, () -> SqlQueryTranslator.translate("SELECT a FROM"));
+        assertThrows(SQLSyntaxErrorException.class, () -> SqlQueryTranslator.translate("SELECT a FROM t WHERE a = 'x"));
+        assertThrows(SQLSyntaxErrorException.class, () -> SqlQueryTranslator.translate("SELECT a, COUNT(*) FROM t GROUP BY b"));
+        assertThrows(SQLSyntaxErrorException.class, () -> SqlQueryTranslator.translate("SELECT a FROM t WHERE a = 1 extra"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> SqlQueryTranslator.translate("SELECT * FROM t JOIN u ON t.a = u.a"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> SqlQueryTranslator.translate("SELECT * FROM t GROUP BY a"));
+        assertThrows(SQLFeatureNotSupportedException.class, () -> SqlQueryTranslator.translate("SELECT a FROM t WHERE a = ?"));
+        assertThrows(SQLFeatureNotSupportedException.class,
+                () -> SqlQueryTranslator.translate("SELECT a, COUNT(*) FROM t GROUP BY a HAVING COUNT(*) > 1"));
+    }
+
+    /**
+     * The filter of a SELECT with the condition.
+     *
+     * @param condition the condition
+     * @return the filter
+     * @throws SQLException the SQL exception
+     */
+    private static BsonDocument filter(String condition) throws SQLException {
+        return SqlQueryTranslator.translate("SELECT * FROM t WHERE " + condition)
+                                 .getFilter();
+    }
+
+    /**
+     * Parses the document.
+     *
+     * @param json the json
+     * @return the bson document
+     */
+    private static BsonDocument doc(String json) {
+        return BsonDocument.parse(json);
+    }
+
+}
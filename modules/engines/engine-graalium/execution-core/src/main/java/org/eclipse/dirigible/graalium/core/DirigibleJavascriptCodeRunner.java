@@ -185,6 +185,17 @@ public class DirigibleJavascriptCodeRunner implements CodeRunner<Source, Value>
         return new Module(module, moduleType);
     }
 
+    /**
+     * Gets the source file, which is run for the given code file path.
+     *
+     * @param codeFilePath the code file path
+     * @return the source file
+     */
+    public Path getSourceFile(Path codeFilePath) {
+        return codeRunner.getCurrentWorkingDirectoryPath()
+                         .resolve(transformTypeScriptHandlerPathIfNecessary(codeFilePath.toString()));
+    }
+
     /**
      * Prepare the Source to be run
      *
@@ -0,0 +1,369 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.components.base.spring.BeanProvider;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.graalium.core.javascript.modules.Module;
+import org.eclipse.dirigible.graalium.core.javascript.modules.ModuleType;
+import org.graalvm.polyglot.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The pool of warm JavaScript runners for handlers, which export the functions to be called - the
+ * Camel routes, the BPM delegates and the websocket handlers. The module of a handler is evaluated
+ * once per runner, so that the following invocations skip the context creation and the module
+ * loading and only call the exported function.
+ *
+ * The pooling is opt-in per handler, as the module level state of the handler is kept for the
+ * lifetime of the runner and is seen by the following invocations served by it. A handler opts in
+ * by exporting {@code __pooled = true}, e.g. {@code export const __pooled = true;}, otherwise its
+ * runner is closed after the invocation, so each invocation starts with a fresh module. The runners
+ * are pooled per tenant and handler, so the state is never shared between tenants, and the runner
+ * context variables are reset before each invocation.
+ *
+ * A runner is used by one invocation at a time and is discarded, if the invocation fails, if the
+ * handler file has been modified or published again, or after the configured time to live.
+ */
+public final class DirigibleJavascriptRunnerPool {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(DirigibleJavascriptRunnerPool.class);
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE. */
+    private static final String DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE = "DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE";
+
+    /** The Constant DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_TTL. */
+    private static final String DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_TTL = "DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_TTL";
+
+    /** The Constant DEFAULT_POOL_SIZE. */
+    private static final int DEFAULT_POOL_SIZE = 4;
+
+    /** The Constant DEFAULT_TTL. */
+    private static final int DEFAULT_TTL = 300;
+
+    /** The export, by which a handler opts in to pooling. */
+    static final String POOLED_EXPORT = "__pooled";
+
+    /** The tenant key of the invocations outside of a tenant. */
+    private static final String NO_TENANT = "";
+
+    /** The idle runners by tenant and handler path. */
+    private static final Map<PoolKey, Deque<PooledRunner>> IDLE = new ConcurrentHashMap<>();
+
+    /** The generation, incremented on clear. */
+    private static volatile long generation;
+
+    /**
+     * Instantiates a new dirigible javascript runner pool.
+     */
+    private DirigibleJavascriptRunnerPool() {}
+
+    /**
+     * Acquires a runner with the loaded module of the handler. The lease has to be closed after the
+     * invocation, in order to return the runner to the pool.
+     *
+     * @param handlerPath the handler path
+     * @return the lease
+     */
+    public static Lease acquire(Path handlerPath) {
+        PoolKey key = new PoolKey(getCurrentTenantId(), handlerPath);
+        Deque<PooledRunner> idle = IDLE.get(key);
+        PooledRunner pooled;
+        while (idle != null && (pooled = idle.pollFirst()) != null) {
+            if (pooled.isValid()) {
+                return new Lease(key, pooled);
+            }
+            pooled.close();
+        }
+        return new Lease(key, create(handlerPath));
+    }
+
+    /**
+     * Gets the id of the current tenant.
+     *
+     * @return the tenant id, or an empty string outside of a tenant
+     */
+    private static String getCurrentTenantId() {
+        if (!BeanProvider.isInitialzed()) {
+            return NO_TENANT;
+        }
+        try {
+            TenantContext tenantContext = BeanProvider.getTenantContext();
+            return tenantContext.isInitialized() ? tenantContext.getCurrentTenant()
+                                                                .getId()
+                    : NO_TENANT;
+        } catch (RuntimeException e) {
+            logger.trace("Tenant context is not available", e);
+            return NO_TENANT;
+        }
+    }
+
+    /**
+     * Checks whether the handler module opts in to pooling.
+     *
+     * @param module the module
+     * @return true, if pooled
+     */
+    private static boolean isPooled(Module module) {
+        try {
+            Value exports = module.moduleType() == ModuleType.ESM ? module.module()
+                    : module.module()
+                            .getContext()
+                            .getBindings("js")
+                            .getMember("exports");
+            Value pooled = exports != null && exports.hasMember(POOLED_EXPORT) ? exports.getMember(POOLED_EXPORT) : null;
+            return pooled != null && pooled.isBoolean() && pooled.asBoolean();
+        } catch (RuntimeException e) {
+            logger.debug("Could not check whether the module opts in to pooling", e);
+            return false;
+        }
+    }
+
+    /**
+     * Creates a runner and loads the handler module.
+     *
+     * @param handlerPath the handler path
+     * @return the pooled runner
+     */
+    private static PooledRunner create(Path handlerPath) {
+        Map<Object, Object> context = new HashMap<>();
+        DirigibleJavascriptCodeRunner runner = new DirigibleJavascriptCodeRunner(context, false);
+        try {
+            File sourceFile = runner.getSourceFile(handlerPath)
+                                    .toFile();
+            long lastModified = sourceFile.lastModified();
+            Module module = runner.run(handlerPath);
+            return new PooledRunner(runner, module, context, sourceFile, lastModified, generation, isPooled(module));
+        } catch (RuntimeException e) {
+            runner.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the runner to the pool or closes it.
+     *
+     * @param key the pool key
+     * @param pooled the pooled runner
+     * @param reusable whether the runner can be reused
+     */
+    private static void release(PoolKey key, PooledRunner pooled, boolean reusable) {
+        pooled.context.clear();
+        int size = getPoolSize();
+        if (reusable && pooled.pooled && size > 0 && pooled.isValid()) {
+            Deque<PooledRunner> idle = IDLE.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>());
+            if (idle.size() < size) {
+                idle.offerFirst(pooled);
+                return;
+            }
+        }
+        pooled.close();
+    }
+
+    /**
+     * Closes all the idle runners, e.g. after the handlers have been published again.
+     */
+    public static synchronized void clear() {
+        generation++;
+        IDLE.values()
+            .forEach(idle -> {
+                PooledRunner pooled;
+                while ((pooled = idle.pollFirst()) != null) {
+                    pooled.close();
+                }
+            });
+        IDLE.clear();
+    }
+
+    /**
+     * Gets the pool size per handler.
+     *
+     * @return the pool size
+     */
+    private static int getPoolSize() {
+        return Configuration.getAsInt(DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE, DEFAULT_POOL_SIZE);
+    }
+
+    /**
+     * Gets the time to live of a runner in milliseconds.
+     *
+     * @return the time to live
+     */
+    private static long getTimeToLive() {
+        return TimeUnit.SECONDS.toMillis(Configuration.getAsInt(DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_TTL, DEFAULT_TTL));
+    }
+
+    /**
+     * The pool key.
+     *
+     * @param tenantId the tenant id
+     * @param handlerPath the handler path
+     */
+    private record PoolKey(String tenantId, Path handlerPath) {
+    }
+
+    /**
+     * The Class PooledRunner.
+     */
+    private static final class PooledRunner {
+
+        /** The runner. */
+        private final DirigibleJavascriptCodeRunner runner;
+
+        /** The module. */
+        private final Module module;
+
+        /** The context, bound to the runner as a global object. */
+        private final Map<Object, Object> context;
+
+        /** The handler source file. */
+        private final File sourceFile;
+
+        /** The last modified timestamp of the handler file at load time. */
+        private final long lastModified;
+
+        /** The pool generation at load time. */
+        private final long generation;
+
+        /** Whether the handler opts in to pooling. */
+        private final boolean pooled;
+
+        /** The created at. */
+        private final long createdAt = System.currentTimeMillis();
+
+        /**
+         * Instantiates a new pooled runner.
+         *
+         * @param runner the runner
+         * @param module the module
+         * @param context the context
+         * @param sourceFile the source file
+         * @param lastModified the last modified
+         * @param generation the generation
+         * @param pooled whether the handler opts in to pooling
+         */
+        PooledRunner(DirigibleJavascriptCodeRunner runner, Module module, Map<Object, Object> context, File sourceFile, long lastModified,
+                long generation, boolean pooled) {
+            this.runner = runner;
+            this.module = module;
+            this.context = context;
+            this.sourceFile = sourceFile;
+            this.lastModified = lastModified;
+            this.generation = generation;
+            this.pooled = pooled;
+        }
+
+        /**
+         * Checks whether the runner is still up to date with the handler.
+         *
+         * @return true, if valid
+         */
+        boolean isValid() {
+            return generation == DirigibleJavascriptRunnerPool.generation && System.currentTimeMillis() - createdAt < getTimeToLive()
+                    && lastModified == sourceFile.lastModified();
+        }
+
+        /**
+         * Close.
+         */
+        void close() {
+            try {
+                runner.close();
+            } catch (RuntimeException e) {
+                logger.warn("Could not close a pooled JavaScript runner", e);
+            }
+        }
+    }
+
+    /**
+     * The lease of a pooled runner for a single invocation.
+     */
+    public static final class Lease implements AutoCloseable {
+
+        /** The pool key. */
+        private final PoolKey key;
+
+        /** The pooled runner. */
+        private final PooledRunner pooled;
+
+        /** Whether the runner can be returned to the pool. */
+        private boolean reusable = true;
+
+        /** Whether the lease has been closed. */
+        private boolean closed;
+
+        /**
+         * Instantiates a new lease.
+         *
+         * @param key the pool key
+         * @param pooled the pooled runner
+         */
+        private Lease(PoolKey key, PooledRunner pooled) {
+            this.key = key;
+            this.pooled = pooled;
+        }
+
+        /**
+         * Gets the runner.
+         *
+         * @return the runner
+         */
+        public DirigibleJavascriptCodeRunner getRunner() {
+            return pooled.runner;
+        }
+
+        /**
+         * Gets the loaded module of the handler.
+         *
+         * @return the module
+         */
+        public Module getModule() {
+            return pooled.module;
+        }
+
+        /**
+         * Gets the context variables of the invocation, visible to the handler as __context.
+         *
+         * @return the context
+         */
+        public Map<Object, Object> getContext() {
+            return pooled.context;
+        }
+
+        /**
+         * Marks the runner as not reusable, e.g. after a failed invocation.
+         */
+        public void discard() {
+            reusable = false;
+        }
+
+        /**
+         * Returns the runner to the pool, unless discarded or the handler does not opt in to pooling.
+         */
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                release(key, pooled, reusable);
+            }
+        }
+    }
+}
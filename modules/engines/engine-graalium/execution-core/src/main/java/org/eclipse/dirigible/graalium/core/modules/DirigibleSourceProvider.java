@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.graalium.core.modules;
 
+import org.eclipse.dirigible.commons.config.Configuration;
 import org.eclipse.dirigible.commons.config.StaticObjects;
 import org.eclipse.dirigible.graalium.core.JavascriptSourceProvider;
 import org.eclipse.dirigible.graalium.core.javascript.CalledFromJS;
@@ -18,6 +19,8 @@ import org.eclipse.dirigible.repository.api.IResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -35,6 +38,35 @@ public class DirigibleSourceProvider implements JavascriptSourceProvider {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DirigibleSourceProvider.class);
 
+    /** The Constant DIRIGIBLE_JAVASCRIPT_SOURCE_CACHE_SIZE. */
+    private static final String DIRIGIBLE_JAVASCRIPT_SOURCE_CACHE_SIZE = "DIRIGIBLE_JAVASCRIPT_SOURCE_CACHE_SIZE";
+
+    /** The Constant DEFAULT_SOURCE_CACHE_SIZE. */
+    private static final int DEFAULT_SOURCE_CACHE_SIZE = 2000;
+
+    /**
+     * The resolved source of a path, or the missing one, at a version of the repository.
+     *
+     * @param source the source or null, if not found
+     * @param version the last modified of the repository, when the source has been resolved
+     */
+    private record CachedSource(String source, long version) {
+    }
+
+    /** The resolved sources by repository path. */
+    private static final Cache<String, CachedSource> SOURCES = Caffeine.newBuilder()
+                                                                       .maximumSize(Configuration.getAsInt(
+                                                                               DIRIGIBLE_JAVASCRIPT_SOURCE_CACHE_SIZE,
+                                                                               DEFAULT_SOURCE_CACHE_SIZE))
+                                                                       .build();
+
+    /**
+     * Clears the resolved sources, e.g. after publishing.
+     */
+    public static void clearCache() {
+        SOURCES.invalidateAll();
+    }
+
     /**
      * Gets the absolute source path.
      *
@@ -87,7 +119,8 @@ public class DirigibleSourceProvider implements JavascriptSourceProvider {
     }
 
     /**
-     * Gets the source.
+     * Gets the source. The resolved sources and the missing ones are cached, until the repository is
+     * modified or a project is published.
      *
      * @param sourceFilePath the project file path
      * @return the source
@@ -98,6 +131,25 @@ public class DirigibleSourceProvider implements JavascriptSourceProvider {
 
         String internalRepositoryRelativeSourcePath = getInternalRepositoryRelativeSourcePath(sourceFilePath);
 
+        long version = getRepository().getLastModified();
+        CachedSource cached = SOURCES.getIfPresent(internalRepositoryRelativeSourcePath);
+        if (cached != null && cached.version() == version) {
+            return cached.source();
+        }
+        String source = loadSource(internalRepositoryRelativeSourcePath, sourceFilePath);
+        // the version read before loading - a concurrent modification is picked up on the next call
+        SOURCES.put(internalRepositoryRelativeSourcePath, new CachedSource(source, version));
+        return source;
+    }
+
+    /**
+     * Load the source from the repository or from the class loader.
+     *
+     * @param internalRepositoryRelativeSourcePath the repository path
+     * @param sourceFilePath the project file path
+     * @return the source or null, if not found
+     */
+    private String loadSource(String internalRepositoryRelativeSourcePath, String sourceFilePath) {
         byte[] maybeContentFromRepository = tryGetFromRepository(internalRepositoryRelativeSourcePath);
         if (maybeContentFromRepository != null) {
             return new String(maybeContentFromRepository, StandardCharsets.UTF_8);
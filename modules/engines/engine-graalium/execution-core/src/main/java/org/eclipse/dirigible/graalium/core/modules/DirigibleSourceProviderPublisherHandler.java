@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.modules;
+
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * The Class DirigibleSourceProviderPublisherHandler. Clears the resolved sources, so that the
+ * published and the unpublished ones are resolved again.
+ */
+@Component
+public class DirigibleSourceProviderPublisherHandler implements PublisherHandler {
+
+    /**
+     * After publish. The sources are kept, if nothing has been changed in the registry.
+     *
+     * @param workspaceLocation the workspace location
+     * @param registryLocation the registry location
+     * @param metadata the metadata
+     */
+    @Override
+    public void afterPublish(String workspaceLocation, String registryLocation, AfterPublishMetadata metadata) {
+        if (metadata != null && metadata.delta() != null && metadata.delta()
+                                                                    .isEmpty()) {
+            return;
+        }
+        DirigibleSourceProvider.clearCache();
+    }
+
+    /**
+     * After unpublish.
+     *
+     * @param location the location
+     */
+    @Override
+    public void afterUnpublish(String location) {
+        DirigibleSourceProvider.clearCache();
+    }
+
+}
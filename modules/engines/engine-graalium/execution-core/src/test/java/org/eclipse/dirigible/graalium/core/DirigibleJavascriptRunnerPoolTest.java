@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.components.base.spring.BeanProvider;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.GenericApplicationContext;
+
+/**
+ * The Class DirigibleJavascriptRunnerPoolTest.
+ */
+public class DirigibleJavascriptRunnerPoolTest {
+
+    /** The handler, which counts its invocations in a module level variable. */
+    private static final String HANDLER = "let count = 0;\nexport function next() {\n    return ++count;\n}\n";
+
+    /** The handler, which opts in to pooling and thus shares its module level state. */
+    private static final String POOLED_HANDLER = HANDLER + "export const __pooled = true;\n";
+
+    /** The repository. */
+    private IRepository repository;
+
+    /** The application context. */
+    private GenericApplicationContext applicationContext;
+
+    /** The tenant context. */
+    private TestTenantContext tenantContext;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        tenantContext = new TestTenantContext();
+        applicationContext = new GenericApplicationContext();
+        applicationContext.registerBean(TenantContext.class, () -> tenantContext);
+        applicationContext.refresh();
+        new BeanProvider().setApplicationContext(applicationContext);
+        repository = new LocalRepository("target");
+        StaticObjects.set(StaticObjects.REPOSITORY, repository);
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        DirigibleJavascriptRunnerPool.clear();
+        Configuration.remove("DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE");
+        repository.getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/runner-pool-test")
+                  .delete();
+        applicationContext.close();
+    }
+
+    /**
+     * The invocations of a handler, which does not opt in to pooling, do not share any module state.
+     */
+    @Test
+    public void testIsolation() {
+        Path handler = createHandler("isolation.mjs", HANDLER);
+        DirigibleJavascriptCodeRunner runner;
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+            assertEquals(1, next(lease));
+        }
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertNotSame(runner, lease.getRunner());
+            assertEquals(1, next(lease));
+        }
+    }
+
+    /**
+     * The runners of a pooled handler are not shared between tenants.
+     */
+    @Test
+    public void testTenantIsolation() {
+        Path handler = createHandler("tenants.mjs", POOLED_HANDLER);
+        tenantContext.setCurrentTenant("tenant-1");
+        DirigibleJavascriptCodeRunner runner;
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+            assertEquals(1, next(lease));
+        }
+        tenantContext.setCurrentTenant("tenant-2");
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertNotSame(runner, lease.getRunner());
+            assertEquals(1, next(lease));
+        }
+        tenantContext.setCurrentTenant("tenant-1");
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertSame(runner, lease.getRunner());
+        }
+    }
+
+    /**
+     * The returned runner of a handler, which opts in to pooling, is reused with the state of the
+     * loaded module.
+     */
+    @Test
+    public void testReuse() {
+        Path handler = createHandler("reuse.mjs", POOLED_HANDLER);
+        DirigibleJavascriptCodeRunner runner;
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+            assertEquals(1, next(lease));
+        }
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertSame(runner, lease.getRunner());
+            assertEquals(2, next(lease));
+            assertTrue(lease.getContext()
+                            .isEmpty());
+        }
+    }
+
+    /**
+     * A discarded runner, e.g. after a failed invocation, is not reused.
+     */
+    @Test
+    public void testDiscard() {
+        Path handler = createHandler("discard.mjs", POOLED_HANDLER);
+        DirigibleJavascriptCodeRunner runner;
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+            next(lease);
+            lease.discard();
+        }
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertNotSame(runner, lease.getRunner());
+            assertEquals(1, next(lease));
+        }
+    }
+
+    /**
+     * A runner is not reused after the handler file has been modified.
+     */
+    @Test
+    public void testModified() {
+        Path handler = createHandler("modified.mjs", POOLED_HANDLER);
+        DirigibleJavascriptCodeRunner runner;
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+            next(lease);
+        }
+        File file = runner.getSourceFile(handler)
+                          .toFile();
+        assertTrue(file.setLastModified(file.lastModified() + 2000));
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertNotSame(runner, lease.getRunner());
+            assertEquals(1, next(lease));
+        }
+    }
+
+    /**
+     * The idle runners are discarded on clear, e.g. after publishing.
+     */
+    @Test
+    public void testClear() {
+        Path handler = createHandler("clear.mjs", POOLED_HANDLER);
+        DirigibleJavascriptCodeRunner runner;
+        DirigibleJavascriptRunnerPool.Lease leased = DirigibleJavascriptRunnerPool.acquire(handler);
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            runner = lease.getRunner();
+        }
+        DirigibleJavascriptRunnerPool.clear();
+        // a runner leased before the clear is not returned to the pool either
+        leased.close();
+        try (DirigibleJavascriptRunnerPool.Lease lease = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertNotSame(runner, lease.getRunner());
+            assertNotSame(leased.getRunner(), lease.getRunner());
+        }
+    }
+
+    /**
+     * The idle runners of a handler are bounded by the pool size.
+     */
+    @Test
+    public void testPoolSize() {
+        Configuration.set("DIRIGIBLE_JAVASCRIPT_RUNNER_POOL_SIZE", "1");
+        Path handler = createHandler("size.mjs", POOLED_HANDLER);
+        DirigibleJavascriptRunnerPool.Lease first = DirigibleJavascriptRunnerPool.acquire(handler);
+        DirigibleJavascriptRunnerPool.Lease second = DirigibleJavascriptRunnerPool.acquire(handler);
+        assertNotSame(first.getRunner(), second.getRunner());
+        first.close();
+        second.close();
+
+        try (DirigibleJavascriptRunnerPool.Lease pooled = DirigibleJavascriptRunnerPool.acquire(handler);
+                DirigibleJavascriptRunnerPool.Lease created = DirigibleJavascriptRunnerPool.acquire(handler)) {
+            assertSame(first.getRunner(), pooled.getRunner());
+            assertNotSame(first.getRunner(), created.getRunner());
+            assertNotSame(second.getRunner(), created.getRunner());
+        }
+    }
+
+    /**
+     * Creates the handler in the registry.
+     *
+     * @param name the name
+     * @param content the content
+     * @return the handler path
+     */
+    private Path createHandler(String name, String content) {
+        repository.createResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/runner-pool-test/" + name, content.getBytes());
+        return Path.of("runner-pool-test", name);
+    }
+
+    /**
+     * Calls the next function of the handler.
+     *
+     * @param lease the lease
+     * @return the count
+     */
+    private static int next(DirigibleJavascriptRunnerPool.Lease lease) {
+        return lease.getRunner()
+                    .runMethod(lease.getModule(), "next")
+                    .asInt();
+    }
+
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core;
+
+import java.util.List;
+
+import org.eclipse.dirigible.components.base.tenant.CallableResultAndException;
+import org.eclipse.dirigible.components.base.tenant.Tenant;
+import org.eclipse.dirigible.components.base.tenant.TenantContext;
+import org.eclipse.dirigible.components.base.tenant.TenantResult;
+
+/**
+ * The Class TestTenantContext, with a current tenant set by the test.
+ */
+public class TestTenantContext implements TenantContext {
+
+    /** The current tenant. */
+    private Tenant currentTenant;
+
+    /**
+     * The Class TestTenant.
+     */
+    private static class TestTenant implements Tenant {
+
+        /** The Constant serialVersionUID. */
+        private static final long serialVersionUID = 1L;
+
+        /** The id. */
+        private final String id;
+
+        /**
+         * Instantiates a new test tenant.
+         *
+         * @param id the id
+         */
+        TestTenant(String id) {
+            this.id = id;
+        }
+
+        /**
+         * Gets the id.
+         *
+         * @return the id
+         */
+        @Override
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Checks if is default.
+         *
+         * @return true, if is default
+         */
+        @Override
+        public boolean isDefault() {
+            return false;
+        }
+
+        /**
+         * Gets the name.
+         *
+         * @return the name
+         */
+        @Override
+        public String getName() {
+            return id;
+        }
+
+        /**
+         * Gets the subdomain.
+         *
+         * @return the subdomain
+         */
+        @Override
+        public String getSubdomain() {
+            return id;
+        }
+    }
+
+    /**
+     * Sets the current tenant.
+     *
+     * @param tenantId the tenant id, or null for none
+     */
+    public void setCurrentTenant(String tenantId) {
+        this.currentTenant = tenantId != null ? new TestTenant(tenantId) : null;
+    }
+
+    /**
+     * Checks if is not initialized.
+     *
+     * @return true, if is not initialized
+     */
+    @Override
+    public boolean isNotInitialized() {
+        return currentTenant == null;
+    }
+
+    /**
+     * Checks if is initialized.
+     *
+     * @return true, if is initialized
+     */
+    @Override
+    public boolean isInitialized() {
+        return currentTenant != null;
+    }
+
+    /**
+     * Gets the current tenant.
+     *
+     * @return the current tenant
+     */
+    @Override
+    public Tenant getCurrentTenant() {
+        return currentTenant;
+    }
+
+    /**
+     * Execute.
+     *
+     * @param <Result> the generic type
+     * @param <Exc> the generic type
+     * @param tenant the tenant
+     * @param callable the callable
+     * @return the result
+     * @throws Exc the exc
+     */
+    @Override
+    public <Result, Exc extends Throwable> Result execute(Tenant tenant, CallableResultAndException<Result, Exc> callable) throws Exc {
+        Tenant previous = currentTenant;
+        currentTenant = tenant;
+        try {
+            return callable.call();
+        } finally {
+            currentTenant = previous;
+        }
+    }
+
+    /**
+     * Execute.
+     *
+     * @param <Result> the generic type
+     * @param <Exc> the generic type
+     * @param tenantId the tenant id
+     * @param callable the callable
+     * @return the result
+     * @throws Exc the exc
+     */
+    @Override
+    public <Result, Exc extends Throwable> Result execute(String tenantId, CallableResultAndException<Result, Exc> callable) throws Exc {
+        return execute(new TestTenant(tenantId), callable);
+    }
+
+    /**
+     * Execute for each tenant.
+     *
+     * @param <Result> the generic type
+     * @param <Exc> the generic type
+     * @param callable the callable
+     * @return the list
+     */
+    @Override
+    public <Result, Exc extends Throwable> List<TenantResult<Result>> executeForEachTenant(
+            CallableResultAndException<Result, Exc> callable) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.graalium.core.modules;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.dirigible.commons.config.StaticObjects;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler.AfterPublishMetadata;
+import org.eclipse.dirigible.components.base.publisher.PublisherHandler.PublishDelta;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.eclipse.dirigible.repository.api.IRepositoryStructure;
+import org.eclipse.dirigible.repository.local.LocalRepository;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class DirigibleSourceProviderTest. The files are changed directly on the file system, which
+ * does not modify the repository, in order to tell the cached sources from the loaded ones.
+ */
+public class DirigibleSourceProviderTest {
+
+    /** The Constant PROJECT. */
+    private static final String PROJECT = "source-provider-test";
+
+    /** The repository. */
+    private IRepository repository;
+
+    /** The source provider. */
+    private DirigibleSourceProvider sourceProvider;
+
+    /**
+     * Sets the up.
+     */
+    @Before
+    public void setUp() {
+        repository = new LocalRepository("target");
+        StaticObjects.set(StaticObjects.REPOSITORY, repository);
+        sourceProvider = new DirigibleSourceProvider();
+        DirigibleSourceProvider.clearCache();
+    }
+
+    /**
+     * Tear down.
+     */
+    @After
+    public void tearDown() {
+        DirigibleSourceProvider.clearCache();
+        repository.getCollection(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/" + PROJECT)
+                  .delete();
+    }
+
+    /**
+     * The source is served from the cache, until the repository is modified.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testCachedUntilModified() throws Exception {
+        createSource("cached.js", "first");
+        assertEquals("first", sourceProvider.getSource(PROJECT + "/cached.js"));
+
+        writeDirectly("cached.js", "second");
+        assertEquals("first", sourceProvider.getSource(PROJECT + "/cached.js"));
+
+        createSource("other.js", "other");
+        assertEquals("second", sourceProvider.getSource(PROJECT + "/cached.js"));
+    }
+
+    /**
+     * The publish handler clears the cache, unless nothing has been published.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testClearedOnPublish() throws Exception {
+        DirigibleSourceProviderPublisherHandler handler = new DirigibleSourceProviderPublisherHandler();
+        createSource("published.js", "first");
+        assertEquals("first", sourceProvider.getSource(PROJECT + "/published"));
+
+        writeDirectly("published.js", "second");
+        handler.afterPublish("workspace", "registry", new AfterPublishMetadata("workspace", PROJECT, "", true, new PublishDelta()));
+        assertEquals("first", sourceProvider.getSource(PROJECT + "/published"));
+
+        handler.afterPublish("workspace", "registry", new AfterPublishMetadata("workspace", PROJECT, "", true));
+        assertEquals("second", sourceProvider.getSource(PROJECT + "/published"));
+
+        writeDirectly("published.js", "third");
+        handler.afterUnpublish("registry");
+        assertEquals("third", sourceProvider.getSource(PROJECT + "/published"));
+    }
+
+    /**
+     * A missing source is cached as well, until the repository is modified.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testMissingCached() throws Exception {
+        createSource("existing.js", "existing");
+        assertNull(sourceProvider.getSource(PROJECT + "/missing.js"));
+
+        writeDirectly("missing.js", "found");
+        assertNull(sourceProvider.getSource(PROJECT + "/missing.js"));
+
+        createSource("other.js", "other");
+        assertEquals("found", sourceProvider.getSource(PROJECT + "/missing.js"));
+    }
+
+    /**
+     * Creates the source through the repository, which modifies it.
+     *
+     * @param name the name
+     * @param content the content
+     * @throws InterruptedException the interrupted exception
+     */
+    private void createSource(String name, String content) throws InterruptedException {
+        // the repository modification time has a millisecond precision
+        Thread.sleep(5);
+        repository.createResource(IRepositoryStructure.PATH_REGISTRY_PUBLIC + "/" + PROJECT + "/" + name, content.getBytes());
+    }
+
+    /**
+     * Writes the source directly to the file system, without modifying the repository.
+     *
+     * @param name the name
+     * @param content the content
+     * @throws IOException Signals that an I/O exception has occurred.
+     */
+    private void writeDirectly(String name, String content) throws IOException {
+        Path file = sourceProvider.getAbsoluteSourcePath(PROJECT, name);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+}
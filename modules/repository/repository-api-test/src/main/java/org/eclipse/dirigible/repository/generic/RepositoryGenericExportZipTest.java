@@ -291,4 +291,54 @@ public class RepositoryGenericExportZipTest {
         }
 
     }
+
+    /**
+     * Test export zip to stream.
+     */
+    @Test
+    public void testExportZipToStream() {
+        if (repository == null) {
+            return;
+        }
+
+        try {
+            repository.createResource("/root1/export/folder3/text3.txt", //$NON-NLS-1$
+                    "text3".getBytes()); //$NON-NLS-1$
+            repository.createResource("/root1/export/folder4/text4.txt", //$NON-NLS-1$
+                    "text4".getBytes()); //$NON-NLS-1$
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            repository.exportZip("/root1/export", true, stream); //$NON-NLS-1$
+            ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(stream.toByteArray()));
+
+            try {
+                ZipEntry entry;
+                int entriesCount = 0;
+                while ((entry = zipInputStream.getNextEntry()) != null) {
+                    String outpath = entry.getName()
+                                          .replace(File.separator, IRepository.SEPARATOR);
+                    String read = new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8);
+                    if (outpath.equals("export/folder3/text3.txt")) { //$NON-NLS-1$
+                        assertEquals("text3", read); //$NON-NLS-1$
+                        entriesCount++;
+                    }
+                    if (outpath.equals("export/folder4/text4.txt")) { //$NON-NLS-1$
+                        assertEquals("text4", read); //$NON-NLS-1$
+                        entriesCount++;
+                    }
+                }
+                assertEquals(2, entriesCount);
+
+            } finally {
+                // we must always close the zip file.
+                zipInputStream.close();
+            }
+            repository.removeCollection("/root1/export/"); //$NON-NLS-1$
+
+        } catch (IOException e) {
+            e.printStackTrace();
+            fail(e.getMessage());
+        }
+
+    }
+
 }
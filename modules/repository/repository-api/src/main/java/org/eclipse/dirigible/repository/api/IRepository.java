@@ -41,6 +41,10 @@ public interface IRepository extends IRepositoryReader, IRepositoryWriter, IRepo
     /** The Constant DIRIGIBLE_REPOSITORY_CACHE_SIZE_LIMIT_IN_MEGABYTES. */
     public static final String DIRIGIBLE_REPOSITORY_CACHE_SIZE_LIMIT_IN_MEGABYTES = "DIRIGIBLE_REPOSITORY_CACHE_SIZE_LIMIT_IN_MEGABYTES"; //$NON-NLS-1$
 
+    /** The Constant DIRIGIBLE_REPOSITORY_CACHE_WORKSPACE_SIZE_LIMIT_IN_MEGABYTES. */
+    public static final String DIRIGIBLE_REPOSITORY_CACHE_WORKSPACE_SIZE_LIMIT_IN_MEGABYTES =
+            "DIRIGIBLE_REPOSITORY_CACHE_WORKSPACE_SIZE_LIMIT_IN_MEGABYTES"; //$NON-NLS-1$
+
     /**
      * Gets the internal named parameter value.
      *
@@ -9,6 +9,8 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.util.Map;
+
 /**
  * Repository cache.
  */
@@ -37,9 +39,27 @@ public interface IRepositoryCache {
      */
     public void remove(String path);
 
+    /**
+     * Remove the content of all the files under the given folder from the repository cache.
+     *
+     * @param path the repository path of the folder
+     */
+    public default void removeAll(String path) {
+        clear();
+    }
+
     /**
      * Clear the repository cache.
      */
     public void clear();
 
+    /**
+     * Gets the statistics of the repository cache by segment.
+     *
+     * @return the statistics
+     */
+    public default Map<String, RepositoryCacheStatistics> getStatistics() {
+        return Map.of();
+    }
+
 }
@@ -9,6 +9,7 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -73,6 +74,31 @@ public class RepositoryCache implements IRepositoryCache {
         }
     }
 
+    /**
+     * Removes the content of all the files under the folder.
+     *
+     * @param path the path
+     */
+    @Override
+    public void removeAll(String path) {
+        if (ENABLED.get() && cache != null) {
+            cache.removeAll(path);
+        }
+    }
+
+    /**
+     * Gets the statistics.
+     *
+     * @return the statistics
+     */
+    @Override
+    public Map<String, RepositoryCacheStatistics> getStatistics() {
+        if (cache != null) {
+            return cache.getStatistics();
+        }
+        return Map.of();
+    }
+
     /**
      * Clear.
      */
@@ -0,0 +1,22 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.api;
+
+/**
+ * The statistics of a repository cache segment.
+ *
+ * @param hits the number of the requests served from the cache
+ * @param misses the number of the requests, which loaded the content
+ * @param evictions the number of the entries evicted by the size or time limit
+ * @param size the number of the cached entries
+ * @param weight the size of the cached content in bytes
+ */
+public record RepositoryCacheStatistics(long hits, long misses, long evictions, long size, long weight) {
+}
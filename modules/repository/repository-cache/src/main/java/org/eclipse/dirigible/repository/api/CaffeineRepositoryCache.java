@@ -9,20 +9,43 @@
  */
 package org.eclipse.dirigible.repository.api;
 
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.dirigible.commons.config.Configuration;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 
 /**
- * The Class CaffeineRepositoryCache.
+ * The Class CaffeineRepositoryCache. The cache is split in two segments with separate size limits -
+ * the registry content served at runtime and the rest, mostly the workspaces content - so that the
+ * changes in the workspaces do not evict the registry content. The keys of each segment are kept
+ * sorted, so that removing a folder invalidates only the files under it.
  */
 public class CaffeineRepositoryCache implements IRepositoryCache {
 
-    /** The cache. */
-    private static Cache<String, byte[]> cache;
+    /** The Constant SEGMENT_REGISTRY. */
+    public static final String SEGMENT_REGISTRY = "registry";
+
+    /** The Constant SEGMENT_WORKSPACE. */
+    public static final String SEGMENT_WORKSPACE = "workspace";
+
+    /** The Constant REGISTRY_MARKER, the registry root within the file system repository. */
+    private static final String REGISTRY_MARKER =
+            IRepository.SEPARATOR + "root" + IRepositoryStructure.PATH_REGISTRY + IRepository.SEPARATOR;
+
+    /** The registry segment. */
+    private static Segment registry;
+
+    /** The workspace segment. */
+    private static Segment workspace;
 
     /**
      * Instantiates a new caffeine repository cache.
@@ -34,27 +57,46 @@ public class CaffeineRepositoryCache implements IRepositoryCache {
     /**
      * Inits the cache.
      */
-    private static void initCache() {
+    private static synchronized void initCache() {
         long timePolicy = Long.parseLong(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_CACHE_TIME_LIMIT_IN_MINUTES, "10"));
         long sizePolicy = Long.parseLong(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_CACHE_SIZE_LIMIT_IN_MEGABYTES, "100"));
-        cache = Caffeine.newBuilder()
-                        .expireAfterAccess(timePolicy, TimeUnit.MINUTES)
-                        .maximumWeight(sizePolicy * 1024 * 1024)
-                        .weigher((String k, byte[] v) -> v.length)
-                        .build();
+        long workspaceSizePolicy =
+                Long.parseLong(Configuration.get(IRepository.DIRIGIBLE_REPOSITORY_CACHE_WORKSPACE_SIZE_LIMIT_IN_MEGABYTES, "50"));
+        registry = new Segment(timePolicy, sizePolicy);
+        workspace = new Segment(timePolicy, workspaceSizePolicy);
     }
 
     /**
-     * Gets the internal cache.
+     * Gets the internal cache of the registry segment.
      *
      * @return the internal cache
      */
     public static Cache<String, byte[]> getInternalCache() {
-        if (cache == null) {
+        if (registry == null) {
             initCache();
         }
 
-        return cache;
+        return registry.cache;
+    }
+
+    /**
+     * Gets the segment of a path.
+     *
+     * @param path the path
+     * @return the segment
+     */
+    private static Segment getSegment(String path) {
+        return normalize(path).contains(REGISTRY_MARKER) ? registry : workspace;
+    }
+
+    /**
+     * Normalize the separators of a path.
+     *
+     * @param path the path
+     * @return the normalized path
+     */
+    private static String normalize(String path) {
+        return File.separatorChar == '/' ? path : path.replace(File.separatorChar, '/');
     }
 
     /**
@@ -65,7 +107,7 @@ public class CaffeineRepositoryCache implements IRepositoryCache {
      */
     @Override
     public byte[] get(String path) {
-        return cache.getIfPresent(path);
+        return getSegment(path).cache.getIfPresent(path);
     }
 
     /**
@@ -77,7 +119,7 @@ public class CaffeineRepositoryCache implements IRepositoryCache {
     @Override
     public void put(String path, byte[] content) {
         if (content != null) {
-            cache.put(path, content);
+            getSegment(path).put(path, content);
         }
     }
 
@@ -88,7 +130,21 @@ public class CaffeineRepositoryCache implements IRepositoryCache {
      */
     @Override
     public void remove(String path) {
-        cache.invalidate(path);
+        getSegment(path).remove(path);
+    }
+
+    /**
+     * Removes the content of all the files under the folder. Both segments are checked, as a folder may
+     * contain the registry, e.g. the repository root.
+     *
+     * @param path the path
+     */
+    @Override
+    public void removeAll(String path) {
+        String prefix = path.endsWith(File.separator) ? path : path + File.separator;
+        remove(path);
+        registry.removeAll(prefix);
+        workspace.removeAll(prefix);
     }
 
     /**
@@ -96,7 +152,108 @@ public class CaffeineRepositoryCache implements IRepositoryCache {
      */
     @Override
     public void clear() {
-        cache.invalidateAll();
+        registry.clear();
+        workspace.clear();
+    }
+
+    /**
+     * Gets the statistics.
+     *
+     * @return the statistics
+     */
+    @Override
+    public Map<String, RepositoryCacheStatistics> getStatistics() {
+        Map<String, RepositoryCacheStatistics> statistics = new LinkedHashMap<>();
+        statistics.put(SEGMENT_REGISTRY, registry.getStatistics());
+        statistics.put(SEGMENT_WORKSPACE, workspace.getStatistics());
+        return statistics;
+    }
+
+    /**
+     * The Class Segment.
+     */
+    private static final class Segment {
+
+        /** The cache. */
+        private final Cache<String, byte[]> cache;
+
+        /**
+         * The sorted keys. It contains all the cached keys and possibly some already evicted ones - a key
+         * is added after the entry is put and removed before the entry is invalidated.
+         */
+        private final NavigableSet<String> keys = new ConcurrentSkipListSet<>();
+
+        /**
+         * Instantiates a new segment.
+         *
+         * @param timePolicy the time policy in minutes
+         * @param sizePolicy the size policy in megabytes
+         */
+        Segment(long timePolicy, long sizePolicy) {
+            this.cache = Caffeine.newBuilder()
+                                 .expireAfterAccess(timePolicy, TimeUnit.MINUTES)
+                                 .maximumWeight(sizePolicy * 1024 * 1024)
+                                 .weigher((String k, byte[] v) -> v.length)
+                                 .evictionListener((String k, byte[] v, RemovalCause cause) -> keys.remove(k))
+                                 .recordStats()
+                                 .build();
+        }
+
+        /**
+         * Put.
+         *
+         * @param path the path
+         * @param content the content
+         */
+        void put(String path, byte[] content) {
+            cache.put(path, content);
+            keys.add(path);
+        }
+
+        /**
+         * Removes the.
+         *
+         * @param path the path
+         */
+        void remove(String path) {
+            keys.remove(path);
+            cache.invalidate(path);
+        }
+
+        /**
+         * Removes all the keys starting with the prefix.
+         *
+         * @param prefix the prefix
+         */
+        void removeAll(String prefix) {
+            NavigableSet<String> matching = keys.subSet(prefix, true, prefix + Character.MAX_VALUE, false);
+            for (String key : matching.toArray(new String[0])) {
+                remove(key);
+            }
+        }
+
+        /**
+         * Clear.
+         */
+        void clear() {
+            keys.clear();
+            cache.invalidateAll();
+        }
+
+        /**
+         * Gets the statistics.
+         *
+         * @return the statistics
+         */
+        RepositoryCacheStatistics getStatistics() {
+            CacheStats stats = cache.stats();
+            long weight = cache.policy()
+                               .eviction()
+                               .map(eviction -> eviction.weightedSize()
+                                                        .orElse(0L))
+                               .orElse(0L);
+            return new RepositoryCacheStatistics(stats.hitCount(), stats.missCount(), stats.evictionCount(), cache.estimatedSize(), weight);
+        }
     }
 
 }
@@ -16,6 +16,7 @@ import static org.apache.commons.io.filefilter.TrueFileFilter.TRUE;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -89,6 +90,9 @@ public abstract class FileSystemRepository implements IRepository {
     /** The repository dao. */
     private LocalRepositoryDao repositoryDao;
 
+    /** The path index. */
+    private RepositoryPathIndex pathIndex;
+
     /** The repository searcher. */
     private RepositorySearcher repositorySearcher;
 
@@ -179,6 +183,9 @@ public abstract class FileSystemRepository implements IRepository {
         }
         try {
             initializeRepository(root);
+            if (RepositoryPathIndex.isEnabled()) {
+                this.pathIndex = new RepositoryPathIndex(repositoryPath);
+            }
             this.repositorySearcher = new RepositorySearcher(this);
             this.setParameter(REPOSITORY_ROOT_FOLDER, this.repositorySearcher.getRoot() + IRepository.SEPARATOR + DIRIGIBLE_LOCAL_ROOT);
             this.setParameter(REPOSITORY_INDEX_FOLDER, this.repositorySearcher.getRoot());
@@ -540,6 +547,34 @@ public abstract class FileSystemRepository implements IRepository {
     @Override
     public void dispose() {
         // repositoryDAO.dispose();
+        if (pathIndex != null) {
+            pathIndex.close();
+        }
+    }
+
+    /**
+     * Refreshes a changed path in the path index.
+     *
+     * @param workspacePath the file system path
+     */
+    public void refreshPathIndex(String workspacePath) {
+        if (pathIndex != null) {
+            pathIndex.refresh(workspacePath);
+        }
+    }
+
+    /**
+     * Converts a path to a repository path relative to the repository root.
+     *
+     * @param path the repository path or the file system path
+     * @return the repository path
+     */
+    private String toRepositoryPath(String path) {
+        String result = path.startsWith(getRepositoryPath()) ? path.substring(getRepositoryPath().length()) : path;
+        if (!IRepository.SEPARATOR.equals(File.separator)) {
+            result = result.replace(File.separator, IRepository.SEPARATOR);
+        }
+        return result.isEmpty() ? IRepository.SEPARATOR : result;
     }
 
     /**
@@ -719,6 +754,31 @@ public abstract class FileSystemRepository implements IRepository {
         return RepositoryZipExporter.exportZip(this, relativeRoot, inclusive);
     }
 
+    /**
+     * Export zip.
+     *
+     * @param relativeRoots the relative roots
+     * @param output the output
+     * @throws RepositoryExportException the repository export exception
+     */
+    @Override
+    public void exportZip(List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoots, output);
+    }
+
+    /**
+     * Export zip.
+     *
+     * @param relativeRoot the relative root
+     * @param inclusive the inclusive
+     * @param output the output
+     * @throws RepositoryExportException the repository export exception
+     */
+    @Override
+    public void exportZip(String relativeRoot, boolean inclusive, OutputStream output) throws RepositoryExportException {
+        RepositoryZipExporter.exportZip(this, relativeRoot, inclusive, output);
+    }
+
     /**
      * Search name.
      *
@@ -763,6 +823,13 @@ public abstract class FileSystemRepository implements IRepository {
                 return entities;
             }
 
+            if (pathIndex != null) {
+                for (String path : pathIndex.searchName(toRepositoryPath(root), parameter, caseInsensitive)) {
+                    entities.add(new LocalResource(this, new RepositoryPath(path)));
+                }
+                return entities;
+            }
+
             String rootRepositoryPath = getRepositoryPath();
             File dir = new File(workspacePath);
             Iterator<File> foundFiles = FileUtils.iterateFiles(dir,
@@ -801,8 +868,14 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public List<IEntity> searchPath(String parameter, boolean caseInsensitive) throws RepositorySearchException {
-        String rootRepositoryPath = getRepositoryPath();
         List<IEntity> entities = new ArrayList<IEntity>();
+        if (pathIndex != null) {
+            for (String path : pathIndex.searchName(IRepository.SEPARATOR, parameter, caseInsensitive)) {
+                entities.add(new LocalResource(this, new RepositoryPath(path)));
+            }
+            return entities;
+        }
+        String rootRepositoryPath = getRepositoryPath();
         Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath),
                 new WildcardFileFilter("*" + parameter + "*", (caseInsensitive ? INSENSITIVE : SENSITIVE)), TRUE);
         while (foundFiles.hasNext()) {
@@ -861,6 +934,10 @@ public abstract class FileSystemRepository implements IRepository {
      */
     @Override
     public List<String> getAllResourcePaths() throws RepositoryReadException {
+        if (pathIndex != null) {
+            // the files with an extension, as matched by the *.* wildcard
+            return pathIndex.searchName(IRepository.SEPARATOR, ".", false);
+        }
         String rootRepositoryPath = getRepositoryPath();
         List<String> paths = new ArrayList<String>();
         Iterator<File> foundFiles = FileUtils.iterateFiles(new File(rootRepositoryPath), new WildcardFileFilter("*.*", INSENSITIVE), TRUE);
@@ -935,6 +1012,7 @@ public abstract class FileSystemRepository implements IRepository {
                                       .toAbsolutePath(),
                 Paths.get(filePath)
                      .toAbsolutePath());
+        refreshPathIndex(workspacePath);
     }
 
     /**
@@ -949,6 +1027,7 @@ public abstract class FileSystemRepository implements IRepository {
             String workspacePath = LocalWorkspaceMapper.getMappedName(this, repositoryPath);
             Path filePath = Paths.get(workspacePath);
             Files.delete(filePath);
+            refreshPathIndex(workspacePath);
         }
     }
 
@@ -983,6 +1062,9 @@ public abstract class FileSystemRepository implements IRepository {
         try {
             ICollection collection = getCollection(path);
             if (collection.exists() && collection instanceof LocalCollection) {
+                if (pathIndex != null) {
+                    return pathIndex.find(toRepositoryPath(collection.getPath()), pattern);
+                }
                 List<String> list = FileSystemUtils.find(((LocalCollection) collection).getFolder()
                                                                                        .getPath(),
                         pattern);
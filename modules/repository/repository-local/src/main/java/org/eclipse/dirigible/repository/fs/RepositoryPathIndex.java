@@ -0,0 +1,641 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.io.IOCase;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.eclipse.dirigible.repository.api.IRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The in-memory index of the paths of a file system repository, used by the name and path searches
+ * instead of walking the directory tree on disk. The repository paths are kept sorted together with
+ * their case folded names, so that a search is a scan of the names under a prefix range.
+ *
+ * The index is built on the first search. Afterwards it is maintained incrementally - by the
+ * repository writes, which refresh the changed paths, and by a watch service for the changes made
+ * directly on the file system, e.g. by Git. The Git metadata and the Node.js modules folders are
+ * neither indexed nor watched. The linked folders, e.g. the projects cloned from Git, are indexed,
+ * but not watched, as they may be large and are out of the repository. The number of the watched
+ * folders is limited, so that the watches available to the other watchers, e.g. of the
+ * synchronization, are not exhausted. If not all the folders can be watched, the index is built
+ * again in the background, when it is older than the configured maximum age, while the searches use
+ * the previous one.
+ */
+public class RepositoryPathIndex {
+
+    /** The Constant logger. */
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryPathIndex.class);
+
+    /** The Constant DIRIGIBLE_REPOSITORY_PATH_INDEX_ENABLED. */
+    private static final String DIRIGIBLE_REPOSITORY_PATH_INDEX_ENABLED = "DIRIGIBLE_REPOSITORY_PATH_INDEX_ENABLED";
+
+    /** The Constant DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE. */
+    private static final String DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE = "DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE";
+
+    /** The Constant DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES. */
+    private static final String DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES = "DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES";
+
+    /** The Constant DEFAULT_MAX_AGE. */
+    private static final int DEFAULT_MAX_AGE = 60;
+
+    /** The Constant DEFAULT_MAX_WATCHES. */
+    private static final int DEFAULT_MAX_WATCHES = 4096;
+
+    /** The names of the folders, which are neither indexed nor watched. */
+    private static final Set<String> EXCLUDED = Set.of(".git", "node_modules");
+
+    /** The Constant WILDCARDS. */
+    private static final String WILDCARDS = "*?";
+
+    /**
+     * The index entry.
+     *
+     * @param name the name
+     * @param foldedName the case folded name
+     * @param directory whether the entry is a directory
+     */
+    private record Entry(String name, String foldedName, boolean directory) {
+    }
+
+    /** The repository root on the file system. */
+    private final Path root;
+
+    /**
+     * The entries by repository path. A rebuild fills a new map and replaces this one, so that the
+     * searches running meanwhile see the complete previous entries.
+     */
+    private volatile NavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+
+    /** The watched directories by watch key. */
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+
+    /** The lock of the watch service. */
+    private final Object watchLock = new Object();
+
+    /** The lock of the builds. */
+    private final Object buildLock = new Object();
+
+    /** Whether a background rebuild is running. */
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /** The watch service. */
+    private WatchService watchService;
+
+    /** Whether the watching has been given up, e.g. as the limit of the watches has been reached. */
+    private boolean watchingDisabled;
+
+    /** Whether the index is built. */
+    private volatile boolean valid;
+
+    /** Whether the index has to be built again, e.g. as some file system events have been lost. */
+    private volatile boolean stale;
+
+    /** Whether all the indexed directories are watched. */
+    private volatile boolean watched;
+
+    /** The paths refreshed during a build, to be refreshed again in the built entries. */
+    private volatile List<Path> pendingRefreshes;
+
+    /** The built at. */
+    private volatile long builtAt;
+
+    /**
+     * Instantiates a new repository path index.
+     *
+     * @param root the repository root on the file system
+     */
+    public RepositoryPathIndex(String root) {
+        this.root = Path.of(root)
+                        .toAbsolutePath();
+    }
+
+    /**
+     * Checks if the index is enabled.
+     *
+     * @return true, if is enabled
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(Configuration.get(DIRIGIBLE_REPOSITORY_PATH_INDEX_ENABLED, Boolean.TRUE.toString()));
+    }
+
+    /**
+     * Searches the files under the root, which names contain the parameter. The parameter may contain
+     * the * and ? wildcards.
+     *
+     * @param rootPath the repository path of the root
+     * @param parameter the parameter
+     * @param caseInsensitive the case insensitive
+     * @return the repository paths
+     */
+    public List<String> searchName(String rootPath, String parameter, boolean caseInsensitive) {
+        ensureBuilt();
+        List<String> result = new ArrayList<>();
+        boolean wildcards = parameter.chars()
+                                     .anyMatch(c -> WILDCARDS.indexOf(c) >= 0);
+        String folded = parameter.toLowerCase(Locale.ROOT);
+        String pattern = "*" + parameter + "*";
+        for (Map.Entry<String, Entry> next : under(entries, rootPath).entrySet()) {
+            Entry entry = next.getValue();
+            if (entry.directory()) {
+                continue;
+            }
+            boolean matches;
+            if (wildcards) {
+                matches = FilenameUtils.wildcardMatch(entry.name(), pattern, caseInsensitive ? IOCase.INSENSITIVE : IOCase.SENSITIVE);
+            } else {
+                matches = caseInsensitive ? entry.foldedName()
+                                                 .contains(folded)
+                        : entry.name()
+                               .contains(parameter);
+            }
+            if (matches) {
+                result.add(next.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds the files and the folders under the root and the root itself, which names match the glob
+     * pattern.
+     *
+     * @param rootPath the repository path of the root
+     * @param pattern the glob pattern
+     * @return the repository paths
+     */
+    public List<String> find(String rootPath, String pattern) {
+        ensureBuilt();
+        PathMatcher matcher = FileSystems.getDefault()
+                                         .getPathMatcher("glob:" + pattern);
+        List<String> result = new ArrayList<>();
+        NavigableMap<String, Entry> current = entries;
+        Entry rootEntry = current.get(rootPath);
+        if (rootEntry != null && matcher.matches(Path.of(rootEntry.name()))) {
+            result.add(rootPath);
+        }
+        for (Map.Entry<String, Entry> next : under(current, rootPath).entrySet()) {
+            if (matcher.matches(Path.of(next.getValue()
+                                            .name()))) {
+                result.add(next.getKey());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the entries under the root.
+     *
+     * @param entries the entries
+     * @param rootPath the repository path of the root
+     * @return the entries
+     */
+    private static NavigableMap<String, Entry> under(NavigableMap<String, Entry> entries, String rootPath) {
+        if (rootPath == null || rootPath.isEmpty() || IRepository.SEPARATOR.equals(rootPath)) {
+            return entries;
+        }
+        String prefix = rootPath.endsWith(IRepository.SEPARATOR) ? rootPath : rootPath + IRepository.SEPARATOR;
+        return entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * Refreshes a path after it has been changed - adds it with its parents and its content, if it
+     * exists, otherwise removes it together with its content.
+     *
+     * @param fileSystemPath the file system path
+     */
+    public void refresh(String fileSystemPath) {
+        if (!valid && pendingRefreshes == null) {
+            return;
+        }
+        refresh(Path.of(fileSystemPath)
+                    .toAbsolutePath()
+                    .normalize());
+    }
+
+    /**
+     * Refreshes a file system path.
+     *
+     * @param path the path
+     */
+    private synchronized void refresh(Path path) {
+        if (!path.startsWith(root) || isExcluded(path)) {
+            return;
+        }
+        List<Path> pending = pendingRefreshes;
+        if (pending != null) {
+            pending.add(path);
+        }
+        if (!valid) {
+            return;
+        }
+        String repositoryPath = toRepositoryPath(path);
+        if (Files.exists(path)) {
+            for (Path parent = path.getParent(); parent != null && parent.startsWith(root) && !parent.equals(root); parent =
+                    parent.getParent()) {
+                String parentPath = toRepositoryPath(parent);
+                if (entries.containsKey(parentPath)) {
+                    break;
+                }
+                put(entries, parentPath, true);
+                if (!isLinked(parent)) {
+                    watch(parent);
+                }
+            }
+            if (Files.isDirectory(path)) {
+                if (!walk(entries, path, isLinked(path.getParent()))) {
+                    watched = false;
+                }
+            } else {
+                put(entries, repositoryPath, false);
+            }
+        } else {
+            entries.remove(repositoryPath);
+            under(entries, repositoryPath).clear();
+        }
+    }
+
+    /**
+     * Ensures the index is built and up to date. The first build is done by the searching thread, while
+     * the following ones run in the background.
+     */
+    private void ensureBuilt() {
+        if (!valid) {
+            synchronized (buildLock) {
+                if (!valid) {
+                    build();
+                }
+            }
+        } else if (stale || (!watched && System.currentTimeMillis() - builtAt > getMaxAge())) {
+            rebuildInBackground();
+        }
+    }
+
+    /**
+     * Builds the index again in the background, unless it is being built already.
+     */
+    private void rebuildInBackground() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        Thread rebuilder = new Thread(() -> {
+            try {
+                synchronized (buildLock) {
+                    if (valid) {
+                        build();
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Could not rebuild the repository path index of [{}]", root, e);
+            } finally {
+                rebuilding.set(false);
+            }
+        }, "dirigible-repository-index-builder");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+    }
+
+    /**
+     * Builds the index into a new map and replaces the current one with it. The paths refreshed
+     * meanwhile are refreshed again in the new map.
+     */
+    private void build() {
+        long start = System.currentTimeMillis();
+        pendingRefreshes = new ArrayList<>();
+        stale = false;
+        NavigableMap<String, Entry> built = new ConcurrentSkipListMap<>();
+        boolean watching = startWatching();
+        boolean all = walk(built, root, false);
+        synchronized (this) {
+            List<Path> pending = pendingRefreshes;
+            pendingRefreshes = null;
+            entries = built;
+            builtAt = System.currentTimeMillis();
+            watched = watching && all && isWatching();
+            valid = true;
+            pending.forEach(this::refresh);
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Repository path index of [{}] with [{}] entries built in [{}] ms", root, built.size(), builtAt - start);
+        }
+    }
+
+    /**
+     * Walks a directory and adds its content. The linked directories are followed, but not watched.
+     *
+     * @param target the entries to add to
+     * @param directory the directory
+     * @param linked whether the directory is within a linked one
+     * @return true, if all the walked directories are watched
+     */
+    private boolean walk(NavigableMap<String, Entry> target, Path directory, boolean linked) {
+        boolean[] all = {true};
+        Deque<Path> links = new ArrayDeque<>();
+        try {
+            Files.walkFileTree(directory, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (dir.equals(root)) {
+                        all[0] &= watch(dir);
+                        return FileVisitResult.CONTINUE;
+                    }
+                    if (EXCLUDED.contains(dir.getFileName()
+                                             .toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    put(target, toRepositoryPath(dir), true);
+                    if (Files.isSymbolicLink(dir)) {
+                        links.push(dir);
+                    }
+                    if (linked || !links.isEmpty()) {
+                        all[0] = false;
+                    } else {
+                        all[0] &= watch(dir);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                    if (dir.equals(links.peek())) {
+                        links.pop();
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (!EXCLUDED.contains(file.getFileName()
+                                               .toString())) {
+                        put(target, toRepositoryPath(file), attrs.isDirectory());
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            logger.warn("Could not index the repository folder [{}]", directory, e);
+        }
+        return all[0];
+    }
+
+    /**
+     * Checks if the path is within an excluded directory.
+     *
+     * @param path the path
+     * @return true, if excluded
+     */
+    private boolean isExcluded(Path path) {
+        for (Path name : root.relativize(path)) {
+            if (EXCLUDED.contains(name.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the directory is linked or within a linked one.
+     *
+     * @param directory the directory
+     * @return true, if linked
+     */
+    private boolean isLinked(Path directory) {
+        for (Path next = directory; next != null && next.startsWith(root) && !next.equals(root); next = next.getParent()) {
+            if (Files.isSymbolicLink(next)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Puts an entry.
+     *
+     * @param target the entries to add to
+     * @param repositoryPath the repository path
+     * @param directory the directory
+     */
+    private static void put(NavigableMap<String, Entry> target, String repositoryPath, boolean directory) {
+        String name = repositoryPath.substring(repositoryPath.lastIndexOf(IRepository.SEPARATOR) + 1);
+        target.put(repositoryPath, new Entry(name, name.toLowerCase(Locale.ROOT), directory));
+    }
+
+    /**
+     * Starts watching the repository for the changes made directly on the file system, unless it has
+     * been given up or is disabled.
+     *
+     * @return true, if watching
+     */
+    private boolean startWatching() {
+        synchronized (watchLock) {
+            if (watchService != null) {
+                return true;
+            }
+            if (watchingDisabled || getMaxWatches() <= 0) {
+                return false;
+            }
+            try {
+                watchService = root.getFileSystem()
+                                   .newWatchService();
+                Thread watcher = new Thread(this::processEvents, "dirigible-repository-index-watcher");
+                watcher.setDaemon(true);
+                watcher.start();
+                return true;
+            } catch (IOException | UnsupportedOperationException e) {
+                logger.warn("The repository [{}] cannot be watched for changes, its path index will be rebuilt periodically", root, e);
+                watchingDisabled = true;
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Checks if the repository is being watched.
+     *
+     * @return true, if watching
+     */
+    private boolean isWatching() {
+        synchronized (watchLock) {
+            return watchService != null;
+        }
+    }
+
+    /**
+     * Watch a directory.
+     *
+     * @param directory the directory
+     * @return true, if watched
+     */
+    private boolean watch(Path directory) {
+        synchronized (watchLock) {
+            if (watchService == null) {
+                return false;
+            }
+            if (watchedDirectories.size() >= getMaxWatches()) {
+                logger.warn(
+                        "The repository [{}] has more than [{}] folders, its path index will be rebuilt periodically instead of watched",
+                        root, getMaxWatches());
+                stopWatching();
+                return false;
+            }
+            try {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE);
+                watchedDirectories.put(key, directory);
+                return true;
+            } catch (IOException | RuntimeException e) {
+                // e.g. the limit of the watches of the system is reached
+                logger.warn("The repository folder [{}] cannot be watched for changes, the path index will be rebuilt periodically",
+                        directory, e);
+                stopWatching();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Gives up the watching and releases all the watches, so that they are available to the other
+     * watchers.
+     */
+    private void stopWatching() {
+        watchingDisabled = true;
+        watched = false;
+        closeWatchService();
+    }
+
+    /**
+     * Closes the watch service.
+     */
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.warn("Could not close the watch service of the repository [{}]", root, e);
+            }
+            watchService = null;
+            watchedDirectories.clear();
+        }
+    }
+
+    /**
+     * Process the file system events.
+     */
+    private void processEvents() {
+        WatchService service;
+        synchronized (watchLock) {
+            service = watchService;
+        }
+        if (service == null) {
+            return;
+        }
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path directory = watchedDirectories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    stale = true;
+                } else if (directory != null) {
+                    refresh(directory.resolve((Path) event.context()));
+                }
+            }
+            if (!key.reset()) {
+                watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Stops watching and clears the index.
+     */
+    public synchronized void close() {
+        valid = false;
+        entries = new ConcurrentSkipListMap<>();
+        synchronized (watchLock) {
+            closeWatchService();
+            watchingDisabled = false;
+        }
+    }
+
+    /**
+     * To repository path.
+     *
+     * @param path the file system path
+     * @return the repository path
+     */
+    private String toRepositoryPath(Path path) {
+        String relative = root.relativize(path)
+                              .toString();
+        if (!IRepository.SEPARATOR.equals(File.separator)) {
+            relative = relative.replace(File.separator, IRepository.SEPARATOR);
+        }
+        return IRepository.SEPARATOR + relative;
+    }
+
+    /**
+     * Gets the max age of an index, which is not watched, in milliseconds.
+     *
+     * @return the max age
+     */
+    private static long getMaxAge() {
+        return TimeUnit.SECONDS.toMillis(Configuration.getAsInt(DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE, DEFAULT_MAX_AGE));
+    }
+
+    /**
+     * Gets the max number of the watched folders, zero or less for no watching.
+     *
+     * @return the max watches
+     */
+    private static int getMaxWatches() {
+        return Configuration.getAsInt(DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES, DEFAULT_MAX_WATCHES);
+    }
+
+}
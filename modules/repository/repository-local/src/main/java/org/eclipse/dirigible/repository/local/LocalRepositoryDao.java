@@ -95,6 +95,7 @@ public class LocalRepositoryDao {
     public String storeFile(String path, byte[] content) throws FileNotFoundException, IOException {
         String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
         FileSystemUtils.saveFile(workspacePath, content);
+        repository.refreshPathIndex(workspacePath);
         try {
             if (repository.isVersioned()) {
                 String versionsPath =
@@ -164,6 +165,9 @@ public class LocalRepositoryDao {
             String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
             cache.remove(workspacePathOld);
+            cache.remove(workspacePathNew);
+            repository.refreshPathIndex(workspacePathOld);
+            repository.refreshPathIndex(workspacePathNew);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -181,7 +185,8 @@ public class LocalRepositoryDao {
             String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
             String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
             FileSystemUtils.copyFile(workspacePathOld, workspacePathNew);
-            cache.remove(workspacePathOld);
+            cache.remove(workspacePathNew);
+            repository.refreshPathIndex(workspacePathNew);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -198,6 +203,7 @@ public class LocalRepositoryDao {
             String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
             FileSystemUtils.removeFile(workspacePath);
             cache.remove(workspacePath);
+            repository.refreshPathIndex(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -213,7 +219,8 @@ public class LocalRepositoryDao {
         try {
             String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), path);
             FileSystemUtils.removeFile(workspacePath);
-            cache.clear();
+            cache.removeAll(workspacePath);
+            repository.refreshPathIndex(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -229,6 +236,7 @@ public class LocalRepositoryDao {
         try {
             String workspacePath = LocalWorkspaceMapper.getMappedName(getRepository(), normalizePath);
             FileSystemUtils.createFolder(workspacePath);
+            repository.refreshPathIndex(workspacePath);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (RepositoryWriteException e) {
             throw new LocalRepositoryException(e);
@@ -246,7 +254,10 @@ public class LocalRepositoryDao {
             String workspacePathOld = LocalWorkspaceMapper.getMappedName(getRepository(), path);
             String workspacePathNew = LocalWorkspaceMapper.getMappedName(getRepository(), newPath);
             FileSystemUtils.moveFile(workspacePathOld, workspacePathNew);
-            cache.clear();
+            cache.removeAll(workspacePathOld);
+            cache.removeAll(workspacePathNew);
+            repository.refreshPathIndex(workspacePathOld);
+            repository.refreshPathIndex(workspacePathNew);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -271,7 +282,8 @@ public class LocalRepositoryDao {
                     return !".git".equals(pathname.getName());
                 }
             });
-            cache.clear();
+            cache.removeAll(workspacePathNew);
+            repository.refreshPathIndex(workspacePathNew);
             ((LocalRepository) getRepository()).setLastModified(System.currentTimeMillis());
         } catch (IOException e) {
             throw new LocalRepositoryException(e);
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2024 Eclipse Dirigible contributors
+ *
+ * All rights reserved. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-FileCopyrightText: Eclipse Dirigible contributors SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.dirigible.repository.fs;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.dirigible.commons.config.Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * The Class RepositoryPathIndexTest.
+ */
+public class RepositoryPathIndexTest {
+
+    /** The number of indexed files. */
+    private static final int FILES = 500;
+
+    /** The root. */
+    private Path root;
+
+    /** The index. */
+    private RepositoryPathIndex index;
+
+    /**
+     * Sets the up.
+     *
+     * @throws Exception the exception
+     */
+    @Before
+    public void setUp() throws Exception {
+        root = Files.createTempDirectory("path-index");
+        for (int i = 0; i < FILES; i++) {
+            Path folder = Files.createDirectories(root.resolve("folder" + (i % 10)));
+            Files.writeString(folder.resolve("file" + i + ".txt"), "content");
+        }
+        index = new RepositoryPathIndex(root.toString());
+    }
+
+    /**
+     * Tear down.
+     *
+     * @throws Exception the exception
+     */
+    @After
+    public void tearDown() throws Exception {
+        index.close();
+        Configuration.remove("DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES");
+        Configuration.remove("DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE");
+        FileUtils.deleteDirectory(root.toFile());
+    }
+
+    /**
+     * Test the searches running during a rebuild see either the complete entries or none of them after
+     * a close, but never the partially rebuilt ones.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testSearchDuringRebuild() throws Exception {
+        assertEquals(FILES, index.searchName("/", "file", false)
+                                 .size());
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?> rebuilds = executor.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    index.close();
+                    index.find("/", "*");
+                }
+                running.set(false);
+            });
+            Future<?>[] searches = new Future<?>[3];
+            for (int i = 0; i < searches.length; i++) {
+                searches[i] = executor.submit(() -> {
+                    while (running.get()) {
+                        List<String> found = index.searchName("/", "file", false);
+                        assertTrue("Partial search result of " + found.size() + " files", found.isEmpty() || found.size() == FILES);
+                    }
+                    return null;
+                });
+            }
+            rebuilds.get(1, TimeUnit.MINUTES);
+            for (Future<?> search : searches) {
+                search.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Test the Git metadata and the Node.js modules are not indexed.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testExcludedFolders() throws Exception {
+        Files.writeString(Files.createDirectories(root.resolve("project/.git/objects"))
+                               .resolve("file-object"),
+                "content");
+        Files.writeString(Files.createDirectories(root.resolve("project/node_modules/module"))
+                               .resolve("file-module.js"),
+                "content");
+
+        assertEquals(FILES, index.searchName("/", "file", false)
+                                 .size());
+        assertTrue(index.find("/", ".git")
+                        .isEmpty());
+
+        index.refresh(root.resolve("project/node_modules/module/file-module.js")
+                          .toString());
+        assertFalse(index.searchName("/", "file-module", false)
+                         .contains("/project/node_modules/module/file-module.js"));
+    }
+
+    /**
+     * Test the index is rebuilt in the background, when the folders are more than the watches allowed,
+     * while the searches use the previous entries.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testRebuildWhenNotWatched() throws Exception {
+        Configuration.set("DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_WATCHES", "2");
+        Configuration.set("DIRIGIBLE_REPOSITORY_PATH_INDEX_MAX_AGE", "0");
+        assertEquals(FILES, index.searchName("/", "file", false)
+                                 .size());
+
+        Files.writeString(root.resolve("folder0/added.txt"), "content");
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+        List<String> found;
+        do {
+            found = index.searchName("/", "added", false);
+            assertEquals(FILES, index.searchName("/", "file", false)
+                                     .size());
+            Thread.sleep(10);
+        } while (found.isEmpty() && System.currentTimeMillis() < deadline);
+        assertEquals(List.of("/folder0/added.txt"), found);
+    }
+
+}
@@ -123,4 +123,53 @@ public class LocalRepositoryCacheTest extends RepositoryGenericCacheTest {
         }
     }
 
+    /**
+     * Test removing a folder invalidates only the files under it.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testFolderInvalidationIsScoped() throws Exception {
+        if (repository == null) {
+            return;
+        }
+
+        RepositoryCache.enable();
+        try {
+            repository.createResource("/testScoped/folder1/file1.txt", "file1".getBytes()); //$NON-NLS-1$
+            repository.createResource("/testScoped/folder10/file2.txt", "file2".getBytes()); //$NON-NLS-1$
+            repository.createResource("/registry/public/testScoped/file3.txt", "file3".getBytes()); //$NON-NLS-1$
+
+            String workspacePath2 =
+                    LocalWorkspaceMapper.getMappedName(((FileSystemRepository) repository), "/testScoped/folder10/file2.txt");
+            String workspacePath3 =
+                    LocalWorkspaceMapper.getMappedName(((FileSystemRepository) repository), "/registry/public/testScoped/file3.txt");
+            FileSystemUtils.saveFile(workspacePath2, "file2 changed".getBytes());
+            FileSystemUtils.saveFile(workspacePath3, "file3 changed".getBytes());
+
+            long hits = new RepositoryCache().getStatistics()
+                                             .get("registry")
+                                             .hits();
+            repository.removeCollection("/testScoped/folder1"); //$NON-NLS-1$
+
+            // still served from the cache - neither a sibling with the same name prefix, nor the registry is
+            // invalidated
+            assertEquals("file2", new String(repository.getResource("/testScoped/folder10/file2.txt") //$NON-NLS-1$
+                                                       .getContent()));
+            assertEquals("file3", new String(repository.getResource("/registry/public/testScoped/file3.txt") //$NON-NLS-1$
+                                                       .getContent()));
+            assertEquals(hits + 1, new RepositoryCache().getStatistics()
+                                                        .get("registry")
+                                                        .hits());
+
+            repository.removeCollection("/testScoped"); //$NON-NLS-1$
+            repository.createResource("/testScoped/folder10/file2.txt", "file2 new".getBytes()); //$NON-NLS-1$
+            assertEquals("file2 new", new String(repository.getResource("/testScoped/folder10/file2.txt") //$NON-NLS-1$
+                                                           .getContent()));
+        } finally {
+            repository.removeCollection("/testScoped"); //$NON-NLS-1$
+            repository.removeCollection("/registry/public/testScoped"); //$NON-NLS-1$
+        }
+    }
+
 }
@@ -9,10 +9,21 @@
  */
 package org.eclipse.dirigible.repository.local;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.dirigible.repository.api.IEntity;
+import org.eclipse.dirigible.repository.api.ICollection;
+import org.eclipse.dirigible.repository.fs.FileSystemRepository;
 import org.eclipse.dirigible.repository.generic.RepositoryGenericSearchTest;
 import org.junit.Before;
+import org.junit.Test;
 
 /**
  * The Class LocalSearchTest.
@@ -58,4 +69,71 @@ public class LocalSearchTest extends RepositoryGenericSearchTest {
         super.testSearchText();
     }
 
+    /**
+     * Test the indexed search follows the repository writes and the external changes.
+     *
+     * @throws Exception the exception
+     */
+    @Test
+    public void testIndexedSearch() throws Exception {
+        ICollection collection = repository.createCollection("/indexedSearch");
+        try {
+            repository.createResource("/indexedSearch/first/Alpha.txt", "alpha".getBytes());
+            repository.createResource("/indexedSearch/second/beta.js", "beta".getBytes());
+
+            assertEquals(List.of("/indexedSearch/first/Alpha.txt"), paths(repository.searchName("/indexedSearch", "alpha", true)));
+            assertTrue(repository.searchName("/indexedSearch", "alpha", false)
+                                 .isEmpty());
+            assertEquals(List.of("/indexedSearch/second/beta.js"), paths(repository.searchName("/indexedSearch", "b?ta", true)));
+            assertEquals(List.of("/indexedSearch/first", "/indexedSearch/second", "/indexedSearch/second/beta.js"),
+                    repository.find("/indexedSearch", "*s*"));
+            assertTrue(repository.getAllResourcePaths()
+                                 .contains("/indexedSearch/second/beta.js"));
+
+            repository.getCollection("/indexedSearch/first")
+                      .renameTo("renamed");
+            repository.createResource("/indexedSearch/third/Alpha.md", "alpha".getBytes());
+            assertEquals(List.of("/indexedSearch/renamed/Alpha.txt", "/indexedSearch/third/Alpha.md"),
+                    paths(repository.searchName("/indexedSearch", "alpha", true)));
+
+            Path external = Path.of(((FileSystemRepository) repository).getRepositoryPath(), "indexedSearch", "second", "gamma.txt");
+            Files.writeString(external, "gamma");
+            assertEquals(List.of("/indexedSearch/second/gamma.txt"), awaitSearch("gamma", 1));
+            Files.delete(external);
+            assertEquals(List.of(), awaitSearch("gamma", 0));
+        } finally {
+            collection.delete();
+        }
+    }
+
+    /**
+     * Waits for the watched external change to be indexed.
+     *
+     * @param parameter the parameter
+     * @param expected the expected number of found paths
+     * @return the found paths
+     * @throws InterruptedException the interrupted exception
+     */
+    private List<String> awaitSearch(String parameter, int expected) throws InterruptedException {
+        List<String> result = paths(repository.searchName("/indexedSearch", parameter, true));
+        for (int i = 0; i < 100 && result.size() != expected; i++) {
+            Thread.sleep(100);
+            result = paths(repository.searchName("/indexedSearch", parameter, true));
+        }
+        return result;
+    }
+
+    /**
+     * Paths.
+     *
+     * @param entities the entities
+     * @return the sorted paths
+     */
+    private static List<String> paths(List<IEntity> entities) {
+        return entities.stream()
+                       .map(IEntity::getPath)
+                       .sorted()
+                       .collect(Collectors.toList());
+    }
+
 }
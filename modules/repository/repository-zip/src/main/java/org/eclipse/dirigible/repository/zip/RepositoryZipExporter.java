@@ -13,15 +13,21 @@ import static java.text.MessageFormat.format;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
 import org.eclipse.dirigible.repository.api.ICollection;
 import org.eclipse.dirigible.repository.api.IEntity;
 import org.eclipse.dirigible.repository.api.IRepository;
 import org.eclipse.dirigible.repository.api.IResource;
+import org.eclipse.dirigible.repository.api.RepositoryException;
 import org.eclipse.dirigible.repository.api.RepositoryExportException;
 import org.eclipse.dirigible.repository.api.RepositoryReadException;
 
@@ -40,41 +46,45 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, List<String> relativeRoots) throws RepositoryExportException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportZip(repository, relativeRoots, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Export all the content under the given path(s) with the target repository instance to the given
+     * output stream. Include the last segment of the relative roots during the archiving. The output
+     * stream is not closed.
+     *
+     * @param repository the target {@link IRepository} instance
+     * @param relativeRoots the relative roots
+     * @param output the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, List<String> relativeRoots, OutputStream output) throws RepositoryExportException {
         try {
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ZipOutputStream zipOutputStream = null;
+            ZipOutputStream zipOutputStream = new ZipOutputStream(CloseShieldOutputStream.wrap(output));
             try {
-                zipOutputStream = new ZipOutputStream(baos);
-
                 for (String relativeRoot : relativeRoots) {
                     ICollection collection = repository.getCollection(relativeRoot);
                     if (collection.exists()) {
-                        traverseCollection(zipOutputStream, collection, relativeRoot.length() - collection.getName()
-                                                                                                          .length());
+                        traverseCollection(repository, zipOutputStream, collection, relativeRoot.length() - collection.getName()
+                                                                                                                      .length());
                     } else {
                         IResource iResource = repository.getResource(relativeRoot);
                         if (iResource.exists()) {
-                            ZipEntry zipEntry = new ZipEntry(iResource.getPath()
-                                                                      .substring(relativeRoot.length() - iResource.getName()
-                                                                                                                  .length()));
-                            zipOutputStream.putNextEntry(zipEntry);
-                            zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-                            zipOutputStream.closeEntry();
+                            writeResource(repository, zipOutputStream, iResource, relativeRoot.length() - iResource.getName()
+                                                                                                                   .length());
                         } else {
                             throw new IOException(format("Relative Root: {0} doesn't exist", relativeRoot));
                         }
                     }
                 }
             } finally {
-                if (zipOutputStream != null) {
-                    zipOutputStream.finish();
-                    zipOutputStream.flush();
-                    zipOutputStream.close();
-                }
+                zipOutputStream.finish();
+                zipOutputStream.flush();
+                zipOutputStream.close();
             }
-
-            byte[] result = baos.toByteArray();
-            return result;
         } catch (RepositoryReadException | IOException e) {
             throw new RepositoryExportException(e);
         }
@@ -92,6 +102,25 @@ public class RepositoryZipExporter {
      * @throws RepositoryExportException in case the content cannot be exported
      */
     public static byte[] exportZip(IRepository repository, String relativeRoot, boolean inclusive) throws RepositoryExportException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        exportZip(repository, relativeRoot, inclusive, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Export all the content under the given path with the target repository instance to the given
+     * output stream. Include or NOT the last segment of the relative root during the archiving. The
+     * output stream is not closed.
+     *
+     * @param repository the repository
+     * @param relativeRoot single root
+     * @param inclusive whether to include the last segment of the root or to pack its content directly
+     *        in the archive
+     * @param output the output stream
+     * @throws RepositoryExportException in case the content cannot be exported
+     */
+    public static void exportZip(IRepository repository, String relativeRoot, boolean inclusive, OutputStream output)
+            throws RepositoryExportException {
 
         List<String> relativeRoots = new ArrayList<String>();
 
@@ -106,12 +135,14 @@ public class RepositoryZipExporter {
                     relativeRoots.add(iEntity.getPath());
                 }
             }
-            return exportZip(repository, relativeRoots);
+            exportZip(repository, relativeRoots, output);
+            return;
         }
         IResource resource = repository.getResource(relativeRoot);
         if (resource.exists()) {
             relativeRoots.add(resource.getPath());
-            return exportZip(repository, relativeRoots);
+            exportZip(repository, relativeRoots, output);
+            return;
         }
         throw new RepositoryExportException(format("Relative Root: {0} does not exist", relativeRoot));
     }
@@ -119,12 +150,13 @@ public class RepositoryZipExporter {
     /**
      * Iterate recursively a given collection and put its content to the zip.
      *
+     * @param repository the repository
      * @param zipOutputStream resulting output stream
      * @param collection the {ICollection} to be processed
      * @param substring the prefix size
      * @throws RepositoryExportException in case the processing fails
      */
-    private static void traverseCollection(ZipOutputStream zipOutputStream, ICollection collection, int substring)
+    private static void traverseCollection(IRepository repository, ZipOutputStream zipOutputStream, ICollection collection, int substring)
             throws RepositoryExportException {
         try {
             ZipEntry zipEntry = null;
@@ -139,20 +171,63 @@ public class RepositoryZipExporter {
 
             List<ICollection> collections = collection.getCollections();
             for (ICollection iCollection : collections) {
-                traverseCollection(zipOutputStream, iCollection, substring);
+                traverseCollection(repository, zipOutputStream, iCollection, substring);
             }
 
             List<IResource> resources = collection.getResources();
             for (IResource iResource : resources) {
-                zipEntry = new ZipEntry(iResource.getPath()
-                                                 .substring(substring));
-                zipOutputStream.putNextEntry(zipEntry);
-                zipOutputStream.write((iResource.getContent() == null ? new byte[] {} : iResource.getContent()));
-                zipOutputStream.closeEntry();
+                writeResource(repository, zipOutputStream, iResource, substring);
             }
         } catch (RepositoryReadException | IOException e) {
             throw new RepositoryExportException(e);
         }
     }
 
+    /**
+     * Put the content of a resource to the zip. The content is copied directly from the underlying file
+     * with a bounded buffer, if the repository is backed by the file system.
+     *
+     * @param repository the repository
+     * @param zipOutputStream resulting output stream
+     * @param resource the {IResource} to be processed
+     * @param substring the prefix size
+     * @throws IOException in case the content cannot be written
+     */
+    private static void writeResource(IRepository repository, ZipOutputStream zipOutputStream, IResource resource, int substring)
+            throws IOException {
+        ZipEntry zipEntry = new ZipEntry(resource.getPath()
+                                                 .substring(substring));
+        zipOutputStream.putNextEntry(zipEntry);
+        Path file = getInternalFile(repository, resource);
+        if (file != null) {
+            Files.copy(file, zipOutputStream);
+        } else {
+            byte[] content = resource.getContent();
+            zipOutputStream.write(content == null ? new byte[] {} : content);
+        }
+        zipOutputStream.closeEntry();
+    }
+
+    /**
+     * Gets the file behind the resource, if any.
+     *
+     * @param repository the repository
+     * @param resource the resource
+     * @return the file or null, if the resource is not backed by a regular file
+     */
+    private static Path getInternalFile(IRepository repository, IResource resource) {
+        try {
+            String internalPath = repository.getInternalResourcePath(resource.getPath());
+            if (internalPath != null) {
+                Path file = Path.of(internalPath);
+                if (Files.isRegularFile(file)) {
+                    return file;
+                }
+            }
+        } catch (RepositoryException | InvalidPathException e) {
+            // not backed by the file system - fallback to the content
+        }
+        return null;
+    }
+
 }